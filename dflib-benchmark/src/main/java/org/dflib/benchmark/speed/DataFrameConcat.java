@@ -1,8 +1,10 @@
 package org.dflib.benchmark.speed;
 
 import org.dflib.DataFrame;
+import org.dflib.JoinType;
 import org.dflib.Series;
 import org.dflib.benchmark.ValueMaker;
+import org.dflib.concat.VConcatBuilder;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.concurrent.TimeUnit;
@@ -20,6 +22,7 @@ public class DataFrameConcat {
 
     private DataFrame df1;
     private DataFrame df2;
+    private DataFrame[] pages;
 
     @Setup
     public void setUp() {
@@ -41,6 +44,17 @@ public class DataFrameConcat {
 
         df2 = DataFrame.byColumn("c0", "c1", "c2", "c3")
                 .of(c20, c21, c22, c23);
+
+        // many small DataFrames, as if read from a paginated source
+        int pageSize = 100;
+        pages = new DataFrame[rows / pageSize];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = DataFrame.byColumn("c0", "c1", "c2")
+                    .of(
+                            ValueMaker.intSeq(i * pageSize, (i + 1) * pageSize).intSeries(pageSize),
+                            ValueMaker.stringSeq().series(pageSize),
+                            ValueMaker.doubleSeq().doubleSeries(pageSize));
+        }
     }
 
     @Benchmark
@@ -57,4 +71,12 @@ public class DataFrameConcat {
                 .vConcat(df2)
                 .materialize().iterator();
     }
+
+    @Benchmark
+    public Object vConcatPages() {
+        return new VConcatBuilder(JoinType.full)
+                .append(pages)
+                .select()
+                .materialize().iterator();
+    }
 }
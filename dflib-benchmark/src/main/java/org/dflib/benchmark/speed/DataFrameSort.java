@@ -4,11 +4,13 @@ import org.dflib.DataFrame;
 import org.dflib.IntSeries;
 import org.dflib.Series;
 import org.dflib.benchmark.ValueMaker;
+import org.dflib.sort.ExternalSorter;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.concurrent.TimeUnit;
 
 import static org.dflib.Exp.$int;
+import static org.dflib.Exp.$str;
 
 // in my tests time for iteration #3 time spikes (why?), so make sure it happens during warmup
 @Warmup(iterations = 3, time = 1)
@@ -19,7 +21,7 @@ import static org.dflib.Exp.$int;
 @State(Scope.Thread)
 public class DataFrameSort {
 
-    @Param("1000000")
+    @Param({"1000000", "10000000"})
     public int rows;
 
     private DataFrame df;
@@ -61,4 +63,33 @@ public class DataFrameSort {
     public Object sortIntByExp() {
         return df.sort($int("c4").asc()).materialize().iterator();
     }
+
+    @Benchmark
+    public Object sortMultiKeyByExp() {
+        return df.sort($int("c4").asc(), $int("c2").desc()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortMixedKeysByExp() {
+        return df.sort($int("c4").asc(), $str("c1").asc()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortStringThenIntByExp() {
+        return df.sort($str("c1").asc(), $int("c4").desc()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortExternalByExp() {
+        return new ExternalSorter($int("c4").asc(), $str("c1").asc())
+                .runSize(rows / 10)
+                .sort(df)
+                .materialize()
+                .iterator();
+    }
+
+    @Benchmark
+    public Object topNIntByExp() {
+        return df.topN(100, $int("c4").asc()).materialize().iterator();
+    }
 }
@@ -0,0 +1,55 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DataFrame;
+import org.dflib.benchmark.ValueMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class DataFrameStack {
+
+    @Param("1000000")
+    public int rows;
+
+    private DataFrame wide;
+    private DataFrame stacked;
+
+    @Setup
+    public void setUp() {
+
+        // sensor readings, one column per sensor
+        wide = DataFrame.byColumn("s1", "s2", "s3", "s4").of(
+                ValueMaker.randomDoubleSeq().doubleSeries(rows),
+                ValueMaker.randomDoubleSeq().doubleSeries(rows),
+                ValueMaker.randomDoubleSeq().doubleSeries(rows),
+                ValueMaker.randomDoubleSeq().doubleSeries(rows));
+
+        stacked = wide.stack();
+    }
+
+    @Benchmark
+    public Object stack() {
+        return wide.stack();
+    }
+
+    @Benchmark
+    public Object unstack() {
+        return stacked.unstack();
+    }
+}
@@ -0,0 +1,49 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DataFrame;
+import org.dflib.benchmark.ValueMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class DataFrameUnique {
+
+    @Param({"1000000", "10000000"})
+    public int rows;
+
+    private DataFrame df;
+
+    @Setup
+    public void setUp() {
+        df = DataFrame.byColumn("user", "event", "payload").of(
+                ValueMaker.randomIntSeq(rows / 10).intSeries(rows),
+                ValueMaker.semiRandomStringSeq("e", 20).series(rows),
+                ValueMaker.stringSeq().series(rows));
+    }
+
+    @Benchmark
+    public Object selectUnique() {
+        return df.rows().selectUnique("user", "event");
+    }
+
+    @Benchmark
+    public Object selectUniqueLast() {
+        return df.rows().selectUniqueLast("user", "event");
+    }
+}
@@ -40,4 +40,29 @@ public class DoubleSeriesAdd {
     public Object add() {
         return s1.add(s2);
     }
+
+    @Benchmark
+    public Object mul() {
+        return s1.mul(s2);
+    }
+
+    @Benchmark
+    public Object lt() {
+        return s1.lt(s2);
+    }
+
+    @Benchmark
+    public Object sum() {
+        return s1.sum();
+    }
+
+    @Benchmark
+    public Object min() {
+        return s1.min();
+    }
+
+    @Benchmark
+    public Object max() {
+        return s1.max();
+    }
 }
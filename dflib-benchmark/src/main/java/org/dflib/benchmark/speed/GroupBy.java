@@ -27,11 +27,12 @@ public class GroupBy {
     @Setup
     public void setUp() {
 
-        df = DataFrame.byColumn("e0", "c0", "c1", "c2").of(
+        df = DataFrame.byColumn("e0", "c0", "c1", "c2", "p0").of(
                 ValueMaker.randomIntSeq(groups).series(rows),
                 ValueMaker.intSeq().series(rows),
                 ValueMaker.intSeq().series(rows),
-                ValueMaker.reverseIntSeq().series(rows)
+                ValueMaker.reverseIntSeq().series(rows),
+                ValueMaker.intSeq().intSeries(rows)
         );
         gb = df.group("e0");
     }
@@ -89,4 +90,55 @@ public class GroupBy {
                 Exp.$int("c2").sum()
         ).materialize().iterator();
     }
+
+    @Benchmark
+    public Object standardAggregates() {
+        return gb.agg(
+                Exp.count(),
+                Exp.$int("c0").sum(),
+                Exp.$int("c0").min(),
+                Exp.$int("c0").max(),
+                Exp.$int("c0").avg()
+        ).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object standardAggregatesPrimitive() {
+        return gb.agg(
+                Exp.count(),
+                Exp.$int("p0").sum(),
+                Exp.$int("p0").min(),
+                Exp.$int("p0").max(),
+                Exp.$int("p0").avg()
+        ).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object aggByPrimitive() {
+        return df.aggBy("e0",
+                Exp.count(),
+                Exp.$int("p0").sum(),
+                Exp.$int("p0").min(),
+                Exp.$int("p0").max()
+        ).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object quantilesPrimitive() {
+        return gb.agg(
+                Exp.$int("p0").percentile(50),
+                Exp.$int("p0").percentile(90),
+                Exp.$int("p0").percentile(99)
+        ).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object sortHead() {
+        return gb.sort(Exp.$int("c2").asc()).head(10).select().materialize().iterator();
+    }
+
+    @Benchmark
+    public Object topN() {
+        return gb.topN(10, Exp.$int("c2").asc()).select().materialize().iterator();
+    }
 }
@@ -71,4 +71,29 @@ public class IntSeriesAdd {
     public Object mapAsInt_Add() {
         return s1.mapAsInt(i -> i + 10);
     }
+
+    @Benchmark
+    public Object mulSeries() {
+        return s1.mul(s2);
+    }
+
+    @Benchmark
+    public Object ltSeries() {
+        return s1.lt(s2);
+    }
+
+    @Benchmark
+    public Object sum() {
+        return s1.sum();
+    }
+
+    @Benchmark
+    public Object min() {
+        return s1.min();
+    }
+
+    @Benchmark
+    public Object max() {
+        return s1.max();
+    }
 }
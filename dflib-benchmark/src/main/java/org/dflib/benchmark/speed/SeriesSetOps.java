@@ -0,0 +1,77 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.benchmark.ValueMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class SeriesSetOps {
+
+    @Param("5000000")
+    public int rows;
+
+    private IntSeries ints1;
+    private IntSeries ints2;
+    private LongSeries longs;
+    private DataFrame df1;
+    private DataFrame df2;
+
+    @Setup
+    public void setUp() {
+        ints1 = ValueMaker.randomIntSeq(rows).intSeries(rows);
+        ints2 = ValueMaker.randomIntSeq(rows).intSeries(rows / 2);
+        longs = ints1.mapAsLong(i -> (long) i * i);
+
+        df1 = DataFrame.byColumn("id", "value").of(ints1, ValueMaker.stringSeq().series(rows));
+        df2 = DataFrame.byColumn("id").of(ints2);
+    }
+
+    @Benchmark
+    public Object diffInt() {
+        return ints1.diff(ints2);
+    }
+
+    @Benchmark
+    public Object intersectInt() {
+        return ints1.intersect(ints2);
+    }
+
+    @Benchmark
+    public Object uniqueLong() {
+        return longs.unique();
+    }
+
+    @Benchmark
+    public Object valueCountsInt() {
+        return ints2.valueCounts();
+    }
+
+    @Benchmark
+    public Object inInt() {
+        return ints1.in(1, 5, 100, 1000, 10000);
+    }
+
+    @Benchmark
+    public Object dataFrameDiff() {
+        return df1.diff(df2, "id");
+    }
+}
@@ -0,0 +1,77 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.benchmark.ValueMaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class SeriesSort {
+
+    // the largest size needs a heap of a few GB for the object Series
+    @Param({"1000000", "10000000", "100000000"})
+    public int rows;
+
+    private IntSeries ints;
+    private LongSeries longs;
+    private DoubleSeries doubles;
+    private Series<Integer> objects;
+
+    @Setup
+    public void setUp() {
+        ints = ValueMaker.randomIntSeq(rows / 2).intSeries(rows);
+        longs = ints.mapAsLong(i -> (long) i * i);
+        doubles = ValueMaker.randomDoubleSeq().doubleSeries(rows);
+        objects = ValueMaker.randomIntSeq(rows / 2).series(rows);
+    }
+
+    @Benchmark
+    public Object sortInt() {
+        return ints.sortInt();
+    }
+
+    @Benchmark
+    public Object sortIndexInt() {
+        return ints.sortIndexInt();
+    }
+
+    @Benchmark
+    public Object sortLong() {
+        return longs.sortLong();
+    }
+
+    @Benchmark
+    public Object sortDouble() {
+        return doubles.sortDouble();
+    }
+
+    @Benchmark
+    public Object sortObject() {
+        return objects.sort(Comparator.naturalOrder());
+    }
+
+    @Benchmark
+    public Object sortIndexObject() {
+        return objects.sortIndex(Comparator.naturalOrder());
+    }
+}
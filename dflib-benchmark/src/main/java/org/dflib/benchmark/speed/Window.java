@@ -0,0 +1,47 @@
+package org.dflib.benchmark.speed;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.benchmark.ValueMaker;
+import org.dflib.window.WindowRange;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class Window {
+
+    @Param("100000")
+    public int rows;
+
+    @Param("1000")
+    public int range;
+
+    private DataFrame df;
+
+    @Setup
+    public void setUp() {
+        df = DataFrame.byColumn("c0", "p0").of(
+                ValueMaker.intSeq().series(rows),
+                ValueMaker.intSeq().intSeries(rows)
+        );
+    }
+
+    @Benchmark
+    public Object rollingSum() {
+        return df.over().range(WindowRange.of(range, 0)).select(Exp.$int("p0").sum()).materialize().iterator();
+    }
+
+    @Benchmark
+    public Object rollingMinMax() {
+        return df.over().range(WindowRange.of(range, 0)).select(
+                Exp.$int("c0").min(),
+                Exp.$int("c0").max()
+        ).materialize().iterator();
+    }
+}
@@ -8,6 +8,8 @@ import org.dflib.row.RowProxy;
 import org.dflib.series.EmptySeries;
 import org.dflib.series.IntSequenceSeries;
 import org.dflib.series.SingleValueSeries;
+import org.dflib.set.Diff;
+import org.dflib.set.Intersect;
 import org.dflib.slice.AllRowSet;
 import org.dflib.slice.ConditionalRowSet;
 import org.dflib.slice.DeferredColumnSet;
@@ -157,6 +159,16 @@ public class ColumnDataFrame implements DataFrame {
         return VConcat.concat(how, combined);
     }
 
+    @Override
+    public DataFrame diff(DataFrame other, String... keyColumns) {
+        return Diff.diff(this, other, keyColumns);
+    }
+
+    @Override
+    public DataFrame intersect(DataFrame other, String... keyColumns) {
+        return Intersect.intersect(this, other, keyColumns);
+    }
+
     @Override
     public DataFrame addRow(Map<String, Object> row) {
 
@@ -283,6 +295,11 @@ public class ColumnDataFrame implements DataFrame {
         return Stacker.stackIncludeNulls(this);
     }
 
+    @Override
+    public DataFrame unstack() {
+        return Stacker.unstack(this);
+    }
+
     @Override
     public Iterator<RowProxy> iterator() {
         return new Iterator<>() {
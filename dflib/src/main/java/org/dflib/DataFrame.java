@@ -1,5 +1,6 @@
 package org.dflib;
 
+import org.dflib.agg.StreamingAggregator;
 import org.dflib.builder.DataFrameArrayByRowBuilder;
 import org.dflib.builder.DataFrameByColumnBuilder;
 import org.dflib.builder.DataFrameByRowBuilder;
@@ -11,6 +12,8 @@ import org.dflib.row.RowProxy;
 import org.dflib.sample.Sampler;
 import org.dflib.select.RowIndexer;
 import org.dflib.slice.FixedColumnSet;
+import org.dflib.sort.Comparators;
+import org.dflib.sort.TopNSorter;
 import org.dflib.window.Window;
 
 import java.util.Iterator;
@@ -261,6 +264,43 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame addRow(Map<String, Object> row);
 
+    /**
+     * Returns a DataFrame with the first <code>n</code> rows of this DataFrame per provided sorters, in the sort order.
+     * Produces the same result as <code>sort(sorters).head(n)</code>, but without sorting the entire DataFrame, which
+     * is much faster when "n" is small compared to the DataFrame height. Unlike "head", throws on a negative "n".
+     *
+     * @since 1.0.0-M23
+     */
+    default DataFrame topN(int n, Sorter... sorters) {
+
+        // unlike "head(n)", a negative "n" is not supported, regardless of whether there are sorters
+        if (n < 0) {
+            throw new IllegalArgumentException("'n' must be non-negative: " + n);
+        }
+
+        return sorters.length == 0
+                ? head(n)
+                : rows(TopNSorter.topN(Comparators.of(this, sorters), height(), n, false)).select();
+    }
+
+    /**
+     * A flavor of {@link #topN(int, Sorter...)} that also includes the rows equal to the <code>n</code>-th row per
+     * sorters. I.e., all the rows whose {@link Window#rank()} is less than or equal to "n" are included.
+     *
+     * @since 1.0.0-M23
+     */
+    default DataFrame topNWithTies(int n, Sorter... sorters) {
+
+        // unlike "head(n)", a negative "n" is not supported, regardless of whether there are sorters
+        if (n < 0) {
+            throw new IllegalArgumentException("'n' must be non-negative: " + n);
+        }
+
+        return sorters.length == 0
+                ? head(n)
+                : rows(TopNSorter.topN(Comparators.of(this, sorters), height(), n, true)).select();
+    }
+
     /**
      * @since 0.11
      */
@@ -333,6 +373,28 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame vConcat(JoinType how, DataFrame... dfs);
 
+    /**
+     * Returns a DataFrame with the rows of this DataFrame whose values in the key columns are not present in the same
+     * columns of another DataFrame. This is an operation similar to SQL "EXCEPT", except that the duplicate rows of
+     * this DataFrame are preserved.
+     *
+     * @param other      a DataFrame whose keys should be excluded
+     * @param keyColumns the columns to compare. If none are specified, all columns of this DataFrame are compared
+     * @since 1.0.0-M23
+     */
+    DataFrame diff(DataFrame other, String... keyColumns);
+
+    /**
+     * Returns a DataFrame with the rows of this DataFrame whose values in the key columns are present in the same
+     * columns of another DataFrame. This is an operation similar to SQL "INTERSECT", except that the duplicate rows of
+     * this DataFrame are preserved.
+     *
+     * @param other      a DataFrame whose keys should be matched
+     * @param keyColumns the columns to compare. If none are specified, all columns of this DataFrame are compared
+     * @since 1.0.0-M23
+     */
+    DataFrame intersect(DataFrame other, String... keyColumns);
+
     /**
      * A shorter-named equivalent of {@link #innerJoin(DataFrame)}
      *
@@ -429,6 +491,29 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     GroupBy group(Hasher by);
 
+    /**
+     * Aggregates this DataFrame by the values of the specified columns in a single streaming pass, without building
+     * per-group row indexes. Produces the same result as <code>group(columns).agg(..)</code> with the key columns
+     * prepended to the aggregated columns. Only {@link Exp#count()} and "sum", "min", "max", "avg" aggregators are
+     * supported. Use {@link StreamingAggregator} directly to aggregate data arriving in chunks.
+     *
+     * @param by columns to aggregate by
+     * @since 1.0.0-M23
+     */
+    default DataFrame aggBy(String[] by, Exp<?>... aggregators) {
+        return new StreamingAggregator(by, aggregators).append(this).toDataFrame();
+    }
+
+    /**
+     * Aggregates this DataFrame by the values of the specified column in a single streaming pass.
+     *
+     * @see #aggBy(String[], Exp[])
+     * @since 1.0.0-M23
+     */
+    default DataFrame aggBy(String by, Exp<?>... aggregators) {
+        return aggBy(new String[]{by}, aggregators);
+    }
+
     /**
      * Overlays this DataFrame with a boolean condition DataFrame, returning a new DataFrame that has the same
      * dimensions as this, but with positions matching those of "true" values in the condition replaced with nulls.
@@ -485,6 +570,16 @@ public interface DataFrame extends Iterable<RowProxy> {
      */
     DataFrame stackIncludeNulls();
 
+    /**
+     * An inverse of {@link #stack()}. Expects this DataFrame to have 3 columns "row", "column", "value", and returns
+     * a new DataFrame with a column for each distinct "column" value and a row for each distinct "row" value, ordered
+     * by "row". Missing cells are filled with nulls.
+     *
+     * @return a new DataFrame with the "column" values as column labels
+     * @since 1.0.0-M23
+     */
+    DataFrame unstack();
+
     /**
      * Returns a mutable builder of a "pivot" transformation.
      *
@@ -110,4 +110,20 @@ public interface DecimalExp extends NumExp<BigDecimal> {
     default DecimalExp median() {
         return NumericExpFactory.decimalFactory().median(this);
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    default DecimalExp quantile(double q) {
+        return NumericExpFactory.decimalFactory().quantile(this, q);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    default DecimalExp percentile(double p) {
+        return quantile(p / 100.);
+    }
 }
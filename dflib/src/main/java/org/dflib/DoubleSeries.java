@@ -3,6 +3,7 @@ package org.dflib;
 import org.dflib.series.BooleanArraySeries;
 import org.dflib.series.DoubleArraySeries;
 import org.dflib.series.DoubleIndexedSeries;
+import org.dflib.series.DoubleSingleValueSeries;
 import org.dflib.series.FalseSeries;
 import org.dflib.series.TrueSeries;
 import org.dflib.set.Diff;
@@ -298,6 +299,11 @@ public interface DoubleSeries extends Series<Double> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        // an identity operation with a constant (e.g. "$double("a").add(0)") doesn't need to walk the data
+        if (len > 0 && s instanceof DoubleSingleValueSeries && s.getDouble(0) == 0) {
+            return this;
+        }
+
         double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
@@ -318,6 +324,11 @@ public interface DoubleSeries extends Series<Double> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        // an identity operation with a constant (e.g. "$double("a").sub(0)") doesn't need to walk the data
+        if (len > 0 && s instanceof DoubleSingleValueSeries && s.getDouble(0) == 0) {
+            return this;
+        }
+
         double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
@@ -338,6 +349,10 @@ public interface DoubleSeries extends Series<Double> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof DoubleSingleValueSeries && s.getDouble(0) == 1) {
+            return this;
+        }
+
         double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
@@ -358,6 +373,10 @@ public interface DoubleSeries extends Series<Double> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof DoubleSingleValueSeries && s.getDouble(0) == 1) {
+            return this;
+        }
+
         double[] data = new double[len];
 
         for (int i = 0; i < len; i++) {
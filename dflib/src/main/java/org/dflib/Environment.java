@@ -3,6 +3,8 @@ package org.dflib;
 import org.dflib.print.InlineClassExposingPrinter;
 import org.dflib.print.Printer;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
@@ -19,11 +21,15 @@ public class Environment {
     private static Environment commonEnv = new Environment(
             ForkJoinPool.commonPool(),
             5000,
-            new InlineClassExposingPrinter());
+            new InlineClassExposingPrinter(),
+            Integer.MAX_VALUE,
+            Paths.get(System.getProperty("java.io.tmpdir")));
 
     private final ExecutorService threadPool;
     private final int parallelExecThreshold;
     private final Printer printer;
+    private final int spillThreshold;
+    private final Path spillDir;
 
     public static Environment commonEnv() {
         return commonEnv;
@@ -37,7 +43,9 @@ public class Environment {
         Environment.commonEnv = new Environment(
                 Objects.requireNonNull(threadPool),
                 commonEnv.parallelExecThreshold,
-                commonEnv.printer
+                commonEnv.printer,
+                commonEnv.spillThreshold,
+                commonEnv.spillDir
         );
     }
 
@@ -48,7 +56,9 @@ public class Environment {
         Environment.commonEnv = new Environment(
                 commonEnv.threadPool,
                 parallelExecThreshold,
-                commonEnv.printer
+                commonEnv.printer,
+                commonEnv.spillThreshold,
+                commonEnv.spillDir
         );
     }
 
@@ -61,17 +71,60 @@ public class Environment {
         Environment.commonEnv = new Environment(
                 commonEnv.threadPool,
                 commonEnv.parallelExecThreshold,
-                printer
+                printer,
+                commonEnv.spillThreshold,
+                commonEnv.spillDir
+        );
+    }
+
+    /**
+     * Sets a memory budget for hash joins, expressed as the maximum number of rows in a single in-memory hash table.
+     * Above this size, joins switch to a partitioned mode, building and probing the hash table of one partition of
+     * rows at a time. By default, there's no limit.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void setSpillThreshold(int spillThreshold) {
+        if (spillThreshold < 1) {
+            throw new IllegalArgumentException("Spill threshold must be positive: " + spillThreshold);
+        }
+
+        Environment.commonEnv = new Environment(
+                commonEnv.threadPool,
+                commonEnv.parallelExecThreshold,
+                commonEnv.printer,
+                spillThreshold,
+                commonEnv.spillDir
+        );
+    }
+
+    /**
+     * Sets a directory for temporary files created by the "spill-to-disk" operations, such as
+     * {@link org.dflib.sort.ExternalSorter}. By default, "java.io.tmpdir" is used.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void setSpillDir(Path spillDir) {
+        Environment.commonEnv = new Environment(
+                commonEnv.threadPool,
+                commonEnv.parallelExecThreshold,
+                commonEnv.printer,
+                commonEnv.spillThreshold,
+                Objects.requireNonNull(spillDir)
         );
     }
 
     protected Environment(
             ExecutorService threadPool,
             int parallelExecThreshold,
-            Printer printer) {
+            Printer printer,
+            int spillThreshold,
+            Path spillDir) {
         this.threadPool = threadPool;
         this.parallelExecThreshold = parallelExecThreshold;
         this.printer = printer;
+        this.spillThreshold = spillThreshold;
+        this.spillDir = spillDir;
     }
 
     public ExecutorService threadPool() {
@@ -91,4 +144,18 @@ public class Environment {
     public Printer printer() {
         return printer;
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public int spillThreshold() {
+        return spillThreshold;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public Path spillDir() {
+        return spillDir;
+    }
 }
@@ -4,8 +4,10 @@ import org.dflib.exp.AsExp;
 import org.dflib.exp.Column;
 import org.dflib.exp.ConstExp;
 import org.dflib.exp.RowNumExp;
+import org.dflib.exp.agg.ApproxAggregators;
 import org.dflib.exp.agg.CountExp;
 import org.dflib.exp.agg.ExpAggregator;
+import org.dflib.exp.agg.IntExpAggregator;
 import org.dflib.exp.agg.StringAggregators;
 import org.dflib.exp.bool.AndCondition;
 import org.dflib.exp.bool.BoolColumn;
@@ -24,6 +26,7 @@ import org.dflib.exp.datetime.TimeExp1;
 import org.dflib.exp.filter.PreFilterFirstMatchExp;
 import org.dflib.exp.filter.PreFilteredCountExp;
 import org.dflib.exp.filter.PreFilteredExp;
+import org.dflib.exp.filter.PreFilteredNumExp;
 import org.dflib.exp.flow.IfExp;
 import org.dflib.exp.flow.IfNullExp;
 import org.dflib.exp.map.MapCondition1;
@@ -355,6 +358,19 @@ public interface Exp<T> {
      */
     Class<T> getType();
 
+    /**
+     * Returns whether this expression calculates the value of each row from that row alone, i.e. whether evaluating
+     * it over any subset of the rows produces the same values for those rows as evaluating it over all the rows.
+     * Aggregating expressions, {@link #rowNum()}, running totals, and any expressions that include them are not
+     * row-wise. Series-level functions passed to {@link #map(Function)} are opaque to DFLib, and are assumed to be
+     * row-wise.
+     *
+     * @since 1.0.0-M23
+     */
+    default boolean isRowWise() {
+        return true;
+    }
+
     /**
      * Returns a String label that should be used as the DataFrame column name for columns produced by this expression.
      * The name can be changed by calling {@link #as(String)}.
@@ -440,6 +456,10 @@ public interface Exp<T> {
      * automatically evaluate to "null" result. This assumption makes writing transformation functions easier
      * (and closer to how SQL operates). If the "op" wants to process nulls, use {@link #mapVal(Function, boolean)}
      * with the "false" second parameter.
+     *
+     * <p>The "op" is applied to each row independently, so on Series taller than
+     * {@link Environment#parallelExecThreshold()} it may be invoked from multiple threads of
+     * {@link Environment#threadPool()} simultaneously. The function must be thread-safe.</p>
      */
     default <R> Exp<R> mapVal(Function<T, R> op) {
         return mapVal(op, true);
@@ -596,6 +616,24 @@ public interface Exp<T> {
         return agg(s -> s.toArray(template));
     }
 
+    /**
+     * Aggregating operation that returns a single-value Series with an approximate number of distinct non-null values.
+     * Uses a {@link org.dflib.exp.agg.HyperLogLog} sketch, so the memory usage is fixed regardless of the number of
+     * values, and the typical error is within ~2%.
+     *
+     * @since 1.0.0-M23
+     */
+    default NumExp<Integer> approxDistinct() {
+        return new IntExpAggregator<>("approxDistinct", this, ApproxAggregators::approxDistinct);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    default NumExp<Integer> approxDistinct(Condition filter) {
+        return new PreFilteredNumExp<>(filter, approxDistinct());
+    }
+
     /**
      * Converts this expression to a {@link Condition} that can be used for row filtering, etc.
      *
@@ -1,5 +1,6 @@
 package org.dflib;
 
+import org.dflib.agg.GroupBatches;
 import org.dflib.agg.GroupByAggregator;
 import org.dflib.concat.SeriesConcat;
 import org.dflib.concat.VConcat;
@@ -201,18 +202,30 @@ public class GroupBy {
             return new EmptySeries<>();
         }
 
-        Series[] shifted = new Series[groupsIndex.size()];
-
-        int i = 0;
-        for (Object key : getGroupKeys()) {
-            DataFrame group = getGroup(key);
-            shifted[i++] = group.getColumn(column).shift(offset, filler);
-        }
-
-        IntSeries groupsIndexAll = SeriesConcat.intConcat(groupsIndex.values());
-        Series<T> shiftedAll = SeriesConcat.concat(shifted);
+        int h = source.height();
+        Series<T> columnData = source.getColumn(column);
+        IntSeries[] groupIndices = groupsIndex.values().toArray(new IntSeries[0]);
+
+        Object[] data = new Object[h];
+        boolean[] covered = new boolean[h];
+
+        // each group fills its own positions in the result, so the groups can be shifted in parallel
+        GroupBatches.run(h, groupIndices.length, (from, to) -> {
+            for (int g = from; g < to; g++) {
+                IntSeries index = groupIndices[g];
+                Series<T> shifted = columnData.select(index).shift(offset, filler);
+
+                int ih = index.size();
+                for (int j = 0; j < ih; j++) {
+                    int row = index.getInt(j);
+                    data[row] = shifted.get(j);
+                    covered[row] = true;
+                }
+            }
+        });
 
-        return shiftedAll.select(groupsIndexAll.sortIndexInt());
+        // rows not included in any group (i.e. those with null group keys) are excluded from the result
+        return (Series<T>) Series.of(data).select(Series.ofBool(covered));
     }
 
     /**
@@ -255,6 +268,28 @@ public class GroupBy {
         return new GroupBy(source, trimmed, sorter);
     }
 
+    /**
+     * Returns a GroupBy with each group sorted per provided sorters and truncated to the first <code>n</code> rows.
+     * Produces the same result as <code>sort(sorters).head(n)</code> (for a non-negative "n"), but without fully
+     * sorting each group, which is much faster when "n" is small compared to the group sizes.
+     *
+     * @since 1.0.0-M23
+     */
+    public GroupBy topN(int n, Sorter... sorters) {
+        return new GroupBySorter(this).topN(n, false, sorters);
+    }
+
+    /**
+     * A flavor of {@link #topN(int, Sorter...)} that also includes the rows equal to the <code>n</code>-th row of
+     * each group per sorters. I.e., all the rows whose {@link #rank()} within the group is less than or equal to
+     * "n" are included.
+     *
+     * @since 1.0.0-M23
+     */
+    public GroupBy topNWithTies(int n, Sorter... sorters) {
+        return new GroupBySorter(this).topN(n, true, sorters);
+    }
+
     /**
      * @since 0.11
      */
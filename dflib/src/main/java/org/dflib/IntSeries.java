@@ -4,6 +4,7 @@ import org.dflib.series.BooleanArraySeries;
 import org.dflib.series.FalseSeries;
 import org.dflib.series.IntArraySeries;
 import org.dflib.series.IntIndexedSeries;
+import org.dflib.series.IntSingleValueSeries;
 import org.dflib.series.TrueSeries;
 import org.dflib.set.Diff;
 import org.dflib.set.Intersect;
@@ -309,6 +310,11 @@ public interface IntSeries extends Series<Integer> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        // an identity operation with a constant (e.g. "$int("a").add(0)") doesn't need to walk the data
+        if (len > 0 && s instanceof IntSingleValueSeries && s.getInt(0) == 0) {
+            return this;
+        }
+
         int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
@@ -329,6 +335,10 @@ public interface IntSeries extends Series<Integer> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof IntSingleValueSeries && s.getInt(0) == 0) {
+            return this;
+        }
+
         int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
@@ -349,6 +359,10 @@ public interface IntSeries extends Series<Integer> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof IntSingleValueSeries && s.getInt(0) == 1) {
+            return this;
+        }
+
         int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
@@ -369,6 +383,10 @@ public interface IntSeries extends Series<Integer> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof IntSingleValueSeries && s.getInt(0) == 1) {
+            return this;
+        }
+
         int[] data = new int[len];
 
         for (int i = 0; i < len; i++) {
@@ -4,6 +4,7 @@ import org.dflib.series.BooleanArraySeries;
 import org.dflib.series.FalseSeries;
 import org.dflib.series.LongArraySeries;
 import org.dflib.series.LongIndexedSeries;
+import org.dflib.series.LongSingleValueSeries;
 import org.dflib.series.TrueSeries;
 import org.dflib.set.Diff;
 import org.dflib.set.Intersect;
@@ -296,6 +297,11 @@ public interface LongSeries extends Series<Long> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        // an identity operation with a constant (e.g. "$long("a").add(0)") doesn't need to walk the data
+        if (len > 0 && s instanceof LongSingleValueSeries && s.getLong(0) == 0) {
+            return this;
+        }
+
         long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
@@ -316,6 +322,10 @@ public interface LongSeries extends Series<Long> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof LongSingleValueSeries && s.getLong(0) == 0) {
+            return this;
+        }
+
         long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
@@ -336,6 +346,10 @@ public interface LongSeries extends Series<Long> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof LongSingleValueSeries && s.getLong(0) == 1) {
+            return this;
+        }
+
         long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
@@ -356,6 +370,10 @@ public interface LongSeries extends Series<Long> {
             throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
         }
 
+        if (len > 0 && s instanceof LongSingleValueSeries && s.getLong(0) == 1) {
+            return this;
+        }
+
         long[] data = new long[len];
 
         for (int i = 0; i < len; i++) {
@@ -1,5 +1,6 @@
 package org.dflib;
 
+import org.dflib.exp.agg.ApproxQuantileExpAggregator;
 import org.dflib.exp.bool.ConditionFactory;
 import org.dflib.exp.filter.PreFilteredNumExp;
 import org.dflib.exp.num.NumericExpFactory;
@@ -244,6 +245,59 @@ public interface NumExp<N extends Number> extends Exp<N> {
         return new PreFilteredNumExp<>(filter, median());
     }
 
+    /**
+     * Aggregating operation that returns a single-value Series with an exact value at the specified quantile
+     * (between 0 and 1), linearly interpolated between the two closest values. Uses selection instead of sorting,
+     * and runs in linear time.
+     *
+     * @since 1.0.0-M23
+     */
+    default NumExp<?> quantile(double q) {
+        return NumericExpFactory.factory(this).quantile(this, q);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    default NumExp<?> quantile(Condition filter, double q) {
+        return new PreFilteredNumExp<>(filter, quantile(q));
+    }
+
+    /**
+     * Aggregating operation that returns a single-value Series with an exact value at the specified percentile
+     * (between 0 and 100). A shortcut for <code>quantile(p / 100.)</code>.
+     *
+     * @since 1.0.0-M23
+     */
+    default NumExp<?> percentile(double p) {
+        return quantile(p / 100.);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    default NumExp<?> percentile(Condition filter, double p) {
+        return new PreFilteredNumExp<>(filter, percentile(p));
+    }
+
+    /**
+     * Aggregating operation that returns a single-value Series with an approximate value at the specified quantile
+     * (between 0 and 1). Uses a {@link org.dflib.exp.agg.QuantileSketch}, so its memory usage is bounded regardless
+     * of the number of values.
+     *
+     * @since 1.0.0-M23
+     */
+    default NumExp<Double> approxQuantile(double q) {
+        return new ApproxQuantileExpAggregator<>(this, q);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    default NumExp<Double> approxQuantile(Condition filter, double q) {
+        return new PreFilteredNumExp<>(filter, approxQuantile(q));
+    }
+
     /**
      * @since 0.14
      */
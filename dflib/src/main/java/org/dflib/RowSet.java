@@ -194,6 +194,30 @@ public interface RowSet {
 
     DataFrame selectUnique(int... uniqueKeyColumns);
 
+    /**
+     * A form of {@link #selectUnique()} that keeps the last row of each set of duplicates instead of the first one.
+     * The rows are returned in their original order.
+     *
+     * @since 1.0.0-M23
+     */
+    DataFrame selectUniqueLast();
+
+    /**
+     * A form of {@link #selectUnique(String...)} that keeps the last row of each set of duplicates instead of the first
+     * one. The rows are returned in their original order.
+     *
+     * @since 1.0.0-M23
+     */
+    DataFrame selectUniqueLast(String... uniqueKeyColumns);
+
+    /**
+     * A form of {@link #selectUnique(int...)} that keeps the last row of each set of duplicates instead of the first
+     * one. The rows are returned in their original order.
+     *
+     * @since 1.0.0-M23
+     */
+    DataFrame selectUniqueLast(int... uniqueKeyColumns);
+
     /**
      * Returns a BooleanSeries indicating whether each source DataFrame position is included in the RowSet. Can be
      * utilized as a reusable "selector" of RowSets from other DataFrames.
@@ -339,6 +339,17 @@ public interface Series<T> extends Iterable<T> {
      */
     Series<T> materialize();
 
+    /**
+     * Returns summary statistics of the Series values. Depending on the Series implementation, the statistics may be
+     * calculated on the first call and cached, or recalculated on every call, so the first invocation may entail a full
+     * scan of the Series values.
+     *
+     * @since 1.0.0-M23
+     */
+    default SeriesStats<T> stats() {
+        return SeriesStats.of(this);
+    }
+
     Series<T> fillNulls(T value);
 
     /**
@@ -0,0 +1,313 @@
+package org.dflib;
+
+/**
+ * Summary statistics of a Series values: the value range, the number of nulls, an approximate number of distinct
+ * values and whether the values are sorted. The statistics are used by DFLib to skip work in sorting and filtering
+ * operations. Min and max are only calculated for Series of {@link Comparable} values (or primitives) and are null
+ * otherwise. The "sorted" flag is true if the values are in the ascending order per
+ * {@link Exp#asc()} semantics, i.e. natural order, with nulls at the end.
+ *
+ * @see Series#stats()
+ * @since 1.0.0-M23
+ */
+public class SeriesStats<T> {
+
+    // 2^23 bits (1MB) is enough for a reasonable "linear counting" precision on tens of millions of values
+    private static final int MAX_DISTINCT_BITMAP_SIZE = 1 << 23;
+
+    private final int size;
+    private final int nullCount;
+    private final T min;
+    private final T max;
+    private final int distinctEstimate;
+    private final boolean sorted;
+
+    public static <T> SeriesStats<T> of(Series<T> s) {
+
+        if (s instanceof IntSeries) {
+            return (SeriesStats<T>) ofInt((IntSeries) s);
+        } else if (s instanceof LongSeries) {
+            return (SeriesStats<T>) ofLong((LongSeries) s);
+        } else if (s instanceof DoubleSeries) {
+            return (SeriesStats<T>) ofDouble((DoubleSeries) s);
+        }
+
+        return ofObject(s);
+    }
+
+    public SeriesStats(int size, int nullCount, T min, T max, int distinctEstimate, boolean sorted) {
+        this.size = size;
+        this.nullCount = nullCount;
+        this.min = min;
+        this.max = max;
+        this.distinctEstimate = distinctEstimate;
+        this.sorted = sorted;
+    }
+
+    private static SeriesStats<Integer> ofInt(IntSeries s) {
+
+        int len = s.size();
+        if (len == 0) {
+            return new SeriesStats<>(0, 0, null, null, 0, true);
+        }
+
+        DistinctCounter distinct = new DistinctCounter(len);
+
+        int first = s.getInt(0);
+        int min = first;
+        int max = first;
+        int prev = first;
+        boolean sorted = true;
+        distinct.add(Integer.hashCode(first));
+
+        for (int i = 1; i < len; i++) {
+            int v = s.getInt(i);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+            sorted = sorted && prev <= v;
+            prev = v;
+            distinct.add(Integer.hashCode(v));
+        }
+
+        return new SeriesStats<>(len, 0, min, max, distinct.estimate(len), sorted);
+    }
+
+    private static SeriesStats<Long> ofLong(LongSeries s) {
+
+        int len = s.size();
+        if (len == 0) {
+            return new SeriesStats<>(0, 0, null, null, 0, true);
+        }
+
+        DistinctCounter distinct = new DistinctCounter(len);
+
+        long first = s.getLong(0);
+        long min = first;
+        long max = first;
+        long prev = first;
+        boolean sorted = true;
+        distinct.add(Long.hashCode(first));
+
+        for (int i = 1; i < len; i++) {
+            long v = s.getLong(i);
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+            sorted = sorted && prev <= v;
+            prev = v;
+            distinct.add(Long.hashCode(v));
+        }
+
+        return new SeriesStats<>(len, 0, min, max, distinct.estimate(len), sorted);
+    }
+
+    private static SeriesStats<Double> ofDouble(DoubleSeries s) {
+
+        int len = s.size();
+        if (len == 0) {
+            return new SeriesStats<>(0, 0, null, null, 0, true);
+        }
+
+        DistinctCounter distinct = new DistinctCounter(len);
+
+        // using "Double.compare" ordering (the same as used for sorting), so that NaNs are greater than any other
+        // value, and -0.0 is less than 0.0
+
+        double first = s.getDouble(0);
+        double min = first;
+        double max = first;
+        double prev = first;
+        boolean sorted = true;
+        distinct.add(Double.hashCode(first));
+
+        for (int i = 1; i < len; i++) {
+            double v = s.getDouble(i);
+
+            if (Double.compare(v, min) < 0) {
+                min = v;
+            }
+
+            if (Double.compare(v, max) > 0) {
+                max = v;
+            }
+
+            sorted = sorted && Double.compare(prev, v) <= 0;
+            prev = v;
+            distinct.add(Double.hashCode(v));
+        }
+
+        return new SeriesStats<>(len, 0, min, max, distinct.estimate(len), sorted);
+    }
+
+    private static <T> SeriesStats<T> ofObject(Series<T> s) {
+
+        int len = s.size();
+        if (len == 0) {
+            return new SeriesStats<>(0, 0, null, null, 0, true);
+        }
+
+        DistinctCounter distinct = new DistinctCounter(len);
+
+        int nullCount = 0;
+        boolean comparable = true;
+        boolean sorted = true;
+        Comparable min = null;
+        Comparable max = null;
+        Object prev = null;
+
+        for (int i = 0; i < len; i++) {
+            T v = s.get(i);
+
+            if (v == null) {
+                nullCount++;
+                prev = null;
+                continue;
+            }
+
+            distinct.add(v.hashCode());
+
+            // a non-null value after a null breaks the "nulls last" order
+            sorted = sorted && (i == 0 || prev != null);
+
+            if (comparable) {
+                if (v instanceof Comparable) {
+                    Comparable c = (Comparable) v;
+
+                    try {
+                        if (min == null) {
+                            min = c;
+                            max = c;
+                        } else {
+                            if (c.compareTo(min) < 0) {
+                                min = c;
+                            }
+
+                            if (c.compareTo(max) > 0) {
+                                max = c;
+                            }
+
+                            sorted = sorted && prev != null && ((Comparable) prev).compareTo(c) <= 0;
+                        }
+                    } catch (ClassCastException e) {
+                        // mixed incompatible types
+                        comparable = false;
+                    }
+                } else {
+                    comparable = false;
+                }
+            }
+
+            prev = v;
+        }
+
+        return comparable
+                ? new SeriesStats<>(len, nullCount, (T) min, (T) max, distinct.estimate(len - nullCount), sorted)
+                : new SeriesStats<>(len, nullCount, null, null, distinct.estimate(len - nullCount), false);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getNullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Returns the smallest non-null value of the Series, or null if the Series has no non-null values, or its values
+     * are not comparable.
+     */
+    public T getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest non-null value of the Series, or null if the Series has no non-null values, or its values
+     * are not comparable.
+     */
+    public T getMax() {
+        return max;
+    }
+
+    /**
+     * Returns an approximate number of distinct non-null values in the Series. The precision is within a few percent
+     * of the actual number.
+     */
+    public int getDistinctEstimate() {
+        return distinctEstimate;
+    }
+
+    /**
+     * Returns true if the Series values are in the ascending order, with nulls (if any) at the end.
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    @Override
+    public String toString() {
+        return "SeriesStats{size=" + size
+                + ", nullCount=" + nullCount
+                + ", min=" + min
+                + ", max=" + max
+                + ", distinctEstimate=" + distinctEstimate
+                + ", sorted=" + sorted
+                + "}";
+    }
+
+    /**
+     * A "linear counting" distinct values estimator, which hashes each value to a bit in a bitmap, and estimates the
+     * cardinality from the share of bits that remained unset.
+     */
+    private static class DistinctCounter {
+
+        private final long[] bitmap;
+        private final int mask;
+
+        DistinctCounter(int expectedValues) {
+
+            // allocate ~2 bits per value to keep the estimation error low
+            int bits = 64;
+            while (bits < MAX_DISTINCT_BITMAP_SIZE && bits < expectedValues * 2L) {
+                bits <<= 1;
+            }
+
+            this.bitmap = new long[bits >>> 6];
+            this.mask = bits - 1;
+        }
+
+        void add(int hash) {
+
+            // "murmur3" finalizer to spread the bits of the poorly distributed hashes like sequential integers
+            int h = hash;
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+
+            int bit = h & mask;
+            bitmap[bit >>> 6] |= 1L << bit;
+        }
+
+        int estimate(int valuesCount) {
+
+            if (valuesCount == 0) {
+                return 0;
+            }
+
+            int bits = bitmap.length << 6;
+            int set = 0;
+            for (long word : bitmap) {
+                set += Long.bitCount(word);
+            }
+
+            int unset = bits - set;
+            if (unset == 0) {
+                return valuesCount;
+            }
+
+            long estimate = Math.round(bits * Math.log((double) bits / unset));
+            return (int) Math.max(1, Math.min(valuesCount, estimate));
+        }
+    }
+}
@@ -0,0 +1,582 @@
+package org.dflib.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.GroupBy;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.exp.Column;
+import org.dflib.exp.agg.AggregationType;
+import org.dflib.exp.agg.CountExp;
+import org.dflib.exp.agg.DoubleExpAggregator;
+import org.dflib.exp.agg.IntExpAggregator;
+import org.dflib.exp.agg.LongExpAggregator;
+import org.dflib.exp.agg.QuantileExpAggregator;
+import org.dflib.exp.agg.StandardAggregator;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Calculates standard aggregates ("count", "sum", "min", "max", "avg") of primitive columns for all groups of a
+ * {@link GroupBy} at once. Instead of creating a DataFrame for each group and evaluating each aggregator against it,
+ * scans each source column once, updating per-group primitive accumulators of all the aggregators referencing this
+ * column. Also calculates exact quantiles of primitive columns, processing all quantiles of the same column together.
+ *
+ * @since 1.0.0-M23
+ */
+class ColumnarGroupAggregator {
+
+    /**
+     * Returns an array of aggregated columns matching the aggregators array. Aggregators that can't be calculated by
+     * this algorithm are represented by nulls in the result.
+     */
+    static Series<?>[] agg(GroupBy groupBy, Exp<?>[] aggregators) {
+
+        int aggW = aggregators.length;
+        Series<?>[] aggColumns = new Series[aggW];
+
+        DataFrame source = groupBy.getSource();
+
+        // group aggregators by their source columns, so that each column is only scanned once
+        Map<Series<?>, List<Integer>> byColumn = new IdentityHashMap<>();
+        Map<Series<?>, List<Integer>> quantilesByColumn = new IdentityHashMap<>();
+        boolean hasCounts = false;
+
+        for (int i = 0; i < aggW; i++) {
+
+            if (aggregators[i] instanceof CountExp) {
+                hasCounts = true;
+                continue;
+            }
+
+            if (aggregators[i] instanceof QuantileExpAggregator) {
+                Series<?> column = quantileColumn(source, (QuantileExpAggregator<?>) aggregators[i]);
+                if (column != null) {
+                    quantilesByColumn.computeIfAbsent(column, c -> new ArrayList<>()).add(i);
+                }
+
+                continue;
+            }
+
+            Series<?> column = primitiveColumn(source, aggregators[i]);
+            if (column != null) {
+                byColumn.computeIfAbsent(column, c -> new ArrayList<>()).add(i);
+            }
+        }
+
+        for (Map.Entry<Series<?>, List<Integer>> e : quantilesByColumn.entrySet()) {
+
+            List<Integer> positions = e.getValue();
+            int len = positions.size();
+
+            double[] qs = new double[len];
+            for (int i = 0; i < len; i++) {
+                qs[i] = ((QuantileExpAggregator<?>) aggregators[positions.get(i)]).getQuantile();
+            }
+
+            Series<?>[] quantiles = quantiles(groupBy, e.getKey(), qs);
+            for (int i = 0; i < len; i++) {
+                aggColumns[positions.get(i)] = quantiles[i];
+            }
+        }
+
+        if (!hasCounts && byColumn.isEmpty()) {
+            return aggColumns;
+        }
+
+        Groups groups = new Groups(groupBy);
+
+        if (hasCounts) {
+            IntSeries counts = new IntArraySeries(groups.sizes);
+            for (int i = 0; i < aggW; i++) {
+                if (aggregators[i] instanceof CountExp) {
+                    aggColumns[i] = counts;
+                }
+            }
+        }
+
+        for (Map.Entry<Series<?>, List<Integer>> e : byColumn.entrySet()) {
+
+            List<Integer> positions = e.getValue();
+            int len = positions.size();
+
+            GroupAccum[] accums = new GroupAccum[len];
+            for (int i = 0; i < len; i++) {
+                accums[i] = createAccum(aggregators[positions.get(i)], e.getKey(), groups.sizes.length);
+            }
+
+            groups.scan(accums);
+
+            for (int i = 0; i < len; i++) {
+                aggColumns[positions.get(i)] = accums[i].toSeries(groups.sizes);
+            }
+        }
+
+        return aggColumns;
+    }
+
+    /**
+     * Returns a primitive source column of the aggregator, if the aggregator is supported by this algorithm, or null
+     * otherwise.
+     */
+    private static Series<?> primitiveColumn(DataFrame source, Exp<?> aggregator) {
+
+        if (!(aggregator instanceof StandardAggregator)) {
+            return null;
+        }
+
+        StandardAggregator<?> sa = (StandardAggregator<?>) aggregator;
+        AggregationType type = sa.getAggregationType();
+
+        // only evaluating column references, as other argument expressions may depend on the group boundaries
+        if (type == null || !(sa.getArg() instanceof Column)) {
+            return null;
+        }
+
+        Series<?> column = sa.getArg().eval(source);
+
+        if (aggregator instanceof IntExpAggregator) {
+            return column instanceof IntSeries ? column : null;
+        } else if (aggregator instanceof LongExpAggregator) {
+            return column instanceof LongSeries ? column : null;
+        } else if (aggregator instanceof DoubleExpAggregator) {
+            return column instanceof IntSeries || column instanceof LongSeries || column instanceof DoubleSeries
+                    ? column
+                    : null;
+        }
+
+        return null;
+    }
+
+    private static Series<?> quantileColumn(DataFrame source, QuantileExpAggregator<?> aggregator) {
+
+        if (!(aggregator.getArg() instanceof Column)) {
+            return null;
+        }
+
+        Series<?> column = aggregator.getArg().eval(source);
+        return column instanceof IntSeries || column instanceof LongSeries || column instanceof DoubleSeries
+                ? column
+                : null;
+    }
+
+    /**
+     * Calculates multiple quantiles of a primitive column for each group. Group values are copied to a buffer shared
+     * by all groups, and all the quantiles of a group are selected from the same partially ordered buffer.
+     */
+    private static Series<?>[] quantiles(GroupBy groupBy, Series<?> column, double[] qs) {
+
+        int qw = qs.length;
+        int groupsCount = groupBy.size();
+
+        double[][] results = new double[qw][groupsCount];
+
+        int maxGroupSize = 0;
+        for (Object key : groupBy.getGroupKeys()) {
+            maxGroupSize = Math.max(maxGroupSize, groupBy.getGroupIndex(key).size());
+        }
+
+        int g = 0;
+
+        if (column instanceof IntSeries) {
+            IntSeries s = (IntSeries) column;
+            int[] buffer = new int[maxGroupSize];
+
+            for (Object key : groupBy.getGroupKeys()) {
+                IntSeries index = groupBy.getGroupIndex(key);
+                int len = index.size();
+                for (int i = 0; i < len; i++) {
+                    buffer[i] = s.getInt(index.getInt(i));
+                }
+
+                double[] gqs = Quantiles.ofBuffer(buffer, len, qs);
+                for (int i = 0; i < qw; i++) {
+                    results[i][g] = gqs[i];
+                }
+
+                g++;
+            }
+        } else if (column instanceof LongSeries) {
+            LongSeries s = (LongSeries) column;
+            long[] buffer = new long[maxGroupSize];
+
+            for (Object key : groupBy.getGroupKeys()) {
+                IntSeries index = groupBy.getGroupIndex(key);
+                int len = index.size();
+                for (int i = 0; i < len; i++) {
+                    buffer[i] = s.getLong(index.getInt(i));
+                }
+
+                double[] gqs = Quantiles.ofBuffer(buffer, len, qs);
+                for (int i = 0; i < qw; i++) {
+                    results[i][g] = gqs[i];
+                }
+
+                g++;
+            }
+        } else {
+            DoubleSeries s = (DoubleSeries) column;
+            double[] buffer = new double[maxGroupSize];
+
+            for (Object key : groupBy.getGroupKeys()) {
+                IntSeries index = groupBy.getGroupIndex(key);
+                int len = index.size();
+                for (int i = 0; i < len; i++) {
+                    buffer[i] = s.getDouble(index.getInt(i));
+                }
+
+                double[] gqs = Quantiles.ofBuffer(buffer, len, qs);
+                for (int i = 0; i < qw; i++) {
+                    results[i][g] = gqs[i];
+                }
+
+                g++;
+            }
+        }
+
+        Series<?>[] columns = new Series[qw];
+        for (int i = 0; i < qw; i++) {
+            columns[i] = new DoubleArraySeries(results[i]);
+        }
+
+        return columns;
+    }
+
+    private static GroupAccum createAccum(Exp<?> aggregator, Series<?> column, int groupsCount) {
+
+        AggregationType type = ((StandardAggregator<?>) aggregator).getAggregationType();
+
+        if (aggregator instanceof IntExpAggregator) {
+            IntSeries s = (IntSeries) column;
+            switch (type) {
+                case sum:
+                    return new IntSumAccum(s, groupsCount);
+                case min:
+                    return new IntMinMaxAccum(s, groupsCount, true);
+                case max:
+                    return new IntMinMaxAccum(s, groupsCount, false);
+            }
+        } else if (aggregator instanceof LongExpAggregator) {
+            LongSeries s = (LongSeries) column;
+            switch (type) {
+                case sum:
+                    return new LongSumAccum(s, groupsCount);
+                case min:
+                    return new LongMinMaxAccum(s, groupsCount, true);
+                case max:
+                    return new LongMinMaxAccum(s, groupsCount, false);
+            }
+        } else {
+            IntToDoubleFunction values = doubleValues(column);
+            switch (type) {
+                case sum:
+                    return new DoubleSumAccum(values, groupsCount, false);
+                case avg:
+                    return new DoubleSumAccum(values, groupsCount, true);
+                case min:
+                    return new DoubleMinMaxAccum(values, groupsCount, true);
+                case max:
+                    return new DoubleMinMaxAccum(values, groupsCount, false);
+            }
+        }
+
+        throw new IllegalStateException("Unsupported aggregation '" + type + "' for " + aggregator.getClass().getSimpleName());
+    }
+
+    private static IntToDoubleFunction doubleValues(Series<?> column) {
+        if (column instanceof IntSeries) {
+            IntSeries s = (IntSeries) column;
+            return s::getInt;
+        } else if (column instanceof LongSeries) {
+            LongSeries s = (LongSeries) column;
+            return s::getLong;
+        } else {
+            DoubleSeries s = (DoubleSeries) column;
+            return s::getDouble;
+        }
+    }
+
+    /**
+     * A mapping of source rows to group numbers.
+     */
+    private static class Groups {
+
+        final int[] rowGroups;
+        final int[] sizes;
+
+        Groups(GroupBy groupBy) {
+
+            // rows that are not included in any group (e.g. after GroupBy trimming) are marked with "-1"
+            int h = groupBy.getSource().height();
+            this.rowGroups = new int[h];
+            for (int i = 0; i < h; i++) {
+                rowGroups[i] = -1;
+            }
+
+            this.sizes = new int[groupBy.size()];
+
+            int g = 0;
+            for (Object key : groupBy.getGroupKeys()) {
+                IntSeries index = groupBy.getGroupIndex(key);
+                int len = index.size();
+                for (int i = 0; i < len; i++) {
+                    rowGroups[index.getInt(i)] = g;
+                }
+
+                sizes[g++] = len;
+            }
+        }
+
+        void scan(GroupAccum[] accums) {
+
+            // storing ivars in the local vars for performance
+            int[] rowGroups = this.rowGroups;
+            int h = rowGroups.length;
+            int w = accums.length;
+
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g >= 0) {
+                    for (int j = 0; j < w; j++) {
+                        accums[j].add(g, i);
+                    }
+                }
+            }
+        }
+    }
+
+    private interface GroupAccum {
+
+        void add(int group, int row);
+
+        Series<?> toSeries(int[] groupSizes);
+    }
+
+    private static class IntSumAccum implements GroupAccum {
+
+        private final IntSeries source;
+        private final long[] sums;
+
+        IntSumAccum(IntSeries source, int groupsCount) {
+            this.source = source;
+            this.sums = new long[groupsCount];
+        }
+
+        @Override
+        public void add(int group, int row) {
+            sums[group] += source.getInt(row);
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            int len = sums.length;
+            int[] data = new int[len];
+            for (int i = 0; i < len; i++) {
+                // summed as "long" without overflow. Narrowed, as "sum" of an IntExp is declared to produce
+                // an Integer, wrapping around the same way IntAggregators.sum does
+                data[i] = (int) sums[i];
+            }
+
+            return new IntArraySeries(data);
+        }
+    }
+
+    private static class IntMinMaxAccum implements GroupAccum {
+
+        private final IntSeries source;
+        private final int[] values;
+        private final boolean min;
+
+        IntMinMaxAccum(IntSeries source, int groupsCount, boolean min) {
+            this.source = source;
+            this.values = new int[groupsCount];
+            this.min = min;
+
+            int init = min ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+            for (int i = 0; i < groupsCount; i++) {
+                values[i] = init;
+            }
+        }
+
+        @Override
+        public void add(int group, int row) {
+            int v = source.getInt(row);
+            values[group] = min ? Math.min(values[group], v) : Math.max(values[group], v);
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            int len = values.length;
+            for (int i = 0; i < len; i++) {
+                if (groupSizes[i] == 0) {
+                    values[i] = 0;
+                }
+            }
+
+            return new IntArraySeries(values);
+        }
+    }
+
+    private static class LongSumAccum implements GroupAccum {
+
+        private final LongSeries source;
+        private final long[] sums;
+
+        LongSumAccum(LongSeries source, int groupsCount) {
+            this.source = source;
+            this.sums = new long[groupsCount];
+        }
+
+        @Override
+        public void add(int group, int row) {
+            sums[group] += source.getLong(row);
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            return new LongArraySeries(sums);
+        }
+    }
+
+    private static class LongMinMaxAccum implements GroupAccum {
+
+        private final LongSeries source;
+        private final long[] values;
+        private final boolean min;
+
+        LongMinMaxAccum(LongSeries source, int groupsCount, boolean min) {
+            this.source = source;
+            this.values = new long[groupsCount];
+            this.min = min;
+
+            long init = min ? Long.MAX_VALUE : Long.MIN_VALUE;
+            for (int i = 0; i < groupsCount; i++) {
+                values[i] = init;
+            }
+        }
+
+        @Override
+        public void add(int group, int row) {
+            long v = source.getLong(row);
+            values[group] = min ? Math.min(values[group], v) : Math.max(values[group], v);
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            int len = values.length;
+            for (int i = 0; i < len; i++) {
+                if (groupSizes[i] == 0) {
+                    values[i] = 0L;
+                }
+            }
+
+            return new LongArraySeries(values);
+        }
+    }
+
+    /**
+     * Calculates sums and averages using the same compensated summation algorithm as
+     * "Collectors.summingDouble(..)" and "Collectors.averagingDouble(..)" used by {@link org.dflib.exp.agg.DoubleAggregators},
+     * so that the results are the same as calculated per group.
+     */
+    private static class DoubleSumAccum implements GroupAccum {
+
+        private final IntToDoubleFunction source;
+        private final double[] sums;
+        private final double[] compensations;
+        private final double[] simpleSums;
+        private final boolean avg;
+
+        DoubleSumAccum(IntToDoubleFunction source, int groupsCount, boolean avg) {
+            this.source = source;
+            this.sums = new double[groupsCount];
+            this.compensations = new double[groupsCount];
+            this.simpleSums = new double[groupsCount];
+            this.avg = avg;
+        }
+
+        @Override
+        public void add(int group, int row) {
+            double v = source.applyAsDouble(row);
+
+            double tmp = v - compensations[group];
+            double sum = sums[group];
+            double velvel = sum + tmp;
+            compensations[group] = (velvel - sum) - tmp;
+            sums[group] = velvel;
+
+            simpleSums[group] += v;
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            int len = sums.length;
+            double[] data = new double[len];
+
+            for (int i = 0; i < len; i++) {
+
+                double sum = sums[i] - compensations[i];
+                if (Double.isNaN(sum) && Double.isInfinite(simpleSums[i])) {
+                    sum = simpleSums[i];
+                }
+
+                if (avg) {
+                    data[i] = groupSizes[i] > 0 ? sum / groupSizes[i] : 0.;
+                } else {
+                    data[i] = sum;
+                }
+            }
+
+            return new DoubleArraySeries(data);
+        }
+    }
+
+    private static class DoubleMinMaxAccum implements GroupAccum {
+
+        private final IntToDoubleFunction source;
+        private final double[] values;
+        private final boolean min;
+
+        DoubleMinMaxAccum(IntToDoubleFunction source, int groupsCount, boolean min) {
+            this.source = source;
+            this.values = new double[groupsCount];
+            this.min = min;
+
+            double init = min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < groupsCount; i++) {
+                values[i] = init;
+            }
+        }
+
+        @Override
+        public void add(int group, int row) {
+
+            // not using Math.min/max to skip NaNs the same way DoubleAggregators do
+            double v = source.applyAsDouble(row);
+            if (min ? v < values[group] : v > values[group]) {
+                values[group] = v;
+            }
+        }
+
+        @Override
+        public Series<?> toSeries(int[] groupSizes) {
+            int len = values.length;
+            for (int i = 0; i < len; i++) {
+                if (groupSizes[i] == 0) {
+                    values[i] = 0.;
+                }
+            }
+
+            return new DoubleArraySeries(values);
+        }
+    }
+}
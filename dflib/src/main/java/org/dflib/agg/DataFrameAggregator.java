@@ -1,11 +1,10 @@
 package org.dflib.agg;
 
 import org.dflib.DataFrame;
-import org.dflib.Environment;
 import org.dflib.Exp;
 import org.dflib.Series;
+import org.dflib.exec.ParallelTasks;
 
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
 /**
@@ -24,33 +23,25 @@ public class DataFrameAggregator {
 
         Series<?>[] aggColumns = new Series[aggW];
 
-        Environment env = Environment.commonEnv();
-
         // 1. don't parallelize single-column DataFrames
-        // 2. don't parallelize small DataFrames, as sequential calculations are fast enough vs the overhead of
-        // creating, submitting and joining tasks
+        // 2. don't parallelize small DataFrames, or if we are already inside a pool task (e.g. a window partition
+        // processed in parallel with others)
 
-        if (aggW <= 1 || df.height() < env.parallelExecThreshold()) {
+        if (aggW <= 1 || !ParallelTasks.shouldParallelize(df.height())) {
             for (int i = 0; i < aggW; i++) {
                 aggColumns[i] = aggregators[i].eval(df);
             }
         } else {
-            ExecutorService pool = env.threadPool();
             Future<Series<?>>[] aggTasks = new Future[aggW];
 
             for (int i = 0; i < aggW; i++) {
                 Exp<?> aggregator = aggregators[i];
-                aggTasks[i] = pool.submit(() -> aggregator.eval(df));
+                aggTasks[i] = ParallelTasks.submit(() -> aggregator.eval(df));
             }
 
             for (int i = 0; i < aggW; i++) {
-                try {
-                    aggColumns[i] = aggTasks[i].get();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                aggColumns[i] = ParallelTasks.join(aggTasks[i]);
             }
-
         }
 
         return aggColumns;
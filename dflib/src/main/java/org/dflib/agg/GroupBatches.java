@@ -0,0 +1,56 @@
+package org.dflib.agg;
+
+import org.dflib.Environment;
+import org.dflib.exec.ParallelTasks;
+
+import java.util.concurrent.Future;
+
+/**
+ * Runs per-group operations over contiguous batches of groups. If the number of rows in the grouped data exceeds
+ * {@link Environment#parallelExecThreshold()}, the batches are processed in parallel on
+ * {@link Environment#threadPool()}. The operations are expected to write their results to the positions specific to
+ * the groups of their batch, so that no synchronization is needed between the batches.
+ *
+ * @since 1.0.0-M23
+ */
+public class GroupBatches {
+
+    @FunctionalInterface
+    public interface BatchOp {
+        void apply(int fromGroup, int toGroup);
+    }
+
+    /**
+     * Invokes the operation for all the groups, either as a single batch on the calling thread, or as multiple
+     * batches in parallel.
+     *
+     * @param rows   the total number of rows in all the groups
+     * @param groups the number of groups
+     * @param op     operation invoked for each batch of groups
+     */
+    public static void run(int rows, int groups, BatchOp op) {
+
+        // nothing to split if there's just one group
+        if (groups < 2 || !ParallelTasks.shouldParallelize(rows)) {
+            op.apply(0, groups);
+            return;
+        }
+
+        // create more batches than threads to even out the differences in group sizes
+        int batches = Math.min(groups, ParallelTasks.threads() * 4);
+        int batchSize = (groups + batches - 1) / batches;
+        int tasksCount = (groups + batchSize - 1) / batchSize;
+
+        Future<?>[] tasks = new Future[tasksCount - 1];
+        for (int t = 0; t < tasksCount - 1; t++) {
+            int from = t * batchSize;
+            int to = from + batchSize;
+            tasks[t] = ParallelTasks.submit(() -> op.apply(from, to));
+        }
+
+        // process the last batch on the calling thread while the pool is busy with the rest
+        op.apply((tasksCount - 1) * batchSize, groups);
+
+        ParallelTasks.join(tasks);
+    }
+}
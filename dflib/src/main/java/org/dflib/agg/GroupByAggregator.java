@@ -1,14 +1,14 @@
 package org.dflib.agg;
 
 import org.dflib.DataFrame;
-import org.dflib.Environment;
 import org.dflib.Exp;
 import org.dflib.GroupBy;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
 import org.dflib.builder.ValueAccum;
+import org.dflib.exec.ParallelTasks;
 
-import java.util.concurrent.ExecutorService;
+import java.util.Arrays;
 import java.util.concurrent.Future;
 
 /**
@@ -18,42 +18,102 @@ public class GroupByAggregator {
 
     public static Series<?>[] agg(GroupBy groupBy, Exp<?>... aggregators) {
 
-        int aggW = aggregators.length;
         int aggH = groupBy.size();
 
-        Series<?>[] aggColumns = new Series[aggW];
+        // standard aggregates of primitive columns are calculated for all groups together, scanning each column once
+        Series<?>[] aggColumns = ColumnarGroupAggregator.agg(groupBy, aggregators);
 
-        Environment env = Environment.commonEnv();
+        // the remaining aggregators are evaluated against each group DataFrame
+        int[] remaining = remaining(aggColumns);
+        int aggW = remaining.length;
 
-        // 1. don't parallelize single-column aggregations
-        // 2. don't parallelize small DataFrames, as sequential calculations are fast enough vs the overhead of
-        // creating, submitting and joining tasks
+        // 1. don't parallelize small DataFrames, or if we are already inside a pool task
+        // 2. with enough groups, split the groups into batches aggregated in parallel. This works for any number of
+        // aggregators and balances the load better than per-aggregator tasks
+        // 3. with just a few (large) groups, parallelize by aggregator if there is more than one
 
-        if (aggW <= 1 || groupBy.getSource().height() < env.parallelExecThreshold()) {
+        if (aggW == 0 || !ParallelTasks.shouldParallelize(groupBy.getSource().height())) {
+            for (int i = 0; i < aggW; i++) {
+                aggColumns[remaining[i]] = agg(groupBy, aggregators[remaining[i]], aggH);
+            }
+        } else if (aggH >= ParallelTasks.threads()) {
+            Series<?>[] batchAggs = aggByGroupBatches(groupBy, selectAggregators(aggregators, remaining));
             for (int i = 0; i < aggW; i++) {
-                aggColumns[i] = agg(groupBy, aggregators[i], aggH);
+                aggColumns[remaining[i]] = batchAggs[i];
             }
+        } else if (aggW == 1) {
+            aggColumns[remaining[0]] = agg(groupBy, aggregators[remaining[0]], aggH);
         } else {
-            ExecutorService pool = env.threadPool();
             Future<Series<?>>[] aggTasks = new Future[aggW];
 
             for (int i = 0; i < aggW; i++) {
-                Exp<?> agg = aggregators[i];
-                aggTasks[i] = pool.submit(() -> agg(groupBy, agg, aggH));
+                Exp<?> agg = aggregators[remaining[i]];
+                aggTasks[i] = ParallelTasks.submit(() -> agg(groupBy, agg, aggH));
             }
 
             for (int i = 0; i < aggW; i++) {
-                try {
-                    aggColumns[i] = aggTasks[i].get();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
+                aggColumns[remaining[i]] = ParallelTasks.join(aggTasks[i]);
             }
         }
 
         return aggColumns;
     }
 
+    private static int[] remaining(Series<?>[] aggColumns) {
+        int len = aggColumns.length;
+        int[] remaining = new int[len];
+
+        int j = 0;
+        for (int i = 0; i < len; i++) {
+            if (aggColumns[i] == null) {
+                remaining[j++] = i;
+            }
+        }
+
+        return j < len ? Arrays.copyOf(remaining, j) : remaining;
+    }
+
+    private static Exp<?>[] selectAggregators(Exp<?>[] aggregators, int[] positions) {
+        int len = positions.length;
+        Exp<?>[] selected = new Exp[len];
+        for (int i = 0; i < len; i++) {
+            selected[i] = aggregators[positions[i]];
+        }
+
+        return selected;
+    }
+
+    /**
+     * Evaluates all the aggregators for contiguous batches of groups processed in parallel. Each batch writes to its
+     * own range of the result arrays, so the results are assembled in the group order without extra copying.
+     */
+    private static Series<?>[] aggByGroupBatches(GroupBy groupBy, Exp<?>[] aggregators) {
+
+        int aggW = aggregators.length;
+        int aggH = groupBy.size();
+
+        Object[] keys = groupBy.getGroupKeys().toArray();
+        Object[][] data = new Object[aggW][aggH];
+
+        GroupBatches.run(groupBy.getSource().height(), aggH, (from, to) -> {
+            for (int g = from; g < to; g++) {
+                DataFrame group = groupBy.getGroup(keys[g]);
+                for (int i = 0; i < aggW; i++) {
+
+                    // expecting 1-element Series. Unpack them and store in the result
+                    data[i][g] = aggregators[i].eval(group).get(0);
+                }
+            }
+        });
+
+        Series<?>[] columns = new Series[aggW];
+        for (int i = 0; i < aggW; i++) {
+            columns[i] = Series.of(data[i]);
+        }
+
+        return columns;
+    }
+
     private static Series<?> agg(GroupBy groupBy, Exp<?> agg, int aggH) {
         // TODO: primitives support for performance
         ValueAccum columnBuilder = new ObjectAccum<>(aggH);
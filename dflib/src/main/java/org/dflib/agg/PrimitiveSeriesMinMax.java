@@ -19,17 +19,14 @@ public class PrimitiveSeriesMinMax {
             return 0; // is this reasonable?
         }
 
-        int max = Integer.MAX_VALUE;
+        int min = Integer.MAX_VALUE;
 
+        // branch-free "Math.min/max" reductions over a plain array are intrinsified and can be vectorized by the JIT
         for (int i = 0; i < len; i++) {
-
-            int in = ints[start + i];
-            if (in < max) {
-                max = in;
-            }
+            min = Math.min(min, ints[start + i]);
         }
 
-        return max;
+        return min;
     }
 
     public static int maxOfArray(int[] ints, int start, int len) {
@@ -41,11 +38,7 @@ public class PrimitiveSeriesMinMax {
         int max = Integer.MIN_VALUE;
 
         for (int i = 0; i < len; i++) {
-
-            int in = ints[start + i];
-            if (in > max) {
-                max = in;
-            }
+            max = Math.max(max, ints[start + i]);
         }
 
         return max;
@@ -57,17 +50,13 @@ public class PrimitiveSeriesMinMax {
             return 0; // is this reasonable?
         }
 
-        long max = Long.MAX_VALUE;
+        long min = Long.MAX_VALUE;
 
         for (int i = 0; i < len; i++) {
-
-            long in = longs[start + i];
-            if (in < max) {
-                max = in;
-            }
+            min = Math.min(min, longs[start + i]);
         }
 
-        return max;
+        return min;
     }
 
     public static long maxOfArray(long[] longs, int start, int len) {
@@ -79,11 +68,7 @@ public class PrimitiveSeriesMinMax {
         long max = Long.MIN_VALUE;
 
         for (int i = 0; i < len; i++) {
-
-            long in = longs[start + i];
-            if (in > max) {
-                max = in;
-            }
+            max = Math.max(max, longs[start + i]);
         }
 
         return max;
@@ -0,0 +1,425 @@
+package org.dflib.agg;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+
+/**
+ * Calculates exact quantiles of arrays of values using "introselect" (a quickselect with a fallback to sorting
+ * on bad pivots), which runs in O(n) expected time, instead of fully sorting the data. Quantiles are linearly
+ * interpolated between the two closest ranks, so that the 0.5 quantile is the same as the median. When multiple
+ * quantiles are requested, they are selected in the ascending order over the shrinking unpartitioned part of the same
+ * buffer. For an empty input, all quantiles are zero, the same as {@link PrimitiveSeriesMedian} returns.
+ *
+ * @since 1.0.0-M23
+ */
+public class Quantiles {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Returns an expression label of a quantile aggregator in the "p99" form commonly used for percentiles.
+     */
+    public static String label(double q) {
+        return "p" + new BigDecimal(q * 100.)
+                .round(new MathContext(10))
+                .stripTrailingZeros()
+                .toPlainString();
+    }
+
+    public static double[] ofArray(int[] data, int start, int len, double... qs) {
+        int[] copy = new int[len];
+        System.arraycopy(data, start, copy, 0, len);
+        return ofBuffer(copy, len, qs);
+    }
+
+    public static double[] ofArray(long[] data, int start, int len, double... qs) {
+        long[] copy = new long[len];
+        System.arraycopy(data, start, copy, 0, len);
+        return ofBuffer(copy, len, qs);
+    }
+
+    public static double[] ofArray(double[] data, int start, int len, double... qs) {
+        double[] copy = new double[len];
+        System.arraycopy(data, start, copy, 0, len);
+        return ofBuffer(copy, len, qs);
+    }
+
+    /**
+     * Calculates quantiles of the first "len" values of the buffer, reordering the buffer in the process.
+     */
+    public static double[] ofBuffer(int[] buffer, int len, double... qs) {
+
+        double[] result = new double[qs.length];
+        if (len == 0) {
+            return result;
+        }
+
+        int from = 0;
+        for (int qi : ascending(qs)) {
+
+            int lo = lowerRank(qs[qi], len);
+            double frac = fraction(qs[qi], len, lo);
+
+            if (lo >= from) {
+                select(buffer, from, len, lo);
+                from = lo + 1;
+            }
+
+            double v = buffer[lo];
+            if (frac > 0.) {
+                if (lo + 1 >= from) {
+                    select(buffer, from, len, lo + 1);
+                    from = lo + 2;
+                }
+
+                v += frac * ((double) buffer[lo + 1] - v);
+            }
+
+            result[qi] = v;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of the first "len" values of the buffer, reordering the buffer in the process.
+     */
+    public static double[] ofBuffer(long[] buffer, int len, double... qs) {
+
+        double[] result = new double[qs.length];
+        if (len == 0) {
+            return result;
+        }
+
+        int from = 0;
+        for (int qi : ascending(qs)) {
+
+            int lo = lowerRank(qs[qi], len);
+            double frac = fraction(qs[qi], len, lo);
+
+            if (lo >= from) {
+                select(buffer, from, len, lo);
+                from = lo + 1;
+            }
+
+            double v = buffer[lo];
+            if (frac > 0.) {
+                if (lo + 1 >= from) {
+                    select(buffer, from, len, lo + 1);
+                    from = lo + 2;
+                }
+
+                v += frac * ((double) buffer[lo + 1] - v);
+            }
+
+            result[qi] = v;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of the first "len" values of the buffer, reordering the buffer in the process. NaNs are
+     * ordered after all other values, the same as {@link Arrays#sort(double[])} does.
+     */
+    public static double[] ofBuffer(double[] buffer, int len, double... qs) {
+
+        double[] result = new double[qs.length];
+        if (len == 0) {
+            return result;
+        }
+
+        // move NaNs to the end, as they can't be ordered with the comparison operators
+        int nonNan = len;
+        for (int i = len - 1; i >= 0; i--) {
+            if (Double.isNaN(buffer[i])) {
+                buffer[i] = buffer[--nonNan];
+                buffer[nonNan] = Double.NaN;
+            }
+        }
+
+        int from = 0;
+        for (int qi : ascending(qs)) {
+
+            int lo = lowerRank(qs[qi], len);
+            double frac = fraction(qs[qi], len, lo);
+
+            if (lo >= from && lo < nonNan) {
+                select(buffer, from, nonNan, lo);
+                from = lo + 1;
+            }
+
+            double v = buffer[lo];
+            if (frac > 0.) {
+                if (lo + 1 >= from && lo + 1 < nonNan) {
+                    select(buffer, from, nonNan, lo + 1);
+                    from = lo + 2;
+                }
+
+                v += frac * (buffer[lo + 1] - v);
+            }
+
+            result[qi] = v;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculates quantiles of the first "len" values of the buffer, reordering the buffer in the process. The values
+     * must not be null.
+     */
+    public static BigDecimal[] ofBuffer(BigDecimal[] buffer, int len, double... qs) {
+
+        BigDecimal[] result = new BigDecimal[qs.length];
+        if (len == 0) {
+            Arrays.fill(result, BigDecimal.ZERO);
+            return result;
+        }
+
+        int from = 0;
+        for (int qi : ascending(qs)) {
+
+            int lo = lowerRank(qs[qi], len);
+            double frac = fraction(qs[qi], len, lo);
+
+            if (lo >= from) {
+                select(buffer, from, len, lo);
+                from = lo + 1;
+            }
+
+            BigDecimal v = buffer[lo];
+            if (frac > 0.) {
+                if (lo + 1 >= from) {
+                    select(buffer, from, len, lo + 1);
+                    from = lo + 2;
+                }
+
+                v = v.add(buffer[lo + 1].subtract(v).multiply(BigDecimal.valueOf(frac)));
+            }
+
+            result[qi] = v;
+        }
+
+        return result;
+    }
+
+    private static int lowerRank(double q, int len) {
+
+        if (q < 0. || q > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+
+        return (int) ((len - 1) * q);
+    }
+
+    private static double fraction(double q, int len, int lowerRank) {
+        return (len - 1) * q - lowerRank;
+    }
+
+    // indexes of the quantiles array in the ascending order of quantiles
+    private static int[] ascending(double[] qs) {
+        int len = qs.length;
+        int[] order = new int[len];
+        for (int i = 0; i < len; i++) {
+            order[i] = i;
+        }
+
+        // there are normally just a few quantiles, so insertion sort is good enough
+        for (int i = 1; i < len; i++) {
+            int o = order[i];
+            int j = i - 1;
+            for (; j >= 0 && qs[order[j]] > qs[o]; j--) {
+                order[j + 1] = order[j];
+            }
+            order[j + 1] = o;
+        }
+
+        return order;
+    }
+
+    private static int depthLimit(int len) {
+        return 2 * (32 - Integer.numberOfLeadingZeros(len));
+    }
+
+    // Rearranges the range, so that the element at "k" is the one that would be there if the range was sorted, all
+    // elements before it are less or equal, and all the elements after it are greater or equal. Uses 3-way
+    // partitioning to handle duplicates well.
+    private static void select(int[] a, int from, int to, int k) {
+
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+
+            if (depth-- == 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+
+            int pivot = median3(a[from], a[(from + to) >>> 1], a[to - 1]);
+
+            int lt = from, i = from, gt = to - 1;
+            while (i <= gt) {
+                int v = a[i];
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                to = lt;
+            } else if (k > gt) {
+                from = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        Arrays.sort(a, from, to);
+    }
+
+    private static void select(long[] a, int from, int to, int k) {
+
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+
+            if (depth-- == 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+
+            long pivot = median3(a[from], a[(from + to) >>> 1], a[to - 1]);
+
+            int lt = from, i = from, gt = to - 1;
+            while (i <= gt) {
+                long v = a[i];
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                to = lt;
+            } else if (k > gt) {
+                from = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        Arrays.sort(a, from, to);
+    }
+
+    private static void select(double[] a, int from, int to, int k) {
+
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+
+            if (depth-- == 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+
+            double pivot = median3(a[from], a[(from + to) >>> 1], a[to - 1]);
+
+            int lt = from, i = from, gt = to - 1;
+            while (i <= gt) {
+                double v = a[i];
+                if (v < pivot) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (v > pivot) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                to = lt;
+            } else if (k > gt) {
+                from = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        Arrays.sort(a, from, to);
+    }
+
+    private static void select(BigDecimal[] a, int from, int to, int k) {
+
+        int depth = depthLimit(to - from);
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+
+            if (depth-- == 0) {
+                Arrays.sort(a, from, to);
+                return;
+            }
+
+            BigDecimal pivot = median3(a[from], a[(from + to) >>> 1], a[to - 1]);
+
+            int lt = from, i = from, gt = to - 1;
+            while (i <= gt) {
+                BigDecimal v = a[i];
+                int c = v.compareTo(pivot);
+                if (c < 0) {
+                    a[i++] = a[lt];
+                    a[lt++] = v;
+                } else if (c > 0) {
+                    a[i] = a[gt];
+                    a[gt--] = v;
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                to = lt;
+            } else if (k > gt) {
+                from = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        Arrays.sort(a, from, to);
+    }
+
+    private static int median3(int a, int b, int c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static long median3(long a, long b, long c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static double median3(double a, double b, double c) {
+        return a < b
+                ? (b < c ? b : Math.max(a, c))
+                : (a < c ? a : Math.max(b, c));
+    }
+
+    private static BigDecimal median3(BigDecimal a, BigDecimal b, BigDecimal c) {
+        return a.compareTo(b) < 0
+                ? (b.compareTo(c) < 0 ? b : a.max(c))
+                : (a.compareTo(c) < 0 ? a : b.max(c));
+    }
+}
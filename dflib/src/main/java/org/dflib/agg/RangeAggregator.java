@@ -2,8 +2,10 @@ package org.dflib.agg;
 
 import org.dflib.DataFrame;
 import org.dflib.Exp;
+import org.dflib.GroupBy;
+import org.dflib.IntSeries;
 import org.dflib.Series;
-import org.dflib.builder.ObjectAccum;
+import org.dflib.window.WindowBounds;
 import org.dflib.window.WindowRange;
 
 import java.util.Arrays;
@@ -19,6 +21,45 @@ public abstract class RangeAggregator {
                 : new SubRangesAggregator(df, range);
     }
 
+    /**
+     * Aggregates each partition of the GroupBy over the window range, producing columns with the height of the
+     * GroupBy source, with each partition results placed at the row positions of the partition. Partitions are
+     * processed in parallel if the source is large enough.
+     *
+     * @since 1.0.0-M23
+     */
+    public static Series<?>[] aggPartitioned(GroupBy partitions, WindowRange range, Exp<?>... aggregators) {
+
+        int h = partitions.getSource().height();
+        int aggW = aggregators.length;
+
+        Object[] keys = partitions.getGroupKeys().toArray();
+        int len = keys.length;
+
+        Series<?>[][] parts = new Series[aggW][len];
+        IntSeries[] positions = new IntSeries[len];
+
+        // each partition fills its own positions in the arrays, so the partitions can be processed in parallel
+        GroupBatches.run(h, len, (from, to) -> {
+            for (int g = from; g < to; g++) {
+
+                Series<?>[] gAggs = RangeAggregator.of(partitions.getGroup(keys[g]), range).agg(aggregators);
+                for (int i = 0; i < aggW; i++) {
+                    parts[i][g] = gAggs[i];
+                }
+
+                positions[g] = partitions.getGroupIndex(keys[g]);
+            }
+        });
+
+        Series<?>[] columns = new Series[aggW];
+        for (int i = 0; i < aggW; i++) {
+            columns[i] = WindowColumns.scatter(h, parts[i], positions);
+        }
+
+        return columns;
+    }
+
     protected final DataFrame source;
 
     protected RangeAggregator(DataFrame source) {
@@ -59,20 +100,12 @@ public abstract class RangeAggregator {
 
     static class SubRangesAggregator extends RangeAggregator {
 
-        private final DataFrame[] ranges;
+        private final WindowBounds bounds;
+        private DataFrame[] ranges;
 
         SubRangesAggregator(DataFrame source, WindowRange range) {
             super(source);
-
-            int h = source.height();
-            DataFrame[] ranges = new DataFrame[h];
-            for (int i = 0; i < h; i++) {
-
-                // TODO: would be great if "Exp.eval" could be range-aware, so we won't need to create "h" DataFrames
-                ranges[i] = range.selectRows(source, i);
-
-            }
-            this.ranges = ranges;
+            this.bounds = range.bounds(source);
         }
 
         @Override
@@ -83,11 +116,20 @@ public abstract class RangeAggregator {
 
             Series<?>[] data = new Series[w];
             for (int i = 0; i < w; i++) {
-                ObjectAccum accum = new ObjectAccum<>(h);
                 Exp<?> agg = aggregators[i];
 
+                // standard aggregates can be calculated incrementally as the window slides over the rows
+                Series<?> sliding = SlidingWindowAggregator.agg(source, agg, bounds);
+                if (sliding != null) {
+                    data[i] = sliding;
+                    continue;
+                }
+
+                DataFrame[] ranges = ranges();
+                WindowColumns.RowAccum accum = new WindowColumns.RowAccum(h);
+
                 for (int j = 0; j < h; j++) {
-                    accum.push(agg.eval(ranges[j]).get(0));
+                    accum.push(agg.eval(ranges[j]));
                 }
 
                 data[i] = accum.toSeries();
@@ -95,5 +137,22 @@ public abstract class RangeAggregator {
 
             return data;
         }
+
+        private DataFrame[] ranges() {
+
+            if (ranges == null) {
+                int h = source.height();
+                DataFrame[] ranges = new DataFrame[h];
+                for (int i = 0; i < h; i++) {
+
+                    // TODO: would be great if "Exp.eval" could be range-aware, so we won't need to create "h" DataFrames
+                    ranges[i] = source.rowsRange(bounds.fromRow(i), bounds.toRow(i)).select();
+                }
+
+                this.ranges = ranges;
+            }
+
+            return ranges;
+        }
     }
 }
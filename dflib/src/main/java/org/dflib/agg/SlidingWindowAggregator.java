@@ -0,0 +1,450 @@
+package org.dflib.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.exp.Column;
+import org.dflib.exp.agg.AggregationType;
+import org.dflib.exp.agg.CountExp;
+import org.dflib.exp.agg.DoubleExpAggregator;
+import org.dflib.exp.agg.IntExpAggregator;
+import org.dflib.exp.agg.LongExpAggregator;
+import org.dflib.exp.agg.StandardAggregator;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+import org.dflib.window.WindowBounds;
+import org.dflib.window.WindowRange;
+
+/**
+ * Calculates standard aggregates ("count", "sum", "min", "max", "avg") over a sliding {@link WindowRange} in a single
+ * pass over the column. Instead of creating a DataFrame for each row and aggregating it from scratch (O(N*W)), takes
+ * advantage of the fact that the {@link WindowBounds} only move forward as the row index grows. Integer sums are
+ * calculated as differences of prefix sums (O(N)), floating point sums and averages - from a segment tree of partial
+ * sums (O(N*log(N))), and min / max - with monotonic deques of row indexes (O(N)).
+ *
+ * @since 1.0.0-M23
+ */
+class SlidingWindowAggregator {
+
+    /**
+     * Returns a column of aggregated values per row of the DataFrame, or null if the aggregator can't be calculated
+     * incrementally.
+     */
+    static Series<?> agg(DataFrame df, Exp<?> aggregator, WindowBounds bounds) {
+
+        int h = df.height();
+
+        if (aggregator instanceof CountExp) {
+            int[] counts = new int[h];
+            for (int i = 0; i < h; i++) {
+                counts[i] = bounds.toRow(i) - bounds.fromRow(i);
+            }
+
+            return new IntArraySeries(counts);
+        }
+
+        if (!(aggregator instanceof StandardAggregator)) {
+            return null;
+        }
+
+        StandardAggregator<?> sa = (StandardAggregator<?>) aggregator;
+        AggregationType type = sa.getAggregationType();
+
+        // only evaluating column references, as other argument expressions may depend on the range boundaries
+        if (type == null || !(sa.getArg() instanceof Column)) {
+            return null;
+        }
+
+        Series<?> column = sa.getArg().eval(df);
+
+        if (aggregator instanceof IntExpAggregator) {
+            switch (type) {
+                case sum:
+                    return intSum(column, bounds);
+                case min:
+                    return intMinMax(column, bounds, true);
+                case max:
+                    return intMinMax(column, bounds, false);
+            }
+        } else if (aggregator instanceof LongExpAggregator) {
+            switch (type) {
+                case sum:
+                    return longSum(column, bounds);
+                case min:
+                    return longMinMax(column, bounds, true);
+                case max:
+                    return longMinMax(column, bounds, false);
+            }
+        } else if (aggregator instanceof DoubleExpAggregator) {
+            switch (type) {
+                case sum:
+                    return doubleSum(column, bounds, false);
+                case avg:
+                    return doubleSum(column, bounds, true);
+                case min:
+                    return doubleMinMax(column, bounds, true);
+                case max:
+                    return doubleMinMax(column, bounds, false);
+            }
+        }
+
+        return null;
+    }
+
+    private static Series<?> intSum(Series<?> column, WindowBounds bounds) {
+
+        int h = column.size();
+
+        // prefix sums as "long" to avoid overflow. The difference is cast to "int" the same way IntAggregators.sum
+        // does it
+        long[] prefix = new long[h + 1];
+        if (column instanceof IntSeries) {
+            IntSeries is = (IntSeries) column;
+            for (int i = 0; i < h; i++) {
+                prefix[i + 1] = prefix[i] + is.getInt(i);
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                Number n = (Number) column.get(i);
+                prefix[i + 1] = n != null ? prefix[i] + n.intValue() : prefix[i];
+            }
+        }
+
+        int[] sums = new int[h];
+        for (int i = 0; i < h; i++) {
+            sums[i] = (int) (prefix[bounds.toRow(i)] - prefix[bounds.fromRow(i)]);
+        }
+
+        return new IntArraySeries(sums);
+    }
+
+    private static Series<?> longSum(Series<?> column, WindowBounds bounds) {
+
+        int h = column.size();
+
+        // "long" overflow wraps around consistently, so the prefix sum differences are correct even if they overflow
+        long[] prefix = new long[h + 1];
+        if (column instanceof LongSeries) {
+            LongSeries ls = (LongSeries) column;
+            for (int i = 0; i < h; i++) {
+                prefix[i + 1] = prefix[i] + ls.getLong(i);
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                Number n = (Number) column.get(i);
+                prefix[i + 1] = n != null ? prefix[i] + n.longValue() : prefix[i];
+            }
+        }
+
+        long[] sums = new long[h];
+        for (int i = 0; i < h; i++) {
+            sums[i] = prefix[bounds.toRow(i)] - prefix[bounds.fromRow(i)];
+        }
+
+        return new LongArraySeries(sums);
+    }
+
+    private static Series<?> doubleSum(Series<?> column, WindowBounds bounds, boolean avg) {
+
+        int h = column.size();
+        double[] values = doubleValues(column);
+
+        // Values can't be reliably subtracted from a running floating point sum (e.g., after "1e17 + 1 - 1e17" the
+        // "1" is lost), so doubles are summed with a segment tree instead. Each window sum combines O(log N) nodes
+        // made of the values within the window only. Nulls are added as zeros and are not counted
+
+        // the leaves are at [h, 2h), and the node "i" is the sum of the nodes "2i" and "2i + 1"
+        double[] tree = new double[2 * h];
+
+        // prefix counts of non-null values for "avg"
+        int[] counts = new int[h + 1];
+
+        for (int i = 0; i < h; i++) {
+            double v = values[i];
+            if (v == v || !isNull(column, i)) {
+                tree[h + i] = v;
+                counts[i + 1] = counts[i] + 1;
+            } else {
+                counts[i + 1] = counts[i];
+            }
+        }
+
+        for (int i = h - 1; i > 0; i--) {
+            tree[i] = tree[2 * i] + tree[2 * i + 1];
+        }
+
+        double[] results = new double[h];
+        for (int i = 0; i < h; i++) {
+
+            int from = bounds.fromRow(i);
+            int to = bounds.toRow(i);
+            double total = treeSum(tree, h, from, to);
+
+            if (avg) {
+                int count = counts[to] - counts[from];
+                results[i] = count > 0 ? total / count : 0.;
+            } else {
+                results[i] = total;
+            }
+        }
+
+        return new DoubleArraySeries(results);
+    }
+
+    // a sum of the leaves [from, to) of the tree, with the tree nodes combined the same way
+    // Collectors.summingDouble() combines values: a compensated sum, with a simple sum fallback for infinities
+    private static double treeSum(double[] tree, int h, int from, int to) {
+
+        double sum = 0.;
+        double compensation = 0.;
+        double simpleSum = 0.;
+
+        for (int l = from + h, r = to + h; l < r; l >>= 1, r >>= 1) {
+
+            if ((l & 1) == 1) {
+                double v = tree[l++];
+                simpleSum += v;
+
+                double y = v - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+
+            if ((r & 1) == 1) {
+                double v = tree[--r];
+                simpleSum += v;
+
+                double y = v - compensation;
+                double t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+        }
+
+        double total = sum - compensation;
+        return Double.isNaN(total) && Double.isInfinite(simpleSum) ? simpleSum : total;
+    }
+
+    private static Series<?> intMinMax(Series<?> column, WindowBounds bounds, boolean min) {
+
+        int h = column.size();
+        int[] values = new int[h];
+        boolean[] nulls = new boolean[h];
+
+        if (column instanceof IntSeries) {
+            ((IntSeries) column).copyToInt(values, 0, 0, h);
+        } else {
+            for (int i = 0; i < h; i++) {
+                Number n = (Number) column.get(i);
+                if (n != null) {
+                    values[i] = n.intValue();
+                } else {
+                    nulls[i] = true;
+                }
+            }
+        }
+
+        // a window with no values produces the same result as IntAggregators
+        int empty = min ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+
+        IndexDeque deque = new IndexDeque(h);
+        int to = 0;
+
+        int[] results = new int[h];
+        for (int i = 0; i < h; i++) {
+
+            int nextTo = bounds.toRow(i);
+            for (; to < nextTo; to++) {
+                if (!nulls[to]) {
+                    int v = values[to];
+
+                    // drop the values that can no longer be the min (max) while "v" is in the window
+                    while (!deque.isEmpty() && (min ? values[deque.last()] >= v : values[deque.last()] <= v)) {
+                        deque.removeLast();
+                    }
+
+                    deque.addLast(to);
+                }
+            }
+
+            int from = bounds.fromRow(i);
+            while (!deque.isEmpty() && deque.first() < from) {
+                deque.removeFirst();
+            }
+
+            results[i] = deque.isEmpty() ? empty : values[deque.first()];
+        }
+
+        return new IntArraySeries(results);
+    }
+
+    private static Series<?> longMinMax(Series<?> column, WindowBounds bounds, boolean min) {
+
+        int h = column.size();
+        long[] values = new long[h];
+        boolean[] nulls = new boolean[h];
+
+        if (column instanceof LongSeries) {
+            ((LongSeries) column).copyToLong(values, 0, 0, h);
+        } else {
+            for (int i = 0; i < h; i++) {
+                Number n = (Number) column.get(i);
+                if (n != null) {
+                    values[i] = n.longValue();
+                } else {
+                    nulls[i] = true;
+                }
+            }
+        }
+
+        // a window with no values produces the same result as LongAggregators
+        long empty = min ? Long.MAX_VALUE : Long.MIN_VALUE;
+
+        IndexDeque deque = new IndexDeque(h);
+        int to = 0;
+
+        long[] results = new long[h];
+        for (int i = 0; i < h; i++) {
+
+            int nextTo = bounds.toRow(i);
+            for (; to < nextTo; to++) {
+                if (!nulls[to]) {
+                    long v = values[to];
+
+                    // drop the values that can no longer be the min (max) while "v" is in the window
+                    while (!deque.isEmpty() && (min ? values[deque.last()] >= v : values[deque.last()] <= v)) {
+                        deque.removeLast();
+                    }
+
+                    deque.addLast(to);
+                }
+            }
+
+            int from = bounds.fromRow(i);
+            while (!deque.isEmpty() && deque.first() < from) {
+                deque.removeFirst();
+            }
+
+            results[i] = deque.isEmpty() ? empty : values[deque.first()];
+        }
+
+        return new LongArraySeries(results);
+    }
+
+    private static Series<?> doubleMinMax(Series<?> column, WindowBounds bounds, boolean min) {
+
+        int h = column.size();
+
+        // nulls are represented as NaNs, and both are skipped, the same way DoubleAggregators do it
+        double[] values = doubleValues(column);
+
+        // a window with no values produces the same result as DoubleAggregators
+        double empty = min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+
+        IndexDeque deque = new IndexDeque(h);
+        int to = 0;
+
+        double[] results = new double[h];
+        for (int i = 0; i < h; i++) {
+
+            int nextTo = bounds.toRow(i);
+            for (; to < nextTo; to++) {
+                double v = values[to];
+                if (v == v) {
+
+                    // drop the values that can no longer be the min (max) while "v" is in the window
+                    while (!deque.isEmpty() && (min ? values[deque.last()] >= v : values[deque.last()] <= v)) {
+                        deque.removeLast();
+                    }
+
+                    deque.addLast(to);
+                }
+            }
+
+            int from = bounds.fromRow(i);
+            while (!deque.isEmpty() && deque.first() < from) {
+                deque.removeFirst();
+            }
+
+            results[i] = deque.isEmpty() ? empty : values[deque.first()];
+        }
+
+        return new DoubleArraySeries(results);
+    }
+
+    // converts the column to an array of doubles, with nulls represented as NaNs
+    private static double[] doubleValues(Series<?> column) {
+
+        int h = column.size();
+        double[] values = new double[h];
+
+        if (column instanceof DoubleSeries) {
+            ((DoubleSeries) column).copyToDouble(values, 0, 0, h);
+        } else if (column instanceof IntSeries) {
+            IntSeries is = (IntSeries) column;
+            for (int i = 0; i < h; i++) {
+                values[i] = is.getInt(i);
+            }
+        } else if (column instanceof LongSeries) {
+            LongSeries ls = (LongSeries) column;
+            for (int i = 0; i < h; i++) {
+                values[i] = ls.getLong(i);
+            }
+        } else {
+            for (int i = 0; i < h; i++) {
+                Number n = (Number) column.get(i);
+                values[i] = n != null ? n.doubleValue() : Double.NaN;
+            }
+        }
+
+        return values;
+    }
+
+    private static boolean isNull(Series<?> column, int row) {
+        return !(column instanceof DoubleSeries) && column.get(row) == null;
+    }
+
+    /**
+     * A fixed capacity deque of row indexes. Since each row is added at most once, the capacity equal to the number
+     * of rows is sufficient, and no wrapping around is needed.
+     */
+    private static class IndexDeque {
+
+        private final int[] data;
+        private int head;
+        private int tail;
+
+        IndexDeque(int capacity) {
+            this.data = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int first() {
+            return data[head];
+        }
+
+        int last() {
+            return data[tail - 1];
+        }
+
+        void addLast(int index) {
+            data[tail++] = index;
+        }
+
+        void removeFirst() {
+            head++;
+        }
+
+        void removeLast() {
+            tail--;
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package org.dflib.agg;
+
+import org.dflib.ColumnDataFrame;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.exp.Exps;
+import org.dflib.exp.agg.AggregationType;
+import org.dflib.exp.agg.CountExp;
+import org.dflib.exp.agg.DoubleExpAggregator;
+import org.dflib.exp.agg.IntExpAggregator;
+import org.dflib.exp.agg.LongExpAggregator;
+import org.dflib.exp.agg.StandardAggregator;
+import org.dflib.map.CombinationHash;
+import org.dflib.series.DoubleArraySeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A hash aggregation that updates a running aggregation state for each distinct key as the rows are streamed through
+ * it. Unlike <code>df.group(..).agg(..)</code>, it doesn't build an index of rows per group, so its memory footprint
+ * is proportional to the number of distinct keys and not the number of rows. The rows can be passed in multiple
+ * DataFrame chunks (e.g. as they are being read by a loader). Supports {@link Exp#count()} and "sum", "min", "max" and
+ * "avg" aggregators of numeric expressions. Aggregator arguments are evaluated against each chunk as a whole,
+ * so they must not depend on the group boundaries. Rows with null keys are skipped, the same way as
+ * {@link DataFrame#group(String...)} does it.
+ *
+ * @since 1.0.0-M23
+ */
+public class StreamingAggregator {
+
+    private final String[] keyColumns;
+    private final Exp<?>[] aggregators;
+
+    private final Map<Object, Integer> groups;
+    private final ObjectAccum<Object>[] keys;
+    private final AggState[] states;
+
+    private Index resultIndex;
+
+    public StreamingAggregator(String[] keyColumns, Exp<?>... aggregators) {
+
+        if (keyColumns.length == 0) {
+            throw new IllegalArgumentException("No columns provided to aggregate by");
+        }
+
+        this.keyColumns = keyColumns;
+        this.aggregators = aggregators;
+        this.groups = new HashMap<>();
+
+        int kw = keyColumns.length;
+        this.keys = new ObjectAccum[kw];
+        for (int i = 0; i < kw; i++) {
+            keys[i] = new ObjectAccum<>();
+        }
+
+        int aw = aggregators.length;
+        this.states = new AggState[aw];
+        for (int i = 0; i < aw; i++) {
+            states[i] = createState(aggregators[i]);
+        }
+    }
+
+    /**
+     * Updates the aggregation state with the rows of the provided DataFrame.
+     */
+    public StreamingAggregator append(DataFrame chunk) {
+
+        if (resultIndex == null) {
+            resultIndex = createResultIndex(chunk);
+        }
+
+        int[] rowGroups = rowGroups(chunk);
+        int groupsCount = groups.size();
+
+        for (AggState s : states) {
+            s.append(chunk, rowGroups, groupsCount);
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns a DataFrame with one row per distinct key, containing the key columns followed by the aggregated columns.
+     */
+    public DataFrame toDataFrame() {
+
+        int kw = keys.length;
+        int aw = states.length;
+        int h = groups.size();
+
+        Series<?>[] columns = new Series[kw + aw];
+
+        for (int i = 0; i < kw; i++) {
+            columns[i] = keys[i].toSeries();
+        }
+
+        for (int i = 0; i < aw; i++) {
+            columns[kw + i] = states[i].toSeries(h);
+        }
+
+        Index index = resultIndex != null
+                ? resultIndex
+                // no data was appended, and we can't resolve the aggregator labels without a DataFrame
+                : createResultIndex(DataFrame.empty(keyColumns));
+
+        return new ColumnDataFrame(null, index, columns);
+    }
+
+    private Index createResultIndex(DataFrame df) {
+        String[] aggLabels = Exps.labels(df, aggregators);
+
+        int kw = keyColumns.length;
+        String[] labels = new String[kw + aggLabels.length];
+        System.arraycopy(keyColumns, 0, labels, 0, kw);
+        System.arraycopy(aggLabels, 0, labels, kw, aggLabels.length);
+
+        return Index.ofDeduplicated(labels);
+    }
+
+    private int[] rowGroups(DataFrame chunk) {
+
+        int kw = keyColumns.length;
+        Series<?>[] keySeries = new Series[kw];
+        for (int i = 0; i < kw; i++) {
+            keySeries[i] = chunk.getColumn(keyColumns[i]);
+        }
+
+        int h = chunk.height();
+        int[] rowGroups = new int[h];
+
+        for (int i = 0; i < h; i++) {
+
+            // building the keys the same way as a multi-column Hasher does
+            Object key = keySeries[0].get(i);
+            for (int j = 1; j < kw; j++) {
+                key = new CombinationHash(key, keySeries[j].get(i));
+            }
+
+            if (key == null) {
+                rowGroups[i] = -1;
+                continue;
+            }
+
+            Integer group = groups.get(key);
+            if (group == null) {
+                group = groups.size();
+                groups.put(key, group);
+
+                for (int j = 0; j < kw; j++) {
+                    keys[j].push(keySeries[j].get(i));
+                }
+            }
+
+            rowGroups[i] = group;
+        }
+
+        return rowGroups;
+    }
+
+    private static AggState createState(Exp<?> aggregator) {
+
+        if (aggregator instanceof CountExp) {
+            return new CountState();
+        }
+
+        AggregationType type = aggregator instanceof StandardAggregator
+                ? ((StandardAggregator<?>) aggregator).getAggregationType()
+                : null;
+
+        if (type != null) {
+            Exp<?> arg = ((StandardAggregator<?>) aggregator).getArg();
+
+            if (aggregator instanceof IntExpAggregator) {
+                switch (type) {
+                    case sum:
+                        return new IntSumState(arg);
+                    case min:
+                        return new IntMinMaxState(arg, true);
+                    case max:
+                        return new IntMinMaxState(arg, false);
+                }
+            } else if (aggregator instanceof LongExpAggregator) {
+                switch (type) {
+                    case sum:
+                        return new LongSumState(arg);
+                    case min:
+                        return new LongMinMaxState(arg, true);
+                    case max:
+                        return new LongMinMaxState(arg, false);
+                }
+            } else if (aggregator instanceof DoubleExpAggregator) {
+                switch (type) {
+                    case sum:
+                        return new DoubleSumState(arg, false);
+                    case avg:
+                        return new DoubleSumState(arg, true);
+                    case min:
+                        return new DoubleMinMaxState(arg, true);
+                    case max:
+                        return new DoubleMinMaxState(arg, false);
+                }
+            }
+        }
+
+        throw new IllegalArgumentException("Aggregator '" + aggregator.toQL()
+                + "' can't be calculated incrementally. Only 'count', 'sum', 'min', 'max', 'avg' are supported");
+    }
+
+    private static int capacity(int current, int required) {
+        return Math.max(required, current * 2);
+    }
+
+    private static abstract class AggState {
+
+        abstract void append(DataFrame chunk, int[] rowGroups, int groupsCount);
+
+        abstract Series<?> toSeries(int groupsCount);
+    }
+
+    private static class CountState extends AggState {
+
+        private int[] counts = new int[0];
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            if (counts.length < groupsCount) {
+                counts = Arrays.copyOf(counts, capacity(counts.length, groupsCount));
+            }
+
+            for (int g : rowGroups) {
+                if (g >= 0) {
+                    counts[g]++;
+                }
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            return new IntArraySeries(Arrays.copyOf(counts, groupsCount));
+        }
+    }
+
+    private static class IntSumState extends AggState {
+
+        private final Exp<?> arg;
+        private long[] sums = new long[0];
+
+        IntSumState(Exp<?> arg) {
+            this.arg = Objects.requireNonNull(arg);
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            if (sums.length < groupsCount) {
+                sums = Arrays.copyOf(sums, capacity(sums.length, groupsCount));
+            }
+
+            Series<?> values = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            if (values instanceof IntSeries) {
+                IntSeries is = (IntSeries) values;
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    if (g >= 0) {
+                        sums[g] += is.getInt(i);
+                    }
+                }
+            } else {
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    Number n = (Number) values.get(i);
+                    if (g >= 0 && n != null) {
+                        sums[g] += n.intValue();
+                    }
+                }
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            int[] data = new int[groupsCount];
+            for (int i = 0; i < groupsCount; i++) {
+                // summed as "long" without overflow. Narrowed, as "sum" of an IntExp is declared to produce
+                // an Integer, wrapping around the same way IntAggregators.sum does
+                data[i] = (int) sums[i];
+            }
+
+            return new IntArraySeries(data);
+        }
+    }
+
+    private static class IntMinMaxState extends AggState {
+
+        private final Exp<?> arg;
+        private final boolean min;
+        private int[] values = new int[0];
+
+        IntMinMaxState(Exp<?> arg, boolean min) {
+            this.arg = Objects.requireNonNull(arg);
+            this.min = min;
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            int len = values.length;
+            if (len < groupsCount) {
+                values = Arrays.copyOf(values, capacity(len, groupsCount));
+                Arrays.fill(values, len, values.length, min ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+            }
+
+            Series<?> source = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g < 0) {
+                    continue;
+                }
+
+                int v;
+                if (source instanceof IntSeries) {
+                    v = ((IntSeries) source).getInt(i);
+                } else {
+                    Number n = (Number) source.get(i);
+                    if (n == null) {
+                        continue;
+                    }
+
+                    v = n.intValue();
+                }
+
+                values[g] = min ? Math.min(values[g], v) : Math.max(values[g], v);
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            return new IntArraySeries(Arrays.copyOf(values, groupsCount));
+        }
+    }
+
+    private static class LongSumState extends AggState {
+
+        private final Exp<?> arg;
+        private long[] sums = new long[0];
+
+        LongSumState(Exp<?> arg) {
+            this.arg = Objects.requireNonNull(arg);
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            if (sums.length < groupsCount) {
+                sums = Arrays.copyOf(sums, capacity(sums.length, groupsCount));
+            }
+
+            Series<?> values = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            if (values instanceof LongSeries) {
+                LongSeries ls = (LongSeries) values;
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    if (g >= 0) {
+                        sums[g] += ls.getLong(i);
+                    }
+                }
+            } else {
+                for (int i = 0; i < h; i++) {
+                    int g = rowGroups[i];
+                    Number n = (Number) values.get(i);
+                    if (g >= 0 && n != null) {
+                        sums[g] += n.longValue();
+                    }
+                }
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            return new LongArraySeries(Arrays.copyOf(sums, groupsCount));
+        }
+    }
+
+    private static class LongMinMaxState extends AggState {
+
+        private final Exp<?> arg;
+        private final boolean min;
+        private long[] values = new long[0];
+
+        LongMinMaxState(Exp<?> arg, boolean min) {
+            this.arg = Objects.requireNonNull(arg);
+            this.min = min;
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            int len = values.length;
+            if (len < groupsCount) {
+                values = Arrays.copyOf(values, capacity(len, groupsCount));
+                Arrays.fill(values, len, values.length, min ? Long.MAX_VALUE : Long.MIN_VALUE);
+            }
+
+            Series<?> source = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g < 0) {
+                    continue;
+                }
+
+                long v;
+                if (source instanceof LongSeries) {
+                    v = ((LongSeries) source).getLong(i);
+                } else {
+                    Number n = (Number) source.get(i);
+                    if (n == null) {
+                        continue;
+                    }
+
+                    v = n.longValue();
+                }
+
+                values[g] = min ? Math.min(values[g], v) : Math.max(values[g], v);
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            return new LongArraySeries(Arrays.copyOf(values, groupsCount));
+        }
+    }
+
+    /**
+     * Calculates sums and averages using the same compensated summation algorithm as
+     * "Collectors.summingDouble(..)" and "Collectors.averagingDouble(..)" used by
+     * {@link org.dflib.exp.agg.DoubleAggregators}.
+     */
+    private static class DoubleSumState extends AggState {
+
+        private final Exp<?> arg;
+        private final boolean avg;
+
+        private double[] sums = new double[0];
+        private double[] compensations = new double[0];
+        private double[] simpleSums = new double[0];
+        private int[] counts = new int[0];
+
+        DoubleSumState(Exp<?> arg, boolean avg) {
+            this.arg = Objects.requireNonNull(arg);
+            this.avg = avg;
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            int len = sums.length;
+            if (len < groupsCount) {
+                int capacity = capacity(len, groupsCount);
+                sums = Arrays.copyOf(sums, capacity);
+                compensations = Arrays.copyOf(compensations, capacity);
+                simpleSums = Arrays.copyOf(simpleSums, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+
+            Series<?> source = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g < 0) {
+                    continue;
+                }
+
+                double v;
+                if (source instanceof DoubleSeries) {
+                    v = ((DoubleSeries) source).getDouble(i);
+                } else {
+                    Number n = (Number) source.get(i);
+                    if (n == null) {
+                        continue;
+                    }
+
+                    v = n.doubleValue();
+                }
+
+                double tmp = v - compensations[g];
+                double sum = sums[g];
+                double velvel = sum + tmp;
+                compensations[g] = (velvel - sum) - tmp;
+                sums[g] = velvel;
+
+                simpleSums[g] += v;
+                counts[g]++;
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            double[] data = new double[groupsCount];
+
+            for (int i = 0; i < groupsCount; i++) {
+
+                double sum = sums[i] - compensations[i];
+                if (Double.isNaN(sum) && Double.isInfinite(simpleSums[i])) {
+                    sum = simpleSums[i];
+                }
+
+                if (avg) {
+                    data[i] = counts[i] > 0 ? sum / counts[i] : 0.;
+                } else {
+                    data[i] = sum;
+                }
+            }
+
+            return new DoubleArraySeries(data);
+        }
+    }
+
+    private static class DoubleMinMaxState extends AggState {
+
+        private final Exp<?> arg;
+        private final boolean min;
+        private double[] values = new double[0];
+
+        DoubleMinMaxState(Exp<?> arg, boolean min) {
+            this.arg = Objects.requireNonNull(arg);
+            this.min = min;
+        }
+
+        @Override
+        void append(DataFrame chunk, int[] rowGroups, int groupsCount) {
+
+            int len = values.length;
+            if (len < groupsCount) {
+                values = Arrays.copyOf(values, capacity(len, groupsCount));
+                Arrays.fill(values, len, values.length, min ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+            }
+
+            Series<?> source = arg.eval(chunk);
+            int h = rowGroups.length;
+
+            for (int i = 0; i < h; i++) {
+                int g = rowGroups[i];
+                if (g < 0) {
+                    continue;
+                }
+
+                double v;
+                if (source instanceof DoubleSeries) {
+                    v = ((DoubleSeries) source).getDouble(i);
+                } else {
+                    Number n = (Number) source.get(i);
+                    if (n == null) {
+                        continue;
+                    }
+
+                    v = n.doubleValue();
+                }
+
+                // not using Math.min/max to skip NaNs the same way DoubleAggregators do
+                if (min ? v < values[g] : v > values[g]) {
+                    values[g] = v;
+                }
+            }
+        }
+
+        @Override
+        Series<?> toSeries(int groupsCount) {
+            return new DoubleArraySeries(Arrays.copyOf(values, groupsCount));
+        }
+    }
+}
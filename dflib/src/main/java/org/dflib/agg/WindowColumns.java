@@ -0,0 +1,179 @@
+package org.dflib.agg;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.builder.DoubleAccum;
+import org.dflib.builder.IntAccum;
+import org.dflib.builder.LongAccum;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.builder.ValueAccum;
+
+/**
+ * Assembles window function results into columns, preserving primitive Series types. Numeric aggregators produce
+ * primitive single-value Series for each window, so the results can be stored unboxed. The type is derived from the
+ * actual values rather than the declared expression type, as aggregators like "first()" may produce nulls.
+ *
+ * @since 1.0.0-M23
+ */
+class WindowColumns {
+
+    /**
+     * Assembles a column from per-partition results, placing the values of each partition at the specified row
+     * positions. Produces a primitive Series if all the partitions results are of the same primitive type and cover
+     * all the rows.
+     */
+    static Series<?> scatter(int h, Series<?>[] parts, IntSeries[] positions) {
+
+        int len = parts.length;
+
+        int covered = 0;
+        boolean ints = true;
+        boolean longs = true;
+        boolean doubles = true;
+
+        for (Series<?> p : parts) {
+            covered += p.size();
+
+            // empty results are compatible with any type
+            if (p.size() > 0) {
+                ints = ints && p instanceof IntSeries;
+                longs = longs && p instanceof LongSeries;
+                doubles = doubles && p instanceof DoubleSeries;
+            }
+        }
+
+        // rows not included in any partition (i.e. those with null partition keys) must be nulls
+        if (len == 0 || covered < h) {
+            ints = longs = doubles = false;
+        }
+
+        if (ints) {
+            int[] data = new int[h];
+            GroupBatches.run(h, len, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    IntSeries s = (IntSeries) parts[i];
+                    IntSeries index = positions[i];
+                    int ih = index.size();
+                    for (int j = 0; j < ih; j++) {
+                        data[index.getInt(j)] = s.getInt(j);
+                    }
+                }
+            });
+
+            return Series.ofInt(data);
+        } else if (longs) {
+            long[] data = new long[h];
+            GroupBatches.run(h, len, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    LongSeries s = (LongSeries) parts[i];
+                    IntSeries index = positions[i];
+                    int ih = index.size();
+                    for (int j = 0; j < ih; j++) {
+                        data[index.getInt(j)] = s.getLong(j);
+                    }
+                }
+            });
+
+            return Series.ofLong(data);
+        } else if (doubles) {
+            double[] data = new double[h];
+            GroupBatches.run(h, len, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    DoubleSeries s = (DoubleSeries) parts[i];
+                    IntSeries index = positions[i];
+                    int ih = index.size();
+                    for (int j = 0; j < ih; j++) {
+                        data[index.getInt(j)] = s.getDouble(j);
+                    }
+                }
+            });
+
+            return Series.ofDouble(data);
+        } else {
+            Object[] data = new Object[h];
+            GroupBatches.run(h, len, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    Series<?> s = parts[i];
+                    IntSeries index = positions[i];
+                    int ih = index.size();
+                    for (int j = 0; j < ih; j++) {
+                        data[index.getInt(j)] = s.get(j);
+                    }
+                }
+            });
+
+            return Series.of(data);
+        }
+    }
+
+    /**
+     * A column accumulator of per-row aggregation results, each coming as a single-value Series. Picks a primitive
+     * store matching the first result, and switches to an Object store if the following results are of a different
+     * type.
+     */
+    static class RowAccum {
+
+        private final int capacity;
+        private ValueAccum accum;
+
+        RowAccum(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void push(Series<?> oneValue) {
+
+            if (accum == null) {
+                accum = createAccum(oneValue);
+            } else if (!fits(oneValue)) {
+                accum = toObjectAccum(accum.toSeries());
+            }
+
+            if (accum instanceof IntAccum) {
+                accum.pushInt(((IntSeries) oneValue).getInt(0));
+            } else if (accum instanceof LongAccum) {
+                accum.pushLong(((LongSeries) oneValue).getLong(0));
+            } else if (accum instanceof DoubleAccum) {
+                accum.pushDouble(((DoubleSeries) oneValue).getDouble(0));
+            } else {
+                accum.push(oneValue.get(0));
+            }
+        }
+
+        Series<?> toSeries() {
+            return accum != null ? accum.toSeries() : Series.of();
+        }
+
+        private boolean fits(Series<?> s) {
+            if (accum instanceof IntAccum) {
+                return s instanceof IntSeries;
+            } else if (accum instanceof LongAccum) {
+                return s instanceof LongSeries;
+            } else if (accum instanceof DoubleAccum) {
+                return s instanceof DoubleSeries;
+            } else {
+                return true;
+            }
+        }
+
+        private ValueAccum createAccum(Series<?> s) {
+            if (s instanceof IntSeries) {
+                return new IntAccum(capacity);
+            } else if (s instanceof LongSeries) {
+                return new LongAccum(capacity);
+            } else if (s instanceof DoubleSeries) {
+                return new DoubleAccum(capacity);
+            } else {
+                return new ObjectAccum<>(capacity);
+            }
+        }
+
+        private ValueAccum toObjectAccum(Series<?> accumulated) {
+            int len = accumulated.size();
+            ObjectAccum objects = new ObjectAccum<>(capacity);
+            objects.fill(accumulated, 0, 0, len);
+            return objects;
+        }
+    }
+}
@@ -5,7 +5,7 @@ import org.dflib.Exp;
 import org.dflib.GroupBy;
 import org.dflib.IntSeries;
 import org.dflib.Series;
-import org.dflib.builder.ObjectAccum;
+import org.dflib.window.WindowBounds;
 import org.dflib.window.WindowRange;
 
 /**
@@ -22,40 +22,44 @@ public class WindowMapper {
             int h = df.height();
 
             return Series.ofVal(oneValSeries.get(0), h);
-        } else {
+        }
 
-            int h = df.height();
-            ObjectAccum<T> data = new ObjectAccum<>(h);
-            for (int i = 0; i < h; i++) {
-                // TODO: recreating DataFrame for every row.. A hot spot?
-                data.push(aggregator.eval(range.selectRows(df, i)).get(0));
-            }
+        WindowBounds bounds = range.bounds(df);
+
+        // standard aggregates can be calculated incrementally as the window slides over the rows
+        Series<T> sliding = (Series<T>) SlidingWindowAggregator.agg(df, aggregator, bounds);
+        if (sliding != null) {
+            return sliding;
+        }
 
-            return data.toSeries();
+        int h = df.height();
+        WindowColumns.RowAccum data = new WindowColumns.RowAccum(h);
+        for (int i = 0; i < h; i++) {
+            // TODO: recreating DataFrame for every row.. A hot spot?
+            data.push(aggregator.eval(df.rowsRange(bounds.fromRow(i), bounds.toRow(i)).select()));
         }
+
+        return (Series<T>) data.toSeries();
     }
 
     public static <T> Series<T> mapPartitioned(GroupBy windowGroupBy, Exp<T> aggregator, WindowRange range) {
 
         int h = windowGroupBy.getSource().height();
+        Object[] keys = windowGroupBy.getGroupKeys().toArray();
+        int len = keys.length;
 
-        ObjectAccum<T> data = new ObjectAccum<>(h);
-
-        for (Object key : windowGroupBy.getGroupKeys()) {
-
-            DataFrame gdf = windowGroupBy.getGroup(key);
-            Series<T> groupData = map(gdf, aggregator, range);
+        Series<?>[] parts = new Series[len];
+        IntSeries[] positions = new IntSeries[len];
 
-            IntSeries index = windowGroupBy.getGroupIndex(key);
-            int ih = index.size();
-
-            // fill positions in the index with the singe aggregated value
-            for (int j = 0; j < ih; j++) {
-                data.replace(index.getInt(j), groupData.get(j));
+        // each partition fills its own positions in the arrays, so the partitions can be processed in parallel
+        GroupBatches.run(h, len, (from, to) -> {
+            for (int g = from; g < to; g++) {
+                parts[g] = map(windowGroupBy.getGroup(keys[g]), aggregator, range);
+                positions[g] = windowGroupBy.getGroupIndex(keys[g]);
             }
-        }
+        });
 
-        return data.toSeries();
+        return (Series<T>) WindowColumns.scatter(h, parts, positions);
     }
 
 }
@@ -33,7 +33,8 @@ public class BoolAccum implements ValueAccum<Boolean> {
 
         int pastFillEnd = accumOffset + len;
         if (data.length < pastFillEnd) {
-            expand(pastFillEnd);
+            // grow geometrically, so that appending values in a series of fills takes linear time
+            expand(Math.max(data.length * 2, pastFillEnd));
             size = pastFillEnd;
         } else if (size < pastFillEnd) {
             size = pastFillEnd;
@@ -49,7 +50,7 @@ public class BoolAccum implements ValueAccum<Boolean> {
         }
 
         if (data.length <= to) {
-            expand(to);
+            expand(Math.max(data.length * 2, to));
         }
 
         Arrays.fill(data, from, to, value);
@@ -35,7 +35,8 @@ public class IntAccum implements ValueAccum<Integer> {
 
         int pastFillEnd = accumOffset + len;
         if (data.length < pastFillEnd) {
-            expand(pastFillEnd);
+            // grow geometrically, so that appending values in a series of fills takes linear time
+            expand(Math.max(data.length * 2, pastFillEnd));
             size = pastFillEnd;
         } else if (size < pastFillEnd) {
             size = pastFillEnd;
@@ -50,7 +51,7 @@ public class IntAccum implements ValueAccum<Integer> {
         }
 
         if (data.length <= to) {
-            expand(to);
+            expand(Math.max(data.length * 2, to));
         }
 
         Arrays.fill(data, from, to, value);
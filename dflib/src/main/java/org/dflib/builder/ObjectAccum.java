@@ -38,7 +38,8 @@ public class ObjectAccum<T> implements ValueAccum<T> {
 
         int pastFillEnd = accumOffset + len;
         if (data.length < pastFillEnd) {
-            expand(pastFillEnd);
+            // grow geometrically, so that appending values in a series of fills takes linear time
+            expand(Math.max(data.length * 2, pastFillEnd));
             size = pastFillEnd;
         } else if (size < pastFillEnd) {
             size = pastFillEnd;
@@ -53,7 +54,7 @@ public class ObjectAccum<T> implements ValueAccum<T> {
         }
 
         if (data.length <= to) {
-            expand(to);
+            expand(Math.max(data.length * 2, to));
         }
 
         Arrays.fill(data, from, to, value);
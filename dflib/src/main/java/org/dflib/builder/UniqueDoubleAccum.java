@@ -1,14 +1,13 @@
 package org.dflib.builder;
 
-import java.util.HashSet;
-import java.util.Set;
+import org.dflib.set.DoubleHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueDoubleAccum extends DoubleAccum {
 
-    private Set<Double> seen;
+    private DoubleHashSet seen;
 
     public UniqueDoubleAccum() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueDoubleAccum extends DoubleAccum {
 
     public UniqueDoubleAccum(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new DoubleHashSet(capacity);
     }
 
     @Override
@@ -1,14 +1,13 @@
 package org.dflib.builder;
 
-import java.util.HashSet;
-import java.util.Set;
+import org.dflib.set.IntHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueIntAccum extends IntAccum {
 
-    private Set<Integer> seen;
+    private IntHashSet seen;
 
     public UniqueIntAccum() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueIntAccum extends IntAccum {
 
     public UniqueIntAccum(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new IntHashSet(capacity);
     }
 
     @Override
@@ -1,14 +1,13 @@
 package org.dflib.builder;
 
-import java.util.HashSet;
-import java.util.Set;
+import org.dflib.set.LongHashSet;
 
 /**
  * @since 0.6
  */
 public class UniqueLongAccum extends LongAccum {
 
-    private Set<Long> seen;
+    private LongHashSet seen;
 
     public UniqueLongAccum() {
         this(10);
@@ -16,7 +15,7 @@ public class UniqueLongAccum extends LongAccum {
 
     public UniqueLongAccum(int capacity) {
         super(capacity);
-        this.seen = new HashSet<>(capacity);
+        this.seen = new LongHashSet(capacity);
     }
 
     @Override
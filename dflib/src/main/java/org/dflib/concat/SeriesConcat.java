@@ -1,9 +1,15 @@
 package org.dflib.concat;
 
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
 import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.series.ArraySeries;
+import org.dflib.series.BooleanArraySeries;
+import org.dflib.series.DoubleArraySeries;
 import org.dflib.series.IntArraySeries;
+import org.dflib.series.LongArraySeries;
 
 import static java.util.Arrays.asList;
 
@@ -72,4 +78,76 @@ public class SeriesConcat {
 
         return new IntArraySeries(data);
     }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static LongSeries longConcat(LongSeries... concat) {
+        if (concat.length == 1) {
+            return concat[0];
+        }
+
+        int h = 0;
+        for (LongSeries s : concat) {
+            h += s.size();
+        }
+
+        long[] data = new long[h];
+        int offset = 0;
+        for (LongSeries s : concat) {
+            int len = s.size();
+            s.copyToLong(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new LongArraySeries(data);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static DoubleSeries doubleConcat(DoubleSeries... concat) {
+        if (concat.length == 1) {
+            return concat[0];
+        }
+
+        int h = 0;
+        for (DoubleSeries s : concat) {
+            h += s.size();
+        }
+
+        double[] data = new double[h];
+        int offset = 0;
+        for (DoubleSeries s : concat) {
+            int len = s.size();
+            s.copyToDouble(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new DoubleArraySeries(data);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public static BooleanSeries boolConcat(BooleanSeries... concat) {
+        if (concat.length == 1) {
+            return concat[0];
+        }
+
+        int h = 0;
+        for (BooleanSeries s : concat) {
+            h += s.size();
+        }
+
+        boolean[] data = new boolean[h];
+        int offset = 0;
+        for (BooleanSeries s : concat) {
+            int len = s.size();
+            s.copyToBool(data, 0, offset, len);
+            offset += len;
+        }
+
+        return new BooleanArraySeries(data);
+    }
 }
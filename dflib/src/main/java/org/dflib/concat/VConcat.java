@@ -55,7 +55,7 @@ public class VConcat {
             case 1:
                 return dfs[0];
             default:
-                return getInstance(how).concat(dfs);
+                return new VConcatBuilder(how).append(dfs).select();
         }
     }
 
@@ -0,0 +1,296 @@
+package org.dflib.concat;
+
+import org.dflib.BooleanSeries;
+import org.dflib.ColumnDataFrame;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.JoinType;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.ArraySeries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A builder of a vertical concatenation of many DataFrames, that accepts the DataFrames incrementally. Unlike
+ * {@link VConcat}, it resolves the labels of each DataFrame against the combined schema only once (and not at all for
+ * the DataFrames with the same columns index as the previous one), keeps the columns primitive when all the
+ * concatenated columns agree on a primitive type, and copies each value exactly once. This makes it suitable for
+ * concatenating large numbers of small DataFrames, e.g. the pages of a paginated data source.
+ *
+ * @since 1.0.0-M23
+ */
+public class VConcatBuilder {
+
+    // column kinds
+    private static final byte UNKNOWN = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOL = 4;
+    private static final byte OBJECT = 5;
+
+    private final JoinType how;
+
+    private final List<DataFrame> frames;
+    private final List<int[]> frameColumns;
+
+    // the combined schema of all the DataFrames, with the columns in the order of their first appearance
+    private final Map<String, Integer> ordinals;
+    private final List<Column> columns;
+
+    private Index lastIndex;
+    private int[] lastColumns;
+    private int height;
+
+    public VConcatBuilder(JoinType how) {
+        this.how = Objects.requireNonNull(how, "Null 'how' (join semantics)");
+        this.frames = new ArrayList<>();
+        this.frameColumns = new ArrayList<>();
+        this.ordinals = new HashMap<>();
+        this.columns = new ArrayList<>();
+    }
+
+    public VConcatBuilder append(DataFrame... dfs) {
+        for (DataFrame df : dfs) {
+            append(df);
+        }
+
+        return this;
+    }
+
+    public VConcatBuilder append(Iterable<DataFrame> dfs) {
+        for (DataFrame df : dfs) {
+            append(df);
+        }
+
+        return this;
+    }
+
+    public VConcatBuilder append(DataFrame df) {
+
+        Index index = df.getColumnsIndex();
+        int h = df.height();
+
+        // consecutive DataFrames from the same source usually share the columns, so the label resolution can be reused
+        int[] dfColumns = index == lastIndex || index.equals(lastIndex)
+                ? lastColumns
+                : resolve(index);
+
+        for (int i = 0; i < dfColumns.length; i++) {
+            columns.get(dfColumns[i]).append(df.getColumn(i), h);
+        }
+
+        frames.add(df);
+        frameColumns.add(dfColumns);
+        height += h;
+
+        this.lastIndex = index;
+        this.lastColumns = dfColumns;
+        return this;
+    }
+
+    /**
+     * Creates a DataFrame out of all the appended DataFrames.
+     */
+    public DataFrame select() {
+
+        switch (frames.size()) {
+            case 0:
+                return DataFrame.empty();
+            case 1:
+                return frames.get(0);
+        }
+
+        int[] selected = selectColumns();
+        int w = selected.length;
+
+        // position of each column of the combined schema in the result, or -1 if it is not included
+        int[] positions = new int[columns.size()];
+        Arrays.fill(positions, -1);
+
+        String[] labels = new String[w];
+        Object[] data = new Object[w];
+        for (int i = 0; i < w; i++) {
+            Column c = columns.get(selected[i]);
+            positions[selected[i]] = i;
+            labels[i] = c.label;
+            data[i] = c.allocate(height);
+        }
+
+        int offset = 0;
+        int fs = frames.size();
+        for (int i = 0; i < fs; i++) {
+
+            DataFrame df = frames.get(i);
+            int[] dfColumns = frameColumns.get(i);
+            int h = df.height();
+            if (h == 0) {
+                continue;
+            }
+
+            for (int j = 0; j < dfColumns.length; j++) {
+                int pos = positions[dfColumns[j]];
+                if (pos >= 0) {
+                    columns.get(dfColumns[j]).copy(df.getColumn(j), data[pos], offset, h);
+                }
+            }
+
+            offset += h;
+        }
+
+        Series<?>[] series = new Series[w];
+        for (int i = 0; i < w; i++) {
+            series[i] = columns.get(selected[i]).toSeries(data[i]);
+        }
+
+        return new ColumnDataFrame(null, Index.of(labels), series);
+    }
+
+    private int[] resolve(Index index) {
+
+        int w = index.size();
+        int[] dfColumns = new int[w];
+
+        for (int i = 0; i < w; i++) {
+            String label = index.get(i);
+            Integer ordinal = ordinals.get(label);
+            if (ordinal == null) {
+                ordinal = columns.size();
+                ordinals.put(label, ordinal);
+                columns.add(new Column(label));
+            }
+
+            dfColumns[i] = ordinal;
+        }
+
+        return dfColumns;
+    }
+
+    private int[] selectColumns() {
+
+        switch (how) {
+            case left:
+                return frameColumns.get(0);
+            case right:
+                return frameColumns.get(frameColumns.size() - 1);
+            case full:
+                int[] all = new int[columns.size()];
+                for (int i = 0; i < all.length; i++) {
+                    all[i] = i;
+                }
+                return all;
+            case inner:
+
+                // the first DataFrame columns have the lowest ordinals, so the columns are in the first DataFrame order
+                int fs = frames.size();
+                return Arrays.stream(frameColumns.get(0)).filter(i -> columns.get(i).frames == fs).toArray();
+            default:
+                throw new IllegalStateException("Unexpected join semantics: " + how);
+        }
+    }
+
+    private static byte kind(Series<?> s) {
+        if (s instanceof IntSeries) {
+            return INT;
+        } else if (s instanceof LongSeries) {
+            return LONG;
+        } else if (s instanceof DoubleSeries) {
+            return DOUBLE;
+        } else if (s instanceof BooleanSeries) {
+            return BOOL;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    private class Column {
+
+        final String label;
+        int frames;
+        int rows;
+        byte kind;
+
+        Column(String label) {
+            this.label = label;
+        }
+
+        void append(Series<?> s, int h) {
+            frames++;
+
+            // empty Series contribute no values, so their type doesn't matter
+            if (h > 0) {
+                rows += h;
+
+                byte sKind = kind(s);
+                if (kind == UNKNOWN) {
+                    kind = sKind;
+                } else if (kind != sKind) {
+                    kind = OBJECT;
+                }
+            }
+        }
+
+        byte resolvedKind() {
+
+            // the rows of DataFrames not having this column are filled with nulls, which requires an object column
+            return kind == UNKNOWN || rows < height ? OBJECT : kind;
+        }
+
+        Object allocate(int h) {
+            switch (resolvedKind()) {
+                case INT:
+                    return new int[h];
+                case LONG:
+                    return new long[h];
+                case DOUBLE:
+                    return new double[h];
+                case BOOL:
+                    return new boolean[h];
+                default:
+                    return new Object[h];
+            }
+        }
+
+        void copy(Series<?> s, Object to, int offset, int h) {
+            switch (resolvedKind()) {
+                case INT:
+                    ((IntSeries) s).copyToInt((int[]) to, 0, offset, h);
+                    break;
+                case LONG:
+                    ((LongSeries) s).copyToLong((long[]) to, 0, offset, h);
+                    break;
+                case DOUBLE:
+                    ((DoubleSeries) s).copyToDouble((double[]) to, 0, offset, h);
+                    break;
+                case BOOL:
+                    ((BooleanSeries) s).copyToBool((boolean[]) to, 0, offset, h);
+                    break;
+                default:
+                    s.copyTo((Object[]) to, 0, offset, h);
+            }
+        }
+
+        Series<?> toSeries(Object data) {
+            switch (resolvedKind()) {
+                case INT:
+                    return Series.ofInt((int[]) data);
+                case LONG:
+                    return Series.ofLong((long[]) data);
+                case DOUBLE:
+                    return Series.ofDouble((double[]) data);
+                case BOOL:
+                    return Series.ofBool((boolean[]) data);
+                default:
+                    return new ArraySeries<>((Object[]) data);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.dflib.exec;
+
+import org.dflib.Environment;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * A common helper for the operations that split their work into tasks running in parallel on
+ * {@link Environment#threadPool()}. Decides whether to parallelize, submits the tasks and joins them.
+ *
+ * @since 1.0.0-M23
+ */
+public class ParallelTasks {
+
+    // marks the pool threads while they are running the tasks submitted here. Unlike
+    // "ForkJoinTask.inForkJoinPool()", this works for any kind of pool
+    private static final ThreadLocal<Boolean> inPoolTask = new ThreadLocal<>();
+
+    /**
+     * Returns true if an operation over the given number of rows (or other units of work) should be split into
+     * parallel tasks per current {@link Environment} settings.
+     */
+    public static boolean shouldParallelize(int size) {
+
+        // 1. don't parallelize small inputs, as sequential calculations are fast enough vs the overhead of
+        // creating, submitting and joining tasks
+        // 2. don't parallelize if we are already inside a pool task. Nested blocking on the same pool may starve it
+        // of threads.
+        // 3. nothing to gain from a single thread
+
+        return size >= Environment.commonEnv().parallelExecThreshold()
+                && !inPoolTask()
+                && threads() > 1;
+    }
+
+    /**
+     * Returns the number of threads available to parallel tasks.
+     */
+    public static int threads() {
+        ExecutorService pool = Environment.commonEnv().threadPool();
+
+        if (pool instanceof ForkJoinPool) {
+            return ((ForkJoinPool) pool).getParallelism();
+        }
+
+        // a fixed pool has as many threads as its core size. Unbounded pools (e.g. a "cached" pool) have no core
+        // threads
+        if (pool instanceof ThreadPoolExecutor && ((ThreadPoolExecutor) pool).getCorePoolSize() > 0) {
+            return ((ThreadPoolExecutor) pool).getCorePoolSize();
+        }
+
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    public static <T> Future<T> submit(Callable<T> task) {
+        return Environment.commonEnv().threadPool().submit(() -> {
+            inPoolTask.set(Boolean.TRUE);
+            try {
+                return task.call();
+            } finally {
+                inPoolTask.remove();
+            }
+        });
+    }
+
+    public static Future<?> submit(Runnable task) {
+        return submit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for the task to finish and returns its result. Runtime exceptions thrown by the task are rethrown as is,
+     * the same way a sequential calculation would throw them.
+     */
+    public static <T> T join(Future<T> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Waits for all the tasks to finish.
+     */
+    public static void join(Future<?>[] tasks) {
+        for (Future<?> task : tasks) {
+            join(task);
+        }
+    }
+
+    /**
+     * Returns true if the current thread is running a task submitted via this class. The tasks of any pool,
+     * including a fixed-size pool, must not block on other tasks submitted to the same pool, as the pool may run out
+     * of threads for those.
+     */
+    public static boolean inPoolTask() {
+        return inPoolTask.get() != null;
+    }
+}
@@ -0,0 +1,209 @@
+package org.dflib.exp;
+
+import org.dflib.BooleanSeries;
+import org.dflib.ColumnDataFrame;
+import org.dflib.Condition;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.builder.BoolAccum;
+import org.dflib.builder.DoubleAccum;
+import org.dflib.builder.IntAccum;
+import org.dflib.builder.LongAccum;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.builder.ValueAccum;
+
+/**
+ * Evaluates expressions against a DataFrame in fixed-size row chunks, appending the results of each chunk to the
+ * output accumulators. Intermediate Series produced by the expression tree are never taller than a single chunk, so
+ * peak memory is proportional to the chunk size times the expression depth instead of the DataFrame height. The
+ * expressions and the row condition must be {@link Exp#isRowWise() row-wise}. So aggregating expressions,
+ * {@link Exp#rowNum()}, "cumSum()" and such are rejected.
+ *
+ * @since 1.0.0-M23
+ */
+public class ChunkedExpEvaluator {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final int chunkSize;
+
+    public ChunkedExpEvaluator() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    public ChunkedExpEvaluator(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Evaluates a single expression against the DataFrame chunk by chunk.
+     */
+    public <T> Series<T> eval(DataFrame df, Exp<T> exp) {
+        return (Series<T>) select(df, null, exp).getColumn(0);
+    }
+
+    /**
+     * Returns a DataFrame with columns produced by evaluating each of the expressions against the source DataFrame,
+     * chunk by chunk. An equivalent of <code>df.cols().select(exps)</code>.
+     */
+    public DataFrame select(DataFrame df, Exp<?>... exps) {
+        return select(df, null, exps);
+    }
+
+    /**
+     * Returns a DataFrame with columns produced by evaluating each of the expressions against the source DataFrame
+     * rows matching the condition, chunk by chunk. An equivalent of
+     * <code>df.rows(rowCondition).select().cols().select(exps)</code>, except that neither the condition nor the
+     * expressions are ever evaluated over the full height of the DataFrame.
+     *
+     * @param rowCondition a condition to filter the rows. May be null, in which case all rows are included.
+     */
+    public DataFrame select(DataFrame df, Condition rowCondition, Exp<?>... exps) {
+
+        if (rowCondition != null) {
+            checkRowWise(df, rowCondition);
+        }
+
+        for (Exp<?> exp : exps) {
+            checkRowWise(df, exp);
+        }
+
+        Index index = Index.ofDeduplicated(Exps.labels(df, exps));
+        int w = exps.length;
+        int h = df.height();
+
+        // when there's filtering, the result height is unknown, so start with a single chunk capacity and let the
+        // accumulators grow (geometrically) as needed
+        int capacity = rowCondition != null ? Math.min(h, chunkSize) : h;
+
+        ChunkAccum[] accums = new ChunkAccum[w];
+        for (int i = 0; i < w; i++) {
+            accums[i] = new ChunkAccum(capacity);
+        }
+
+        for (int from = 0; from < h; from += chunkSize) {
+
+            int to = Math.min(from + chunkSize, h);
+            DataFrame chunk = from == 0 && to == h ? df : df.rowsRange(from, to).select();
+
+            if (rowCondition != null) {
+                chunk = chunk.rows(rowCondition).select();
+            }
+
+            int ch = chunk.height();
+            if (ch == 0) {
+                continue;
+            }
+
+            for (int i = 0; i < w; i++) {
+                accums[i].append(exps[i].eval(chunk));
+            }
+        }
+
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = accums[i].toSeries();
+        }
+
+        return new ColumnDataFrame(null, index, columns);
+    }
+
+    private static void checkRowWise(DataFrame df, Exp<?> exp) {
+        if (!exp.isRowWise()) {
+            throw new IllegalArgumentException("Expression '" + exp.toQL(df)
+                    + "' is not row-wise. Only expressions that calculate the value of each row from that row alone "
+                    + "can be evaluated in chunks");
+        }
+    }
+
+    /**
+     * A column accumulator that picks a primitive store matching the first appended chunk, and switches to an
+     * Object store if the following chunks are of a different type.
+     */
+    private static class ChunkAccum {
+
+        private final int capacity;
+        private ValueAccum accum;
+
+        ChunkAccum(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void append(Series<?> s) {
+
+            int len = s.size();
+
+            if (accum == null) {
+                accum = createAccum(s, capacity);
+            } else if (!fits(s)) {
+                accum = toObjectAccum(accum.toSeries(), len);
+            }
+
+            int offset = accum.size();
+
+            if (accum instanceof IntAccum) {
+                ((IntAccum) accum).fill((IntSeries) s, 0, offset, len);
+            } else if (accum instanceof LongAccum) {
+                ((LongAccum) accum).fill((LongSeries) s, 0, offset, len);
+            } else if (accum instanceof DoubleAccum) {
+                ((DoubleAccum) accum).fill((DoubleSeries) s, 0, offset, len);
+            } else if (accum instanceof BoolAccum) {
+                ((BoolAccum) accum).fill((BooleanSeries) s, 0, offset, len);
+            } else {
+                ((ObjectAccum) accum).fill(s, 0, offset, len);
+            }
+        }
+
+        Series<?> toSeries() {
+            return accum != null ? accum.toSeries() : Series.of();
+        }
+
+        private boolean fits(Series<?> s) {
+            if (accum instanceof IntAccum) {
+                return s instanceof IntSeries;
+            } else if (accum instanceof LongAccum) {
+                return s instanceof LongSeries;
+            } else if (accum instanceof DoubleAccum) {
+                return s instanceof DoubleSeries;
+            } else if (accum instanceof BoolAccum) {
+                return s instanceof BooleanSeries;
+            } else {
+                return true;
+            }
+        }
+
+        private ValueAccum createAccum(Series<?> s, int capacity) {
+            if (s instanceof IntSeries) {
+                return new IntAccum(capacity);
+            } else if (s instanceof LongSeries) {
+                return new LongAccum(capacity);
+            } else if (s instanceof DoubleSeries) {
+                return new DoubleAccum(capacity);
+            } else if (s instanceof BooleanSeries) {
+                return new BoolAccum(capacity);
+            } else {
+                return new ObjectAccum<>(capacity);
+            }
+        }
+
+        private ValueAccum toObjectAccum(Series<?> accumulated, int nextChunkSize) {
+            int len = accumulated.size();
+            ObjectAccum objects = new ObjectAccum<>(Math.max(capacity, len + nextChunkSize));
+            objects.fill(accumulated, 0, 0, len);
+            return objects;
+        }
+    }
+}
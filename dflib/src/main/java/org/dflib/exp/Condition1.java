@@ -46,4 +46,9 @@ public abstract class Condition1<F> implements Condition {
     }
 
     protected abstract BooleanSeries doEval(Series<F> s);
+
+    @Override
+    public boolean isRowWise() {
+        return exp.isRowWise();
+    }
 }
@@ -48,4 +48,9 @@ public abstract class Condition2<L, R> implements Condition {
     }
 
     protected abstract BooleanSeries doEval(Series<L> left, Series<R> right);
+
+    @Override
+    public boolean isRowWise() {
+        return left.isRowWise() && right.isRowWise();
+    }
 }
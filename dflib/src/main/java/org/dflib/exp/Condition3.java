@@ -50,4 +50,9 @@ public abstract class Condition3<One, Two, Three> implements Condition {
     }
 
     protected abstract BooleanSeries doEval(Series<One> one, Series<Two> two, Series<Three> three);
+
+    @Override
+    public boolean isRowWise() {
+        return one.isRowWise() && two.isRowWise() && three.isRowWise();
+    }
 }
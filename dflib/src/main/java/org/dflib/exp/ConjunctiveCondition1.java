@@ -44,4 +44,9 @@ public abstract class ConjunctiveCondition1 implements Condition {
     }
 
     protected abstract BooleanSeries doEval(BooleanSeries s);
+
+    @Override
+    public boolean isRowWise() {
+        return arg.isRowWise();
+    }
 }
@@ -68,4 +68,9 @@ public abstract class ConjunctiveConditionN implements Condition {
     }
 
     protected abstract BooleanSeries doEval(BooleanSeries[] parts);
+
+    @Override
+    public boolean isRowWise() {
+        return Arrays.stream(args).allMatch(Condition::isRowWise);
+    }
 }
@@ -52,4 +52,9 @@ public abstract class Exp1<F, T> implements Exp<T> {
     }
 
     protected abstract Series<T> doEval(Series<F> s);
+
+    @Override
+    public boolean isRowWise() {
+        return exp.isRowWise();
+    }
 }
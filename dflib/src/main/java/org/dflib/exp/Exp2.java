@@ -54,4 +54,9 @@ public abstract class Exp2<L, R, T> implements Exp<T> {
     }
 
     protected abstract Series<T> doEval(Series<L> left, Series<R> right);
+
+    @Override
+    public boolean isRowWise() {
+        return left.isRowWise() && right.isRowWise();
+    }
 }
@@ -68,4 +68,9 @@ public abstract class ExpN<T> implements Exp<T> {
     }
 
     protected abstract Series<T> doEval(int height, Series<?>[] args);
+
+    @Override
+    public boolean isRowWise() {
+        return Arrays.stream(args).allMatch(Exp::isRowWise);
+    }
 }
@@ -54,4 +54,9 @@ public abstract class ExpScalar2<L, R, T> implements Exp<T> {
     }
 
     protected abstract Series<T> doEval(Series<L> left);
+
+    @Override
+    public boolean isRowWise() {
+        return left.isRowWise();
+    }
 }
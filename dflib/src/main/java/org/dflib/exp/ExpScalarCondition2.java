@@ -47,4 +47,9 @@ public abstract class ExpScalarCondition2<L, R> implements Condition {
     }
 
     protected abstract BooleanSeries doEval(Series<L> left, R right);
+
+    @Override
+    public boolean isRowWise() {
+        return left.isRowWise();
+    }
 }
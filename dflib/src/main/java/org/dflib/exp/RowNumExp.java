@@ -31,4 +31,9 @@ public class RowNumExp extends Exp0<Integer> implements NumExp<Integer> {
     public Series<Integer> eval(Series<?> s) {
         return new IntSequenceSeries(START_NUMBER, START_NUMBER + s.size());
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
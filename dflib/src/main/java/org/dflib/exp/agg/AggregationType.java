@@ -0,0 +1,13 @@
+package org.dflib.exp.agg;
+
+/**
+ * Standard aggregation functions, whose results can be calculated incrementally, one value at a time. Used by DFLib to
+ * recognize aggregating expressions that can be evaluated for multiple groups in a single pass over the data.
+ *
+ * @see StandardAggregator
+ * @since 1.0.0-M23
+ */
+public enum AggregationType {
+
+    sum, min, max, avg
+}
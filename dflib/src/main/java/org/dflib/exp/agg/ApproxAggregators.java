@@ -0,0 +1,92 @@
+package org.dflib.exp.agg;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+/**
+ * Aggregation functions that trade precision for bounded memory, based on {@link HyperLogLog} and
+ * {@link QuantileSketch} sketches.
+ *
+ * @since 1.0.0-M23
+ */
+public class ApproxAggregators {
+
+    /**
+     * Returns an approximate number of distinct non-null values in the Series.
+     */
+    public static int approxDistinct(Series<?> s) {
+        return (int) distinctSketch(s).estimate();
+    }
+
+    /**
+     * Returns an approximate value at the specified quantile of the non-null values of the Series, or 0 if there are
+     * no such values.
+     */
+    public static double approxQuantile(Series<? extends Number> s, double q) {
+        QuantileSketch sketch = quantileSketch(s);
+        return sketch.getCount() > 0 ? sketch.quantile(q) : 0.;
+    }
+
+    public static HyperLogLog distinctSketch(Series<?> s) {
+
+        HyperLogLog sketch = new HyperLogLog();
+        int len = s.size();
+
+        if (s instanceof IntSeries) {
+            IntSeries is = (IntSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.addInt(is.getInt(i));
+            }
+        } else if (s instanceof LongSeries) {
+            LongSeries ls = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.addLong(ls.getLong(i));
+            }
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.addDouble(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                sketch.add(s.get(i));
+            }
+        }
+
+        return sketch;
+    }
+
+    public static QuantileSketch quantileSketch(Series<? extends Number> s) {
+
+        QuantileSketch sketch = new QuantileSketch();
+        int len = s.size();
+
+        if (s instanceof IntSeries) {
+            IntSeries is = (IntSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.add(is.getInt(i));
+            }
+        } else if (s instanceof LongSeries) {
+            LongSeries ls = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.add(ls.getLong(i));
+            }
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                sketch.add(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                Number n = s.get(i);
+                if (n != null) {
+                    sketch.add(n.doubleValue());
+                }
+            }
+        }
+
+        return sketch;
+    }
+}
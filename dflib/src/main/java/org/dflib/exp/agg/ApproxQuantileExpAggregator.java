@@ -0,0 +1,34 @@
+package org.dflib.exp.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+
+/**
+ * An approximate quantile aggregator, that includes the quantile value in its label.
+ *
+ * @since 1.0.0-M23
+ */
+public class ApproxQuantileExpAggregator<F extends Number> extends DoubleExpAggregator<F> {
+
+    private final double quantile;
+
+    public ApproxQuantileExpAggregator(Exp<F> exp, double quantile) {
+        super("approxQuantile", exp, s -> ApproxAggregators.approxQuantile(s, quantile));
+
+        if (quantile < 0. || quantile > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+
+        this.quantile = quantile;
+    }
+
+    @Override
+    public String toQL() {
+        return "approxQuantile(" + exp.toQL() + "," + quantile + ")";
+    }
+
+    @Override
+    public String toQL(DataFrame df) {
+        return "approxQuantile(" + exp.toQL(df) + "," + quantile + ")";
+    }
+}
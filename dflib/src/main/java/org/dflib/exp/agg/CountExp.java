@@ -34,4 +34,9 @@ public class CountExp extends Exp0<Integer> implements NumExp<Integer> {
 
         return new IntSingleValueSeries(c, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -4,6 +4,7 @@ import org.dflib.Condition;
 import org.dflib.Exp;
 import org.dflib.Series;
 import org.dflib.Sorter;
+import org.dflib.agg.Quantiles;
 import org.dflib.builder.ObjectAccum;
 
 import java.math.BigDecimal;
@@ -71,6 +72,28 @@ public class DecimalAggregators {
         return sum;
     }
 
+    /**
+     * Returns an exact value at the specified quantile of the non-null values of the Series, linearly interpolated
+     * between the two closest values, or 0 if there are no such values.
+     *
+     * @since 1.0.0-M23
+     */
+    public static BigDecimal quantile(Series<BigDecimal> s, double q) {
+
+        int h = s.size();
+        BigDecimal[] buffer = new BigDecimal[h];
+        int len = 0;
+
+        for (int i = 0; i < h; i++) {
+            BigDecimal d = s.get(i);
+            if (d != null) {
+                buffer[len++] = d;
+            }
+        }
+
+        return Quantiles.ofBuffer(buffer, len, q)[0];
+    }
+
     public static BigDecimal median(Series<BigDecimal> s) {
 
         int size = s.size();
@@ -26,4 +26,9 @@ public class DecimalExpAggregator<F> extends Exp1<F, BigDecimal> implements Deci
         BigDecimal val = aggregator.apply(s);
         return new SingleValueSeries<>(val, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -1,10 +1,10 @@
 package org.dflib.exp.agg;
 
-import org.dflib.Condition;
 import org.dflib.DoubleSeries;
-import org.dflib.Exp;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
-import org.dflib.Sorter;
+import org.dflib.agg.Quantiles;
 import org.dflib.builder.ObjectAccum;
 
 import java.util.function.Function;
@@ -16,8 +16,6 @@ import java.util.stream.Collectors;
  */
 public class DoubleAggregators {
 
-    private static final Condition notNullExp = Exp.$col(0).isNotNull();
-    private static final Sorter asc = Exp.$col(0).asc();
     private static final Function<Series<? extends Number>, Double> avg =
             CollectorAggregator.create((Collector) Collectors.averagingDouble(Number::doubleValue));
     private static final Function<Series<? extends Number>, Double> sum =
@@ -80,7 +78,7 @@ public class DoubleAggregators {
             return 0.;
         }
 
-        double min = Double.MAX_VALUE;
+        double min = Double.POSITIVE_INFINITY;
 
         for (int i = 0; i < size; i++) {
 
@@ -102,7 +100,7 @@ public class DoubleAggregators {
             return 0.;
         }
 
-        double max = Double.MIN_VALUE;
+        double max = Double.NEGATIVE_INFINITY;
 
         for (int i = 0; i < size; i++) {
 
@@ -123,30 +121,46 @@ public class DoubleAggregators {
     }
 
     public static double median(Series<? extends Number> s) {
+        return quantile(s, 0.5);
+    }
 
-        int size = s.size();
-
-        switch (size) {
-            case 0:
-                return 0.;
-            case 1:
-                Number d = s.get(0);
-                return d != null ? d.doubleValue() : 0.;
-            default:
-
-                Series<? extends Number> sorted = s.select(notNullExp).sort(asc);
+    /**
+     * Returns an exact value at the specified quantile of the non-null values of the Series, linearly interpolated
+     * between the two closest values, or 0 if there are no such values.
+     *
+     * @since 1.0.0-M23
+     */
+    public static double quantile(Series<? extends Number> s, double q) {
+        return quantiles(s, q)[0];
+    }
 
-                int nonNullSize = sorted.size();
-                int m = nonNullSize / 2;
+    /**
+     * Returns exact values at the specified quantiles of the non-null values of the Series. Calculating multiple
+     * quantiles at once is faster than doing it one-by-one, as the partially ordered values are reused.
+     *
+     * @since 1.0.0-M23
+     */
+    public static double[] quantiles(Series<? extends Number> s, double... qs) {
+
+        if (s instanceof IntSeries) {
+            return Quantiles.ofBuffer(((IntSeries) s).toIntArray(), s.size(), qs);
+        } else if (s instanceof LongSeries) {
+            return Quantiles.ofBuffer(((LongSeries) s).toLongArray(), s.size(), qs);
+        } else if (s instanceof DoubleSeries) {
+            return Quantiles.ofBuffer(((DoubleSeries) s).toDoubleArray(), s.size(), qs);
+        }
 
-                int odd = nonNullSize % 2;
-                if (odd == 1) {
-                    return sorted.get(m).doubleValue();
-                }
+        int h = s.size();
+        double[] buffer = new double[h];
+        int len = 0;
 
-                double d1 = sorted.get(m - 1).doubleValue();
-                double d2 = sorted.get(m).doubleValue();
-                return d1 + (d2 - d1) / 2.;
+        for (int i = 0; i < h; i++) {
+            Number n = s.get(i);
+            if (n != null) {
+                buffer[len++] = n.doubleValue();
+            }
         }
+
+        return Quantiles.ofBuffer(buffer, len, qs);
     }
 }
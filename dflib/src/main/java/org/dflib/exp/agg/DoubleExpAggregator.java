@@ -11,13 +11,38 @@ import java.util.function.Function;
 /**
  * @since 0.11
  */
-public class DoubleExpAggregator<F> extends Exp1<F, Double> implements NumExp<Double> {
+public class DoubleExpAggregator<F> extends Exp1<F, Double> implements NumExp<Double>, StandardAggregator<F> {
 
     private final Function<Series<F>, Double> aggregator;
+    private final AggregationType aggregationType;
 
     public DoubleExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Double> aggregator) {
+        this(opName, exp, aggregator, null);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public DoubleExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Double> aggregator, AggregationType aggregationType) {
         super(opName, Double.class, exp);
         this.aggregator = aggregator;
+        this.aggregationType = aggregationType;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public Exp<F> getArg() {
+        return exp;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public AggregationType getAggregationType() {
+        return aggregationType;
     }
 
     @Override
@@ -27,4 +52,9 @@ public class DoubleExpAggregator<F> extends Exp1<F, Double> implements NumExp<Do
         double val = aggregator.apply(s);
         return new DoubleSingleValueSeries(val, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -66,4 +66,9 @@ public class ExpAggregator<S, T> implements Exp<T> {
         T val = aggregator.apply(s);
         return Series.ofVal(val, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -11,13 +11,38 @@ import java.util.function.Function;
 /**
  * @since 0.11
  */
-public class IntExpAggregator<F> extends Exp1<F, Integer> implements NumExp<Integer> {
+public class IntExpAggregator<F> extends Exp1<F, Integer> implements NumExp<Integer>, StandardAggregator<F> {
 
     private final Function<Series<F>, Integer> aggregator;
+    private final AggregationType aggregationType;
 
     public IntExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Integer> aggregator) {
+        this(opName, exp, aggregator, null);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public IntExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Integer> aggregator, AggregationType aggregationType) {
         super(opName, Integer.class, exp);
         this.aggregator = aggregator;
+        this.aggregationType = aggregationType;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public Exp<F> getArg() {
+        return exp;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public AggregationType getAggregationType() {
+        return aggregationType;
     }
 
     @Override
@@ -29,4 +54,9 @@ public class IntExpAggregator<F> extends Exp1<F, Integer> implements NumExp<Inte
         int val = aggregator.apply(s);
         return new IntSingleValueSeries(val, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -11,13 +11,38 @@ import java.util.function.Function;
 /**
  * @since 0.11
  */
-public class LongExpAggregator<F> extends Exp1<F, Long> implements NumExp<Long> {
+public class LongExpAggregator<F> extends Exp1<F, Long> implements NumExp<Long>, StandardAggregator<F> {
 
     private final Function<Series<F>, Long> aggregator;
+    private final AggregationType aggregationType;
 
     public LongExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Long> aggregator) {
+        this(opName, exp, aggregator, null);
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public LongExpAggregator(String opName, Exp<F> exp, Function<Series<F>, Long> aggregator, AggregationType aggregationType) {
         super(opName, Long.class, exp);
         this.aggregator = aggregator;
+        this.aggregationType = aggregationType;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public Exp<F> getArg() {
+        return exp;
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    @Override
+    public AggregationType getAggregationType() {
+        return aggregationType;
     }
 
     @Override
@@ -28,4 +53,9 @@ public class LongExpAggregator<F> extends Exp1<F, Long> implements NumExp<Long>
         long val = aggregator.apply(s);
         return new LongSingleValueSeries(val, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -0,0 +1,28 @@
+package org.dflib.exp.agg;
+
+import org.dflib.Exp;
+import org.dflib.agg.Quantiles;
+
+/**
+ * An exact quantile aggregator. Its label is in the "p99" form commonly used for percentiles.
+ *
+ * @since 1.0.0-M23
+ */
+public class QuantileExpAggregator<F extends Number> extends DoubleExpAggregator<F> {
+
+    private final double quantile;
+
+    public QuantileExpAggregator(Exp<F> exp, double quantile) {
+        super(Quantiles.label(quantile), exp, s -> DoubleAggregators.quantile(s, quantile));
+
+        if (quantile < 0. || quantile > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+
+        this.quantile = quantile;
+    }
+
+    public double getQuantile() {
+        return quantile;
+    }
+}
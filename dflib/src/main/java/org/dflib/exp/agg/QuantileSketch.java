@@ -0,0 +1,263 @@
+package org.dflib.exp.agg;
+
+import java.util.Arrays;
+
+/**
+ * A KLL quantile sketch that approximates quantiles of a stream of numbers using memory proportional to the
+ * accuracy parameter "k" and (logarithmically) to the data size. With the default k of 200, the rank error of the
+ * returned quantiles is under ~1.5%. Sketches with the same "k" can be merged. When the number of added values is
+ * within "k", no compaction happens, and the quantiles are exact (using the "nearest rank" definition).
+ * NaNs are ignored.
+ *
+ * @since 1.0.0-M23
+ */
+public class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+
+    // level "h" stores items with weight 2^h
+    private double[][] levels;
+    private int[] sizes;
+
+    // the level capacities only change when a level is added, so they are recalculated only then
+    private int[] capacities;
+    private int totalCapacity;
+    private int retained;
+
+    private long count;
+    private double min;
+    private double max;
+
+    // alternates between even and odd items kept during compaction, which makes the sketch deterministic, while
+    // still avoiding the systematic bias of always keeping the same half
+    private boolean compactOdd;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("'k' must be at least " + MIN_LEVEL_CAPACITY + ": " + k);
+        }
+
+        this.k = k;
+        this.levels = new double[][]{new double[k]};
+        this.sizes = new int[1];
+        this.min = Double.NaN;
+        this.max = Double.NaN;
+        updateCapacities();
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Returns the number of values added to the sketch.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public QuantileSketch add(double value) {
+
+        if (Double.isNaN(value)) {
+            return this;
+        }
+
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else if (value < min) {
+            min = value;
+        } else if (value > max) {
+            max = value;
+        }
+
+        count++;
+        push(0, value);
+
+        // only level 0 grows here, so there's nothing to compact until it is full
+        if (sizes[0] >= capacities[0]) {
+            compress();
+        }
+
+        return this;
+    }
+
+    /**
+     * Merges another sketch into this one.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+
+        if (other.k != k) {
+            throw new IllegalArgumentException("Can't merge sketches with different 'k': " + k + " vs. " + other.k);
+        }
+
+        if (other.count == 0) {
+            return this;
+        }
+
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        count += other.count;
+
+        int otherLevels = other.levels.length;
+        for (int h = 0; h < otherLevels; h++) {
+            double[] otherLevel = other.levels[h];
+            int otherSize = other.sizes[h];
+            for (int i = 0; i < otherSize; i++) {
+                push(h, otherLevel[i]);
+            }
+        }
+
+        compress();
+        return this;
+    }
+
+    /**
+     * Returns an approximate value at the specified quantile. The quantile must be between 0 and 1. Returns NaN if
+     * the sketch is empty.
+     */
+    public double quantile(double q) {
+
+        if (q < 0. || q > 1.) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        if (q == 0.) {
+            return min;
+        }
+
+        if (q == 1.) {
+            return max;
+        }
+
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+
+        // sort each level, and then merge them into a single sequence of ascending values with their weights
+        int[] positions = new int[levels.length];
+        for (int h = 0; h < levels.length; h++) {
+            Arrays.sort(levels[h], 0, sizes[h]);
+        }
+
+        for (int i = 0; i < retained; i++) {
+            int next = -1;
+            for (int h = 0; h < levels.length; h++) {
+                if (positions[h] < sizes[h] && (next < 0 || levels[h][positions[h]] < levels[next][positions[next]])) {
+                    next = h;
+                }
+            }
+
+            values[i] = levels[next][positions[next]++];
+            weights[i] = 1L << next;
+        }
+
+        // "nearest rank" - the first value whose cumulative weight reaches the target rank
+        double rank = Math.ceil(q * count);
+        long cumulative = 0;
+        for (int i = 0; i < retained; i++) {
+            cumulative += weights[i];
+            if (cumulative >= rank) {
+                return values[i];
+            }
+        }
+
+        return max;
+    }
+
+    private void push(int level, double value) {
+
+        if (level >= levels.length) {
+            levels = Arrays.copyOf(levels, level + 1);
+            levels[level] = new double[k];
+            sizes = Arrays.copyOf(sizes, level + 1);
+            updateCapacities();
+        }
+
+        double[] items = levels[level];
+        int size = sizes[level];
+
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            levels[level] = items;
+        }
+
+        items[size] = value;
+        sizes[level] = size + 1;
+        retained++;
+    }
+
+    private void compress() {
+
+        // compact the lowest overflowing level until the sketch is within its total capacity
+        while (retained > totalCapacity) {
+
+            int height = levels.length;
+            for (int h = 0; h < height; h++) {
+                if (sizes[h] >= capacities[h]) {
+                    compact(h);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compact(int level) {
+
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        // with an odd number of items, leave the largest one on this level
+        int pairs = size / 2;
+        int offset = compactOdd ? 1 : 0;
+        compactOdd = !compactOdd;
+
+        for (int i = 0; i < pairs; i++) {
+            push(level + 1, items[2 * i + offset]);
+        }
+
+        // "push" may have reallocated "levels"
+        double[] current = levels[level];
+        if (size % 2 == 1) {
+            current[0] = current[size - 1];
+            sizes[level] = 1;
+            retained -= size - 1;
+        } else {
+            sizes[level] = 0;
+            retained -= size;
+        }
+    }
+
+    // the top level has the capacity of "k", and each lower level is 2/3 of the level above it
+    private void updateCapacities() {
+
+        int height = levels.length;
+        capacities = new int[height];
+        totalCapacity = 0;
+
+        for (int h = 0; h < height; h++) {
+            int depth = height - h - 1;
+            capacities[h] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(2. / 3., depth)));
+            totalCapacity += capacities[h];
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.dflib.exp.agg;
+
+import org.dflib.Exp;
+
+/**
+ * An aggregating expression that may be based on one of the standard aggregation functions applied to a single
+ * argument. Allows DFLib to calculate such aggregates for many groups at once in a single pass over the argument values,
+ * instead of evaluating the expression for each group separately.
+ *
+ * @since 1.0.0-M23
+ */
+public interface StandardAggregator<F> {
+
+    Exp<F> getArg();
+
+    /**
+     * Returns the type of the standard aggregation function calculated by this expression, or null if the
+     * aggregation function is a custom one.
+     */
+    AggregationType getAggregationType();
+}
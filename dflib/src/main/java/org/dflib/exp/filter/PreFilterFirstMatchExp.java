@@ -49,4 +49,9 @@ public class PreFilterFirstMatchExp<T> implements Exp<T> {
         int index = filter.firstMatch(s);
         return delegate.eval(index < 0 ? s.select() : s.select(index));
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -52,4 +52,9 @@ public class PreFilteredCountExp implements Exp<Integer> {
         int c = filter.eval(s).countTrue();
         return new IntSingleValueSeries(c, 1);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -50,4 +50,9 @@ public class PreFilteredExp<T> implements Exp<T> {
     public Series<T> eval(Series<?> s) {
         return delegate.eval(s.select(filter));
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -51,4 +51,9 @@ public class PreFilteredNumExp<N extends Number> implements NumExp<N> {
     public String toString() {
         return toQL();
     }
+
+    @Override
+    public boolean isRowWise() {
+        return false;
+    }
 }
@@ -52,14 +52,17 @@ public class IfExp<T> implements Exp<T> {
     public Series<T> eval(DataFrame df) {
 
         BooleanSeries mask = condition.eval(df);
-        IntSeries indexTrue = mask.indexTrue();
 
-        if (indexTrue.size() == 0) {
+        // counting instead of building the index first, so that constant conditions (e.g. "$val(true)") short-circuit
+        // to a single branch without allocating anything
+        int countTrue = mask.countTrue();
+        if (countTrue == 0) {
             return ifFalseExp.eval(df);
-        } else if (indexTrue.size() == df.height()) {
+        } else if (countTrue == df.height()) {
             return ifTrueExp.eval(df);
         }
 
+        IntSeries indexTrue = mask.indexTrue();
         IntSeries indexFalse = mask.indexFalse();
 
         return evalMerge(
@@ -73,14 +76,15 @@ public class IfExp<T> implements Exp<T> {
     @Override
     public Series<T> eval(Series<?> s) {
         BooleanSeries mask = condition.eval(s);
-        IntSeries indexTrue = mask.indexTrue();
 
-        if (indexTrue.size() == 0) {
+        int countTrue = mask.countTrue();
+        if (countTrue == 0) {
             return ifFalseExp.eval(s);
-        } else if (indexTrue.size() == s.size()) {
+        } else if (countTrue == s.size()) {
             return ifTrueExp.eval(s);
         }
 
+        IntSeries indexTrue = mask.indexTrue();
         IntSeries indexFalse = mask.indexFalse();
 
         return evalMerge(
@@ -112,4 +116,9 @@ public class IfExp<T> implements Exp<T> {
 
         return (Series<T>) Series.of(vals);
     }
+
+    @Override
+    public boolean isRowWise() {
+        return condition.isRowWise() && ifTrueExp.isRowWise() && ifFalseExp.isRowWise();
+    }
 }
@@ -83,5 +83,8 @@ public class IfNullExp<T> implements Exp<T> {
         return (Series<T>) Series.of(vals);
     }
 
-
+    @Override
+    public boolean isRowWise() {
+        return exp.isRowWise() && ifNullExp.isRowWise();
+    }
 }
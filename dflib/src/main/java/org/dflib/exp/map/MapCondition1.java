@@ -32,29 +32,27 @@ public class MapCondition1<F> extends Condition1<F> {
     }
 
     protected static <F> Function<Series<F>, BooleanSeries> valToSeriesWithNulls(Predicate<F> predicate) {
-        return s -> {
-            int len = s.size();
-            BoolAccum accum = new BoolAccum(len);
-            for (int i = 0; i < len; i++) {
+        return s -> RowRanges.mapBool(s.size(), (from, to) -> {
+            BoolAccum accum = new BoolAccum(to - from);
+            for (int i = from; i < to; i++) {
                 F v = s.get(i);
                 accum.pushBool(predicate.test(v));
             }
 
             return accum.toSeries();
-        };
+        });
     }
 
     protected static <F> Function<Series<F>, BooleanSeries> valToSeries(Predicate<F> predicate) {
-        return s -> {
-            int len = s.size();
-            BoolAccum accum = new BoolAccum(len);
-            for (int i = 0; i < len; i++) {
+        return s -> RowRanges.mapBool(s.size(), (from, to) -> {
+            BoolAccum accum = new BoolAccum(to - from);
+            for (int i = from; i < to; i++) {
                 F v = s.get(i);
                 accum.pushBool(v != null ? predicate.test(v) : false);
             }
 
             return accum.toSeries();
-        };
+        });
     }
 
     protected MapCondition1(String opName, Exp<F> exp, Function<Series<F>, BooleanSeries> op) {
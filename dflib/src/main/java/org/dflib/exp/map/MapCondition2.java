@@ -27,17 +27,16 @@ public class MapCondition2<L, R> extends Condition2<L, R> {
     }
 
     protected static <L, R> BiFunction<Series<L>, Series<R>, BooleanSeries> valToSeries(BiPredicate<L, R> predicate) {
-        return (ls, rs) -> {
-            int len = ls.size();
-            BoolAccum accum = new BoolAccum(len);
-            for (int i = 0; i < len; i++) {
+        return (ls, rs) -> RowRanges.mapBool(ls.size(), (from, to) -> {
+            BoolAccum accum = new BoolAccum(to - from);
+            for (int i = from; i < to; i++) {
                 L l = ls.get(i);
                 R r = rs.get(i);
                 accum.pushBool(l != null && r != null ? predicate.test(l, r) : false);
             }
 
             return accum.toSeries();
-        };
+        });
     }
 
     protected MapCondition2(String opName, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, BooleanSeries> op) {
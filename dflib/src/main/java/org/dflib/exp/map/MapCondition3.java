@@ -39,10 +39,9 @@ public class MapCondition3<One, Two, Three> extends Condition3<One, Two, Three>
 
     protected static <One, Two, Three>
     Function3<Series<One>, Series<Two>, Series<Three>, BooleanSeries> valToSeries(Predicate3<One, Two, Three> predicate) {
-        return (s1, s2, s3) -> {
-            int len = s1.size();
-            BoolAccum accum = new BoolAccum(len);
-            for (int i = 0; i < len; i++) {
+        return (s1, s2, s3) -> RowRanges.mapBool(s1.size(), (from, to) -> {
+            BoolAccum accum = new BoolAccum(to - from);
+            for (int i = from; i < to; i++) {
                 One one = s1.get(i);
                 Two two = s2.get(i);
                 Three three = s3.get(i);
@@ -50,7 +49,7 @@ public class MapCondition3<One, Two, Three> extends Condition3<One, Two, Three>
             }
 
             return accum.toSeries();
-        };
+        });
     }
 
     protected MapCondition3(
@@ -32,11 +32,15 @@ public class MapExp1<F, T> extends Exp1<F, T> {
     }
 
     protected static <F, T> Function<Series<F>, Series<T>> valToSeriesWithNulls(Function<F, T> op) {
-        return s -> s.map(op::apply);
+        return s -> RowRanges.map(s.size(), (from, to) -> range(s, from, to).map(op::apply));
     }
 
     protected static <F, T> Function<Series<F>, Series<T>> valToSeries(Function<F, T> op) {
-        return s -> s.map(v -> v != null ? op.apply(v) : null);
+        return s -> RowRanges.map(s.size(), (from, to) -> range(s, from, to).map(v -> v != null ? op.apply(v) : null));
+    }
+
+    private static <F> Series<F> range(Series<F> s, int fromInclusive, int toExclusive) {
+        return fromInclusive == 0 && toExclusive == s.size() ? s : s.selectRange(fromInclusive, toExclusive);
     }
 
     protected MapExp1(String opName, Class<T> type, Exp<F> exp, Function<Series<F>, Series<T>> op) {
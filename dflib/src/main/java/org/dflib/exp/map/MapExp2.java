@@ -24,17 +24,16 @@ public class MapExp2<L, R, T> extends Exp2<L, R, T> {
     }
 
     protected static <L, R, T> BiFunction<Series<L>, Series<R>, Series<T>> valToSeries(BiFunction<L, R, T> op) {
-        return (ls, rs) -> {
-            int len = ls.size();
-            ObjectAccum<T> accum = new ObjectAccum<>(len);
-            for (int i = 0; i < len; i++) {
+        return (ls, rs) -> RowRanges.map(ls.size(), (from, to) -> {
+            ObjectAccum<T> accum = new ObjectAccum<>(to - from);
+            for (int i = from; i < to; i++) {
                 L l = ls.get(i);
                 R r = rs.get(i);
                 accum.push(l != null && r != null ? op.apply(l, r) : null);
             }
 
             return accum.toSeries();
-        };
+        });
     }
 
     protected MapExp2(String opName, Class<T> type, Exp<L> left, Exp<R> right, BiFunction<Series<L>, Series<R>, Series<T>> op) {
@@ -31,14 +31,15 @@ public class MapExpScalar2<L, R, T> extends ExpScalar2<L, R, T> {
                 return new SingleValueSeries<>(null, left.size());
             }
 
-            int len = left.size();
-            ObjectAccum<T> accum = new ObjectAccum<>(len);
-            for (int i = 0; i < len; i++) {
-                L l = left.get(i);
-                accum.push(l != null ? op.apply(l, right) : null);
-            }
-
-            return accum.toSeries();
+            return RowRanges.map(left.size(), (from, to) -> {
+                ObjectAccum<T> accum = new ObjectAccum<>(to - from);
+                for (int i = from; i < to; i++) {
+                    L l = left.get(i);
+                    accum.push(l != null ? op.apply(l, right) : null);
+                }
+
+                return accum.toSeries();
+            });
         };
     }
 
@@ -33,14 +33,15 @@ public class MapExpScalarCondition2<L, R> extends ExpScalarCondition2<L, R> {
                 return new FalseSeries(ls.size());
             }
 
-            int len = ls.size();
-            BoolAccum accum = new BoolAccum(len);
-            for (int i = 0; i < len; i++) {
-                L l = ls.get(i);
-                accum.pushBool(l != null ? predicate.test(l, r) : false);
-            }
-
-            return accum.toSeries();
+            return RowRanges.mapBool(ls.size(), (from, to) -> {
+                BoolAccum accum = new BoolAccum(to - from);
+                for (int i = from; i < to; i++) {
+                    L l = ls.get(i);
+                    accum.pushBool(l != null ? predicate.test(l, r) : false);
+                }
+
+                return accum.toSeries();
+            });
         };
     }
 
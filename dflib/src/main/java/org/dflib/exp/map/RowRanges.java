@@ -0,0 +1,96 @@
+package org.dflib.exp.map;
+
+import org.dflib.BooleanSeries;
+import org.dflib.Environment;
+import org.dflib.Series;
+import org.dflib.builder.BoolAccum;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.exec.ParallelTasks;
+
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Evaluates row-independent per-value operations over ranges of rows. If the number of rows exceeds
+ * {@link Environment#parallelExecThreshold()}, the rows are split into ranges processed in parallel on
+ * {@link Environment#threadPool()}, and the per-range results are stitched together in the original order. Only the
+ * "mapVal" flavor of expressions, whose functions are applied to each row in isolation, are evaluated this way.
+ * Series-level "map" functions, aggregates, {@link org.dflib.Exp#rowNum()} and running totals depend on the row
+ * position in the whole Series, and are always evaluated in a single pass.
+ *
+ * @since 1.0.0-M23
+ */
+class RowRanges {
+
+    @FunctionalInterface
+    interface RangeOp<S> {
+        S apply(int fromInclusive, int toExclusive);
+    }
+
+    static <T> Series<T> map(int len, RangeOp<Series<T>> op) {
+
+        // the ranges may be lazy (e.g. produced by "Series.map(..)"), so materialize them in the worker threads
+        Series<T>[] ranges = mapRanges(len, (from, to) -> op.apply(from, to).materialize(), Series[]::new);
+        if (ranges == null) {
+            return op.apply(0, len);
+        }
+
+        ObjectAccum<T> accum = new ObjectAccum<>(len);
+        for (Series<T> r : ranges) {
+            accum.fill(r, 0, accum.size(), r.size());
+        }
+
+        return accum.toSeries();
+    }
+
+    static BooleanSeries mapBool(int len, RangeOp<BooleanSeries> op) {
+
+        BooleanSeries[] ranges = mapRanges(len, op, BooleanSeries[]::new);
+        if (ranges == null) {
+            return op.apply(0, len);
+        }
+
+        BoolAccum accum = new BoolAccum(len);
+        for (BooleanSeries r : ranges) {
+            accum.fill(r, 0, accum.size(), r.size());
+        }
+
+        return accum.toSeries();
+    }
+
+    /**
+     * Returns per-range results, or null if the operation should not be parallelized.
+     */
+    private static <S> S[] mapRanges(int len, RangeOp<S> op, IntFunction<S[]> arrayMaker) {
+
+        if (!ParallelTasks.shouldParallelize(len)) {
+            return null;
+        }
+
+        int threads = ParallelTasks.threads();
+        int rangeSize = Math.max(Environment.commonEnv().parallelExecThreshold(), (len + threads - 1) / threads);
+        int rangesCount = (len + rangeSize - 1) / rangeSize;
+        if (rangesCount < 2) {
+            return null;
+        }
+
+        Future<S>[] tasks = new Future[rangesCount - 1];
+
+        for (int i = 0; i < rangesCount - 1; i++) {
+            int from = i * rangeSize;
+            int to = from + rangeSize;
+            tasks[i] = ParallelTasks.submit(() -> op.apply(from, to));
+        }
+
+        S[] results = arrayMaker.apply(rangesCount);
+
+        // process the last range on the calling thread while the pool is busy with the rest
+        results[rangesCount - 1] = op.apply((rangesCount - 1) * rangeSize, len);
+
+        for (int i = 0; i < rangesCount - 1; i++) {
+            results[i] = ParallelTasks.join(tasks[i]);
+        }
+
+        return results;
+    }
+}
@@ -20,6 +20,21 @@ public class DecimalExp1<F> extends MapExp1<F, BigDecimal> implements DecimalExp
         return new DecimalExp1<>(opName, exp, op);
     }
 
+    /**
+     * Creates an expression with a Series function that calculates each value from the preceding values as well, e.g.
+     * a running total. Such an expression is not {@link Exp#isRowWise() row-wise}.
+     *
+     * @since 1.0.0-M23
+     */
+    public static <F> DecimalExp1<F> mapCumulative(String opName, Exp<F> exp, Function<Series<F>, Series<BigDecimal>> op) {
+        return new DecimalExp1<>(opName, exp, op) {
+            @Override
+            public boolean isRowWise() {
+                return false;
+            }
+        };
+    }
+
     public static <F> DecimalExp1<F> mapVal(String opName, Exp<F> exp, Function<F, BigDecimal> op) {
         return new DecimalExp1<>(opName, exp, valToSeries(op));
     }
@@ -4,6 +4,7 @@ import org.dflib.Condition;
 import org.dflib.DecimalExp;
 import org.dflib.Exp;
 import org.dflib.NumExp;
+import org.dflib.agg.Quantiles;
 import org.dflib.exp.agg.ComparableAggregators;
 import org.dflib.exp.agg.DecimalAggregators;
 import org.dflib.exp.agg.DecimalExpAggregator;
@@ -120,7 +121,7 @@ public class DecimalExpFactory extends NumericExpFactory {
 
     @Override
     public DecimalExp cumSum(Exp<? extends Number> exp) {
-        return DecimalExp1.map("cumSum", cast(exp), DecimalAggregators::cumSum);
+        return DecimalExp1.mapCumulative("cumSum", cast(exp), DecimalAggregators::cumSum);
     }
 
     @Override
@@ -149,6 +150,11 @@ public class DecimalExpFactory extends NumericExpFactory {
         return new DecimalExpAggregator<>("median", cast(exp), DecimalAggregators::median);
     }
 
+    @Override
+    public DecimalExp quantile(Exp<? extends Number> exp, double q) {
+        return new DecimalExpAggregator<>(Quantiles.label(q), cast(exp), s -> DecimalAggregators.quantile(s, q));
+    }
+
     @Override
     public Condition eq(Exp<? extends Number> left, Exp<? extends Number> right) {
         // TODO: should we apply ".stripTrailingZeros()" for consistency, but at the expense of performance?
@@ -19,6 +19,21 @@ public class DoubleExp1<F> extends MapExp1<F, Double> implements NumExp<Double>
         return new DoubleExp1<>(opName, exp, op);
     }
 
+    /**
+     * Creates an expression with a Series function that calculates each value from the preceding values as well, e.g.
+     * a running total. Such an expression is not {@link Exp#isRowWise() row-wise}.
+     *
+     * @since 1.0.0-M23
+     */
+    public static <F> DoubleExp1<F> mapCumulative(String opName, Exp<F> exp, Function<Series<F>, Series<Double>> op) {
+        return new DoubleExp1<>(opName, exp, op) {
+            @Override
+            public boolean isRowWise() {
+                return false;
+            }
+        };
+    }
+
     public static <F> DoubleExp1<F> mapVal(String opName, Exp<F> exp, Function<F, Double> op) {
         return new DoubleExp1<>(opName, exp, valToSeries(op));
     }
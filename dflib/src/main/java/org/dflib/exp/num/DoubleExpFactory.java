@@ -5,8 +5,10 @@ import org.dflib.DecimalExp;
 import org.dflib.DoubleSeries;
 import org.dflib.Exp;
 import org.dflib.NumExp;
+import org.dflib.exp.agg.AggregationType;
 import org.dflib.exp.agg.DoubleAggregators;
 import org.dflib.exp.agg.DoubleExpAggregator;
+import org.dflib.exp.agg.QuantileExpAggregator;
 
 import java.math.BigDecimal;
 
@@ -94,27 +96,27 @@ public class DoubleExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Double> cumSum(Exp<? extends Number> exp) {
-        return DoubleExp1.map("cumSum", exp, DoubleAggregators::cumSum);
+        return DoubleExp1.mapCumulative("cumSum", exp, DoubleAggregators::cumSum);
     }
 
     @Override
     public NumExp<Double> sum(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("sum", exp, DoubleAggregators::sum);
+        return new DoubleExpAggregator<>("sum", exp, DoubleAggregators::sum, AggregationType.sum);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("min", exp, DoubleAggregators::min);
+        return new DoubleExpAggregator<>("min", exp, DoubleAggregators::min, AggregationType.min);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("max", exp, DoubleAggregators::max);
+        return new DoubleExpAggregator<>("max", exp, DoubleAggregators::max, AggregationType.max);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, AggregationType.avg);
     }
 
     @Override
@@ -122,6 +124,11 @@ public class DoubleExpFactory extends NumericExpFactory {
         return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
     }
 
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new QuantileExpAggregator<>(exp, q);
+    }
+
     @Override
     public Condition eq(Exp<? extends Number> left, Exp<? extends Number> right) {
         return DoubleCondition2.mapVal("=", cast(left), cast(right), Double::equals, DoubleSeries::eq);
@@ -5,10 +5,12 @@ import org.dflib.DecimalExp;
 import org.dflib.Exp;
 import org.dflib.IntSeries;
 import org.dflib.NumExp;
+import org.dflib.exp.agg.AggregationType;
 import org.dflib.exp.agg.DoubleAggregators;
 import org.dflib.exp.agg.DoubleExpAggregator;
 import org.dflib.exp.agg.IntAggregators;
 import org.dflib.exp.agg.IntExpAggregator;
+import org.dflib.exp.agg.QuantileExpAggregator;
 
 import java.math.BigDecimal;
 
@@ -76,27 +78,27 @@ public class IntExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Long> cumSum(Exp<? extends Number> exp) {
-        return LongExp1.map("cumSum", exp, IntAggregators::cumSum);
+        return LongExp1.mapCumulative("cumSum", exp, IntAggregators::cumSum);
     }
 
     @Override
     public NumExp<Integer> sum(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("sum", exp, IntAggregators::sum);
+        return new IntExpAggregator<>("sum", exp, IntAggregators::sum, AggregationType.sum);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("min", exp, IntAggregators::min);
+        return new IntExpAggregator<>("min", exp, IntAggregators::min, AggregationType.min);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new IntExpAggregator<>("max", exp, IntAggregators::max);
+        return new IntExpAggregator<>("max", exp, IntAggregators::max, AggregationType.max);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, AggregationType.avg);
     }
 
     @Override
@@ -104,6 +106,11 @@ public class IntExpFactory extends NumericExpFactory {
         return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
     }
 
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new QuantileExpAggregator<>(exp, q);
+    }
+
     @Override
     public Condition eq(Exp<? extends Number> left, Exp<? extends Number> right) {
         return IntCondition2.mapVal("=", cast(left), cast(right), Integer::equals, IntSeries::eq);
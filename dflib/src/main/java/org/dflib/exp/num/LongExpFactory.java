@@ -5,10 +5,12 @@ import org.dflib.DecimalExp;
 import org.dflib.Exp;
 import org.dflib.LongSeries;
 import org.dflib.NumExp;
+import org.dflib.exp.agg.AggregationType;
 import org.dflib.exp.agg.DoubleAggregators;
 import org.dflib.exp.agg.DoubleExpAggregator;
 import org.dflib.exp.agg.LongAggregators;
 import org.dflib.exp.agg.LongExpAggregator;
+import org.dflib.exp.agg.QuantileExpAggregator;
 
 import java.math.BigDecimal;
 
@@ -76,27 +78,27 @@ public class LongExpFactory extends NumericExpFactory {
 
     @Override
     public NumExp<Long> cumSum(Exp<? extends Number> exp) {
-        return LongExp1.map("cumSum", exp, LongAggregators::cumSum);
+        return LongExp1.mapCumulative("cumSum", exp, LongAggregators::cumSum);
     }
 
     @Override
     public NumExp<Long> sum(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("sum", exp, LongAggregators::sum);
+        return new LongExpAggregator<>("sum", exp, LongAggregators::sum, AggregationType.sum);
     }
 
     @Override
     public NumExp<?> min(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("min", exp, LongAggregators::min);
+        return new LongExpAggregator<>("min", exp, LongAggregators::min, AggregationType.min);
     }
 
     @Override
     public NumExp<?> max(Exp<? extends Number> exp) {
-        return new LongExpAggregator<>("max", exp, LongAggregators::max);
+        return new LongExpAggregator<>("max", exp, LongAggregators::max, AggregationType.max);
     }
 
     @Override
     public NumExp<?> avg(Exp<? extends Number> exp) {
-        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg);
+        return new DoubleExpAggregator<>("avg", exp, DoubleAggregators::avg, AggregationType.avg);
     }
 
     @Override
@@ -104,6 +106,11 @@ public class LongExpFactory extends NumericExpFactory {
         return new DoubleExpAggregator<>("median", exp, DoubleAggregators::median);
     }
 
+    @Override
+    public NumExp<?> quantile(Exp<? extends Number> exp, double q) {
+        return new QuantileExpAggregator<>(exp, q);
+    }
+
     @Override
     public Condition eq(Exp<? extends Number> left, Exp<? extends Number> right) {
         return LongCondition2.mapVal("=", cast(left), cast(right), Long::equals, LongSeries::eq);
@@ -155,6 +155,11 @@ public abstract class NumericExpFactory {
 
     public abstract NumExp<?> median(Exp<? extends Number> exp);
 
+    /**
+     * @since 1.0.0-M23
+     */
+    public abstract NumExp<?> quantile(Exp<? extends Number> exp, double q);
+
     /**
      * @since 0.16
      */
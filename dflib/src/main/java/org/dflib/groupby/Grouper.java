@@ -5,6 +5,7 @@ import org.dflib.GroupBy;
 import org.dflib.IntSeries;
 import org.dflib.builder.IntAccum;
 import org.dflib.Hasher;
+import org.dflib.row.ColumnsRowProxy;
 import org.dflib.row.RowProxy;
 
 import java.util.LinkedHashMap;
@@ -19,8 +20,17 @@ public class Grouper {
         this.hasher = Objects.requireNonNull(hasher, "Null 'hasher'");
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Groups the DataFrame rows in memory. The result holds every key and group index anyway, so unlike a hash join,
+     * grouping can't save memory by processing one hash partition at a time, and is not affected by
+     * {@link org.dflib.Environment#spillThreshold()}.
+     */
     public GroupBy group(DataFrame df) {
+        return new GroupBy(df, groupInMemory(df), null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, IntSeries> groupInMemory(DataFrame df) {
 
         // Intentionally using generics-free map to be able to reset the internal object and avoid copying the map
         Map groups = new LinkedHashMap();
@@ -39,11 +49,41 @@ public class Grouper {
             i++;
         }
 
+        return toIndices(groups);
+    }
+
+    /**
+     * Groups the DataFrame rows at the specified positions in memory. Used to process a single hash partition in
+     * place, without copying its rows. The group indices contain the row positions in the DataFrame.
+     *
+     * @since 1.0.0-M23
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object, IntSeries> groupInMemory(DataFrame df, int[] positions) {
+
+        Map groups = new LinkedHashMap();
+        ColumnsRowProxy r = HashPartitions.rowProxy(df);
+
+        for (int p : positions) {
+            Object key = hasher.map(r.next(p));
+
+            // skipping null keys, same as the full DataFrame grouping
+            if (key != null) {
+                ((IntAccum) groups.computeIfAbsent(key, k -> new IntAccum())).pushInt(p);
+            }
+        }
+
+        return toIndices(groups);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, IntSeries> toIndices(Map groups) {
+
         for (Object o : groups.entrySet()) {
             Map.Entry<?, Object> e = (Map.Entry) o;
             e.setValue(((IntAccum) e.getValue()).toSeries());
         }
 
-        return new GroupBy(df, (Map<Object, IntSeries>) groups, null);
+        return (Map<Object, IntSeries>) groups;
     }
 }
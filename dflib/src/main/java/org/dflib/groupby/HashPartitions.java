@@ -0,0 +1,122 @@
+package org.dflib.groupby;
+
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.Hasher;
+import org.dflib.Series;
+import org.dflib.row.ColumnsRowProxy;
+import org.dflib.row.RowProxy;
+
+/**
+ * Splits DataFrame rows into partitions by the hash of their {@link Hasher} keys. The rows with equal keys always end
+ * up in the same partition, so hash joins can process each partition independently, holding only a single partition
+ * hash table in memory. This is the partitioning phase of the "grace hash join" algorithm. Only the row positions of
+ * each partition are stored (4 bytes per row), as the partitioned DataFrame itself stays in memory.
+ *
+ * @since 1.0.0-M23
+ */
+public class HashPartitions {
+
+    /**
+     * The maximum number of partitions.
+     */
+    public static final int MAX_PARTITIONS = 1024;
+
+    private final int[][] positions;
+
+    private HashPartitions(int[][] positions) {
+        this.positions = positions;
+    }
+
+    /**
+     * Returns the number of partitions needed to keep the hash table of each partition within the
+     * {@link Environment#spillThreshold()}, or 1, if the DataFrame fits the threshold, and can be processed in memory.
+     * Throws an exception if that would take more than {@link #MAX_PARTITIONS} partitions.
+     */
+    public static int partitionsCount(int height) {
+        int threshold = Environment.commonEnv().spillThreshold();
+        if (height <= threshold) {
+            return 1;
+        }
+
+        long partitions = ((long) height + threshold - 1) / threshold;
+        if (partitions > MAX_PARTITIONS) {
+            throw new IllegalStateException("Can't keep " + height + " rows within the spill threshold of " + threshold
+                    + " rows per partition: more than " + MAX_PARTITIONS + " partitions are needed. Increase the spill threshold");
+        }
+
+        return (int) partitions;
+    }
+
+    /**
+     * Partitions the DataFrame rows.
+     */
+    public static HashPartitions of(DataFrame df, Hasher hasher, int partitions) {
+
+        // remember the partition of each row to avoid hashing it twice: once to size the partitions, and once to fill
+        // them. "short" is enough for MAX_PARTITIONS
+        short[] rowPartitions = new short[df.height()];
+        int[] sizes = new int[partitions];
+
+        int i = 0;
+        for (RowProxy r : df) {
+            int p = partition(hasher.map(r), partitions);
+            rowPartitions[i++] = (short) p;
+            sizes[p]++;
+        }
+
+        int[][] positions = new int[partitions][];
+        for (int p = 0; p < partitions; p++) {
+            positions[p] = new int[sizes[p]];
+        }
+
+        int[] offsets = new int[partitions];
+        int len = rowPartitions.length;
+        for (int j = 0; j < len; j++) {
+            int p = rowPartitions[j];
+            positions[p][offsets[p]++] = j;
+        }
+
+        return new HashPartitions(positions);
+    }
+
+    /**
+     * Returns a RowProxy over the DataFrame that can be positioned at any row via {@link ColumnsRowProxy#next(int)},
+     * so that the rows of a partition can be read in place, without copying them.
+     */
+    public static ColumnsRowProxy rowProxy(DataFrame df) {
+
+        int w = df.width();
+        Series<?>[] columns = new Series[w];
+        for (int i = 0; i < w; i++) {
+            columns[i] = df.getColumn(i);
+        }
+
+        return new ColumnsRowProxy(df.getColumnsIndex(), columns, df.height());
+    }
+
+    /**
+     * Returns a partition for the key. Null keys always go to the partition 0.
+     */
+    static int partition(Object key, int partitions) {
+        if (key == null) {
+            return 0;
+        }
+
+        // spread the higher bits, same as HashMap does
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return Math.floorMod(h, partitions);
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * Returns the positions of the rows in the partition. The positions are in ascending order.
+     */
+    public int[] positions(int partition) {
+        return positions[partition];
+    }
+}
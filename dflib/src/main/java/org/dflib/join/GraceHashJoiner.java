@@ -0,0 +1,158 @@
+package org.dflib.join;
+
+import org.dflib.DataFrame;
+import org.dflib.Hasher;
+import org.dflib.IntSeries;
+import org.dflib.JoinType;
+import org.dflib.builder.IntAccum;
+import org.dflib.builder.LongAccum;
+import org.dflib.groupby.Grouper;
+import org.dflib.groupby.HashPartitions;
+import org.dflib.row.ColumnsRowProxy;
+import org.dflib.sort.SeriesSorter;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A <a href="https://en.wikipedia.org/wiki/Hash_join#Grace_hash_join">"grace hash join"</a> for the joins whose hash
+ * table doesn't fit in the memory budget. Both sides of the join are split into partitions by the key hash with
+ * {@link HashPartitions}. Then each pair of the matching left and right
+ * partitions is joined in memory independently, reading the partition rows in place, without copying them. The result is exactly the same as the one produced by
+ * {@link HashJoiner}, including the order of rows.
+ *
+ * @since 1.0.0-M23
+ */
+public class GraceHashJoiner extends BaseJoiner {
+
+    private static final long LOW_INT_MASK = 0xFFFFFFFFL;
+
+    private final Hasher leftHasher;
+    private final Hasher rightHasher;
+    private final int partitions;
+
+    public GraceHashJoiner(
+            Hasher leftHasher,
+            Hasher rightHasher,
+            JoinType semantics,
+            int partitions) {
+
+        super(semantics);
+        this.leftHasher = leftHasher;
+        this.rightHasher = rightHasher;
+        this.partitions = partitions;
+    }
+
+    @Override
+    protected IntSeries[] innerJoin(DataFrame lf, DataFrame rf) {
+        return join(lf, rf, leftHasher, rightHasher, false, false);
+    }
+
+    @Override
+    protected IntSeries[] leftJoin(DataFrame lf, DataFrame rf) {
+        return join(lf, rf, leftHasher, rightHasher, true, false);
+    }
+
+    @Override
+    protected IntSeries[] rightJoin(DataFrame lf, DataFrame rf) {
+
+        // a right join is a left join with the sides swapped
+        IntSeries[] swapped = join(rf, lf, rightHasher, leftHasher, true, false);
+        return new IntSeries[]{swapped[1], swapped[0]};
+    }
+
+    @Override
+    protected IntSeries[] fullJoin(DataFrame lf, DataFrame rf) {
+        return join(lf, rf, leftHasher, rightHasher, true, true);
+    }
+
+    /**
+     * A left-driven join, with the output ordered the same way as {@link HashJoiner} orders it: by the left row, and
+     * then by the right row. For a "full" join, the unmatched right rows follow, ordered by the first row of their key
+     * in the right DataFrame, and then by the row position.
+     */
+    private IntSeries[] join(
+            DataFrame lf,
+            DataFrame rf,
+            Hasher leftHasher,
+            Hasher rightHasher,
+            boolean unmatchedLeft,
+            boolean unmatchedRight) {
+
+        // each matching pair of rows is encoded as a single long, with the sort order of the pair in the upper half.
+        // Unmatched right rows of a full join are collected separately, as they go after all the other rows
+        LongAccum pairs = new LongAccum();
+        LongAccum rightOnly = new LongAccum();
+
+        Grouper rightGrouper = new Grouper(rightHasher);
+        ColumnsRowProxy lr = HashPartitions.rowProxy(lf);
+
+        HashPartitions lp = HashPartitions.of(lf, leftHasher, partitions);
+        HashPartitions rp = HashPartitions.of(rf, rightHasher, partitions);
+
+        for (int p = 0; p < partitions; p++) {
+
+            // the partition is sized to fit the memory budget, so indexing it in memory, without partitioning it
+            // again. The index contains the row positions in "rf"
+            Map<Object, IntSeries> rightIndex = rightGrouper.groupInMemory(rf, rp.positions(p));
+            Set<Object> seenRightKeys = unmatchedRight ? new HashSet<>() : null;
+
+            for (int i : lp.positions(p)) {
+
+                long li = i;
+                Object lKey = leftHasher.map(lr.next(i));
+                IntSeries rgi = rightIndex.get(lKey);
+
+                if (rgi != null) {
+                    if (unmatchedRight) {
+                        seenRightKeys.add(lKey);
+                    }
+
+                    int js = rgi.size();
+                    for (int j = 0; j < js; j++) {
+                        pairs.pushLong(li << 32 | rgi.getInt(j));
+                    }
+                } else if (unmatchedLeft) {
+                    pairs.pushLong(li << 32 | LOW_INT_MASK);
+                }
+            }
+
+            if (unmatchedRight) {
+                for (Map.Entry<Object, IntSeries> e : rightIndex.entrySet()) {
+                    if (!seenRightKeys.contains(e.getKey())) {
+                        IntSeries rgi = e.getValue();
+                        long firstRow = rgi.getInt(0);
+
+                        int js = rgi.size();
+                        for (int j = 0; j < js; j++) {
+                            rightOnly.pushLong(firstRow << 32 | rgi.getInt(j));
+                        }
+                    }
+                }
+            }
+        }
+
+        long[] sortedPairs = pairs.toSeries().toLongArray();
+        SeriesSorter.sort(sortedPairs);
+
+        long[] sortedRightOnly = rightOnly.toSeries().toLongArray();
+        SeriesSorter.sort(sortedRightOnly);
+
+        int len = sortedPairs.length + sortedRightOnly.length;
+        IntAccum li = new IntAccum(len);
+        IntAccum ri = new IntAccum(len);
+
+        for (long pair : sortedPairs) {
+            li.pushInt((int) (pair >>> 32));
+            ri.pushInt((int) (pair & LOW_INT_MASK));
+        }
+
+        for (long pair : sortedRightOnly) {
+            li.pushInt(-1);
+            ri.pushInt((int) (pair & LOW_INT_MASK));
+        }
+
+        return new IntSeries[]{li.toSeries(), ri.toSeries()};
+    }
+}
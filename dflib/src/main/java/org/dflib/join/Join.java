@@ -9,6 +9,7 @@ import org.dflib.IntSeries;
 import org.dflib.JoinType;
 import org.dflib.Series;
 import org.dflib.builder.ObjectAccum;
+import org.dflib.groupby.HashPartitions;
 import org.dflib.series.IndexedSeries;
 import org.dflib.series.SingleValueSeries;
 
@@ -221,7 +222,14 @@ public class Join {
         if (predicate != null) {
             return new NestedLoopJoiner(predicate, type).rowSelectors(leftFrame, rightFrame);
         } else if (leftHasher != null && rightHasher != null) {
-            return new HashJoiner(leftHasher, rightHasher, type).rowSelectors(leftFrame, rightFrame);
+
+            // switch to a partitioned join if the hash table of the "build" side exceeds the memory budget
+            int buildHeight = type == JoinType.right ? leftFrame.height() : rightFrame.height();
+            int partitions = HashPartitions.partitionsCount(buildHeight);
+
+            return partitions > 1
+                    ? new GraceHashJoiner(leftHasher, rightHasher, type, partitions).rowSelectors(leftFrame, rightFrame)
+                    : new HashJoiner(leftHasher, rightHasher, type).rowSelectors(leftFrame, rightFrame);
         } else {
             throw new IllegalStateException("No join condition set. Either join columns, Hashers or a predicate must be specified");
         }
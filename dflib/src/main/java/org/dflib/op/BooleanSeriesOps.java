@@ -2,6 +2,10 @@ package org.dflib.op;
 
 import org.dflib.BooleanSeries;
 import org.dflib.series.BooleanArraySeries;
+import org.dflib.series.FalseSeries;
+import org.dflib.series.TrueSeries;
+
+import java.util.Arrays;
 
 public class BooleanSeriesOps {
 
@@ -22,6 +26,29 @@ public class BooleanSeriesOps {
             }
         }
 
+        // constant operands (e.g. produced by "$val(true)" subexpressions) are resolved without walking the data
+        BooleanSeries[] nonConst = new BooleanSeries[w];
+        int nc = 0;
+        for (int j = 0; j < w; j++) {
+            if (series[j] instanceof FalseSeries) {
+                return series[j];
+            } else if (!(series[j] instanceof TrueSeries)) {
+                nonConst[nc++] = series[j];
+            }
+        }
+
+        switch (nc) {
+            case 0:
+                return series[0];
+            case 1:
+                return nonConst[0];
+            default:
+                if (nc < w) {
+                    series = Arrays.copyOf(nonConst, nc);
+                    w = nc;
+                }
+        }
+
         boolean[] and = new boolean[h];
         for (int i = 0; i < h; i++) {
 
@@ -53,6 +80,28 @@ public class BooleanSeriesOps {
             }
         }
 
+        BooleanSeries[] nonConst = new BooleanSeries[w];
+        int nc = 0;
+        for (int j = 0; j < w; j++) {
+            if (series[j] instanceof TrueSeries) {
+                return series[j];
+            } else if (!(series[j] instanceof FalseSeries)) {
+                nonConst[nc++] = series[j];
+            }
+        }
+
+        switch (nc) {
+            case 0:
+                return series[0];
+            case 1:
+                return nonConst[0];
+            default:
+                if (nc < w) {
+                    series = Arrays.copyOf(nonConst, nc);
+                    w = nc;
+                }
+        }
+
         boolean[] or = new boolean[h];
         for (int i = 0; i < h; i++) {
 
@@ -0,0 +1,372 @@
+package org.dflib.pivot;
+
+import org.dflib.ColumnDataFrame;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Exp;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.series.IntArrayRangeSeries;
+import org.dflib.series.IntArraySeries;
+import org.dflib.set.DoubleHashSet;
+import org.dflib.set.IntHashSet;
+import org.dflib.set.LongHashSet;
+import org.dflib.sort.IntTimSort;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A pivot engine that calculates the entire pivot table in a single pass over the source rows. Assigns ordinals to
+ * the distinct row and column keys, collects source rows for each non-empty table cell, aggregates the cells, and
+ * produces all the table columns at once. Columns that have a value in every row and whose values are all of the
+ * same primitive type are stored as primitive Series.
+ *
+ * @since 1.0.0-M23
+ */
+class HashPivot {
+
+    // the dense cell table is used as long as its size is comparable to the number of source rows
+    private static final int MIN_DENSE_CELLS = 1 << 16;
+
+    private final Series<?> colKeys;
+    private final Series<?> rowKeys;
+    private final Series<?> values;
+
+    HashPivot(Series<?> colKeys, Series<?> rowKeys, Series<?> values) {
+        this.colKeys = colKeys;
+        this.rowKeys = rowKeys;
+        this.values = values;
+    }
+
+    /**
+     * @param rowColumnName the label of the first column of the pivot table containing the row keys
+     * @param aggregator    an aggregator of the values in each cell, or null, if each cell must have no more than one
+     *                      value
+     */
+    DataFrame pivot(String rowColumnName, Exp<?> aggregator) {
+
+        int h = rowKeys.size();
+
+        // 1. assign ordinals to the distinct column and row keys. Rows with null keys are skipped
+        int[] colOf = new int[h];
+        int[] rowOf = new int[h];
+
+        int keyCols = keyOrdinals(colKeys, colOf);
+        int keyRows = keyOrdinals(rowKeys, rowOf);
+
+        // renumber the key ordinals in the order of their first appearance among the rows with both keys present
+        int[] colIds = new int[keyCols];
+        int[] rowIds = new int[keyRows];
+        Arrays.fill(colIds, -1);
+        Arrays.fill(rowIds, -1);
+
+        int[] colFirstPos = new int[keyCols];
+
+        // for each row key, track the first column where it was seen, and the first source row with that column
+        int[] rowMinCol = new int[keyRows];
+        int[] rowFirstPos = new int[keyRows];
+
+        int w = 0;
+        int rh = 0;
+
+        for (int i = 0; i < h; i++) {
+
+            int ck = colOf[i];
+            int rk = rowOf[i];
+
+            if (ck < 0 || rk < 0) {
+                colOf[i] = -1;
+                continue;
+            }
+
+            int c = colIds[ck];
+            if (c < 0) {
+                c = w++;
+                colIds[ck] = c;
+                colFirstPos[c] = i;
+            }
+
+            int r = rowIds[rk];
+            if (r < 0) {
+                r = rh++;
+                rowIds[rk] = r;
+                rowMinCol[r] = c;
+                rowFirstPos[r] = i;
+            } else if (c < rowMinCol[r]) {
+                rowMinCol[r] = c;
+                rowFirstPos[r] = i;
+            }
+
+            colOf[i] = c;
+            rowOf[i] = r;
+        }
+
+        if (w == 0) {
+            return DataFrame.empty(rowColumnName);
+        }
+
+        // 2. order the pivot rows the same way as they would appear if each column was calculated separately and the
+        // columns were combined with successive full joins: by the first column of the row key, and then by the
+        // position of the key in that column
+        int[] rowsByPosition = new int[rh];
+        for (int r = 0; r < rh; r++) {
+            rowsByPosition[r] = r;
+        }
+
+        int[] minCol = rowMinCol;
+        int[] firstPos = rowFirstPos;
+        IntTimSort.sort(rowsByPosition, (r1, r2) -> minCol[r1] != minCol[r2]
+                ? Integer.compare(minCol[r1], minCol[r2])
+                : Integer.compare(firstPos[r1], firstPos[r2]));
+
+        int[] rowPositions = new int[rh];
+        int[] firstRows = new int[rh];
+        for (int p = 0; p < rh; p++) {
+            int r = rowsByPosition[p];
+            rowPositions[r] = p;
+            firstRows[p] = rowFirstPos[r];
+        }
+
+        // 3. assign ids to the non-empty cells, and count the source rows in each cell
+        int[] cellOf = new int[h];
+        int cells = assignCells(colOf, rowOf, w, rh, cellOf);
+
+        int[] cellStart = new int[cells + 1];
+        int[] cellRow = new int[cells];
+        int[] cellCol = new int[cells];
+
+        for (int i = 0; i < h; i++) {
+            if (colOf[i] >= 0) {
+                int cell = cellOf[i];
+                cellStart[cell + 1]++;
+                cellRow[cell] = rowPositions[rowOf[i]];
+                cellCol[cell] = colOf[i];
+            }
+        }
+
+        for (int cell = 0; cell < cells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+
+        // 4. aggregate the cells. Each cell result is a value at a given position of some Series
+        Series<?>[] results = new Series[cells];
+        int[] resultPositions = new int[cells];
+
+        if (aggregator == null) {
+            for (int i = 0; i < h; i++) {
+                if (colOf[i] >= 0) {
+                    int cell = cellOf[i];
+                    if (results[cell] != null) {
+                        throw new IllegalArgumentException(
+                                "Duplicate rows in the pivot table. " +
+                                        "Consider passing an explicit aggregator to the pivot operation.");
+                    }
+
+                    results[cell] = values;
+                    resultPositions[cell] = i;
+                }
+            }
+        } else {
+
+            // group source rows by cell (a "counting sort")
+            int[] rowsByCell = new int[cellStart[cells]];
+            int[] cellFill = Arrays.copyOf(cellStart, cells);
+            for (int i = 0; i < h; i++) {
+                if (colOf[i] >= 0) {
+                    rowsByCell[cellFill[cellOf[i]]++] = i;
+                }
+            }
+
+            for (int cell = 0; cell < cells; cell++) {
+                int from = cellStart[cell];
+                IntSeries cellIndex = new IntArrayRangeSeries(rowsByCell, from, cellStart[cell + 1] - from);
+
+                // expecting 1-element Series
+                results[cell] = aggregator.eval(values.select(cellIndex));
+            }
+        }
+
+        // 5. assemble the columns
+        Series<?>[] columns = new Series[w + 1];
+        columns[0] = rowKeys.select(new IntArraySeries(firstRows));
+        assembleColumns(columns, rh, cellRow, cellCol, results, resultPositions);
+
+        String[] labels = new String[w + 1];
+        labels[0] = rowColumnName;
+        for (int c = 0; c < w; c++) {
+            labels[c + 1] = colKeys.get(colFirstPos[c]).toString();
+        }
+
+        return new ColumnDataFrame(null, Index.ofDeduplicated(labels), columns);
+    }
+
+    /**
+     * Assigns ordinals to the distinct non-null keys in the order of their first appearance, writing -1 for the null
+     * keys. Primitive keys are processed without boxing. Returns the number of distinct keys.
+     */
+    private static int keyOrdinals(Series<?> keys, int[] ordinals) {
+
+        int h = keys.size();
+
+        if (keys instanceof IntSeries) {
+            IntSeries is = (IntSeries) keys;
+            IntHashSet set = new IntHashSet();
+            for (int i = 0; i < h; i++) {
+                ordinals[i] = set.put(is.getInt(i));
+            }
+
+            return set.size();
+        } else if (keys instanceof LongSeries) {
+            LongSeries ls = (LongSeries) keys;
+            LongHashSet set = new LongHashSet();
+            for (int i = 0; i < h; i++) {
+                ordinals[i] = set.put(ls.getLong(i));
+            }
+
+            return set.size();
+        } else if (keys instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) keys;
+            DoubleHashSet set = new DoubleHashSet();
+            for (int i = 0; i < h; i++) {
+                ordinals[i] = set.put(ds.getDouble(i));
+            }
+
+            return set.size();
+        }
+
+        Map<Object, Integer> map = new HashMap<>();
+        for (int i = 0; i < h; i++) {
+            Object k = keys.get(i);
+            if (k == null) {
+                ordinals[i] = -1;
+                continue;
+            }
+
+            int o = map.size();
+            Integer existing = map.putIfAbsent(k, o);
+            ordinals[i] = existing != null ? existing : o;
+        }
+
+        return map.size();
+    }
+
+    private static int assignCells(int[] colOf, int[] rowOf, int w, int rh, int[] cellOf) {
+
+        int h = colOf.length;
+        long denseSize = (long) w * rh;
+        int cells = 0;
+
+        if (denseSize <= Math.max(MIN_DENSE_CELLS, 2L * h)) {
+
+            int[] cellIds = new int[(int) denseSize];
+            Arrays.fill(cellIds, -1);
+
+            for (int i = 0; i < h; i++) {
+                if (colOf[i] >= 0) {
+                    int key = rowOf[i] * w + colOf[i];
+                    int cell = cellIds[key];
+                    if (cell < 0) {
+                        cell = cells++;
+                        cellIds[key] = cell;
+                    }
+
+                    cellOf[i] = cell;
+                }
+            }
+        } else {
+
+            // cell ids are the positions of the cell keys in the set
+            LongHashSet cellIds = new LongHashSet();
+            for (int i = 0; i < h; i++) {
+                if (colOf[i] >= 0) {
+                    cellOf[i] = cellIds.put((long) rowOf[i] * w + colOf[i]);
+                }
+            }
+
+            cells = cellIds.size();
+        }
+
+        return cells;
+    }
+
+    private static void assembleColumns(
+            Series<?>[] columns,
+            int rh,
+            int[] cellRow,
+            int[] cellCol,
+            Series<?>[] results,
+            int[] resultPositions) {
+
+        int w = columns.length - 1;
+        int cells = results.length;
+
+        // a column can be primitive if it has a value in every row, and all the values come from primitive Series
+        // of the same type
+        int[] counts = new int[w];
+        boolean[] ints = new boolean[w];
+        boolean[] longs = new boolean[w];
+        boolean[] doubles = new boolean[w];
+        Arrays.fill(ints, true);
+        Arrays.fill(longs, true);
+        Arrays.fill(doubles, true);
+
+        for (int cell = 0; cell < cells; cell++) {
+            int c = cellCol[cell];
+            Series<?> r = results[cell];
+            counts[c]++;
+            ints[c] = ints[c] && r instanceof IntSeries;
+            longs[c] = longs[c] && r instanceof LongSeries;
+            doubles[c] = doubles[c] && r instanceof DoubleSeries;
+        }
+
+        Object[] data = new Object[w];
+        for (int c = 0; c < w; c++) {
+            if (counts[c] < rh) {
+                data[c] = new Object[rh];
+            } else if (ints[c]) {
+                data[c] = new int[rh];
+            } else if (longs[c]) {
+                data[c] = new long[rh];
+            } else if (doubles[c]) {
+                data[c] = new double[rh];
+            } else {
+                data[c] = new Object[rh];
+            }
+        }
+
+        for (int cell = 0; cell < cells; cell++) {
+
+            Object column = data[cellCol[cell]];
+            int row = cellRow[cell];
+            Series<?> r = results[cell];
+            int pos = resultPositions[cell];
+
+            if (column instanceof int[]) {
+                ((int[]) column)[row] = ((IntSeries) r).getInt(pos);
+            } else if (column instanceof long[]) {
+                ((long[]) column)[row] = ((LongSeries) r).getLong(pos);
+            } else if (column instanceof double[]) {
+                ((double[]) column)[row] = ((DoubleSeries) r).getDouble(pos);
+            } else {
+                ((Object[]) column)[row] = r.get(pos);
+            }
+        }
+
+        for (int c = 0; c < w; c++) {
+            Object column = data[c];
+            if (column instanceof int[]) {
+                columns[c + 1] = Series.ofInt((int[]) column);
+            } else if (column instanceof long[]) {
+                columns[c + 1] = Series.ofLong((long[]) column);
+            } else if (column instanceof double[]) {
+                columns[c + 1] = Series.ofDouble((double[]) column);
+            } else {
+                columns[c + 1] = Series.of((Object[]) column);
+            }
+        }
+    }
+}
@@ -2,11 +2,7 @@ package org.dflib.pivot;
 
 import org.dflib.DataFrame;
 import org.dflib.Exp;
-import org.dflib.GroupBy;
-import org.dflib.Series;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,8 +10,6 @@ import java.util.Objects;
  */
 public class PivotBuilder {
 
-    private static final Exp<?> oneValueAgg = Exp.$col(0).agg(PivotBuilder::oneValueAggregator);
-
     private final DataFrame dataFrame;
     private int columnForColumns = -1;
     private int columnForRows = -1;
@@ -24,20 +18,6 @@ public class PivotBuilder {
         this.dataFrame = dataFrame;
     }
 
-    private static <T> T oneValueAggregator(Series<? extends T> series) {
-
-        switch (series.size()) {
-            case 0:
-                throw new IllegalArgumentException("Unexpected empty Series");
-            case 1:
-                return series.get(0);
-            default:
-                throw new IllegalArgumentException(
-                        "Duplicate rows in the pivot table. " +
-                                "Consider passing an explicit aggregator to the pivot operation.");
-        }
-    }
-
     /**
      * Use values from "columnName" to create pivoted table columns. For meaningful results, "columnName" should contain
      * "categorical" data.
@@ -101,7 +81,7 @@ public class PivotBuilder {
      */
     public DataFrame vals(String columnName) {
         int pos = validateColumn(columnName);
-        return doPivot(pos, oneValueAgg);
+        return doPivot(pos, null);
     }
 
 
@@ -121,7 +101,7 @@ public class PivotBuilder {
      * @since 1.0.0-M22
      */
     public DataFrame vals(int columnPos) {
-        return doPivot(columnPos, oneValueAgg);
+        return doPivot(columnPos, null);
     }
 
     /**
@@ -141,6 +121,7 @@ public class PivotBuilder {
      * @since 1.0.0-M22
      */
     public <T> DataFrame vals(String columnName, Exp<T> valuesAggregator) {
+        Objects.requireNonNull(valuesAggregator, "Null 'valuesAggregator'");
         int pos = validateColumn(columnName);
         return doPivot(pos, valuesAggregator);
     }
@@ -162,6 +143,7 @@ public class PivotBuilder {
      * @since 1.0.0-M22
      */
     public <T> DataFrame vals(int columnPos, Exp<T> valuesAggregator) {
+        Objects.requireNonNull(valuesAggregator, "Null 'valuesAggregator'");
         return doPivot(columnPos, valuesAggregator);
     }
 
@@ -173,8 +155,11 @@ public class PivotBuilder {
         return values(columnPos, valuesAggregator);
     }
 
+    /**
+     * @param valuesAggregator an aggregator of the values in each pivot table cell. If null, each cell must have no
+     *                         more than one value.
+     */
     protected <T> DataFrame doPivot(int columnPos, Exp<T> valuesAggregator) {
-        Objects.requireNonNull(valuesAggregator, "Null 'valuesAggregator'");
         int columnForValues = validateColumn(columnPos);
 
         if (columnForColumns < 0) {
@@ -186,62 +171,12 @@ public class PivotBuilder {
         }
 
         String rowColumnName = dataFrame.getColumnsIndex().get(columnForRows);
-        GroupBy byColumn = dataFrame.group(columnForColumns);
-
-        List<DataFrame> chunks = new ArrayList<>(byColumn.size());
-
-        for (Object col : byColumn.getGroupKeys()) {
-
-            DataFrame byColumnDf = byColumn.getGroup(col);
-            DataFrame pivotChunk = DataFrame
-                    .byColumn(rowColumnName, col.toString())
-                    .of(
-                            byColumnDf.getColumn(columnForRows),
-                            byColumnDf.getColumn(columnForValues)
-                    ).map(df -> aggregateChunk(df, valuesAggregator));
-
-            chunks.add(pivotChunk);
-        }
-
-        switch (chunks.size()) {
-            case 0:
-                return DataFrame.empty(rowColumnName);
-            case 1:
-                return chunks.get(0);
-            default:
-                return chunks.stream()
-                        .reduce(this::joinChunks)
-                        .orElseGet(() -> empty(rowColumnName));
-        }
-    }
-
-    private DataFrame joinChunks(DataFrame left, DataFrame right) {
-        int rightRowPos = left.width();
-        return left.fullJoin(right).on(0).select()
-                .cols(0).fillNullsWithExp(Exp.$col(rightRowPos))
-                .cols(rightRowPos).drop();
-    }
-
-    private DataFrame empty(String rowColumnName) {
-        return DataFrame.empty(rowColumnName);
-    }
-
-    private <T> DataFrame aggregateChunk(DataFrame chunk, Exp<T> aggregator) {
-
-        String rowColumnName = chunk.getColumnsIndex().get(0);
-        String valueColumnName = chunk.getColumnsIndex().get(1);
-
-        return chunk.group(rowColumnName).agg(
-                Exp.$col(rowColumnName).first(),
 
-                // capture a column with dynamically defined name
-                Exp.$col(valueColumnName)
-                        // and then pass the resulting Series (not DataFrame)
-                        // to the column name-agnostic aggregator exp
-                        .map(aggregator::eval)
-                        // restore the column name
-                        .as(valueColumnName)
-        );
+        return new HashPivot(
+                dataFrame.getColumn(columnForColumns),
+                dataFrame.getColumn(columnForRows),
+                dataFrame.getColumn(columnForValues)
+        ).pivot(rowColumnName, valuesAggregator);
     }
 
     private int validateColumn(String name) {
@@ -1,6 +1,7 @@
 package org.dflib.series;
 
 import org.dflib.Series;
+import org.dflib.SeriesStats;
 
 import java.util.Arrays;
 
@@ -8,6 +9,9 @@ public class ArraySeries<T> extends ObjectSeries<T> {
 
     private final T[] data;
 
+    // lazily calculated, see "stats()"
+    private volatile SeriesStats<T> stats;
+
     @SafeVarargs
     public ArraySeries(T... data) {
         super(Object.class);
@@ -34,6 +38,19 @@ public class ArraySeries<T> extends ObjectSeries<T> {
         return this;
     }
 
+    @Override
+    public SeriesStats<T> stats() {
+
+        // the stats are immutable, so a race between threads would only result in some duplicated work
+        SeriesStats<T> stats = this.stats;
+        if (stats == null) {
+            stats = SeriesStats.of(this);
+            this.stats = stats;
+        }
+
+        return stats;
+    }
+
     @Override
     public Series<T> fillNulls(T value) {
 
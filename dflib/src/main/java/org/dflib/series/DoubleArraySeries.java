@@ -1,6 +1,8 @@
 package org.dflib.series;
 
+import org.dflib.BooleanSeries;
 import org.dflib.DoubleSeries;
+import org.dflib.SeriesStats;
 import org.dflib.agg.PrimitiveSeriesAvg;
 import org.dflib.agg.PrimitiveSeriesMedian;
 import org.dflib.agg.PrimitiveSeriesMinMax;
@@ -13,6 +15,9 @@ public class DoubleArraySeries extends DoubleBaseSeries {
 
     private final double[] data;
 
+    // lazily calculated, see "stats()"
+    private volatile SeriesStats<Double> stats;
+
     public DoubleArraySeries(double... data) {
         this.data = data;
     }
@@ -50,7 +55,7 @@ public class DoubleArraySeries extends DoubleBaseSeries {
     @Override
     public DoubleSeries sub(DoubleSeries s) {
         if (!(s instanceof DoubleArraySeries)) {
-            return super.add(s);
+            return super.sub(s);
         }
 
         int len = size();
@@ -75,7 +80,7 @@ public class DoubleArraySeries extends DoubleBaseSeries {
     @Override
     public DoubleSeries mul(DoubleSeries s) {
         if (!(s instanceof DoubleArraySeries)) {
-            return super.add(s);
+            return super.mul(s);
         }
 
         int len = size();
@@ -100,7 +105,7 @@ public class DoubleArraySeries extends DoubleBaseSeries {
     @Override
     public DoubleSeries div(DoubleSeries s) {
         if (!(s instanceof DoubleArraySeries)) {
-            return super.add(s);
+            return super.div(s);
         }
 
         int len = size();
@@ -125,7 +130,7 @@ public class DoubleArraySeries extends DoubleBaseSeries {
     @Override
     public DoubleSeries mod(DoubleSeries s) {
         if (!(s instanceof DoubleArraySeries)) {
-            return super.add(s);
+            return super.mod(s);
         }
 
         int len = size();
@@ -147,6 +152,156 @@ public class DoubleArraySeries extends DoubleBaseSeries {
         return new DoubleArraySeries(data);
     }
 
+    @Override
+    public BooleanSeries lt(DoubleSeries s) {
+
+        SeriesStats<Double> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            double v = s.getDouble(0);
+            if (stats.getMin() >= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() < v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof DoubleArraySeries)) {
+            return super.lt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        DoubleArraySeries as = (DoubleArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        double[] l = this.data;
+        double[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] < r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries le(DoubleSeries s) {
+
+        SeriesStats<Double> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            double v = s.getDouble(0);
+            if (stats.getMin() > v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() <= v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof DoubleArraySeries)) {
+            return super.le(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        DoubleArraySeries as = (DoubleArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        double[] l = this.data;
+        double[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] <= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries gt(DoubleSeries s) {
+
+        SeriesStats<Double> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            double v = s.getDouble(0);
+            if (stats.getMax() <= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() > v && !Double.isNaN(stats.getMax())) {
+
+                // NaN is the max per "Double.compare" order of the stats, but it fails any comparison, so with NaNs
+                // in the Series, the result can't be all "true"
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof DoubleArraySeries)) {
+            return super.gt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        DoubleArraySeries as = (DoubleArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        double[] l = this.data;
+        double[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] > r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries ge(DoubleSeries s) {
+
+        SeriesStats<Double> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            double v = s.getDouble(0);
+            if (stats.getMax() < v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() >= v && !Double.isNaN(stats.getMax())) {
+
+                // NaN is the max per "Double.compare" order of the stats, but it fails any comparison, so with NaNs
+                // in the Series, the result can't be all "true"
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof DoubleArraySeries)) {
+            return super.ge(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        DoubleArraySeries as = (DoubleArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        double[] l = this.data;
+        double[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] >= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
     @Override
     public double getDouble(int index) {
         return data[index];
@@ -173,6 +328,53 @@ public class DoubleArraySeries extends DoubleBaseSeries {
         return this;
     }
 
+    @Override
+    public SeriesStats<Double> stats() {
+
+        // the stats are immutable, so a race between threads would only result in some duplicated work
+        SeriesStats<Double> stats = this.stats;
+        if (stats == null) {
+            stats = SeriesStats.of(this);
+            this.stats = stats;
+        }
+
+        return stats;
+    }
+
+    @Override
+    public DoubleSeries sortDouble() {
+        return isSorted() ? this : super.sortDouble();
+    }
+
+    // if the stats are not calculated yet, scan the data until the first out-of-order value, which would be cheap
+    // for most unsorted Series
+    private boolean isSorted() {
+
+        SeriesStats<Double> stats = this.stats;
+        if (stats != null) {
+            return stats.isSorted();
+        }
+
+        // storing ivars in the local vars for performance
+        double[] data = this.data;
+        int len = data.length;
+
+        for (int i = 1; i < len; i++) {
+            double prev = data[i - 1];
+            double v = data[i];
+            if (Double.compare(prev, v) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // only comparisons with a constant can be resolved from the stats
+    private boolean isConstant(DoubleSeries s) {
+        return s instanceof DoubleSingleValueSeries && data.length > 0 && s.size() == data.length;
+    }
+
     @Override
     public double max() {
         return PrimitiveSeriesMinMax.maxOfArray(data, 0, size());
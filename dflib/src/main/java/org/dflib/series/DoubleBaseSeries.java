@@ -19,14 +19,13 @@ import org.dflib.concat.SeriesConcat;
 import org.dflib.groupby.SeriesGrouper;
 import org.dflib.map.Mapper;
 import org.dflib.sample.Sampler;
+import org.dflib.set.DoubleHashSet;
 import org.dflib.sort.SeriesSorter;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.function.DoublePredicate;
 import java.util.function.Predicate;
 
@@ -154,9 +153,7 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
         int size = size();
         double[] sorted = new double[size];
         copyToDouble(sorted, 0, 0, size);
-
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        SeriesSorter.sort(sorted);
 
         return new DoubleArraySeries(sorted);
     }
@@ -486,21 +483,21 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
             return new FalseSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        DoubleHashSet set = new DoubleHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Double) {
-                set.add(o);
+                set.add((Double) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new FalseSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = set.contains(get(i));
+            data[i] = set.contains(getDouble(i));
         }
 
         return new BooleanArraySeries(data);
@@ -514,21 +511,21 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
             return new TrueSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        DoubleHashSet set = new DoubleHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Double) {
-                set.add(o);
+                set.add((Double) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new TrueSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = !set.contains(get(i));
+            data[i] = !set.contains(getDouble(i));
         }
 
         return new BooleanArraySeries(data);
@@ -543,7 +540,7 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
 
         DoubleAccum unique = new UniqueDoubleAccum();
         for (int i = 0; i < size; i++) {
-            unique.push(get(i));
+            unique.pushDouble(getDouble(i));
         }
 
         return unique.size() < size() ? unique.toSeries() : this;
@@ -551,7 +548,7 @@ public abstract class DoubleBaseSeries implements DoubleSeries {
 
     @Override
     public DataFrame valueCounts() {
-        return ValueCounts.valueCountsNoNulls(this);
+        return ValueCounts.valueCountsDouble(this);
     }
 
 
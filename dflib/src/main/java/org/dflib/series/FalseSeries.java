@@ -66,4 +66,9 @@ public class FalseSeries extends BooleanBaseSeries {
     public int countFalse() {
         return size;
     }
+
+    @Override
+    public BooleanSeries not() {
+        return new TrueSeries(size);
+    }
 }
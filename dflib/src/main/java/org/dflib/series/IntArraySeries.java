@@ -1,7 +1,9 @@
 package org.dflib.series;
 
+import org.dflib.BooleanSeries;
 import org.dflib.IntSeries;
 import org.dflib.LongSeries;
+import org.dflib.SeriesStats;
 import org.dflib.agg.PrimitiveSeriesAvg;
 import org.dflib.agg.PrimitiveSeriesMedian;
 import org.dflib.agg.PrimitiveSeriesMinMax;
@@ -14,6 +16,9 @@ public class IntArraySeries extends IntBaseSeries {
 
     private final int[] data;
 
+    // lazily calculated, see "stats()"
+    private volatile SeriesStats<Integer> stats;
+
     public IntArraySeries(int... data) {
         this.data = data;
     }
@@ -154,6 +159,150 @@ public class IntArraySeries extends IntBaseSeries {
         return new IntArraySeries(data);
     }
 
+    @Override
+    public BooleanSeries lt(IntSeries s) {
+
+        SeriesStats<Integer> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            int v = s.getInt(0);
+            if (stats.getMin() >= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() < v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof IntArraySeries)) {
+            return super.lt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        IntArraySeries as = (IntArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        int[] l = this.data;
+        int[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] < r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries le(IntSeries s) {
+
+        SeriesStats<Integer> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            int v = s.getInt(0);
+            if (stats.getMin() > v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() <= v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof IntArraySeries)) {
+            return super.le(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        IntArraySeries as = (IntArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        int[] l = this.data;
+        int[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] <= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries gt(IntSeries s) {
+
+        SeriesStats<Integer> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            int v = s.getInt(0);
+            if (stats.getMax() <= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() > v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof IntArraySeries)) {
+            return super.gt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        IntArraySeries as = (IntArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        int[] l = this.data;
+        int[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] > r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries ge(IntSeries s) {
+
+        SeriesStats<Integer> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            int v = s.getInt(0);
+            if (stats.getMax() < v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() >= v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof IntArraySeries)) {
+            return super.ge(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        IntArraySeries as = (IntArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        int[] l = this.data;
+        int[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] >= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
     @Override
     public int getInt(int index) {
         return data[index];
@@ -180,6 +329,53 @@ public class IntArraySeries extends IntBaseSeries {
         return this;
     }
 
+    @Override
+    public SeriesStats<Integer> stats() {
+
+        // the stats are immutable, so a race between threads would only result in some duplicated work
+        SeriesStats<Integer> stats = this.stats;
+        if (stats == null) {
+            stats = SeriesStats.of(this);
+            this.stats = stats;
+        }
+
+        return stats;
+    }
+
+    @Override
+    public IntSeries sortInt() {
+        return isSorted() ? this : super.sortInt();
+    }
+
+    // if the stats are not calculated yet, scan the data until the first out-of-order value, which would be cheap
+    // for most unsorted Series
+    private boolean isSorted() {
+
+        SeriesStats<Integer> stats = this.stats;
+        if (stats != null) {
+            return stats.isSorted();
+        }
+
+        // storing ivars in the local vars for performance
+        int[] data = this.data;
+        int len = data.length;
+
+        for (int i = 1; i < len; i++) {
+            int prev = data[i - 1];
+            int v = data[i];
+            if (prev > v) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // only comparisons with a constant can be resolved from the stats
+    private boolean isConstant(IntSeries s) {
+        return s instanceof IntSingleValueSeries && data.length > 0 && s.size() == data.length;
+    }
+
     @Override
     public int max() {
         return PrimitiveSeriesMinMax.maxOfArray(data, 0, size());
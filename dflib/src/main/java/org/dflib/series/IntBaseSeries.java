@@ -17,16 +17,15 @@ import org.dflib.concat.SeriesConcat;
 import org.dflib.groupby.SeriesGrouper;
 import org.dflib.map.Mapper;
 import org.dflib.sample.Sampler;
+import org.dflib.set.IntHashSet;
+import org.dflib.sort.DataFrameSorter;
 import org.dflib.sort.IntComparator;
-import org.dflib.sort.IntTimSort;
 import org.dflib.sort.SeriesSorter;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 
@@ -156,9 +155,7 @@ public abstract class IntBaseSeries implements IntSeries {
         int size = size();
         int[] sorted = new int[size];
         copyToInt(sorted, 0, 0, size);
-
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        SeriesSorter.sort(sorted);
 
         return new IntArraySeries(sorted);
     }
@@ -168,7 +165,7 @@ public abstract class IntBaseSeries implements IntSeries {
         int size = size();
         int[] sorted = new int[size];
         copyToInt(sorted, 0, 0, size);
-        IntTimSort.sort(sorted, comparator);
+        SeriesSorter.sort(sorted, comparator);
         return new IntArraySeries(sorted);
     }
 
@@ -179,7 +176,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
     @Override
     public IntSeries sortIndexInt() {
-        return doSortIndexInt((i1, i2) -> getInt(i1) - getInt(i2));
+        return doSortIndexInt((i1, i2) -> Integer.compare(getInt(i1), getInt(i2)));
     }
 
     @Override
@@ -188,9 +185,7 @@ public abstract class IntBaseSeries implements IntSeries {
     }
 
     private IntSeries doSortIndexInt(IntComparator comparator) {
-        int[] mutableIndex = SeriesSorter.rowNumberSequence(size());
-        IntTimSort.sort(mutableIndex, comparator);
-        return new IntArraySeries(mutableIndex);
+        return DataFrameSorter.sort(comparator, size());
     }
 
     private IntSeries selectAsIntSeries(IntSeries positions) {
@@ -518,21 +513,21 @@ public abstract class IntBaseSeries implements IntSeries {
             return new FalseSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        IntHashSet set = new IntHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Integer) {
-                set.add(o);
+                set.add((Integer) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new FalseSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = set.contains(get(i));
+            data[i] = set.contains(getInt(i));
         }
 
         return new BooleanArraySeries(data);
@@ -546,21 +541,21 @@ public abstract class IntBaseSeries implements IntSeries {
             return new TrueSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        IntHashSet set = new IntHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Integer) {
-                set.add(o);
+                set.add((Integer) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new TrueSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = !set.contains(get(i));
+            data[i] = !set.contains(getInt(i));
         }
 
         return new BooleanArraySeries(data);
@@ -575,7 +570,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
         IntAccum unique = new UniqueIntAccum();
         for (int i = 0; i < size; i++) {
-            unique.push(get(i));
+            unique.pushInt(getInt(i));
         }
 
         return unique.size() < size() ? unique.toSeries() : this;
@@ -583,7 +578,7 @@ public abstract class IntBaseSeries implements IntSeries {
 
     @Override
     public DataFrame valueCounts() {
-        return ValueCounts.valueCountsNoNulls(this);
+        return ValueCounts.valueCountsInt(this);
     }
 
     // TODO: some optimized version of "primitive" group by ...
@@ -1,5 +1,6 @@
 package org.dflib.series;
 
+import org.dflib.BooleanSeries;
 import org.dflib.IntSeries;
 import org.dflib.LongSeries;
 import org.dflib.Series;
@@ -81,6 +82,135 @@ public class IntSingleValueSeries extends IntBaseSeries {
         return Series.ofInt();
     }
 
+    // Operations between two single-value Series of the same size produce single-value Series. This way constant
+    // subexpressions (e.g. "$val(3).mul($val(4))") are folded to a single value instead of being expanded to the
+    // full height of the evaluated DataFrame
+
+    @Override
+    public IntSeries add(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new IntSingleValueSeries(value + sv.value, size);
+        }
+
+        // "0 + s"
+        if (value == 0 && s.size() == size) {
+            return s;
+        }
+
+        return super.add(s);
+    }
+
+    @Override
+    public IntSeries sub(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new IntSingleValueSeries(value - sv.value, size);
+        }
+
+        return super.sub(s);
+    }
+
+    @Override
+    public IntSeries mul(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new IntSingleValueSeries(value * sv.value, size);
+        }
+
+        // "1 * s"
+        if (value == 1 && s.size() == size) {
+            return s;
+        }
+
+        return super.mul(s);
+    }
+
+    @Override
+    public IntSeries div(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new IntSingleValueSeries(value / sv.value, size);
+        }
+
+        return super.div(s);
+    }
+
+    @Override
+    public IntSeries mod(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new IntSingleValueSeries(value % sv.value, size);
+        }
+
+        return super.mod(s);
+    }
+
+    @Override
+    public BooleanSeries lt(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value < sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.lt(s);
+    }
+
+    @Override
+    public BooleanSeries le(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value <= sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.le(s);
+    }
+
+    @Override
+    public BooleanSeries gt(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value > sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.gt(s);
+    }
+
+    @Override
+    public BooleanSeries ge(IntSeries s) {
+        IntSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value >= sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.ge(s);
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> s) {
+        IntSingleValueSeries sv = s instanceof IntSeries ? sameSizeSingleValue((IntSeries) s) : null;
+        if (sv != null) {
+            return value == sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.eq(s);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> s) {
+        IntSingleValueSeries sv = s instanceof IntSeries ? sameSizeSingleValue((IntSeries) s) : null;
+        if (sv != null) {
+            return value != sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.ne(s);
+    }
+
+    private IntSingleValueSeries sameSizeSingleValue(IntSeries s) {
+        // empty Series are excluded to avoid errors like division by zero, when there's nothing to calculate
+        return size > 0 && s.size() == size && s instanceof IntSingleValueSeries ? (IntSingleValueSeries) s : null;
+    }
+
     @Override
     public IntSeries materialize() {
         return this;
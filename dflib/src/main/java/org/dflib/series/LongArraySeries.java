@@ -1,6 +1,8 @@
 package org.dflib.series;
 
+import org.dflib.BooleanSeries;
 import org.dflib.LongSeries;
+import org.dflib.SeriesStats;
 import org.dflib.agg.PrimitiveSeriesAvg;
 import org.dflib.agg.PrimitiveSeriesMedian;
 import org.dflib.agg.PrimitiveSeriesMinMax;
@@ -13,6 +15,9 @@ public class LongArraySeries extends LongBaseSeries {
 
     private final long[] data;
 
+    // lazily calculated, see "stats()"
+    private volatile SeriesStats<Long> stats;
+
     public LongArraySeries(long... data) {
         this.data = data;
     }
@@ -50,7 +55,7 @@ public class LongArraySeries extends LongBaseSeries {
     @Override
     public LongSeries sub(LongSeries s) {
         if (!(s instanceof LongArraySeries)) {
-            return super.add(s);
+            return super.sub(s);
         }
 
         int len = size();
@@ -75,7 +80,7 @@ public class LongArraySeries extends LongBaseSeries {
     @Override
     public LongSeries mul(LongSeries s) {
         if (!(s instanceof LongArraySeries)) {
-            return super.add(s);
+            return super.mul(s);
         }
 
         int len = size();
@@ -100,7 +105,7 @@ public class LongArraySeries extends LongBaseSeries {
     @Override
     public LongSeries div(LongSeries s) {
         if (!(s instanceof LongArraySeries)) {
-            return super.add(s);
+            return super.div(s);
         }
 
         int len = size();
@@ -125,7 +130,7 @@ public class LongArraySeries extends LongBaseSeries {
     @Override
     public LongSeries mod(LongSeries s) {
         if (!(s instanceof LongArraySeries)) {
-            return super.add(s);
+            return super.mod(s);
         }
 
         int len = size();
@@ -147,6 +152,150 @@ public class LongArraySeries extends LongBaseSeries {
         return new LongArraySeries(data);
     }
 
+    @Override
+    public BooleanSeries lt(LongSeries s) {
+
+        SeriesStats<Long> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            long v = s.getLong(0);
+            if (stats.getMin() >= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() < v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof LongArraySeries)) {
+            return super.lt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        LongArraySeries as = (LongArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        long[] l = this.data;
+        long[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] < r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries le(LongSeries s) {
+
+        SeriesStats<Long> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            long v = s.getLong(0);
+            if (stats.getMin() > v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMax() <= v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof LongArraySeries)) {
+            return super.le(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        LongArraySeries as = (LongArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        long[] l = this.data;
+        long[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] <= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries gt(LongSeries s) {
+
+        SeriesStats<Long> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            long v = s.getLong(0);
+            if (stats.getMax() <= v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() > v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof LongArraySeries)) {
+            return super.gt(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        LongArraySeries as = (LongArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        long[] l = this.data;
+        long[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] > r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    @Override
+    public BooleanSeries ge(LongSeries s) {
+
+        SeriesStats<Long> stats = this.stats;
+        if (stats != null && isConstant(s)) {
+            long v = s.getLong(0);
+            if (stats.getMax() < v) {
+                return new FalseSeries(data.length);
+            } else if (stats.getMin() >= v) {
+                return new TrueSeries(data.length);
+            }
+        }
+
+        if (!(s instanceof LongArraySeries)) {
+            return super.ge(s);
+        }
+
+        int len = size();
+        if (len != s.size()) {
+            throw new IllegalArgumentException("Another Series size " + s.size() + " is not the same as this size " + len);
+        }
+
+        LongArraySeries as = (LongArraySeries) s;
+
+        // storing ivars in the local vars for performance
+        long[] l = this.data;
+        long[] r = as.data;
+
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = l[i] >= r[i];
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
     @Override
     public long getLong(int index) {
         return data[index];
@@ -173,6 +322,53 @@ public class LongArraySeries extends LongBaseSeries {
         return this;
     }
 
+    @Override
+    public SeriesStats<Long> stats() {
+
+        // the stats are immutable, so a race between threads would only result in some duplicated work
+        SeriesStats<Long> stats = this.stats;
+        if (stats == null) {
+            stats = SeriesStats.of(this);
+            this.stats = stats;
+        }
+
+        return stats;
+    }
+
+    @Override
+    public LongSeries sortLong() {
+        return isSorted() ? this : super.sortLong();
+    }
+
+    // if the stats are not calculated yet, scan the data until the first out-of-order value, which would be cheap
+    // for most unsorted Series
+    private boolean isSorted() {
+
+        SeriesStats<Long> stats = this.stats;
+        if (stats != null) {
+            return stats.isSorted();
+        }
+
+        // storing ivars in the local vars for performance
+        long[] data = this.data;
+        int len = data.length;
+
+        for (int i = 1; i < len; i++) {
+            long prev = data[i - 1];
+            long v = data[i];
+            if (prev > v) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // only comparisons with a constant can be resolved from the stats
+    private boolean isConstant(LongSeries s) {
+        return s instanceof LongSingleValueSeries && data.length > 0 && s.size() == data.length;
+    }
+
 
     @Override
     public long max() {
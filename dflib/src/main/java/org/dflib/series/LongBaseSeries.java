@@ -19,14 +19,13 @@ import org.dflib.concat.SeriesConcat;
 import org.dflib.groupby.SeriesGrouper;
 import org.dflib.map.Mapper;
 import org.dflib.sample.Sampler;
+import org.dflib.set.LongHashSet;
 import org.dflib.sort.SeriesSorter;
 
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 
@@ -156,9 +155,7 @@ public abstract class LongBaseSeries implements LongSeries {
         int size = size();
         long[] sorted = new long[size];
         copyToLong(sorted, 0, 0, size);
-
-        // TODO: use "parallelSort" ?
-        Arrays.sort(sorted);
+        SeriesSorter.sort(sorted);
 
         return new LongArraySeries(sorted);
     }
@@ -489,21 +486,21 @@ public abstract class LongBaseSeries implements LongSeries {
             return new FalseSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        LongHashSet set = new LongHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Long) {
-                set.add(o);
+                set.add((Long) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new FalseSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = set.contains(get(i));
+            data[i] = set.contains(getLong(i));
         }
 
         return new BooleanArraySeries(data);
@@ -517,21 +514,21 @@ public abstract class LongBaseSeries implements LongSeries {
             return new TrueSeries(len);
         }
 
-        Set<Object> set = new HashSet<>();
+        LongHashSet set = new LongHashSet(values.length);
         for (Object o : values) {
             // TODO: convert from other numeric types
             if (o instanceof Long) {
-                set.add(o);
+                set.add((Long) o);
             }
         }
 
-        if (set.isEmpty()) {
+        if (set.size() == 0) {
             return new TrueSeries(len);
         }
 
         boolean[] data = new boolean[len];
         for (int i = 0; i < len; i++) {
-            data[i] = !set.contains(get(i));
+            data[i] = !set.contains(getLong(i));
         }
 
         return new BooleanArraySeries(data);
@@ -546,7 +543,7 @@ public abstract class LongBaseSeries implements LongSeries {
 
         LongAccum unique = new UniqueLongAccum();
         for (int i = 0; i < size; i++) {
-            unique.push(get(i));
+            unique.pushLong(getLong(i));
         }
 
         return unique.size() < size() ? unique.toSeries() : this;
@@ -554,7 +551,7 @@ public abstract class LongBaseSeries implements LongSeries {
 
     @Override
     public DataFrame valueCounts() {
-        return ValueCounts.valueCountsNoNulls(this);
+        return ValueCounts.valueCountsLong(this);
     }
 
     // TODO: some optimized version of "primitive" group by ...
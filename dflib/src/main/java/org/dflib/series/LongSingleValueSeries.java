@@ -1,5 +1,6 @@
 package org.dflib.series;
 
+import org.dflib.BooleanSeries;
 import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.agg.PrimitiveSeriesSum;
@@ -80,6 +81,135 @@ public class LongSingleValueSeries extends LongBaseSeries {
         return Series.ofLong();
     }
 
+    // Operations between two single-value Series of the same size produce single-value Series. This way constant
+    // subexpressions (e.g. "$val(3).mul($val(4))") are folded to a single value instead of being expanded to the
+    // full height of the evaluated DataFrame
+
+    @Override
+    public LongSeries add(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new LongSingleValueSeries(value + sv.value, size);
+        }
+
+        // "0 + s"
+        if (value == 0 && s.size() == size) {
+            return s;
+        }
+
+        return super.add(s);
+    }
+
+    @Override
+    public LongSeries sub(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new LongSingleValueSeries(value - sv.value, size);
+        }
+
+        return super.sub(s);
+    }
+
+    @Override
+    public LongSeries mul(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new LongSingleValueSeries(value * sv.value, size);
+        }
+
+        // "1 * s"
+        if (value == 1 && s.size() == size) {
+            return s;
+        }
+
+        return super.mul(s);
+    }
+
+    @Override
+    public LongSeries div(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new LongSingleValueSeries(value / sv.value, size);
+        }
+
+        return super.div(s);
+    }
+
+    @Override
+    public LongSeries mod(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return new LongSingleValueSeries(value % sv.value, size);
+        }
+
+        return super.mod(s);
+    }
+
+    @Override
+    public BooleanSeries lt(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value < sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.lt(s);
+    }
+
+    @Override
+    public BooleanSeries le(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value <= sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.le(s);
+    }
+
+    @Override
+    public BooleanSeries gt(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value > sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.gt(s);
+    }
+
+    @Override
+    public BooleanSeries ge(LongSeries s) {
+        LongSingleValueSeries sv = sameSizeSingleValue(s);
+        if (sv != null) {
+            return value >= sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.ge(s);
+    }
+
+    @Override
+    public BooleanSeries eq(Series<?> s) {
+        LongSingleValueSeries sv = s instanceof LongSeries ? sameSizeSingleValue((LongSeries) s) : null;
+        if (sv != null) {
+            return value == sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.eq(s);
+    }
+
+    @Override
+    public BooleanSeries ne(Series<?> s) {
+        LongSingleValueSeries sv = s instanceof LongSeries ? sameSizeSingleValue((LongSeries) s) : null;
+        if (sv != null) {
+            return value != sv.value ? new TrueSeries(size) : new FalseSeries(size);
+        }
+
+        return super.ne(s);
+    }
+
+    private LongSingleValueSeries sameSizeSingleValue(LongSeries s) {
+        // empty Series are excluded to avoid errors like division by zero, when there's nothing to calculate
+        return size > 0 && s.size() == size && s instanceof LongSingleValueSeries ? (LongSingleValueSeries) s : null;
+    }
+
     @Override
     public LongSeries materialize() {
         return this;
@@ -1,8 +1,16 @@
 package org.dflib.series;
 
 import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
 import org.dflib.Exp;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
+import org.dflib.set.DoubleHashSet;
+import org.dflib.set.IntHashSet;
+import org.dflib.set.LongHashSet;
+
+import java.util.Arrays;
 
 class ValueCounts {
 
@@ -25,4 +33,71 @@ class ValueCounts {
                 )
                 .sort(1, false);
     }
+
+    /**
+     * A version of {@link #valueCountsNoNulls(Series)} that counts the values in a primitive hash set, avoiding
+     * boxing.
+     */
+    public static DataFrame valueCountsInt(IntSeries series) {
+
+        int len = series.size();
+        IntHashSet values = new IntHashSet();
+        int[] counts = new int[16];
+
+        for (int i = 0; i < len; i++) {
+            int pos = values.put(series.getInt(i));
+            if (pos == counts.length) {
+                counts = Arrays.copyOf(counts, pos * 2);
+            }
+
+            counts[pos]++;
+        }
+
+        return toDataFrame(Series.ofInt(values.toArray()), counts, values.size());
+    }
+
+    public static DataFrame valueCountsLong(LongSeries series) {
+
+        int len = series.size();
+        LongHashSet values = new LongHashSet();
+        int[] counts = new int[16];
+
+        for (int i = 0; i < len; i++) {
+            int pos = values.put(series.getLong(i));
+            if (pos == counts.length) {
+                counts = Arrays.copyOf(counts, pos * 2);
+            }
+
+            counts[pos]++;
+        }
+
+        return toDataFrame(Series.ofLong(values.toArray()), counts, values.size());
+    }
+
+    public static DataFrame valueCountsDouble(DoubleSeries series) {
+
+        int len = series.size();
+        DoubleHashSet values = new DoubleHashSet();
+        int[] counts = new int[16];
+
+        for (int i = 0; i < len; i++) {
+            int pos = values.put(series.getDouble(i));
+            if (pos == counts.length) {
+                counts = Arrays.copyOf(counts, pos * 2);
+            }
+
+            counts[pos]++;
+        }
+
+        return toDataFrame(Series.ofDouble(values.toArray()), counts, values.size());
+    }
+
+    private static DataFrame toDataFrame(Series<?> values, int[] counts, int size) {
+
+        // the values are in the order of their first appearance, same as the groups of "valueCountsNoNulls"
+        return DataFrame
+                .byColumn("value", "count")
+                .of(values, Series.ofInt(Arrays.copyOf(counts, size)))
+                .sort(1, false);
+    }
 }
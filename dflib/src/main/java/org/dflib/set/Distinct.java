@@ -0,0 +1,374 @@
+package org.dflib.set;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.Environment;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.exec.ParallelTasks;
+import org.dflib.series.BooleanArraySeries;
+
+import java.util.Objects;
+import java.util.concurrent.Future;
+
+/**
+ * A columnar "distinct" operation over one or more key columns. Instead of creating a key object per row, it
+ * calculates a 64-bit hash of each row column by column, with primitive columns hashed without boxing. The rows are
+ * then deduplicated in an open addressing hash table of row positions, with hash collisions resolved by comparing the
+ * key columns of the rows. Large inputs are split into partitions by the upper bits of the row hash and deduplicated
+ * in parallel on {@link Environment#threadPool()}.
+ *
+ * <p>The key values are compared the same way as {@link Object#equals(Object)} compares them, i.e. nulls are equal
+ * to each other, and so are all the NaNs.</p>
+ *
+ * @since 1.0.0-M23
+ */
+public class Distinct {
+
+    private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Returns a BooleanSeries that is "true" for the first row of each distinct combination of the key values.
+     */
+    public static BooleanSeries keepFirst(Series<?>... keys) {
+        return new BooleanArraySeries(distinct(keys, false));
+    }
+
+    /**
+     * Returns a BooleanSeries that is "true" for the last row of each distinct combination of the key values.
+     */
+    public static BooleanSeries keepLast(Series<?>... keys) {
+        return new BooleanArraySeries(distinct(keys, true));
+    }
+
+    private static boolean[] distinct(Series<?>[] keys, boolean keepLast) {
+
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("No key columns for uniqueness checks");
+        }
+
+        int len = keys[0].size();
+        KeyColumn[] columns = new KeyColumn[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            // the columns are read from multiple threads, so resolve any lazy Series upfront
+            columns[i] = KeyColumn.of(keys[i].materialize());
+        }
+
+        boolean[] distinct = new boolean[len];
+        long[] hashes = new long[len];
+
+        int partitions = partitions(len);
+        if (partitions < 2) {
+            hash(columns, hashes, 0, len);
+            new Table(columns, hashes, keepLast).distinct(null, 0, len, distinct);
+        } else {
+            distinctInParallel(columns, hashes, keepLast, partitions, distinct);
+        }
+
+        return distinct;
+    }
+
+    /**
+     * Returns the number of partitions to process in parallel, or 1 for a sequential calculation.
+     */
+    private static int partitions(int len) {
+
+        if (!ParallelTasks.shouldParallelize(len)) {
+            return 1;
+        }
+
+        // a power of 2, so that the partition can be taken from the upper bits of the hash
+        return Integer.highestOneBit(ParallelTasks.threads() - 1) << 1;
+    }
+
+    private static void distinctInParallel(
+            KeyColumn[] columns,
+            long[] hashes,
+            boolean keepLast,
+            int partitions,
+            boolean[] distinct) {
+
+        int len = hashes.length;
+
+        // 1. hash the rows in ranges
+        int rangeSize = (len + partitions - 1) / partitions;
+        Future<?>[] hashTasks = new Future[partitions];
+        for (int i = 0; i < partitions; i++) {
+            int from = Math.min(len, i * rangeSize);
+            int to = Math.min(len, from + rangeSize);
+            hashTasks[i] = ParallelTasks.submit(() -> hash(columns, hashes, from, to));
+        }
+
+        ParallelTasks.join(hashTasks);
+
+        // 2. group the row positions by partition, preserving the row order within each partition
+        int shift = 64 - Integer.numberOfTrailingZeros(partitions);
+        int[] offsets = new int[partitions + 1];
+        for (long h : hashes) {
+            offsets[(int) (h >>> shift) + 1]++;
+        }
+
+        for (int i = 0; i < partitions; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] rows = new int[len];
+        int[] next = offsets.clone();
+        for (int i = 0; i < len; i++) {
+            rows[next[(int) (hashes[i] >>> shift)]++] = i;
+        }
+
+        // 3. deduplicate each partition independently. Equal keys always end up in the same partition, and each
+        // partition updates its own distinct positions
+        Future<?>[] distinctTasks = new Future[partitions];
+        for (int i = 0; i < partitions; i++) {
+            int from = offsets[i];
+            int to = offsets[i + 1];
+            distinctTasks[i] = ParallelTasks.submit(() -> new Table(columns, hashes, keepLast).distinct(rows, from, to, distinct));
+        }
+
+        ParallelTasks.join(distinctTasks);
+    }
+
+    private static void hash(KeyColumn[] columns, long[] hashes, int from, int to) {
+        for (KeyColumn c : columns) {
+            c.hash(hashes, from, to);
+        }
+    }
+
+    private static long mix(long h, long v) {
+        h = (h ^ v) * MULTIPLIER;
+        return h ^ (h >>> 32);
+    }
+
+    /**
+     * An open addressing hash table of row positions with a distinct key each.
+     */
+    private static class Table {
+
+        private final KeyColumn[] columns;
+        private final long[] hashes;
+        private final boolean keepLast;
+
+        // row positions offset by 1, so that 0 marks an empty slot
+        private int[] slots;
+        private int mask;
+        private int size;
+
+        Table(KeyColumn[] columns, long[] hashes, boolean keepLast) {
+            this.columns = columns;
+            this.hashes = hashes;
+            this.keepLast = keepLast;
+            this.slots = new int[16];
+            this.mask = slots.length - 1;
+        }
+
+        /**
+         * Processes the rows in the range of the "rows" array, or in the range of all rows if the array is null.
+         */
+        void distinct(int[] rows, int from, int to, boolean[] distinct) {
+
+            for (int i = from; i < to; i++) {
+
+                int row = rows != null ? rows[i] : i;
+                long h = hashes[row];
+                int slot = slot(h);
+
+                int existing;
+                while ((existing = slots[slot]) != 0 && !equal(existing - 1, row, h)) {
+                    slot = (slot + 1) & mask;
+                }
+
+                if (existing == 0) {
+                    slots[slot] = row + 1;
+                    if (!keepLast) {
+                        distinct[row] = true;
+                    }
+
+                    if (++size * 2 > slots.length) {
+                        rehash();
+                    }
+                } else if (keepLast) {
+                    slots[slot] = row + 1;
+                }
+            }
+
+            if (keepLast) {
+                for (int s : slots) {
+                    if (s != 0) {
+                        distinct[s - 1] = true;
+                    }
+                }
+            }
+        }
+
+        private int slot(long h) {
+            return (int) (h ^ (h >>> 29)) & mask;
+        }
+
+        private boolean equal(int r1, int r2, long h2) {
+
+            if (hashes[r1] != h2) {
+                return false;
+            }
+
+            for (KeyColumn c : columns) {
+                if (!c.equal(r1, r2)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void rehash() {
+
+            int[] oldSlots = this.slots;
+
+            this.slots = new int[oldSlots.length * 2];
+            this.mask = slots.length - 1;
+
+            for (int s : oldSlots) {
+                if (s != 0) {
+                    int slot = slot(hashes[s - 1]);
+                    while (slots[slot] != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+
+                    slots[slot] = s;
+                }
+            }
+        }
+    }
+
+    /**
+     * A key column that can hash its values into the row hashes and compare its values at two positions.
+     */
+    private interface KeyColumn {
+
+        static KeyColumn of(Series<?> s) {
+            if (s instanceof IntSeries) {
+                return new IntKeyColumn((IntSeries) s);
+            } else if (s instanceof LongSeries) {
+                return new LongKeyColumn((LongSeries) s);
+            } else if (s instanceof DoubleSeries) {
+                return new DoubleKeyColumn((DoubleSeries) s);
+            } else if (s instanceof BooleanSeries) {
+                return new BoolKeyColumn((BooleanSeries) s);
+            } else {
+                return new ObjectKeyColumn(s);
+            }
+        }
+
+        void hash(long[] hashes, int from, int to);
+
+        boolean equal(int r1, int r2);
+    }
+
+    private static class IntKeyColumn implements KeyColumn {
+
+        private final IntSeries s;
+
+        IntKeyColumn(IntSeries s) {
+            this.s = s;
+        }
+
+        @Override
+        public void hash(long[] hashes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashes[i] = mix(hashes[i], s.getInt(i));
+            }
+        }
+
+        @Override
+        public boolean equal(int r1, int r2) {
+            return s.getInt(r1) == s.getInt(r2);
+        }
+    }
+
+    private static class LongKeyColumn implements KeyColumn {
+
+        private final LongSeries s;
+
+        LongKeyColumn(LongSeries s) {
+            this.s = s;
+        }
+
+        @Override
+        public void hash(long[] hashes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashes[i] = mix(hashes[i], s.getLong(i));
+            }
+        }
+
+        @Override
+        public boolean equal(int r1, int r2) {
+            return s.getLong(r1) == s.getLong(r2);
+        }
+    }
+
+    private static class DoubleKeyColumn implements KeyColumn {
+
+        private final DoubleSeries s;
+
+        DoubleKeyColumn(DoubleSeries s) {
+            this.s = s;
+        }
+
+        @Override
+        public void hash(long[] hashes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashes[i] = mix(hashes[i], Double.doubleToLongBits(s.getDouble(i)));
+            }
+        }
+
+        @Override
+        public boolean equal(int r1, int r2) {
+            // same as "Double.equals"
+            return Double.doubleToLongBits(s.getDouble(r1)) == Double.doubleToLongBits(s.getDouble(r2));
+        }
+    }
+
+    private static class BoolKeyColumn implements KeyColumn {
+
+        private final BooleanSeries s;
+
+        BoolKeyColumn(BooleanSeries s) {
+            this.s = s;
+        }
+
+        @Override
+        public void hash(long[] hashes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashes[i] = mix(hashes[i], s.getBool(i) ? 1 : 0);
+            }
+        }
+
+        @Override
+        public boolean equal(int r1, int r2) {
+            return s.getBool(r1) == s.getBool(r2);
+        }
+    }
+
+    private static class ObjectKeyColumn implements KeyColumn {
+
+        private final Series<?> s;
+
+        ObjectKeyColumn(Series<?> s) {
+            this.s = s;
+        }
+
+        @Override
+        public void hash(long[] hashes, int from, int to) {
+            for (int i = from; i < to; i++) {
+                hashes[i] = mix(hashes[i], Objects.hashCode(s.get(i)));
+            }
+        }
+
+        @Override
+        public boolean equal(int r1, int r2) {
+            return Objects.equals(s.get(r1), s.get(r2));
+        }
+    }
+}
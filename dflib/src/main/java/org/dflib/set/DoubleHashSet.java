@@ -0,0 +1,93 @@
+package org.dflib.set;
+
+import org.dflib.DoubleSeries;
+import org.dflib.Series;
+
+/**
+ * A set of primitive doubles that doesn't box the values. Compares the values the same way as {@link Double#equals(Object)}
+ * does, i.e. all NaNs are equal to each other, and 0.0 is not equal to -0.0. Keeps the values in the insertion order,
+ * and can return a position of each value in that order.
+ *
+ * @since 1.0.0-M23
+ */
+public class DoubleHashSet {
+
+    private final LongHashSet bits;
+
+    public DoubleHashSet() {
+        this(16);
+    }
+
+    public DoubleHashSet(int capacity) {
+        this.bits = new LongHashSet(capacity);
+    }
+
+    /**
+     * Creates a set of all the non-null values of the Series.
+     */
+    public static DoubleHashSet of(Series<? extends Double> s) {
+
+        int len = s.size();
+        DoubleHashSet set = new DoubleHashSet(len);
+
+        if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                set.put(ds.getDouble(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                Double v = s.get(i);
+                if (v != null) {
+                    set.put(v);
+                }
+            }
+        }
+
+        return set;
+    }
+
+    public int size() {
+        return bits.size();
+    }
+
+    /**
+     * Adds a value to the set, returning true if the value was not in the set before.
+     */
+    public boolean add(double v) {
+        return bits.add(Double.doubleToLongBits(v));
+    }
+
+    /**
+     * Adds a value to the set if it is not there yet, returning the position of the value in the insertion order.
+     */
+    public int put(double v) {
+        return bits.put(Double.doubleToLongBits(v));
+    }
+
+    public boolean contains(double v) {
+        return bits.contains(Double.doubleToLongBits(v));
+    }
+
+    /**
+     * Returns the position of the value in the insertion order, or -1 if the value is not in the set.
+     */
+    public int indexOf(double v) {
+        return bits.indexOf(Double.doubleToLongBits(v));
+    }
+
+    /**
+     * Returns the set values in the insertion order.
+     */
+    public double[] toArray() {
+        long[] longs = bits.toArray();
+        int len = longs.length;
+
+        double[] doubles = new double[len];
+        for (int i = 0; i < len; i++) {
+            doubles[i] = Double.longBitsToDouble(longs[i]);
+        }
+
+        return doubles;
+    }
+}
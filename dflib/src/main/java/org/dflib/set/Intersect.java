@@ -1,6 +1,7 @@
 package org.dflib.set;
 
 import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
 import org.dflib.DoubleSeries;
 import org.dflib.IntSeries;
 import org.dflib.LongSeries;
@@ -66,7 +67,7 @@ public class Intersect {
             return Series.ofInt();
         }
 
-        Set<? extends Integer> s2Vals = s2.toSet();
+        IntHashSet s2Vals = IntHashSet.of(s2);
         return s1.selectInt(v -> s2Vals.contains(v));
     }
 
@@ -79,7 +80,7 @@ public class Intersect {
             return Series.ofLong();
         }
 
-        Set<? extends Long> s2Vals = s2.toSet();
+        LongHashSet s2Vals = LongHashSet.of(s2);
         return s1.selectLong(v -> s2Vals.contains(v));
     }
 
@@ -92,7 +93,25 @@ public class Intersect {
             return Series.ofDouble();
         }
 
-        Set<? extends Double> s2Vals = s2.toSet();
+        DoubleHashSet s2Vals = DoubleHashSet.of(s2);
         return s1.selectDouble(v -> s2Vals.contains(v));
     }
+
+    /**
+     * Returns the rows of df1 whose key column values are present in the same columns of df2. If no key columns
+     * are specified, all df1 columns are used as the key.
+     *
+     * @since 1.0.0-M23
+     */
+    public static DataFrame intersect(DataFrame df1, DataFrame df2, String... keyColumns) {
+
+        if (df1.height() == 0) {
+            return df1;
+        } else if (df2.height() == 0) {
+            return df1.rows(Series.ofInt()).select();
+        }
+
+        String[] keys = keyColumns.length > 0 ? keyColumns : df1.getColumnsIndex().toArray();
+        return df1.rows(RowKeys.in(df1, df2, keys)).select();
+    }
 }
@@ -0,0 +1,151 @@
+package org.dflib.set;
+
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.util.Arrays;
+
+/**
+ * A set of primitive longs that doesn't box the values. Uses an open addressing hash table with linear probing. Keeps
+ * the values in the insertion order, and can return a position of each value in that order.
+ *
+ * @since 1.0.0-M23
+ */
+public class LongHashSet {
+
+    private long[] values;
+    private int size;
+
+    // value positions in the "values" array, offset by 1, so that 0 marks an empty slot
+    private int[] table;
+    private int mask;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int capacity) {
+        this.values = new long[Math.max(capacity, 2)];
+        this.table = new int[IntHashSet.tableSize(capacity)];
+        this.mask = table.length - 1;
+    }
+
+    /**
+     * Creates a set of all the non-null values of the Series.
+     */
+    public static LongHashSet of(Series<? extends Long> s) {
+
+        int len = s.size();
+        LongHashSet set = new LongHashSet(len);
+
+        if (s instanceof LongSeries) {
+            LongSeries is = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                set.put(is.getLong(i));
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                Long v = s.get(i);
+                if (v != null) {
+                    set.put(v);
+                }
+            }
+        }
+
+        return set;
+    }
+
+    static int hash(long v) {
+        long h = v * 0x9E3779B97F4A7C15L;
+        int i = (int) (h ^ (h >>> 32));
+        return i ^ (i >>> 16);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a value to the set, returning true if the value was not in the set before.
+     */
+    public boolean add(long v) {
+        int size = this.size;
+        return put(v) == size;
+    }
+
+    /**
+     * Adds a value to the set if it is not there yet, returning the position of the value in the insertion order.
+     */
+    public int put(long v) {
+
+        int slot = hash(v) & mask;
+        int pos;
+        while ((pos = table[slot]) != 0) {
+            if (values[pos - 1] == v) {
+                return pos - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        values[size] = v;
+        table[slot] = ++size;
+
+        if (size * 2 > table.length) {
+            rehash();
+        }
+
+        return size - 1;
+    }
+
+    public boolean contains(long v) {
+        return indexOf(v) >= 0;
+    }
+
+    /**
+     * Returns the position of the value in the insertion order, or -1 if the value is not in the set.
+     */
+    public int indexOf(long v) {
+
+        int slot = hash(v) & mask;
+        int pos;
+        while ((pos = table[slot]) != 0) {
+            if (values[pos - 1] == v) {
+                return pos - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the set values in the insertion order.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    private void rehash() {
+
+        int[] table = new int[this.table.length * 2];
+        int mask = table.length - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = hash(values[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+
+            table[slot] = i + 1;
+        }
+
+        this.table = table;
+        this.mask = mask;
+    }
+}
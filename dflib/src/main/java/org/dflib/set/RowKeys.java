@@ -0,0 +1,96 @@
+package org.dflib.set;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Hasher;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.row.RowProxy;
+import org.dflib.series.BooleanArraySeries;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Matches the rows of one DataFrame against the rows of another DataFrame by the values of the key columns. Single
+ * primitive key columns are matched via primitive hash sets without boxing.
+ *
+ * @since 1.0.0-M23
+ */
+class RowKeys {
+
+    /**
+     * Returns a BooleanSeries with "true" for each row of df1 whose key is present among the df2 keys.
+     */
+    static BooleanSeries in(DataFrame df1, DataFrame df2, String[] keyColumns) {
+
+        if (keyColumns.length == 1) {
+            Series<?> k1 = df1.getColumn(keyColumns[0]);
+            Series<?> k2 = df2.getColumn(keyColumns[0]);
+
+            if (k1 instanceof IntSeries && k2 instanceof IntSeries) {
+                return inInt((IntSeries) k1, (IntSeries) k2);
+            } else if (k1 instanceof LongSeries && k2 instanceof LongSeries) {
+                return inLong((LongSeries) k1, (LongSeries) k2);
+            } else if (k1 instanceof DoubleSeries && k2 instanceof DoubleSeries) {
+                return inDouble((DoubleSeries) k1, (DoubleSeries) k2);
+            }
+        }
+
+        Hasher hasher = Hasher.of(keyColumns[0]);
+        for (int i = 1; i < keyColumns.length; i++) {
+            hasher = hasher.and(keyColumns[i]);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        for (RowProxy r : df2) {
+            keys.add(hasher.map(r));
+        }
+
+        boolean[] data = new boolean[df1.height()];
+        int i = 0;
+        for (RowProxy r : df1) {
+            data[i++] = keys.contains(hasher.map(r));
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    private static BooleanSeries inInt(IntSeries k1, IntSeries k2) {
+        IntHashSet keys = IntHashSet.of(k2);
+
+        int len = k1.size();
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = keys.contains(k1.getInt(i));
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    private static BooleanSeries inLong(LongSeries k1, LongSeries k2) {
+        LongHashSet keys = LongHashSet.of(k2);
+
+        int len = k1.size();
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = keys.contains(k1.getLong(i));
+        }
+
+        return new BooleanArraySeries(data);
+    }
+
+    private static BooleanSeries inDouble(DoubleSeries k1, DoubleSeries k2) {
+        DoubleHashSet keys = DoubleHashSet.of(k2);
+
+        int len = k1.size();
+        boolean[] data = new boolean[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = keys.contains(k1.getDouble(i));
+        }
+
+        return new BooleanArraySeries(data);
+    }
+}
@@ -13,11 +13,9 @@ import org.dflib.Sorter;
 import org.dflib.f.IntObjectFunction2;
 import org.dflib.row.ColumnsRowProxy;
 import org.dflib.row.MultiArrayRowBuilder;
-import org.dflib.series.IntSingleValueSeries;
 import org.dflib.series.RowMappedSeries;
-import org.dflib.sort.Comparators;
+import org.dflib.set.Distinct;
 import org.dflib.sort.DataFrameSorter;
-import org.dflib.sort.IntComparator;
 
 import java.util.Map;
 import java.util.function.UnaryOperator;
@@ -105,8 +103,11 @@ public abstract class BaseRowSet implements RowSet {
         }
 
         DataFrame rsDf = select();
-        IntComparator comparator = Comparators.of(rsDf, sorters);
-        DataFrame rowsAsDf = rsDf.rows(DataFrameSorter.sort(comparator, rsDf.height())).select();
+        if (DataFrameSorter.isSorted(rsDf, sorters)) {
+            return source;
+        }
+
+        DataFrame rowsAsDf = rsDf.rows(DataFrameSorter.sort(rsDf, sorters)).select();
 
         RowSetMerger merger = merger();
 
@@ -130,31 +131,7 @@ public abstract class BaseRowSet implements RowSet {
             throw new IllegalArgumentException("No 'columnNamesToCompare' for uniqueness checks");
         }
 
-        int w = sourceColumns.length;
-        if (w == 0) {
-            return source;
-        }
-
-        if (sourceColumns[0].size() == 0) {
-            return source;
-        }
-
-        DataFrame rowsAsDf = select();
-        BooleanSeries uniqueIndex = rowsAsDf
-                .over().partitioned(uniqueKeyColumns).rowNumber()
-                .eq(new IntSingleValueSeries(1, rowsAsDf.height()));
-
-        if (uniqueIndex.isTrue()) {
-            return source;
-        }
-
-        RowSetMerger merger = merger().removeUnmatchedRows(uniqueIndex);
-        Series[] to = new Series[w];
-        for (int i = 0; i < w; i++) {
-            to[i] = merger.merge(sourceColumns[i], rowsAsDf.getColumn(i));
-        }
-
-        return DataFrame.byColumn(sourceColumnsIndex).of(to);
+        return unique(sourceColumnsIndex.positions(uniqueKeyColumns));
     }
 
     @Override
@@ -173,9 +150,7 @@ public abstract class BaseRowSet implements RowSet {
         }
 
         DataFrame rowsAsDf = select();
-        BooleanSeries uniqueIndex = rowsAsDf
-                .over().partitioned(uniqueKeyColumns).rowNumber()
-                .eq(new IntSingleValueSeries(1, rowsAsDf.height()));
+        BooleanSeries uniqueIndex = Distinct.keepFirst(keyColumns(rowsAsDf, uniqueKeyColumns));
 
         if (uniqueIndex.isTrue()) {
             return source;
@@ -278,6 +253,25 @@ public abstract class BaseRowSet implements RowSet {
 
     @Override
     public DataFrame selectUnique(int... uniqueKeyColumns) {
+        return selectUnique(false, uniqueKeyColumns);
+    }
+
+    @Override
+    public DataFrame selectUniqueLast() {
+        return selectUniqueLast(source.getColumnsIndex().toArray());
+    }
+
+    @Override
+    public DataFrame selectUniqueLast(String... uniqueKeyColumns) {
+        return selectUniqueLast(sourceColumnsIndex.positions(uniqueKeyColumns));
+    }
+
+    @Override
+    public DataFrame selectUniqueLast(int... uniqueKeyColumns) {
+        return selectUnique(true, uniqueKeyColumns);
+    }
+
+    private DataFrame selectUnique(boolean keepLast, int... uniqueKeyColumns) {
         if (uniqueKeyColumns.length == 0) {
             throw new IllegalArgumentException("No 'columnPositionsToCompare' for uniqueness checks");
         }
@@ -292,9 +286,8 @@ public abstract class BaseRowSet implements RowSet {
         }
 
         DataFrame rowsAsDf = select();
-        BooleanSeries uniqueIndex = rowsAsDf
-                .over().partitioned(uniqueKeyColumns).rowNumber()
-                .eq(new IntSingleValueSeries(1, rowsAsDf.height()));
+        Series<?>[] keys = keyColumns(rowsAsDf, uniqueKeyColumns);
+        BooleanSeries uniqueIndex = keepLast ? Distinct.keepLast(keys) : Distinct.keepFirst(keys);
 
         if (uniqueIndex.isTrue()) {
             return rowsAsDf;
@@ -303,6 +296,16 @@ public abstract class BaseRowSet implements RowSet {
         return rowsAsDf.rows(uniqueIndex).select();
     }
 
+    private static Series<?>[] keyColumns(DataFrame df, int[] positions) {
+        int len = positions.length;
+        Series<?>[] keys = new Series[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = df.getColumn(positions[i]);
+        }
+
+        return keys;
+    }
+
     protected DataFrame mapByColumn(IntObjectFunction2<DataFrame, Series<?>> columnMaker) {
 
         if (sourceColumns.length == 0) {
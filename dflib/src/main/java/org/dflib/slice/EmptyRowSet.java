@@ -223,6 +223,21 @@ public class EmptyRowSet implements RowSet {
         return selectUnique(source.getColumnsIndex().toArray());
     }
 
+    @Override
+    public DataFrame selectUniqueLast(String... uniqueKeyColumns) {
+        return selectUnique(uniqueKeyColumns);
+    }
+
+    @Override
+    public DataFrame selectUniqueLast(int... uniqueKeyColumns) {
+        return selectUnique(uniqueKeyColumns);
+    }
+
+    @Override
+    public DataFrame selectUniqueLast() {
+        return selectUnique();
+    }
+
     @Override
     public BooleanSeries locate() {
         return new FalseSeries(source.height());
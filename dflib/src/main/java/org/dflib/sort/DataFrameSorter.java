@@ -1,6 +1,11 @@
 package org.dflib.sort;
 
+import org.dflib.DataFrame;
 import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.exp.Column;
+import org.dflib.exp.sort.ExpSorter;
 import org.dflib.series.IntArraySeries;
 
 /**
@@ -11,6 +16,9 @@ import org.dflib.series.IntArraySeries;
  */
 public class DataFrameSorter {
 
+    // below this size, the radix sort or normalized keys setup costs outweigh the savings on comparisons
+    private static final int MIN_RADIX_SORT_SIZE = 256;
+
     public static IntSeries sort(IntComparator comparator, int height) {
         return doSort(comparator, SeriesSorter.rowNumberSequence(height));
     }
@@ -25,8 +33,111 @@ public class DataFrameSorter {
         return doSort(comparator, index);
     }
 
+    /**
+     * Returns a sort index of the DataFrame rows per provided sorters. Uses a radix sort if all the sorters are
+     * expressions producing numeric, boolean or date values. If some of them also produce Strings, compares
+     * precomputed normalized row keys (see {@link NormalizedKeySorter}). Otherwise, uses a sort with a chain of
+     * column comparators. Either way, the sort is stable.
+     *
+     * @since 1.0.0-M23
+     */
+    public static IntSeries sort(DataFrame df, Sorter... sorters) {
+
+        int w = sorters.length;
+        if (w == 0) {
+            throw new IllegalArgumentException("No sort columns");
+        }
+
+        int h = df.height();
+
+        // evaluate the sort expressions once, and use the results either as radix sort keys or for the comparators
+        Series<?>[] keys = new Series[w];
+        boolean[] ascending = new boolean[w];
+        boolean radix = h >= MIN_RADIX_SORT_SIZE;
+        boolean normalized = radix;
+
+        for (int i = 0; i < w; i++) {
+            if (sorters[i] instanceof ExpSorter) {
+                ExpSorter sorter = (ExpSorter) sorters[i];
+                keys[i] = sorter.getExp().eval(df);
+                ascending[i] = sorter.isAscending();
+                radix = radix && RadixSorter.supports(keys[i]);
+                normalized = normalized && NormalizedKeySorter.supports(keys[i]);
+            } else {
+                radix = false;
+                normalized = false;
+            }
+        }
+
+        if (radix) {
+            int[] index = SeriesSorter.rowNumberSequence(h);
+            RadixSorter.sort(keys, ascending, index);
+            return new IntArraySeries(index);
+        }
+
+        IntComparator comparator = null;
+        for (int i = 0; i < w; i++) {
+            IntComparator ci = keys[i] != null ? Comparators.of(keys[i], ascending[i]) : sorters[i].eval(df);
+            comparator = comparator == null ? ci : comparator.thenComparing(ci);
+        }
+
+        if (normalized) {
+            comparator = NormalizedKeySorter.comparator(keys, ascending, comparator);
+        }
+
+        return sort(comparator, h);
+    }
+
+    /**
+     * Returns true if the DataFrame rows are known to be already ordered per provided sorters, so the sorting can be
+     * skipped. Only checks a single ascending column sorter, so returning "false" does not necessarily mean the
+     * DataFrame is unsorted.
+     *
+     * @since 1.0.0-M23
+     */
+    public static boolean isSorted(DataFrame df, Sorter... sorters) {
+
+        if (sorters.length != 1 || !(sorters[0] instanceof ExpSorter)) {
+            return false;
+        }
+
+        // only checking column references, as evaluating an arbitrary expression twice (here and in the sorter)
+        // may be expensive
+        ExpSorter sorter = (ExpSorter) sorters[0];
+        return sorter.isAscending()
+                && sorter.getExp() instanceof Column
+                && isAscending(sorter.getExp().eval(df));
+    }
+
+    // Unlike calculating the full Series stats, the scan stops at the first out-of-order value, which would be cheap
+    // for most unsorted Series. Uses the same comparator as the sort, so "true" means the sort wouldn't move any rows
+    private static boolean isAscending(Series<?> s) {
+
+        IntComparator comparator = Comparators.of(s, true);
+        int len = s.size();
+
+        try {
+            for (int i = 1; i < len; i++) {
+                if (comparator.compare(i - 1, i) > 0) {
+                    return false;
+                }
+            }
+        } catch (ClassCastException e) {
+            // non-comparable values. Let the sort report the error
+            return false;
+        }
+
+        return true;
+    }
+
     private static IntSeries doSort(IntComparator comparator, int[] mutableIndex) {
-        IntTimSort.sort(mutableIndex, comparator);
+
+        if (ParallelMergeSorter.shouldParallelize(mutableIndex.length)) {
+            ParallelMergeSorter.sort(mutableIndex, comparator);
+        } else {
+            IntTimSort.sort(mutableIndex, comparator);
+        }
+
         return new IntArraySeries(mutableIndex);
     }
 }
@@ -0,0 +1,501 @@
+package org.dflib.sort;
+
+import org.dflib.BooleanSeries;
+import org.dflib.ColumnDataFrame;
+import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
+import org.dflib.Environment;
+import org.dflib.Index;
+import org.dflib.IntSeries;
+import org.dflib.JoinType;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.builder.BoolAccum;
+import org.dflib.builder.DoubleAccum;
+import org.dflib.builder.IntAccum;
+import org.dflib.builder.LongAccum;
+import org.dflib.builder.ObjectAccum;
+import org.dflib.builder.ValueAccum;
+import org.dflib.concat.VConcatBuilder;
+import org.dflib.exp.sort.ExpSorter;
+import org.dflib.series.IntArrayRangeSeries;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An external ("spill-to-disk") merge sort for the data that doesn't fit in the memory budget. The rows are sorted in
+ * memory in "runs" of a limited size, each run is written to a temporary file, and then the runs are merged back,
+ * reading only a small block of rows from each run at a time. If there are too many runs to merge at once, they are
+ * merged in multiple passes. The result is the same as the stable in-memory sort of all the rows with
+ * {@link DataFrame#sort(Sorter...)}.
+ *
+ * <p>The source data can be either a DataFrame, or a sequence of DataFrame "chunks" with the same columns (e.g.,
+ * produced by a loader reading a large file in batches). The result can be either a DataFrame, or a lazy stream of rows,
+ * so that neither the source nor the result have to be fully in memory. The sort expressions are evaluated on each
+ * chunk, so they should be calculated row by row (e.g., column references, arithmetic, string operations), and not
+ * depend on the other rows (e.g., aggregates or window functions).</p>
+ *
+ * @since 1.0.0-M23
+ */
+public class ExternalSorter {
+
+    private static final int DEFAULT_RUN_SIZE = 1_000_000;
+    private static final int DEFAULT_MERGE_WIDTH = 64;
+    private static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    private final ExpSorter[] sorters;
+    private int runSize;
+    private int mergeWidth;
+    private int blockSize;
+    private Path tempDir;
+
+    public ExternalSorter(Sorter... sorters) {
+
+        if (sorters.length == 0) {
+            throw new IllegalArgumentException("No sort columns");
+        }
+
+        this.sorters = new ExpSorter[sorters.length];
+        for (int i = 0; i < sorters.length; i++) {
+            if (!(sorters[i] instanceof ExpSorter)) {
+                throw new IllegalArgumentException("External sort requires expression-based sorters, got: " + sorters[i]);
+            }
+
+            this.sorters[i] = (ExpSorter) sorters[i];
+        }
+
+        this.runSize = DEFAULT_RUN_SIZE;
+        this.mergeWidth = DEFAULT_MERGE_WIDTH;
+        this.blockSize = DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Sets the maximum number of rows sorted in memory at once and spilled to disk as a single sorted run. This is the
+     * main memory limit of the sort.
+     */
+    public ExternalSorter runSize(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Run size must be positive: " + rows);
+        }
+
+        this.runSize = rows;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of runs merged at once, i.e. the maximum number of open files during the merge.
+     */
+    public ExternalSorter mergeWidth(int runs) {
+        if (runs < 2) {
+            throw new IllegalArgumentException("Merge width must be at least 2: " + runs);
+        }
+
+        this.mergeWidth = runs;
+        return this;
+    }
+
+    /**
+     * Sets the number of rows written and read as a single block of a run file. During the merge, one block per run
+     * is kept in memory.
+     */
+    public ExternalSorter blockSize(int rows) {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + rows);
+        }
+
+        this.blockSize = rows;
+        return this;
+    }
+
+    /**
+     * Sets a directory for the temporary run files. If not set, {@link Environment#spillDir()} is used.
+     */
+    public ExternalSorter tempDir(Path dir) {
+        this.tempDir = Objects.requireNonNull(dir);
+        return this;
+    }
+
+    /**
+     * Sorts a DataFrame. If the DataFrame height doesn't exceed the run size, it is sorted in memory without spilling.
+     */
+    public DataFrame sort(DataFrame df) {
+        return df.height() <= runSize
+                ? df.sort(sorters)
+                : sort(List.of(df));
+    }
+
+    /**
+     * Sorts the rows of a sequence of DataFrames with the same column labels, returning a single sorted DataFrame.
+     */
+    public DataFrame sort(Iterable<DataFrame> chunks) {
+
+        Spill spill = spill(chunks);
+        try (RunMerger merger = spill.merger()) {
+
+            int w = spill.labels.size();
+            int h = spill.height();
+            RowBuffer buffer = new RowBuffer(spill.kinds, w, h);
+
+            RunMerger.Cursor c;
+            while ((c = merger.next()) != null) {
+                buffer.push(c);
+            }
+
+            return new ColumnDataFrame(null, spill.labels, buffer.toSeries());
+        } finally {
+            spill.delete();
+        }
+    }
+
+    /**
+     * Sorts the rows of a sequence of DataFrames with the same column labels, returning a lazy stream of rows. Each
+     * row is an array of values in the order of the source columns. The temporary files are deleted when the stream is
+     * exhausted or closed.
+     */
+    public Stream<Object[]> sortToRows(Iterable<DataFrame> chunks) {
+
+        Spill spill = spill(chunks);
+        RunMerger merger;
+        try {
+            merger = spill.merger();
+        } catch (RuntimeException e) {
+            spill.delete();
+            throw e;
+        }
+
+        int w = spill.labels.size();
+        Iterator<Object[]> rows = new Iterator<>() {
+
+            RunMerger.Cursor next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Object[] next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+
+                Object[] row = new Object[w];
+                for (int i = 0; i < w; i++) {
+                    row[i] = next.block[i].get(next.pos);
+                }
+
+                next = advance();
+                return row;
+            }
+
+            private RunMerger.Cursor advance() {
+                RunMerger.Cursor c = merger.next();
+                if (c == null) {
+                    merger.close();
+                    spill.delete();
+                }
+
+                return c;
+            }
+        };
+
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    merger.close();
+                    spill.delete();
+                });
+    }
+
+    private Spill spill(Iterable<DataFrame> chunks) {
+
+        Spill spill = new Spill();
+        try {
+
+            // accumulate small chunks until there's enough rows for a run
+            List<DataFrame> pending = new ArrayList<>();
+            int pendingHeight = 0;
+
+            for (DataFrame chunk : chunks) {
+                spill.checkLabels(chunk);
+
+                pending.add(chunk);
+                pendingHeight += chunk.height();
+
+                if (pendingHeight >= runSize) {
+                    spillRuns(spill, pending);
+                    pending.clear();
+                    pendingHeight = 0;
+                }
+            }
+
+            if (pendingHeight > 0 || spill.runs.isEmpty()) {
+                spillRuns(spill, pending);
+            }
+
+            // reduce the number of runs for the final merge
+            while (spill.runs.size() > mergeWidth) {
+                List<SortRun> merged = new ArrayList<>();
+                for (int i = 0; i < spill.runs.size(); i += mergeWidth) {
+                    List<SortRun> group = spill.runs.subList(i, Math.min(spill.runs.size(), i + mergeWidth));
+                    merged.add(group.size() > 1 ? merge(spill, group) : group.get(0));
+                }
+
+                spill.runs = merged;
+            }
+
+            return spill;
+
+        } catch (RuntimeException e) {
+            spill.delete();
+            throw e;
+        }
+    }
+
+    private void spillRuns(Spill spill, List<DataFrame> pending) {
+
+        if (pending.isEmpty()) {
+
+            // an empty source still produces an (empty) run to preserve the column structure
+            spill.runs.add(SortRun.create(tempDir()).finish());
+            return;
+        }
+
+        DataFrame df = new VConcatBuilder(JoinType.left).append(pending).select();
+
+        int h = df.height();
+        int w = df.width();
+        int k = sorters.length;
+
+        // evaluate the sort keys once for the entire DataFrame. They are spilled together with the data, so that the
+        // merge does not need to evaluate them again
+        Series<?>[] columns = new Series[w + k];
+        IntComparator comparator = null;
+        for (int i = 0; i < w; i++) {
+            columns[i] = df.getColumn(i);
+        }
+
+        for (int i = 0; i < k; i++) {
+            Series<?> key = sorters[i].getExp().eval(df);
+            columns[w + i] = key;
+
+            IntComparator ci = Comparators.of(key, sorters[i].isAscending());
+            comparator = comparator == null ? ci : comparator.thenComparing(ci);
+        }
+
+        for (int from = 0; from < h; from += runSize) {
+
+            int to = Math.min(h, from + runSize);
+            int[] index = new int[to - from];
+            for (int i = 0; i < index.length; i++) {
+                index[i] = from + i;
+            }
+
+            SeriesSorter.sort(index, comparator);
+
+            SortRun.Writer writer = SortRun.create(tempDir());
+            try {
+                for (int b = 0; b < index.length; b += blockSize) {
+                    IntSeries blockIndex = new IntArrayRangeSeries(index, b, Math.min(blockSize, index.length - b));
+
+                    Series<?>[] block = new Series[w + k];
+                    for (int i = 0; i < w + k; i++) {
+                        block[i] = columns[i].select(blockIndex);
+                    }
+
+                    spill.trackKinds(block);
+                    writer.write(block);
+                }
+            } catch (RuntimeException e) {
+                writer.close();
+                throw e;
+            }
+
+            spill.runs.add(writer.finish());
+        }
+    }
+
+    private SortRun merge(Spill spill, List<SortRun> runs) {
+
+        int width = spill.kinds.length;
+        SortRun.Writer writer = SortRun.create(tempDir());
+
+        try (RunMerger merger = new RunMerger(runs, width, spill.labels.size(), ascending())) {
+
+            RowBuffer buffer = new RowBuffer(spill.kinds, width, blockSize);
+
+            RunMerger.Cursor c;
+            while ((c = merger.next()) != null) {
+                buffer.push(c);
+                if (buffer.size() == blockSize) {
+                    writer.write(buffer.toSeries());
+                    buffer = new RowBuffer(spill.kinds, width, blockSize);
+                }
+            }
+
+            writer.write(buffer.toSeries());
+        } catch (RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+
+        SortRun merged = writer.finish();
+        for (SortRun r : runs) {
+            r.delete();
+        }
+
+        return merged;
+    }
+
+    private Path tempDir() {
+        return tempDir != null ? tempDir : Environment.commonEnv().spillDir();
+    }
+
+    private boolean[] ascending() {
+        boolean[] ascending = new boolean[sorters.length];
+        for (int i = 0; i < sorters.length; i++) {
+            ascending[i] = sorters[i].isAscending();
+        }
+
+        return ascending;
+    }
+
+    /**
+     * The state of a single sort operation.
+     */
+    private class Spill {
+
+        Index labels;
+
+        // the kinds of the data and key columns. If the column kind is different in different blocks, the column is
+        // stored as an Object column
+        byte[] kinds;
+        List<SortRun> runs = new ArrayList<>();
+
+        void checkLabels(DataFrame chunk) {
+            if (labels == null) {
+                labels = chunk.getColumnsIndex();
+                kinds = new byte[labels.size() + sorters.length];
+            } else if (!labels.equals(chunk.getColumnsIndex())) {
+                throw new IllegalArgumentException("All DataFrames must have the same columns. Expected: "
+                        + labels + ", got: " + chunk.getColumnsIndex());
+            }
+        }
+
+        void trackKinds(Series<?>[] block) {
+            for (int i = 0; i < block.length; i++) {
+                byte kind = SortRun.kind(block[i]);
+                if (kinds[i] == 0) {
+                    kinds[i] = kind;
+                } else if (kinds[i] != kind) {
+                    kinds[i] = SortRun.OBJECT;
+                }
+            }
+        }
+
+        int height() {
+            int h = 0;
+            for (SortRun r : runs) {
+                h += r.height();
+            }
+
+            return h;
+        }
+
+        RunMerger merger() {
+            if (labels == null) {
+                throw new IllegalArgumentException("No DataFrames to sort");
+            }
+
+            return new RunMerger(runs, kinds.length, labels.size(), ascending());
+        }
+
+        void delete() {
+            for (SortRun r : runs) {
+                r.delete();
+            }
+
+            runs.clear();
+        }
+    }
+
+    /**
+     * Collects merged rows into columns, preserving primitive column kinds.
+     */
+    private static class RowBuffer {
+
+        private final ValueAccum<?>[] accums;
+        private final byte[] kinds;
+
+        RowBuffer(byte[] kinds, int width, int capacity) {
+            this.kinds = kinds;
+            this.accums = new ValueAccum[width];
+
+            for (int i = 0; i < width; i++) {
+                switch (kinds[i]) {
+                    case SortRun.INT:
+                        accums[i] = new IntAccum(capacity);
+                        break;
+                    case SortRun.LONG:
+                        accums[i] = new LongAccum(capacity);
+                        break;
+                    case SortRun.DOUBLE:
+                        accums[i] = new DoubleAccum(capacity);
+                        break;
+                    case SortRun.BOOL:
+                        accums[i] = new BoolAccum(capacity);
+                        break;
+                    default:
+                        accums[i] = new ObjectAccum<>(capacity);
+                }
+            }
+        }
+
+        void push(RunMerger.Cursor c) {
+
+            int pos = c.pos;
+            for (int i = 0; i < accums.length; i++) {
+                Series<?> s = c.block[i];
+                switch (kinds[i]) {
+                    case SortRun.INT:
+                        accums[i].pushInt(((IntSeries) s).getInt(pos));
+                        break;
+                    case SortRun.LONG:
+                        accums[i].pushLong(((LongSeries) s).getLong(pos));
+                        break;
+                    case SortRun.DOUBLE:
+                        accums[i].pushDouble(((DoubleSeries) s).getDouble(pos));
+                        break;
+                    case SortRun.BOOL:
+                        accums[i].pushBool(((BooleanSeries) s).getBool(pos));
+                        break;
+                    default:
+                        ((ValueAccum<Object>) accums[i]).push(s.get(pos));
+                }
+            }
+        }
+
+        int size() {
+            return accums.length > 0 ? accums[0].size() : 0;
+        }
+
+        Series<?>[] toSeries() {
+            Series<?>[] series = new Series[accums.length];
+            for (int i = 0; i < accums.length; i++) {
+                series[i] = accums[i].toSeries();
+            }
+
+            return series;
+        }
+    }
+}
@@ -59,4 +59,46 @@ public class GroupBySorter {
 
         return new GroupBy(ungrouped, sorted, sorter);
     }
+
+    /**
+     * Produces a GroupBy with each group sorted and truncated to the first "n" rows, without fully sorting the
+     * groups.
+     *
+     * @param withTies if true, the rows equal to the last of the first "n" rows of the group are also included
+     * @since 1.0.0-M23
+     */
+    public GroupBy topN(int n, boolean withTies, Sorter... sorters) {
+
+        // unlike "head(n)", a negative "n" is not supported, regardless of whether there are sorters
+        if (n < 0) {
+            throw new IllegalArgumentException("'n' must be non-negative: " + n);
+        }
+
+        return sorters.length == 0
+                ? groupBy.head(n)
+                : topN(n, withTies, Comparators.of(groupBy.getSource(), sorters));
+    }
+
+    /**
+     * @since 1.0.0-M23
+     */
+    public GroupBy topN(int n, boolean withTies, IntComparator sorter) {
+
+        Objects.requireNonNull(sorter, "Null 'sorter'");
+
+        // checking upfront, as TopNSorter won't be called for an empty GroupBy
+        if (n < 0) {
+            throw new IllegalArgumentException("'n' must be non-negative: " + n);
+        }
+
+        DataFrame ungrouped = groupBy.getSource();
+        Map<Object, IntSeries> trimmed = new LinkedHashMap<>((int) (groupBy.size() / 0.75));
+
+        for (Object groupKey : groupBy.getGroupKeys()) {
+            IntSeries groupIndex = groupBy.getGroupIndex(groupKey);
+            trimmed.put(groupKey, TopNSorter.topN(sorter, groupIndex, n, withTies));
+        }
+
+        return new GroupBy(ungrouped, trimmed, sorter);
+    }
 }
@@ -0,0 +1,284 @@
+package org.dflib.sort;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.time.LocalDate;
+
+/**
+ * Builds comparators over precomputed "normalized" sort keys. For each row, the values of the sort columns are
+ * encoded into a compact sequence of bytes (stored as 64-bit words), whose unsigned lexicographic order is the same as
+ * the order of the rows per sort columns. Numbers and dates are encoded as fixed-width values with the sign bit
+ * flipped, Strings as a fixed-length prefix of their chars. Each nullable column segment is preceded by a null flag,
+ * and the segments of descending columns have all their bits inverted. Comparing two rows is then a loop over a few
+ * words instead of a chain of per-column comparators with virtual calls and <code>String.compareTo</code>.
+ *
+ * <p>String prefixes may not be enough to tell two values apart, so the encoding stops after the first String
+ * column, and the rows with equal keys are compared using the full comparator.</p>
+ *
+ * @since 1.0.0-M23
+ */
+class NormalizedKeySorter {
+
+    // the number of leading String chars included in the key
+    static final int STRING_PREFIX_CHARS = 8;
+
+    /**
+     * Returns true if the Series values can be encoded in normalized keys.
+     */
+    static boolean supports(Series<?> s) {
+
+        if (s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries) {
+            return true;
+        }
+
+        return objectType(s) != null;
+    }
+
+    /**
+     * Creates a comparator of row positions based on the normalized keys of the provided Series, each of which must be
+     * "supported" per {@link #supports(Series)}.
+     *
+     * @param fullComparator a comparator of all the sort columns, used to resolve the rows with equal normalized keys,
+     *                       if the keys do not fully encode the values
+     */
+    static IntComparator comparator(Series<?>[] keys, boolean[] ascending, IntComparator fullComparator) {
+
+        int len = keys[0].size();
+
+        // calculate the key layout, ending it with the first String column
+        int w = keys.length;
+        Class<?>[] types = new Class[w];
+        int bytes = 0;
+        int encoded = 0;
+        boolean exact = true;
+
+        while (encoded < w) {
+            Series<?> s = keys[encoded];
+            Class<?> type = type(s);
+            types[encoded] = type;
+            bytes += width(type) + (isPrimitive(s) ? 0 : 1);
+            encoded++;
+
+            if (type == String.class) {
+                exact = false;
+                break;
+            }
+        }
+
+        int wordsPerRow = (bytes + 7) >>> 3;
+        long[] words = new long[len * wordsPerRow];
+
+        KeyWriter writer = new KeyWriter(words, wordsPerRow);
+        for (int i = 0; i < encoded; i++) {
+            writer.writeColumn(keys[i], types[i], ascending[i]);
+        }
+
+        if (wordsPerRow == 1) {
+            return exact
+                    ? (r1, r2) -> Long.compareUnsigned(words[r1], words[r2])
+                    : (r1, r2) -> {
+                int c = Long.compareUnsigned(words[r1], words[r2]);
+                return c != 0 ? c : fullComparator.compare(r1, r2);
+            };
+        }
+
+        boolean exactKeys = exact;
+        return (r1, r2) -> {
+            int o1 = r1 * wordsPerRow;
+            int o2 = r2 * wordsPerRow;
+            for (int i = 0; i < wordsPerRow; i++) {
+                int c = Long.compareUnsigned(words[o1 + i], words[o2 + i]);
+                if (c != 0) {
+                    return c;
+                }
+            }
+
+            return exactKeys ? 0 : fullComparator.compare(r1, r2);
+        };
+    }
+
+    private static boolean isPrimitive(Series<?> s) {
+        return s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries;
+    }
+
+    private static Class<?> type(Series<?> s) {
+        if (s instanceof IntSeries) {
+            return Integer.class;
+        } else if (s instanceof LongSeries) {
+            return Long.class;
+        } else if (s instanceof DoubleSeries) {
+            return Double.class;
+        } else if (s instanceof BooleanSeries) {
+            return Boolean.class;
+        }
+
+        return objectType(s);
+    }
+
+    /**
+     * Returns the type of all non-null values in the Series if this is a type supported by the normalized keys, and
+     * null otherwise.
+     */
+    private static Class<?> objectType(Series<?> s) {
+
+        Class<?> type = null;
+        int len = s.size();
+        for (int i = 0; i < len; i++) {
+            Object v = s.get(i);
+            if (v == null) {
+                continue;
+            }
+
+            if (type == null) {
+                type = v.getClass();
+                if (width(type) < 0) {
+                    return null;
+                }
+            } else if (type != v.getClass()) {
+                return null;
+            }
+        }
+
+        // a column of all nulls is sorted as any other type
+        return type != null ? type : Boolean.class;
+    }
+
+    private static int width(Class<?> type) {
+        if (type == Integer.class) {
+            return 4;
+        } else if (type == Long.class || type == Double.class || type == LocalDate.class) {
+            return 8;
+        } else if (type == Boolean.class) {
+            return 1;
+        } else if (type == String.class) {
+            return STRING_PREFIX_CHARS * 2;
+        } else {
+            return -1;
+        }
+    }
+
+    private static class KeyWriter {
+
+        private final long[] words;
+        private final int wordsPerRow;
+
+        // the byte offset of the current column segment within the row key
+        private int offset;
+
+        KeyWriter(long[] words, int wordsPerRow) {
+            this.words = words;
+            this.wordsPerRow = wordsPerRow;
+        }
+
+        void writeColumn(Series<?> s, Class<?> type, boolean ascending) {
+
+            // inverting all the bits of the segment reverses the order, including the order of nulls
+            long flip = ascending ? 0L : -1L;
+            int len = s.size();
+            int width = width(type);
+
+            if (s instanceof IntSeries) {
+                IntSeries is = (IntSeries) s;
+                for (int r = 0; r < len; r++) {
+                    write(r, offset, (is.getInt(r) ^ Integer.MIN_VALUE) ^ flip, 4);
+                }
+            } else if (s instanceof LongSeries) {
+                LongSeries ls = (LongSeries) s;
+                for (int r = 0; r < len; r++) {
+                    write(r, offset, (ls.getLong(r) ^ Long.MIN_VALUE) ^ flip, 8);
+                }
+            } else if (s instanceof DoubleSeries) {
+                DoubleSeries ds = (DoubleSeries) s;
+                for (int r = 0; r < len; r++) {
+                    write(r, offset, doubleKey(ds.getDouble(r)) ^ flip, 8);
+                }
+            } else if (s instanceof BooleanSeries) {
+                BooleanSeries bs = (BooleanSeries) s;
+                for (int r = 0; r < len; r++) {
+                    write(r, offset, (bs.getBool(r) ? 1L : 0L) ^ flip, 1);
+                }
+            } else {
+
+                // the null flag byte goes first, with nulls placed after any value
+                for (int r = 0; r < len; r++) {
+                    Object v = s.get(r);
+                    if (v == null) {
+                        write(r, offset, 1L ^ flip, 1);
+
+                        // the rest of the segment is all zeros (or ones) for nulls
+                        if (!ascending) {
+                            fill(r, offset + 1, width);
+                        }
+                    } else {
+                        write(r, offset, flip, 1);
+                        writeValue(r, offset + 1, v, type, flip);
+                    }
+                }
+
+                offset++;
+            }
+
+            offset += width;
+        }
+
+        private void writeValue(int row, int offset, Object v, Class<?> type, long flip) {
+            if (type == Integer.class) {
+                write(row, offset, ((Integer) v ^ Integer.MIN_VALUE) ^ flip, 4);
+            } else if (type == Long.class) {
+                write(row, offset, ((Long) v ^ Long.MIN_VALUE) ^ flip, 8);
+            } else if (type == Double.class) {
+                write(row, offset, doubleKey((Double) v) ^ flip, 8);
+            } else if (type == LocalDate.class) {
+                write(row, offset, (((LocalDate) v).toEpochDay() ^ Long.MIN_VALUE) ^ flip, 8);
+            } else if (type == Boolean.class) {
+                write(row, offset, ((Boolean) v ? 1L : 0L) ^ flip, 1);
+            } else {
+                String str = (String) v;
+                int chars = Math.min(str.length(), STRING_PREFIX_CHARS);
+                for (int i = 0; i < chars; i++) {
+                    write(row, offset + i * 2, str.charAt(i) ^ flip, 2);
+                }
+
+                // pad short Strings with zeros (or ones), so that they are ordered before the longer ones
+                if (flip != 0L) {
+                    fill(row, offset + chars * 2, STRING_PREFIX_CHARS * 2 - chars * 2);
+                }
+            }
+        }
+
+        /**
+         * Writes the lower "bytes" bytes of the value at the byte offset within the row key, in the big-endian order.
+         */
+        private void write(int row, int offset, long value, int bytes) {
+            int base = row * wordsPerRow;
+            for (int i = bytes - 1; i >= 0; i--) {
+                long b = (value >>> (i * 8)) & 0xFFL;
+                int pos = offset + bytes - 1 - i;
+                words[base + (pos >>> 3)] |= b << (56 - 8 * (pos & 7));
+            }
+        }
+
+        private void fill(int row, int offset, int bytes) {
+            for (int i = 0; i < bytes; i++) {
+                write(row, offset + i, 0xFFL, 1);
+            }
+        }
+    }
+
+    private static long doubleKey(double v) {
+
+        // same as in RadixSorter, the order of the keys matches "Double.compare"
+        long bits = Double.doubleToLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,229 @@
+package org.dflib.sort;
+
+import org.dflib.Environment;
+import org.dflib.exec.ParallelTasks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.Future;
+
+/**
+ * A stable parallel merge sort of int arrays with a comparator, primitive arrays in the natural order, and object
+ * arrays with a comparator. The array is split into chunks sorted in parallel on {@link Environment#threadPool()}
+ * with {@link IntTimSort} or {@link Arrays#sort(int[], int, int)} and friends, and then the sorted chunks are merged
+ * pairwise, with the merges of each round also running in parallel.
+ *
+ * @since 1.0.0-M23
+ */
+class ParallelMergeSorter {
+
+    /**
+     * Returns true if an array of a given size should be sorted in parallel per current {@link Environment}
+     * settings.
+     */
+    static boolean shouldParallelize(int len) {
+        return ParallelTasks.shouldParallelize(len);
+    }
+
+    static void sort(int[] a, IntComparator c) {
+        sort(a, new int[a.length], a.length,
+                (from, to) -> IntTimSort.sort(a, from, to, c),
+                (src, dst, from, mid, to) -> merge(src, dst, from, mid, to, c));
+    }
+
+    /**
+     * Sorts the array in the natural order of values.
+     */
+    static void sort(int[] a) {
+        sort(a, new int[a.length], a.length, (from, to) -> Arrays.sort(a, from, to), ParallelMergeSorter::merge);
+    }
+
+    /**
+     * Sorts the array in the natural order of values.
+     */
+    static void sort(long[] a) {
+        sort(a, new long[a.length], a.length, (from, to) -> Arrays.sort(a, from, to), ParallelMergeSorter::merge);
+    }
+
+    /**
+     * Sorts the array in the order of {@link Double#compare(double, double)}, same as {@link Arrays#sort(double[])}.
+     */
+    static void sort(double[] a) {
+        sort(a, new double[a.length], a.length, (from, to) -> Arrays.sort(a, from, to), ParallelMergeSorter::merge);
+    }
+
+    static <T> void sort(T[] a, Comparator<? super T> c) {
+        sort(a, (T[]) new Object[a.length], a.length,
+                (from, to) -> Arrays.sort(a, from, to, c),
+                (src, dst, from, mid, to) -> merge(src, dst, from, mid, to, c));
+    }
+
+    /**
+     * A generic sort over an array of any type with a buffer of the same type and size. Chunks of the array are sorted
+     * in parallel, and then merged in rounds, alternating between the array and the buffer.
+     */
+    private static <A> void sort(A a, A buffer, int len, ChunkSorter chunkSorter, Merger<A> merger) {
+
+        if (len < 2) {
+            return;
+        }
+
+        // the number of chunks is a power of 2, so that the merge rounds are balanced
+        int threads = ParallelTasks.threads();
+        int chunks = Integer.highestOneBit(Math.max(1, threads));
+        if (chunks < threads) {
+            chunks <<= 1;
+        }
+
+        int chunkSize = (len + chunks - 1) / chunks;
+
+        Future<?>[] tasks = new Future[chunks];
+        for (int i = 0; i < chunks; i++) {
+            int from = Math.min(len, i * chunkSize);
+            int to = Math.min(len, from + chunkSize);
+            tasks[i] = ParallelTasks.submit(() -> chunkSorter.sort(from, to));
+        }
+
+        ParallelTasks.join(tasks);
+
+        A src = a;
+        A dst = buffer;
+
+        for (int width = chunkSize; width < len; width *= 2) {
+
+            int merges = (len + 2 * width - 1) / (2 * width);
+            Future<?>[] mergeTasks = new Future[merges];
+
+            for (int i = 0; i < merges; i++) {
+                int from = i * 2 * width;
+                int mid = Math.min(len, from + width);
+                int to = Math.min(len, from + 2 * width);
+
+                A mSrc = src;
+                A mDst = dst;
+                mergeTasks[i] = ParallelTasks.submit(() -> merger.merge(mSrc, mDst, from, mid, to));
+            }
+
+            ParallelTasks.join(mergeTasks);
+
+            A swap = src;
+            src = dst;
+            dst = swap;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, len);
+        }
+    }
+
+    private static void merge(int[] src, int[] dst, int from, int mid, int to, IntComparator c) {
+
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        // skip the merge if the two ranges are already in order
+        if (mid == to || mid == from || c.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, from, dst, from, to - from);
+            return;
+        }
+
+        while (i < mid && j < to) {
+            // taking the left element on ties to preserve stability
+            dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else if (j < to) {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    private static <T> void merge(T[] src, T[] dst, int from, int mid, int to, Comparator<? super T> c) {
+
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        if (mid == to || mid == from || c.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, from, dst, from, to - from);
+            return;
+        }
+
+        while (i < mid && j < to) {
+            dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else if (j < to) {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    // stability doesn't matter for the primitive values sorted in their natural order, so the primitive merges are
+    // not concerned with the ties
+
+    private static void merge(int[] src, int[] dst, int from, int mid, int to) {
+
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        while (i < mid && j < to) {
+            dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else if (j < to) {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    private static void merge(long[] src, long[] dst, int from, int mid, int to) {
+
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        while (i < mid && j < to) {
+            dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else if (j < to) {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    private static void merge(double[] src, double[] dst, int from, int mid, int to) {
+
+        int i = from;
+        int j = mid;
+        int k = from;
+
+        // "Double.compare" instead of "<" to order -0.0 and NaN the same way as "Arrays.sort" does
+        while (i < mid && j < to) {
+            dst[k++] = Double.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        }
+
+        if (i < mid) {
+            System.arraycopy(src, i, dst, k, mid - i);
+        } else if (j < to) {
+            System.arraycopy(src, j, dst, k, to - j);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkSorter {
+        void sort(int from, int to);
+    }
+
+    @FunctionalInterface
+    private interface Merger<A> {
+        void merge(A src, A dst, int from, int mid, int to);
+    }
+}
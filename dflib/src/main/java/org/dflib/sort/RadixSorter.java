@@ -0,0 +1,236 @@
+package org.dflib.sort;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.time.LocalDate;
+
+/**
+ * A stable LSD (least significant digit) radix sort of row indices by one or more numeric or date sort keys. Each key
+ * value is normalized to a 64-bit unsigned integer, whose natural order is the same as the order of the original
+ * values, so the rows can be sorted with a fixed number of linear counting passes instead of comparisons. Multiple
+ * keys are processed from the least to the most significant one, relying on the stability of each pass. Nulls are
+ * placed last for ascending keys, and first for descending keys, same as {@link Comparators#of(Series, boolean)}.
+ *
+ * @since 1.0.0-M23
+ */
+class RadixSorter {
+
+    private static final int DIGIT_BITS = 8;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+
+    /**
+     * Returns true if the Series values can be converted to normalized radix sort keys.
+     */
+    static boolean supports(Series<?> s) {
+
+        if (s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries) {
+            return true;
+        }
+
+        // Object Series are supported if all the non-null values are of the same supported type
+        Class<?> type = null;
+        int len = s.size();
+        for (int i = 0; i < len; i++) {
+            Object v = s.get(i);
+            if (v == null) {
+                continue;
+            }
+
+            if (type == null) {
+                type = v.getClass();
+                if (type != Integer.class && type != Long.class && type != Double.class && type != LocalDate.class) {
+                    return false;
+                }
+            } else if (type != v.getClass()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sorts the index in place per provided sort keys, each of which must be "supported" per
+     * {@link #supports(Series)}.
+     */
+    static void sort(Series<?>[] keys, boolean[] ascending, int[] index) {
+
+        int len = index.length;
+        long[] k = new long[len];
+        long[] kBuffer = new long[len];
+        int[] iBuffer = new int[len];
+
+        for (int i = keys.length - 1; i >= 0; i--) {
+            boolean hasNulls = fillKeys(keys[i], ascending[i], index, k);
+            sortByKeys(k, index, kBuffer, iBuffer);
+
+            if (hasNulls) {
+                partitionNulls(keys[i], ascending[i], index, iBuffer);
+            }
+        }
+    }
+
+    /**
+     * Fills the keys array with normalized keys of the rows in the index order. Returns true if there are nulls in
+     * the Series.
+     */
+    private static boolean fillKeys(Series<?> s, boolean ascending, int[] index, long[] keys) {
+
+        // normalizing the values so that the order of the unsigned 64-bit keys is the same as the values order.
+        // Descending order is achieved by inverting all the bits.
+        long flip = ascending ? 0L : -1L;
+        int len = index.length;
+
+        if (s instanceof IntSeries) {
+            IntSeries is = (IntSeries) s;
+            for (int i = 0; i < len; i++) {
+                keys[i] = intKey(is.getInt(index[i])) ^ flip;
+            }
+
+            return false;
+        } else if (s instanceof LongSeries) {
+            LongSeries ls = (LongSeries) s;
+            for (int i = 0; i < len; i++) {
+                keys[i] = longKey(ls.getLong(index[i])) ^ flip;
+            }
+
+            return false;
+        } else if (s instanceof DoubleSeries) {
+            DoubleSeries ds = (DoubleSeries) s;
+            for (int i = 0; i < len; i++) {
+                keys[i] = doubleKey(ds.getDouble(index[i])) ^ flip;
+            }
+
+            return false;
+        } else if (s instanceof BooleanSeries) {
+            BooleanSeries bs = (BooleanSeries) s;
+            for (int i = 0; i < len; i++) {
+                keys[i] = (bs.getBool(index[i]) ? 1L : 0L) ^ flip;
+            }
+
+            return false;
+        }
+
+        boolean hasNulls = false;
+        for (int i = 0; i < len; i++) {
+            Object v = s.get(index[i]);
+
+            if (v == null) {
+                // any value would do, as the nulls will be moved to one end of the index after the value sort
+                keys[i] = 0L;
+                hasNulls = true;
+            } else if (v instanceof Integer) {
+                keys[i] = intKey((Integer) v) ^ flip;
+            } else if (v instanceof Long) {
+                keys[i] = longKey((Long) v) ^ flip;
+            } else if (v instanceof Double) {
+                keys[i] = doubleKey((Double) v) ^ flip;
+            } else {
+                keys[i] = longKey(((LocalDate) v).toEpochDay()) ^ flip;
+            }
+        }
+
+        return hasNulls;
+    }
+
+    private static long intKey(int v) {
+        return (v ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    private static long longKey(long v) {
+        return v ^ Long.MIN_VALUE;
+    }
+
+    private static long doubleKey(double v) {
+
+        // "doubleToLongBits" collapses all NaNs into a single canonical NaN, and its order (after flipping the bits
+        // of the negative numbers) matches "Double.compare"
+        long bits = Double.doubleToLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    private static void sortByKeys(long[] keys, int[] index, long[] kBuffer, int[] iBuffer) {
+
+        int len = index.length;
+
+        // calculate the histograms of all the digits in a single pass
+        int[][] counts = new int[DIGITS][BUCKETS];
+        for (int i = 0; i < len; i++) {
+            long k = keys[i];
+            for (int d = 0; d < DIGITS; d++) {
+                counts[d][(int) (k >>> (d * DIGIT_BITS)) & (BUCKETS - 1)]++;
+            }
+        }
+
+        long[] kFrom = keys;
+        int[] iFrom = index;
+        long[] kTo = kBuffer;
+        int[] iTo = iBuffer;
+
+        for (int d = 0; d < DIGITS; d++) {
+
+            int shift = d * DIGIT_BITS;
+            int[] c = counts[d];
+
+            // skip the digits that are the same for all the keys. E.g., the upper half of "int" keys
+            if (c[(int) (kFrom[0] >>> shift) & (BUCKETS - 1)] == len) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int count = c[b];
+                c[b] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < len; i++) {
+                long k = kFrom[i];
+                int pos = c[(int) (k >>> shift) & (BUCKETS - 1)]++;
+                kTo[pos] = k;
+                iTo[pos] = iFrom[i];
+            }
+
+            long[] kSwap = kFrom;
+            kFrom = kTo;
+            kTo = kSwap;
+
+            int[] iSwap = iFrom;
+            iFrom = iTo;
+            iTo = iSwap;
+        }
+
+        if (iFrom != index) {
+            System.arraycopy(iFrom, 0, index, 0, len);
+        }
+    }
+
+    private static void partitionNulls(Series<?> s, boolean ascending, int[] index, int[] buffer) {
+
+        // a stable partition. Nulls go last for the ascending order and first for the descending
+        int len = index.length;
+        int pos = 0;
+
+        for (int i = 0; i < len; i++) {
+            if ((s.get(index[i]) == null) != ascending) {
+                buffer[pos++] = index[i];
+            }
+        }
+
+        for (int i = 0; i < len; i++) {
+            if ((s.get(index[i]) == null) == ascending) {
+                buffer[pos++] = index[i];
+            }
+        }
+
+        System.arraycopy(buffer, 0, index, 0, len);
+    }
+}
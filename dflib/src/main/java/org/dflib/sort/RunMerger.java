@@ -0,0 +1,172 @@
+package org.dflib.sort;
+
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * A k-way merge of sorted runs. Keeps a single block of rows per run in memory, and a heap of runs ordered by their
+ * current rows. The rows are compared by the sort key columns stored in the runs after the data columns. Equal rows
+ * are taken from the runs in the order of runs, so the merge is stable.
+ *
+ * @since 1.0.0-M23
+ */
+class RunMerger implements Closeable {
+
+    private final int keyOffset;
+    private final boolean[] ascending;
+
+    private final Cursor[] heap;
+    private int size;
+    private Cursor last;
+
+    /**
+     * @param width     the total number of columns in the runs, including the key columns
+     * @param keyOffset the position of the first key column
+     */
+    RunMerger(List<SortRun> runs, int width, int keyOffset, boolean[] ascending) {
+
+        this.keyOffset = keyOffset;
+        this.ascending = ascending;
+        this.heap = new Cursor[runs.size()];
+
+        try {
+            for (int i = 0; i < heap.length; i++) {
+                Cursor c = new Cursor(i, runs.get(i).open(), width);
+                if (c.block != null) {
+                    heap[size++] = c;
+                } else {
+                    c.reader.close();
+                }
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Returns a cursor positioned on the next row in the sort order, or null if all the runs are exhausted. The
+     * returned cursor is only valid until the next call to this method.
+     */
+    Cursor next() {
+
+        if (last != null) {
+            if (last.advance()) {
+                siftDown(0);
+            } else {
+                last.reader.close();
+                heap[0] = heap[--size];
+                heap[size] = null;
+                siftDown(0);
+            }
+        }
+
+        last = size > 0 ? heap[0] : null;
+        return last;
+    }
+
+    @Override
+    public void close() {
+        for (int i = 0; i < size; i++) {
+            heap[i].reader.close();
+        }
+
+        size = 0;
+    }
+
+    private void siftDown(int i) {
+
+        if (size == 0) {
+            return;
+        }
+
+        Cursor c = heap[i];
+        int half = size >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+
+            if (right < size && compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+
+            if (compare(c, heap[child]) <= 0) {
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = c;
+    }
+
+    private int compare(Cursor c1, Cursor c2) {
+
+        for (int i = 0; i < ascending.length; i++) {
+            Series<?> k1 = c1.block[keyOffset + i];
+            Series<?> k2 = c2.block[keyOffset + i];
+
+            int c = ascending[i]
+                    ? compare(k1, c1.pos, k2, c2.pos)
+                    : compare(k2, c2.pos, k1, c1.pos);
+
+            if (c != 0) {
+                return c;
+            }
+        }
+
+        return Integer.compare(c1.run, c2.run);
+    }
+
+    // same semantics as "Comparators.of(Series, boolean)", but comparing values from two different Series
+    private static int compare(Series<?> s1, int p1, Series<?> s2, int p2) {
+
+        if (s1 instanceof IntSeries && s2 instanceof IntSeries) {
+            return Integer.compare(((IntSeries) s1).getInt(p1), ((IntSeries) s2).getInt(p2));
+        } else if (s1 instanceof LongSeries && s2 instanceof LongSeries) {
+            return Long.compare(((LongSeries) s1).getLong(p1), ((LongSeries) s2).getLong(p2));
+        } else if (s1 instanceof DoubleSeries && s2 instanceof DoubleSeries) {
+            return Double.compare(((DoubleSeries) s1).getDouble(p1), ((DoubleSeries) s2).getDouble(p2));
+        }
+
+        return Comparators.nullsLastCompare((Comparable) s1.get(p1), (Comparable) s2.get(p2));
+    }
+
+    static class Cursor {
+
+        private final int run;
+        private final SortRun.Reader reader;
+        private final int width;
+
+        Series<?>[] block;
+        int pos;
+
+        Cursor(int run, SortRun.Reader reader, int width) {
+            this.run = run;
+            this.reader = reader;
+            this.width = width;
+            this.block = reader.read(width);
+        }
+
+        boolean advance() {
+            if (++pos < block[0].size()) {
+                return true;
+            }
+
+            pos = 0;
+            block = reader.read(width);
+            return block != null;
+        }
+    }
+}
@@ -29,10 +29,61 @@ public class SeriesSorter<T> {
         return rn;
     }
 
+    /**
+     * Sorts an int array in place in the natural order of values. Large arrays are sorted in parallel.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void sort(int[] a) {
+        if (ParallelMergeSorter.shouldParallelize(a.length)) {
+            ParallelMergeSorter.sort(a);
+        } else {
+            Arrays.sort(a);
+        }
+    }
+
+    /**
+     * Sorts an int array in place using a comparator. The sort is stable. Large arrays are sorted in parallel.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void sort(int[] a, IntComparator comparator) {
+        if (ParallelMergeSorter.shouldParallelize(a.length)) {
+            ParallelMergeSorter.sort(a, comparator);
+        } else {
+            IntTimSort.sort(a, comparator);
+        }
+    }
+
+    /**
+     * Sorts a long array in place in the natural order of values. Large arrays are sorted in parallel.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void sort(long[] a) {
+        if (ParallelMergeSorter.shouldParallelize(a.length)) {
+            ParallelMergeSorter.sort(a);
+        } else {
+            Arrays.sort(a);
+        }
+    }
+
+    /**
+     * Sorts a double array in place in the same order as {@link Arrays#sort(double[])}. Large arrays are sorted in
+     * parallel.
+     *
+     * @since 1.0.0-M23
+     */
+    public static void sort(double[] a) {
+        if (ParallelMergeSorter.shouldParallelize(a.length)) {
+            ParallelMergeSorter.sort(a);
+        } else {
+            Arrays.sort(a);
+        }
+    }
+
     public IntSeries sortIndex(IntComparator comparator) {
-        int[] mutableIndex = SeriesSorter.rowNumberSequence(s.size());
-        IntTimSort.sort(mutableIndex, comparator);
-        return new IntArraySeries(mutableIndex);
+        return DataFrameSorter.sort(comparator, s.size());
     }
 
     public IntSeries sortIndex(Comparator<? super T> comparator) {
@@ -55,7 +106,13 @@ public class SeriesSorter<T> {
         int size = s.size();
         T[] sorted = (T[]) new Object[size];
         s.copyTo(sorted, 0, 0, size);
-        Arrays.sort(sorted, comparator);
+
+        if (ParallelMergeSorter.shouldParallelize(size)) {
+            ParallelMergeSorter.sort(sorted, comparator);
+        } else {
+            Arrays.sort(sorted, comparator);
+        }
+
         return new ArraySeries<>(sorted);
     }
 }
@@ -0,0 +1,438 @@
+package org.dflib.sort;
+
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.IntSeries;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A sorted "run" of rows spilled to a temporary file by {@link ExternalSorter}. The rows are stored as a sequence of
+ * blocks, each one encoded by column: primitive columns as raw fixed-width values, and object columns as a sequence of
+ * values, each prefixed with a type tag. Common value types (Strings, numbers, dates) have compact custom encodings,
+ * and any other values are stored with Java serialization. As run files are placed in a shared temporary directory,
+ * deserialization is restricted to the classes the writer of the run has serialized.
+ *
+ * @since 1.0.0-M23
+ */
+class SortRun {
+
+    // column kinds
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOL = 4;
+    static final byte OBJECT = 5;
+
+    // object value tags
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER_VALUE = 2;
+    private static final byte LONG_VALUE = 3;
+    private static final byte DOUBLE_VALUE = 4;
+    private static final byte BOOLEAN_VALUE = 5;
+    private static final byte LOCAL_DATE = 6;
+    private static final byte LOCAL_DATE_TIME = 7;
+    private static final byte LOCAL_TIME = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte SERIALIZED = 10;
+
+    private final Path file;
+    private final int height;
+    private final Set<Class<?>> serializedClasses;
+
+    SortRun(Path file, int height, Set<Class<?>> serializedClasses) {
+        this.file = file;
+        this.height = height;
+        this.serializedClasses = serializedClasses;
+    }
+
+    static byte kind(Series<?> s) {
+        if (s instanceof IntSeries) {
+            return INT;
+        } else if (s instanceof LongSeries) {
+            return LONG;
+        } else if (s instanceof DoubleSeries) {
+            return DOUBLE;
+        } else if (s instanceof BooleanSeries) {
+            return BOOL;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    static Writer create(Path tempDir) {
+        try {
+            Path file = Files.createTempFile(tempDir, "dflib-sort-", ".run");
+            return new Writer(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Error creating a sort run file in " + tempDir + ": " + e.getMessage(), e);
+        }
+    }
+
+    int height() {
+        return height;
+    }
+
+    Reader open() {
+        try {
+            return new Reader(new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16)));
+        } catch (IOException e) {
+            throw new RuntimeException("Error opening a sort run file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting a sort run file " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    static class Writer implements Closeable {
+
+        private final Path file;
+        private final DataOutputStream out;
+        private final Set<Class<?>> serializedClasses;
+        private int height;
+
+        Writer(Path file) throws IOException {
+            this.file = file;
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+            this.serializedClasses = new HashSet<>();
+        }
+
+        /**
+         * Appends a block of rows to the run. All the columns must be of the same size.
+         */
+        void write(Series<?>[] columns) {
+
+            int h = columns[0].size();
+            if (h == 0) {
+                return;
+            }
+
+            try {
+                out.writeInt(h);
+                for (Series<?> c : columns) {
+                    writeColumn(c, h);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Error writing a sort run file " + file + ": " + e.getMessage(), e);
+            }
+
+            height += h;
+        }
+
+        /**
+         * Completes the run, returning a readable {@link SortRun}.
+         */
+        SortRun finish() {
+            try {
+                // a zero-size block is the end of the run
+                out.writeInt(0);
+                out.close();
+            } catch (IOException e) {
+                throw new RuntimeException("Error writing a sort run file " + file + ": " + e.getMessage(), e);
+            }
+
+            return new SortRun(file, height, serializedClasses);
+        }
+
+        /**
+         * Closes the writer, deleting the file. Intended for abandoning unfinished runs on errors.
+         */
+        @Override
+        public void close() {
+            try {
+                out.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new RuntimeException("Error deleting a sort run file " + file + ": " + e.getMessage(), e);
+            }
+        }
+
+        private void writeColumn(Series<?> s, int h) throws IOException {
+
+            byte kind = kind(s);
+            out.writeByte(kind);
+
+            switch (kind) {
+                case INT:
+                    IntSeries is = (IntSeries) s;
+                    for (int i = 0; i < h; i++) {
+                        out.writeInt(is.getInt(i));
+                    }
+                    break;
+                case LONG:
+                    LongSeries ls = (LongSeries) s;
+                    for (int i = 0; i < h; i++) {
+                        out.writeLong(ls.getLong(i));
+                    }
+                    break;
+                case DOUBLE:
+                    DoubleSeries ds = (DoubleSeries) s;
+                    for (int i = 0; i < h; i++) {
+                        out.writeDouble(ds.getDouble(i));
+                    }
+                    break;
+                case BOOL:
+
+                    // pack 8 values per byte
+                    BooleanSeries bs = (BooleanSeries) s;
+                    for (int i = 0; i < h; i += 8) {
+                        int b = 0;
+                        int to = Math.min(h, i + 8);
+                        for (int j = i; j < to; j++) {
+                            if (bs.getBool(j)) {
+                                b |= 1 << (j - i);
+                            }
+                        }
+
+                        out.writeByte(b);
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < h; i++) {
+                        writeValue(s.get(i));
+                    }
+            }
+        }
+
+        private void writeValue(Object v) throws IOException {
+
+            if (v == null) {
+                out.writeByte(NULL);
+            } else if (v instanceof String) {
+                byte[] bytes = ((String) v).getBytes(StandardCharsets.UTF_8);
+                out.writeByte(STRING);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            } else if (v instanceof Integer) {
+                out.writeByte(INTEGER_VALUE);
+                out.writeInt((Integer) v);
+            } else if (v instanceof Long) {
+                out.writeByte(LONG_VALUE);
+                out.writeLong((Long) v);
+            } else if (v instanceof Double) {
+                out.writeByte(DOUBLE_VALUE);
+                out.writeDouble((Double) v);
+            } else if (v instanceof Boolean) {
+                out.writeByte(BOOLEAN_VALUE);
+                out.writeBoolean((Boolean) v);
+            } else if (v instanceof LocalDate) {
+                out.writeByte(LOCAL_DATE);
+                out.writeLong(((LocalDate) v).toEpochDay());
+            } else if (v instanceof LocalDateTime) {
+                LocalDateTime dt = (LocalDateTime) v;
+                out.writeByte(LOCAL_DATE_TIME);
+                out.writeLong(dt.toLocalDate().toEpochDay());
+                out.writeLong(dt.toLocalTime().toNanoOfDay());
+            } else if (v instanceof LocalTime) {
+                out.writeByte(LOCAL_TIME);
+                out.writeLong(((LocalTime) v).toNanoOfDay());
+            } else if (v instanceof BigDecimal) {
+                byte[] bytes = v.toString().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(BIG_DECIMAL);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            } else {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ClassRecordingOutputStream(bytes, serializedClasses)) {
+                    oos.writeObject(v);
+                }
+
+                out.writeByte(SERIALIZED);
+                out.writeInt(bytes.size());
+                bytes.writeTo(out);
+            }
+        }
+    }
+
+    class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private boolean done;
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads the next block of rows from the run, returning null if there are no more blocks.
+         */
+        Series<?>[] read(int width) {
+
+            if (done) {
+                return null;
+            }
+
+            try {
+                int h = in.readInt();
+                if (h == 0) {
+                    done = true;
+                    return null;
+                }
+
+                Series<?>[] columns = new Series[width];
+                for (int i = 0; i < width; i++) {
+                    columns[i] = readColumn(h);
+                }
+
+                return columns;
+            } catch (IOException | ClassNotFoundException e) {
+                throw new RuntimeException("Error reading a sort run file " + file + ": " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new RuntimeException("Error closing a sort run file " + file + ": " + e.getMessage(), e);
+            }
+        }
+
+        private Series<?> readColumn(int h) throws IOException, ClassNotFoundException {
+
+            byte kind = in.readByte();
+            switch (kind) {
+                case INT:
+                    int[] ints = new int[h];
+                    for (int i = 0; i < h; i++) {
+                        ints[i] = in.readInt();
+                    }
+                    return Series.ofInt(ints);
+                case LONG:
+                    long[] longs = new long[h];
+                    for (int i = 0; i < h; i++) {
+                        longs[i] = in.readLong();
+                    }
+                    return Series.ofLong(longs);
+                case DOUBLE:
+                    double[] doubles = new double[h];
+                    for (int i = 0; i < h; i++) {
+                        doubles[i] = in.readDouble();
+                    }
+                    return Series.ofDouble(doubles);
+                case BOOL:
+                    boolean[] bools = new boolean[h];
+                    for (int i = 0; i < h; i += 8) {
+                        int b = in.readUnsignedByte();
+                        int to = Math.min(h, i + 8);
+                        for (int j = i; j < to; j++) {
+                            bools[j] = (b & (1 << (j - i))) != 0;
+                        }
+                    }
+                    return Series.ofBool(bools);
+                case OBJECT:
+                    Object[] objects = new Object[h];
+                    for (int i = 0; i < h; i++) {
+                        objects[i] = readValue();
+                    }
+                    return Series.of(objects);
+                default:
+                    throw new IOException("Unexpected column kind: " + kind);
+            }
+        }
+
+        private Object readValue() throws IOException, ClassNotFoundException {
+
+            byte tag = in.readByte();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case STRING:
+                    return new String(readBytes(), StandardCharsets.UTF_8);
+                case INTEGER_VALUE:
+                    return in.readInt();
+                case LONG_VALUE:
+                    return in.readLong();
+                case DOUBLE_VALUE:
+                    return in.readDouble();
+                case BOOLEAN_VALUE:
+                    return in.readBoolean();
+                case LOCAL_DATE:
+                    return LocalDate.ofEpochDay(in.readLong());
+                case LOCAL_DATE_TIME:
+                    LocalDate date = LocalDate.ofEpochDay(in.readLong());
+                    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readLong()));
+                case LOCAL_TIME:
+                    return LocalTime.ofNanoOfDay(in.readLong());
+                case BIG_DECIMAL:
+                    return new BigDecimal(new String(readBytes(), StandardCharsets.UTF_8));
+                case SERIALIZED:
+                    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes()))) {
+                        ois.setObjectInputFilter(this::checkSerializedClass);
+                        return ois.readObject();
+                    }
+                default:
+                    throw new IOException("Unexpected value tag: " + tag);
+            }
+        }
+
+        private ObjectInputFilter.Status checkSerializedClass(ObjectInputFilter.FilterInfo info) {
+            Class<?> type = info.serialClass();
+            if (type == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+
+            return serializedClasses.contains(type)
+                    ? ObjectInputFilter.Status.ALLOWED
+                    : ObjectInputFilter.Status.REJECTED;
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Records the classes of all the objects written to the stream, including the nested ones.
+     */
+    private static class ClassRecordingOutputStream extends ObjectOutputStream {
+
+        private final Set<Class<?>> classes;
+
+        ClassRecordingOutputStream(OutputStream out, Set<Class<?>> classes) throws IOException {
+            super(out);
+            this.classes = classes;
+        }
+
+        @Override
+        protected void annotateClass(Class<?> cl) {
+            classes.add(cl);
+        }
+
+        @Override
+        protected void annotateProxyClass(Class<?> cl) throws IOException {
+            throw new IOException("Can't store a proxy instance in a sort run: " + cl.getName());
+        }
+    }
+}
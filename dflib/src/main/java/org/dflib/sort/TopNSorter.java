@@ -0,0 +1,123 @@
+package org.dflib.sort;
+
+import org.dflib.IntSeries;
+import org.dflib.series.IntArraySeries;
+
+/**
+ * Selects the first "n" rows in the order defined by a comparator without sorting the entire range. The candidates
+ * are kept in a bounded heap, so the complexity is <code>O(len * log(n))</code> instead of
+ * <code>O(len * log(len))</code> of a full sort. The result is the same as sorting the range and taking its head,
+ * i.e. the rows are in the sort order, and the equal rows preserve their relative order from the range.
+ *
+ * @since 1.0.0-M23
+ */
+public class TopNSorter {
+
+    private static final int[] EMPTY = new int[0];
+
+    public static IntSeries topN(IntComparator comparator, int height, int n, boolean withTies) {
+        return topN(comparator, new IntArraySeries(SeriesSorter.rowNumberSequence(height)), n, withTies);
+    }
+
+    /**
+     * Returns the first "n" rows of the range per comparator order.
+     *
+     * @param withTies if true, the rows that are equal to the last of the first "n" rows are also included in the
+     *                 result. This matches the "rank()" window function semantics, i.e. all the rows whose rank is
+     *                 less than or equal to "n" are returned.
+     */
+    public static IntSeries topN(IntComparator comparator, IntSeries range, int n, boolean withTies) {
+
+        if (n < 0) {
+            throw new IllegalArgumentException("'n' must be non-negative: " + n);
+        }
+
+        int len = range.size();
+        if (n == 0 || len == 0) {
+            return new IntArraySeries(EMPTY);
+        }
+
+        if (n >= len) {
+            return DataFrameSorter.sort(comparator, range);
+        }
+
+        // operating on positions in the range, resolving the equal rows by position, so that the order is stable
+        IntComparator byPosition = (p1, p2) -> {
+            int c = comparator.compare(range.getInt(p1), range.getInt(p2));
+            return c != 0 ? c : Integer.compare(p1, p2);
+        };
+
+        // a "max" heap of positions, with the last of the top rows at the root
+        int[] heap = new int[n];
+        for (int i = 0; i < n; i++) {
+            heap[i] = i;
+        }
+
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, i, n, byPosition);
+        }
+
+        for (int p = n; p < len; p++) {
+
+            // an equal row that comes later in the range is never better than the one already in the heap
+            if (comparator.compare(range.getInt(p), range.getInt(heap[0])) < 0) {
+                heap[0] = p;
+                siftDown(heap, 0, n, byPosition);
+            }
+        }
+
+        int last = heap[0];
+        int lastRow = range.getInt(last);
+
+        // the positions that are equal to the last top row and are not in the heap can only follow it in the range
+        int ties = 0;
+        if (withTies) {
+            for (int p = last + 1; p < len; p++) {
+                if (comparator.compare(range.getInt(p), lastRow) == 0) {
+                    ties++;
+                }
+            }
+        }
+
+        IntTimSort.sort(heap, byPosition);
+
+        int[] index = new int[n + ties];
+        for (int i = 0; i < n; i++) {
+            index[i] = range.getInt(heap[i]);
+        }
+
+        // the ties are already in the range order, and are placed after all the heap rows
+        for (int p = last + 1, i = n; i < n + ties; p++) {
+            int row = range.getInt(p);
+            if (comparator.compare(row, lastRow) == 0) {
+                index[i++] = row;
+            }
+        }
+
+        return new IntArraySeries(index);
+    }
+
+    private static void siftDown(int[] heap, int i, int len, IntComparator comparator) {
+
+        int v = heap[i];
+        int half = len >>> 1;
+
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+
+            if (right < len && comparator.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+
+            if (comparator.compare(v, heap[child]) >= 0) {
+                break;
+            }
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        heap[i] = v;
+    }
+}
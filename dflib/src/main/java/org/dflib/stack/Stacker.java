@@ -1,15 +1,20 @@
 package org.dflib.stack;
 
+import org.dflib.BooleanSeries;
 import org.dflib.ColumnDataFrame;
 import org.dflib.DataFrame;
+import org.dflib.DoubleSeries;
 import org.dflib.Index;
 import org.dflib.IntSeries;
+import org.dflib.LongSeries;
 import org.dflib.Series;
 import org.dflib.concat.SeriesConcat;
 import org.dflib.series.IndexedSeries;
 import org.dflib.series.IntSequenceSeries;
 import org.dflib.series.SingleValueSeries;
 
+import java.util.Arrays;
+
 public class Stacker {
 
     private static final String ROW_LABEL = "row";
@@ -19,21 +24,31 @@ public class Stacker {
     public static DataFrame stackExcludeNulls(DataFrame df) {
         Index columnsIndex = df.getColumnsIndex();
         int w = columnsIndex.size();
+        int h = df.height();
 
         IntSeries[] rows = new IntSeries[w];
         Series<String>[] columns = new Series[w];
-        Series<Object>[] values = new Series[w];
+        Series<?>[] values = new Series[w];
 
         for (int i = 0; i < w; i++) {
-            rows[i] = df.getColumn(i).index(v -> v != null);
+            Series<?> column = df.getColumn(i);
+
+            // primitive Series have no nulls, so there's no need to check (and box) their values
+            if (isPrimitive(column)) {
+                rows[i] = new IntSequenceSeries(0, h);
+                values[i] = column;
+            } else {
+                rows[i] = column.index(v -> v != null);
+                values[i] = new IndexedSeries<>(column, rows[i]);
+            }
+
             columns[i] = new SingleValueSeries<>(columnsIndex.get(i), rows[i].size());
-            values[i] = new IndexedSeries<>(df.getColumn(i), rows[i]);
         }
 
         return new ColumnDataFrame(null, Index.of(ROW_LABEL, COLUMN_LABEL, VALUE_LABEL),
                 SeriesConcat.intConcat(rows),
                 SeriesConcat.concat(columns),
-                SeriesConcat.concat(values)
+                valuesConcat(values)
         );
     }
 
@@ -45,7 +60,7 @@ public class Stacker {
 
         IntSeries[] rows = new IntSeries[w];
         Series<String>[] columns = new Series[w];
-        Series<Object>[] values = new Series[w];
+        Series<?>[] values = new Series[w];
 
         for (int i = 0; i < w; i++) {
             rows[i] = sequence;
@@ -56,7 +71,51 @@ public class Stacker {
         return new ColumnDataFrame(null, Index.of(ROW_LABEL, COLUMN_LABEL, VALUE_LABEL),
                 SeriesConcat.intConcat(rows),
                 SeriesConcat.concat(columns),
-                SeriesConcat.concat(values)
+                valuesConcat(values)
         );
     }
+
+    /**
+     * An inverse of the "stack" operation. Takes a DataFrame with "row", "column" and "value" columns, and produces
+     * a DataFrame with a column per distinct "column" value (in the order of their first appearance) and a row per
+     * distinct "row" value (in the ascending order of "row"). The cells with no matching "value" are filled with nulls.
+     * A column whose cells are all present and share the same primitive type is stored as a primitive Series.
+     *
+     * @since 1.0.0-M23
+     */
+    public static DataFrame unstack(DataFrame df) {
+        return df.pivot()
+                .cols(COLUMN_LABEL)
+                .rows(ROW_LABEL)
+                .vals(VALUE_LABEL)
+                .sort(ROW_LABEL, true)
+                .colsExcept(ROW_LABEL).select();
+    }
+
+    private static boolean isPrimitive(Series<?> s) {
+        return s instanceof IntSeries
+                || s instanceof LongSeries
+                || s instanceof DoubleSeries
+                || s instanceof BooleanSeries;
+    }
+
+    /**
+     * Concatenates the values, producing a primitive Series if all the values Series are primitive of the same type.
+     */
+    private static Series<?> valuesConcat(Series<?>[] values) {
+
+        int w = values.length;
+
+        if (w > 0 && Arrays.stream(values).allMatch(v -> v instanceof IntSeries)) {
+            return SeriesConcat.intConcat(Arrays.copyOf(values, w, IntSeries[].class));
+        } else if (w > 0 && Arrays.stream(values).allMatch(v -> v instanceof LongSeries)) {
+            return SeriesConcat.longConcat(Arrays.copyOf(values, w, LongSeries[].class));
+        } else if (w > 0 && Arrays.stream(values).allMatch(v -> v instanceof DoubleSeries)) {
+            return SeriesConcat.doubleConcat(Arrays.copyOf(values, w, DoubleSeries[].class));
+        } else if (w > 0 && Arrays.stream(values).allMatch(v -> v instanceof BooleanSeries)) {
+            return SeriesConcat.boolConcat(Arrays.copyOf(values, w, BooleanSeries[].class));
+        }
+
+        return SeriesConcat.concat((Series<Object>[]) values);
+    }
 }
@@ -3,6 +3,7 @@ package org.dflib.window;
 import org.dflib.DataFrame;
 import org.dflib.IntSeries;
 import org.dflib.Series;
+import org.dflib.agg.GroupBatches;
 import org.dflib.series.IntSingleValueSeries;
 import org.dflib.sort.DataFrameSorter;
 import org.dflib.sort.IntComparator;
@@ -33,24 +34,30 @@ public class Ranker {
 
     public IntSeries rank(DataFrame dataFrame, Collection<IntSeries> partitionsIndex) {
 
-        int[] rank = new int[dataFrame.height()];
+        int h = dataFrame.height();
+        int[] rank = new int[h];
         RankResolver resolver = createRankResolver(dataFrame, rank);
+        IntSeries[] partitions = partitionsIndex.toArray(new IntSeries[0]);
 
-        for (IntSeries s : partitionsIndex) {
+        // ranks only depend on the preceding rows of the same partition, so the partitions can be processed in parallel
+        GroupBatches.run(h, partitions.length, (from, to) -> {
+            for (int p = from; p < to; p++) {
 
-            int len = s.size();
-            for (int i = 0; i < len; i++) {
+                IntSeries s = partitions[p];
+                int len = s.size();
+                for (int i = 0; i < len; i++) {
 
-                int row = s.getInt(i);
+                    int row = s.getInt(i);
 
-                if (i == 0) {
-                    rank[row] = 1;
-                } else {
-                    int prow = s.getInt(i - 1);
-                    rank[row] = resolver.resolve(i, row, prow);
+                    if (i == 0) {
+                        rank[row] = 1;
+                    } else {
+                        int prow = s.getInt(i - 1);
+                        rank[row] = resolver.resolve(i, row, prow);
+                    }
                 }
             }
-        }
+        });
 
         return Series.ofInt(rank);
     }
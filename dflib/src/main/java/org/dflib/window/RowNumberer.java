@@ -3,7 +3,7 @@ package org.dflib.window;
 import org.dflib.DataFrame;
 import org.dflib.IntSeries;
 import org.dflib.Series;
-import org.dflib.concat.SeriesConcat;
+import org.dflib.agg.GroupBatches;
 import org.dflib.series.IntSequenceSeries;
 import org.dflib.sort.DataFrameSorter;
 import org.dflib.sort.IntComparator;
@@ -50,18 +50,42 @@ public class RowNumberer {
      */
     public static IntSeries rowNumber(DataFrame dataFrame, IntSeries[] partitionsIndex) {
 
-        int[] rowNumbers = new int[dataFrame.height()];
+        int h = dataFrame.height();
+        int[] rowNumbers = new int[h];
 
-        int offset = 0;
+        // each partition index is already in the partition order, so the row numbers can be assigned directly to the
+        // original row positions. Partitions are disjoint, so they can be processed in parallel.
+        GroupBatches.run(h, partitionsIndex.length, (from, to) -> {
+            for (int p = from; p < to; p++) {
+                IntSeries s = partitionsIndex[p];
+                int len = s.size();
+                for (int i = 0; i < len; i++) {
+                    rowNumbers[s.getInt(i)] = START_NUMBER + i;
+                }
+            }
+        });
+
+        // rows not included in any partition (e.g. those with null partition keys) are excluded from the result
+        int covered = 0;
         for (IntSeries s : partitionsIndex) {
-            int len = s.size();
-            RowNumberer.fillSequence(rowNumbers, offset, len);
-            offset += len;
+            covered += s.size();
         }
 
-        IntSeries groupsIndexGlued = SeriesConcat.intConcat(partitionsIndex);
+        return covered < h ? Series.ofInt(compact(rowNumbers, covered)) : Series.ofInt(rowNumbers);
+    }
+
+    private static int[] compact(int[] rowNumbers, int len) {
+        int[] compacted = new int[len];
 
-        // since we control select indices, and don't expect negative values, we can safely cast to IntSeries
-        return (IntSeries) Series.ofInt(rowNumbers).select(groupsIndexGlued.sortIndexInt());
+        int j = 0;
+        for (int n : rowNumbers) {
+
+            // unassigned positions are left as zeros, while row numbers start at START_NUMBER
+            if (n != 0) {
+                compacted[j++] = n;
+            }
+        }
+
+        return compacted;
     }
 }
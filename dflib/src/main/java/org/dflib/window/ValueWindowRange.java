@@ -0,0 +1,342 @@
+package org.dflib.window;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Period;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalUnit;
+import java.util.Objects;
+
+/**
+ * A window range that includes the rows whose values in a given column are within a distance from the value of the
+ * current row. The DataFrame (or each partition) must be sorted by the column in the ascending order, with nulls at
+ * the end. Rows with null values form a single range with each other. The boundaries for all rows are resolved in a
+ * single pass with two pointers that only move forward. Integer columns are compared exactly, using "long" arithmetic,
+ * while floating point and BigDecimal columns are compared as doubles.
+ *
+ * @since 1.0.0-M23
+ */
+class ValueWindowRange extends WindowRange {
+
+    private final String column;
+    private final Object preceding;
+    private final Object following;
+
+    ValueWindowRange(String column, Number preceding, Number following) {
+        super(0, 0);
+
+        if (isNegativeOrNaN(preceding)) {
+            throw new IllegalArgumentException("'preceding' must be non-negative: " + preceding);
+        }
+
+        if (isNegativeOrNaN(following)) {
+            throw new IllegalArgumentException("'following' must be non-negative: " + following);
+        }
+
+        this.column = Objects.requireNonNull(column);
+        this.preceding = preceding;
+        this.following = following;
+    }
+
+    ValueWindowRange(String column, TemporalAmount preceding, TemporalAmount following) {
+        super(0, 0);
+
+        if (isNegative(preceding)) {
+            throw new IllegalArgumentException("'preceding' must be non-negative: " + preceding);
+        }
+
+        if (isNegative(following)) {
+            throw new IllegalArgumentException("'following' must be non-negative: " + following);
+        }
+
+        this.column = Objects.requireNonNull(column);
+        this.preceding = preceding;
+        this.following = following;
+    }
+
+    private static boolean isNegativeOrNaN(Number distance) {
+        double d = distance.doubleValue();
+        return Double.isNaN(d) || d < 0;
+    }
+
+    private static boolean isNegative(TemporalAmount amount) {
+        if (amount instanceof Duration) {
+            return ((Duration) amount).isNegative();
+        } else if (amount instanceof Period) {
+            return ((Period) amount).isNegative();
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean alwaysInRange(int height) {
+        return height <= 1;
+    }
+
+    @Override
+    public WindowBounds bounds(DataFrame dataFrame) {
+
+        Series<?> values = dataFrame.getColumn(column);
+        int h = values.size();
+
+        // nulls must be at the end
+        int nonNull = h;
+        for (int i = 0; i < h; i++) {
+            if (values.get(i) == null) {
+                nonNull = i;
+                break;
+            }
+        }
+
+        for (int i = nonNull + 1; i < h; i++) {
+            if (values.get(i) != null) {
+                throw notSorted();
+            }
+        }
+
+        int[] from = new int[h];
+        int[] to = new int[h];
+
+        if (preceding instanceof Number) {
+            if (isIntegral(values, nonNull)) {
+                integralBounds(values, nonNull, from, to);
+            } else {
+                numericBounds(values, nonNull, from, to);
+            }
+        } else {
+            temporalBounds(values, nonNull, from, to);
+        }
+
+        for (int i = nonNull; i < h; i++) {
+            from[i] = nonNull;
+            to[i] = h;
+        }
+
+        return new ArrayBounds(from, to);
+    }
+
+    private boolean isIntegral(Series<?> values, int len) {
+        for (int i = 0; i < len; i++) {
+            Object v = values.get(i);
+
+            if (!(v instanceof Number)) {
+                throw new IllegalArgumentException(
+                        "Column '" + column + "' must be numeric to be used in a window range of " + preceding + ".." + following + ": " + v);
+            }
+
+            if (!isIntegral((Number) v)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte;
+    }
+
+    // exact boundaries for integer keys. Doubles can't represent large longs (e.g., epoch nanoseconds) precisely
+    private void integralBounds(Series<?> values, int len, int[] from, int[] to) {
+
+        long[] keys = new long[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = ((Number) values.get(i)).longValue();
+
+            if (i > 0 && keys[i - 1] > keys[i]) {
+                throw notSorted();
+            }
+        }
+
+        // for integer keys, a fractional distance is the same as its integer part
+        long p = integralDistance((Number) preceding);
+        long f = integralDistance((Number) following);
+
+        int start = 0;
+        int end = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            long k = keys[i];
+
+            // saturating "k - p" and "k + f", as both distances are non-negative
+            long lo = k < Long.MIN_VALUE + p ? Long.MIN_VALUE : k - p;
+            while (keys[start] < lo) {
+                start++;
+            }
+
+            long hi = k > Long.MAX_VALUE - f ? Long.MAX_VALUE : k + f;
+            while (end < len && keys[end] <= hi) {
+                end++;
+            }
+
+            from[i] = start;
+            to[i] = end;
+        }
+    }
+
+    private static long integralDistance(Number distance) {
+
+        if (isIntegral(distance)) {
+            return distance.longValue();
+        }
+
+        if (distance instanceof BigInteger) {
+            BigInteger bi = (BigInteger) distance;
+            return bi.bitLength() < 64 ? bi.longValue() : Long.MAX_VALUE;
+        }
+
+        if (distance instanceof BigDecimal) {
+            BigInteger bi = ((BigDecimal) distance).toBigInteger();
+            return bi.bitLength() < 64 ? bi.longValue() : Long.MAX_VALUE;
+        }
+
+        // the cast saturates large and infinite values to Long.MAX_VALUE
+        return (long) Math.floor(distance.doubleValue());
+    }
+
+    private void numericBounds(Series<?> values, int len, int[] from, int[] to) {
+
+        double[] keys = new double[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = ((Number) values.get(i)).doubleValue();
+
+            // NaNs are not ordered relative to other values, so can't be used to find the range boundaries
+            if (Double.isNaN(keys[i])) {
+                throw new IllegalArgumentException(
+                        "Column '" + column + "' must not contain NaN values to be used in a window range");
+            }
+
+            if (i > 0 && keys[i - 1] > keys[i]) {
+                throw notSorted();
+            }
+        }
+
+        double p = ((Number) preceding).doubleValue();
+        double f = ((Number) following).doubleValue();
+
+        int start = 0;
+        int end = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            double lo = keys[i] - p;
+            while (keys[start] < lo) {
+                start++;
+            }
+
+            double hi = keys[i] + f;
+            while (end < len && keys[end] <= hi) {
+                end++;
+            }
+
+            from[i] = start;
+            to[i] = end;
+        }
+    }
+
+    private void temporalBounds(Series<?> values, int len, int[] from, int[] to) {
+
+        TemporalAmount p = (TemporalAmount) preceding;
+        TemporalAmount f = (TemporalAmount) following;
+
+        if (len > 0) {
+            checkSupported(values.get(0), p);
+            checkSupported(values.get(0), f);
+        }
+
+        for (int i = 1; i < len; i++) {
+            if (compare(values.get(i - 1), values.get(i)) > 0) {
+                throw notSorted();
+            }
+        }
+
+        int start = 0;
+        int end = 0;
+
+        for (int i = 0; i < len; i++) {
+
+            Temporal v = (Temporal) values.get(i);
+
+            Temporal lo = v.minus(p);
+            while (compare(values.get(start), lo) < 0) {
+                start++;
+            }
+
+            Temporal hi = v.plus(f);
+            while (end < len && compare(values.get(end), hi) <= 0) {
+                end++;
+            }
+
+            from[i] = start;
+            to[i] = end;
+        }
+    }
+
+    // fail early, instead of throwing "UnsupportedTemporalTypeException" in the middle of the range calculation
+    private void checkSupported(Object value, TemporalAmount amount) {
+
+        if (!(value instanceof Temporal)) {
+            throw new IllegalArgumentException(
+                    "Column '" + column + "' must contain date / time values to be used in a window range of " + amount + ": " + value);
+        }
+
+        Temporal t = (Temporal) value;
+        for (TemporalUnit unit : amount.getUnits()) {
+            if (amount.get(unit) != 0 && !t.isSupported(unit)) {
+                throw new IllegalArgumentException(
+                        "Column '" + column + "' of " + t.getClass().getSimpleName()
+                                + " values can't be used in a window range of " + amount + ": unsupported unit " + unit);
+            }
+        }
+    }
+
+    private static int compare(Object v1, Object v2) {
+        return ((Comparable) v1).compareTo(v2);
+    }
+
+    private IllegalArgumentException notSorted() {
+        return new IllegalArgumentException(
+                "Column '" + column + "' must be sorted in the ascending order with nulls last to be used in a window range");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ValueWindowRange that = (ValueWindowRange) o;
+        return column.equals(that.column) && preceding.equals(that.preceding) && following.equals(that.following);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(column, preceding, following);
+    }
+
+    private static class ArrayBounds implements WindowBounds {
+
+        private final int[] from;
+        private final int[] to;
+
+        ArrayBounds(int[] from, int[] to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int fromRow(int rowIndex) {
+            return from[rowIndex];
+        }
+
+        @Override
+        public int toRow(int rowIndex) {
+            return to[rowIndex];
+        }
+    }
+}
@@ -334,37 +334,7 @@ public class Window {
                 ? source.group(partitioner).sort(sorter)
                 : source.group(partitioner);
 
-        int h = gb.getSource().height();
-        int aggW = aggregators.length;
-
-        Object[][] data = new Object[aggW][h];
-
-        for (int i = 0; i < aggW; i++) {
-            data[i] = new Object[h];
-        }
-
-        // TODO: parallelize aggregation by group key and by aggregator...
-
-        for (Object key : gb.getGroupKeys()) {
-
-            Series<?>[] gAggs = RangeAggregator.of(gb.getGroup(key), resolveRange()).agg(aggregators);
-
-            IntSeries gIndex = gb.getGroupIndex(key);
-            int ih = gIndex.size();
-            for (int i = 0; i < aggW; i++) {
-                Series<?> gAgg = gAggs[i];
-                for (int j = 0; j < ih; j++) {
-                    data[i][gIndex.getInt(j)] = gAgg.get(j);
-                }
-            }
-        }
-
-        Series<?>[] columns = new Series[aggW];
-        for (int i = 0; i < aggW; i++) {
-            columns[i] = Series.of(data[i]);
-        }
-
-        return columns;
+        return RangeAggregator.aggPartitioned(gb, resolveRange(), aggregators);
     }
 
     private Series<?>[] selectUnPartitioned(Exp<?>... aggregators) {
@@ -0,0 +1,20 @@
+package org.dflib.window;
+
+/**
+ * Row boundaries of a {@link WindowRange} resolved for a specific DataFrame. As the row index grows, neither of the
+ * boundaries decreases, which allows to calculate aggregates over the range incrementally.
+ *
+ * @since 1.0.0-M23
+ */
+public interface WindowBounds {
+
+    /**
+     * Returns the index of the first row of the range for a given row.
+     */
+    int fromRow(int rowIndex);
+
+    /**
+     * Returns the index of the row following the last row of the range for a given row.
+     */
+    int toRow(int rowIndex);
+}
@@ -2,6 +2,7 @@ package org.dflib.window;
 
 import org.dflib.DataFrame;
 
+import java.time.temporal.TemporalAmount;
 import java.util.Objects;
 
 /**
@@ -39,6 +40,31 @@ public class WindowRange {
         return new WindowRange(startOffsetInclusive, endOffsetInclusive);
     }
 
+    /**
+     * Creates a range that includes the rows whose values in the "column" are between
+     * <code>value - preceding</code> and <code>value + following</code>, where "value" is the value of the current
+     * row. The DataFrame (or each window partition) must be sorted by the column in the ascending order, with nulls
+     * (if any) at the end.
+     *
+     * @since 1.0.0-M23
+     */
+    public static WindowRange byValue(String column, Number preceding, Number following) {
+        return new ValueWindowRange(column, preceding, following);
+    }
+
+    /**
+     * Creates a range that includes the rows whose date / time values in the "column" are between
+     * <code>value - preceding</code> and <code>value + following</code>, where "value" is the value of the current
+     * row. E.g., <code>byValue("ts", Duration.ofMinutes(5), Duration.ZERO)</code> defines a range of all rows within
+     * the preceding 5 minutes. The DataFrame (or each window partition) must be sorted by the column in the ascending
+     * order, with nulls (if any) at the end.
+     *
+     * @since 1.0.0-M23
+     */
+    public static WindowRange byValue(String column, TemporalAmount preceding, TemporalAmount following) {
+        return new ValueWindowRange(column, preceding, following);
+    }
+
     protected WindowRange(int startOffsetInclusive, int endOffsetInclusive) {
 
         if (startOffsetInclusive < 0) {
@@ -82,14 +108,17 @@ public class WindowRange {
             throw new ArrayIndexOutOfBoundsException("Row index higher than the DataFrame height: " + rowIndex);
         }
 
-        int fromInclusive = Math.max(0, rowIndex - startOffsetInclusive);
-
-        // avoid int overflow - only add the offset when it is smaller than height
-        // TODO: still there is a range when overflow is possible when the height is close to Integer.MAX_VALUE
-        int delta = endOffsetInclusive - h;
-        int toExclusive = delta <= 0 ? Math.min(h, rowIndex + endOffsetInclusive + 1) : h;
+        WindowBounds bounds = bounds(dataFrame);
+        return dataFrame.rowsRange(bounds.fromRow(rowIndex), bounds.toRow(rowIndex)).select();
+    }
 
-        return dataFrame.rowsRange(fromInclusive, toExclusive).select();
+    /**
+     * Resolves the range boundaries of each row of the DataFrame.
+     *
+     * @since 1.0.0-M23
+     */
+    public WindowBounds bounds(DataFrame dataFrame) {
+        return new OffsetBounds(startOffsetInclusive, endOffsetInclusive, dataFrame.height());
     }
 
     @Override
@@ -104,4 +133,31 @@ public class WindowRange {
     public int hashCode() {
         return Objects.hash(startOffsetInclusive, endOffsetInclusive);
     }
+
+    private static class OffsetBounds implements WindowBounds {
+
+        private final int startOffsetInclusive;
+        private final int endOffsetInclusive;
+        private final int height;
+
+        OffsetBounds(int startOffsetInclusive, int endOffsetInclusive, int height) {
+            this.startOffsetInclusive = startOffsetInclusive;
+            this.endOffsetInclusive = endOffsetInclusive;
+            this.height = height;
+        }
+
+        @Override
+        public int fromRow(int rowIndex) {
+            return Math.max(0, rowIndex - startOffsetInclusive);
+        }
+
+        @Override
+        public int toRow(int rowIndex) {
+
+            // avoid int overflow - only add the offset when it is smaller than height
+            // TODO: still there is a range when overflow is possible when the height is close to Integer.MAX_VALUE
+            int delta = endOffsetInclusive - height;
+            return delta <= 0 ? Math.min(height, rowIndex + endOffsetInclusive + 1) : height;
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+
+public class ColumnSet_AggApproxTest {
+
+    @Test
+    public void approxDistinct() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                1, null,
+                4, "x");
+
+        DataFrame agg = df.cols().agg(
+                $int("a").approxDistinct(),
+                $str("b").approxDistinct());
+
+        new DataFrameAsserts(agg, "approxDistinct(a)", "approxDistinct(b)")
+                .expectHeight(1)
+                .expectRow(0, 3, 2);
+    }
+
+    @Test
+    public void approxQuantile() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, 100.,
+                0, 55.5,
+                4, null,
+                3, 5.);
+
+        DataFrame agg = df.cols().agg(
+                $int("a").approxQuantile(0.5),
+                $int("a").approxQuantile(0.75),
+                $double("b").approxQuantile(1.));
+
+        new DataFrameAsserts(agg, "approxQuantile(a,0.5)", "approxQuantile(a,0.75)", "approxQuantile(b,1.0)")
+                .expectHeight(1)
+                .expectRow(0, 1., 3., 100.);
+    }
+
+    @Test
+    public void approxQuantile_Empty() {
+        DataFrame agg = DataFrame.empty("a").cols().agg($int("a").approxQuantile(0.5));
+
+        new DataFrameAsserts(agg, "approxQuantile(a,0.5)")
+                .expectHeight(1)
+                .expectRow(0, 0.);
+    }
+
+    @Test
+    public void groupBy() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "y", 2,
+                "x", 1,
+                "x", 3,
+                "y", 5);
+
+        DataFrame agg = df.group("a").agg(
+                $col("a"),
+                $int("b").approxDistinct(),
+                $int("b").approxQuantile(0.5));
+
+        new DataFrameAsserts(agg, "a", "approxDistinct(b)", "approxQuantile(b,0.5)")
+                .expectHeight(2)
+                .expectRow(0, "x", 2, 1.)
+                .expectRow(1, "y", 2, 2.);
+    }
+
+    @Test
+    public void window() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "y", 2,
+                "x", 1,
+                "x", 3);
+
+        DataFrame r = df.over().partitioned("a").select($int("b").approxDistinct());
+
+        new DataFrameAsserts(r, "approxDistinct(b)")
+                .expectHeight(4)
+                .expectRow(0, 2)
+                .expectRow(1, 1)
+                .expectRow(2, 2)
+                .expectRow(3, 2);
+    }
+}
@@ -0,0 +1,92 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.dflib.Exp.*;
+
+public class ColumnSet_AggQuantileTest {
+
+    @Test
+    public void quantile() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, 100.,
+                0, 55.5,
+                4, 0.,
+                3, 5.,
+                2, 1.);
+
+        DataFrame agg = df.cols().agg(
+                $int("a").quantile(0.5),
+                $int("a").quantile(0.9),
+                $double(1).quantile(0.25));
+
+        new DataFrameAsserts(agg, "p50(a)", "p90(a)", "p25(b)")
+                .expectHeight(1)
+                .expectRow(0, 2., 3.6, 1.);
+    }
+
+    @Test
+    public void quantile_Primitive() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 0, 4, 3),
+                Series.ofLong(10L, 0L, 40L, 30L));
+
+        DataFrame agg = df.cols().agg(
+                $int("a").quantile(0.5),
+                $long("b").quantile(1.));
+
+        new DataFrameAsserts(agg, "p50(a)", "p100(b)")
+                .expectHeight(1)
+                .expectRow(0, 2., 40.);
+    }
+
+    @Test
+    public void quantile_Nulls() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, null, 3, null);
+
+        DataFrame agg = df.cols().agg($int("a").quantile(0.5));
+
+        new DataFrameAsserts(agg, "p50(a)")
+                .expectHeight(1)
+                .expectRow(0, 2.);
+    }
+
+    @Test
+    public void quantile_Empty() {
+        DataFrame agg = DataFrame.empty("a").cols().agg($int("a").quantile(0.5));
+
+        new DataFrameAsserts(agg, "p50(a)")
+                .expectHeight(1)
+                .expectRow(0, 0.);
+    }
+
+    @Test
+    public void quantile_Decimal() {
+        DataFrame df = DataFrame.foldByRow("a").of(
+                new BigDecimal("1.5"),
+                new BigDecimal("0.5"),
+                new BigDecimal("2.5"));
+
+        DataFrame agg = df.cols().agg($decimal("a").quantile(0.5), $decimal("a").percentile(100.));
+
+        new DataFrameAsserts(agg, "p50(a)", "p100(a)")
+                .expectHeight(1)
+                .expectRow(0, new BigDecimal("1.5"), new BigDecimal("2.5"));
+    }
+
+    @Test
+    public void percentile() {
+        DataFrame df = DataFrame.foldByRow("a").of(5, 1, 4, 2, 3);
+
+        DataFrame agg = df.cols().agg(
+                $int("a").percentile(50),
+                $int("a").percentile(75));
+
+        new DataFrameAsserts(agg, "p50(a)", "p75(a)")
+                .expectHeight(1)
+                .expectRow(0, 3., 4.);
+    }
+}
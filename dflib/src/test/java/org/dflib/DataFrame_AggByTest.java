@@ -0,0 +1,140 @@
+package org.dflib;
+
+import org.dflib.agg.StreamingAggregator;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataFrame_AggByTest {
+
+    @Test
+    public void empty() {
+        DataFrame df = DataFrame.empty("a", "b").aggBy("a", $int("b").sum(), count());
+        new DataFrameAsserts(df, "a", "sum(b)", "count").expectHeight(0);
+    }
+
+    @Test
+    public void singleColumn() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b", "c").of(
+                "x", 1, 1.5,
+                "y", 2, 2.5,
+                "x", 3, 3.5,
+                null, 4, 4.5,
+                "z", 5, 5.5,
+                "x", 6, 6.5);
+
+        DataFrame df = df1.aggBy("a",
+                count(),
+                $int("b").sum(),
+                $int("b").min(),
+                $int("b").max(),
+                $double("c").avg());
+
+        new DataFrameAsserts(df, "a", "count", "sum(b)", "min(b)", "max(b)", "avg(c)")
+                .expectHeight(3)
+                .expectRow(0, "x", 3, 10, 1, 6, 3.8333333333333335)
+                .expectRow(1, "y", 1, 2, 2, 2, 2.5)
+                .expectRow(2, "z", 1, 5, 5, 5, 5.5);
+    }
+
+    @Test
+    public void sameAsGroupAgg() {
+        DataFrame df1 = DataFrame.byArrayRow("a", "b", "c")
+                .appender()
+                .append("x", 1, 10L)
+                .append("y", 2, 20L)
+                .append("x", 1, null)
+                .append("x", 2, 40L)
+                .append("y", 2, 50L)
+                .toDataFrame();
+
+        DataFrame aggBy = df1.aggBy(new String[]{"a", "b"},
+                $long("c").sum(),
+                $long("c").min(),
+                $long("c").max(),
+                $int("b").sum());
+
+        DataFrame groupAgg = df1.group("a", "b").agg(
+                $col("a"),
+                $col("b"),
+                $long("c").sum(),
+                $long("c").min(),
+                $long("c").max(),
+                $int("b").sum());
+
+        new DataFrameAsserts(aggBy, "a", "b", "sum(c)", "min(c)", "max(c)", "sum(b)")
+                .expectHeight(3)
+                .expectRow(0, "x", 1, 10L, 10L, 10L, 2)
+                .expectRow(1, "y", 2, 70L, 20L, 50L, 4)
+                .expectRow(2, "x", 2, 40L, 40L, 40L, 2);
+
+        new DataFrameAsserts(groupAgg, "a", "b", "sum(c)", "min(c)", "max(c)", "sum(b)")
+                .expectHeight(3)
+                .expectRow(0, "x", 1, 10L, 10L, 10L, 2)
+                .expectRow(1, "y", 2, 70L, 20L, 50L, 4)
+                .expectRow(2, "x", 2, 40L, 40L, 40L, 2);
+    }
+
+    @Test
+    public void primitiveColumns() {
+        DataFrame df1 = DataFrame.byColumn("a", "b", "c", "d").of(
+                Series.of("x", "y", "x", "y"),
+                Series.ofInt(1, -2, 3, -4),
+                Series.ofLong(5L, 6L, 7L, 8L),
+                Series.ofDouble(-1.5, -2.5, -3.5, -4.5));
+
+        DataFrame df = df1.aggBy("a",
+                $int("b").sum(),
+                $long("c").max(),
+                $double("d").min(),
+                $double("d").max());
+
+        new DataFrameAsserts(df, "a", "sum(b)", "max(c)", "min(d)", "max(d)")
+                .expectHeight(2)
+                .expectRow(0, "x", 4, 7L, -3.5, -1.5)
+                .expectRow(1, "y", -6, 8L, -4.5, -2.5);
+    }
+
+    @Test
+    public void intSum_Overflow() {
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(
+                Series.of("x", "x", "x", "y"),
+                Series.ofInt(Integer.MAX_VALUE, 1, -2, Integer.MAX_VALUE));
+
+        // the intermediate sum of "x" exceeds the int range, but the final one doesn't
+        DataFrame aggBy = df1.aggBy("a", $int("b").sum());
+        new DataFrameAsserts(aggBy, "a", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, "x", Integer.MAX_VALUE - 1)
+                .expectRow(1, "y", Integer.MAX_VALUE);
+
+        DataFrame groupAgg = df1.group("a").agg($col("a"), $int("b").sum());
+        new DataFrameAsserts(groupAgg, "a", "sum(b)")
+                .expectHeight(2)
+                .expectRow(0, "x", Integer.MAX_VALUE - 1)
+                .expectRow(1, "y", Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void chunks() {
+        StreamingAggregator aggregator = new StreamingAggregator(new String[]{"a"}, count(), $int("b").sum());
+
+        aggregator.append(DataFrame.foldByRow("a", "b").of("x", 1, "y", 2));
+        aggregator.append(DataFrame.foldByRow("a", "b").of("z", 3, "x", 4, "x", 5));
+        aggregator.append(DataFrame.foldByRow("a", "b").of("y", 6));
+
+        new DataFrameAsserts(aggregator.toDataFrame(), "a", "count", "sum(b)")
+                .expectHeight(3)
+                .expectRow(0, "x", 3, 10)
+                .expectRow(1, "y", 2, 8)
+                .expectRow(2, "z", 1, 3);
+    }
+
+    @Test
+    public void unsupportedAggregator() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of("x", "1", "y", "2");
+        assertThrows(IllegalArgumentException.class, () -> df1.aggBy("a", $str("b").vConcat(";")));
+    }
+}
@@ -0,0 +1,62 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+public class DataFrame_DiffTest {
+
+    @Test
+    public void withEmpty() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(1, "x", 2, "y");
+        DataFrame df2 = DataFrame.foldByRow("a", "b").of();
+
+        new DataFrameAsserts(df1.diff(df2), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, "y");
+    }
+
+    @Test
+    public void allColumns() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                1, "z",
+                2, "y");
+
+        DataFrame df2 = DataFrame.foldByRow("b", "a").of(
+                "y", 2,
+                "x", 3);
+
+        new DataFrameAsserts(df1.diff(df2), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 1, "z");
+    }
+
+    @Test
+    public void keyColumns() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                1, null,
+                3, "y");
+
+        DataFrame df2 = DataFrame.foldByRow("b").of("y", null);
+
+        new DataFrameAsserts(df1.diff(df2, "b"), "a", "b")
+                .expectHeight(1)
+                .expectRow(0, 1, "x");
+    }
+
+    @Test
+    public void primitiveKeyColumn() {
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(Series.ofInt(1, 2, 3, 2), Series.of("x", "y", "z", "w"));
+        DataFrame df2 = DataFrame.byColumn("a").of(Series.ofInt(2, 5));
+
+        new DataFrameAsserts(df1.diff(df2, "a"), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 3, "z");
+    }
+}
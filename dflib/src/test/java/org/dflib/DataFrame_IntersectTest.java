@@ -0,0 +1,44 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+public class DataFrame_IntersectTest {
+
+    @Test
+    public void withEmpty() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(1, "x", 2, "y");
+        DataFrame df2 = DataFrame.foldByRow("a", "b").of();
+
+        new DataFrameAsserts(df1.intersect(df2), "a", "b").expectHeight(0);
+    }
+
+    @Test
+    public void allColumns() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                1, "z",
+                2, "y");
+
+        DataFrame df2 = DataFrame.foldByRow("b", "a").of(
+                "y", 2,
+                "x", 3);
+
+        new DataFrameAsserts(df1.intersect(df2), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 2, "y")
+                .expectRow(1, 2, "y");
+    }
+
+    @Test
+    public void primitiveKeyColumn() {
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(Series.ofLong(1L, 2L, 3L, 2L), Series.of("x", "y", "z", "w"));
+        DataFrame df2 = DataFrame.byColumn("a").of(Series.ofLong(2L, 5L));
+
+        new DataFrameAsserts(df1.intersect(df2, "a"), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 2L, "y")
+                .expectRow(1, 2L, "w");
+    }
+}
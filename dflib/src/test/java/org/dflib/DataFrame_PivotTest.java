@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.dflib.Exp.*;
 
@@ -146,4 +148,74 @@ public class DataFrame_PivotTest {
                 .expectRow(0, 1, new BigDecimal("15.00"), new BigDecimal("20.00"))
                 .expectRow(1, 2, null, new BigDecimal("37.00"));
     }
+
+    @Test
+    @DisplayName("Row order is by the first pivot column where the row key appears")
+    public void rowOrder() {
+
+        DataFrame df1 = DataFrame.foldByRow("a", "b", "c").of(
+                1, "x", 1,
+                2, "y", 2,
+                3, "x", 3,
+                4, "z", 4,
+                2, "x", 5);
+
+        DataFrame df = df1.pivot().cols("b").rows("a").vals("c");
+
+        new DataFrameAsserts(df, "a", "x", "y", "z")
+                .expectHeight(4)
+                .expectRow(0, 1, 1, null, null)
+                .expectRow(1, 3, 3, null, null)
+                .expectRow(2, 2, 5, 2, null)
+                .expectRow(3, 4, null, null, 4);
+    }
+
+    @Test
+    public void primitiveColumns() {
+
+        DataFrame df1 = DataFrame.foldByRow("a", "b", "c").of(
+                1, "x", 1,
+                2, "y", 2,
+                1, "y", 3,
+                2, "x", 4,
+                1, "z", 5,
+                1, "x", 6).cols("c").compactInt(0);
+
+        DataFrame df = df1.pivot().cols("b").rows("a").vals("c", $int(0).sum());
+
+        assertInstanceOf(IntSeries.class, df.getColumn("x"));
+        assertInstanceOf(IntSeries.class, df.getColumn("y"));
+
+        // a column with missing values has to contain nulls
+        Series<?> z = df.getColumn("z");
+        assertFalse(z instanceof IntSeries);
+
+        new DataFrameAsserts(df, "a", "x", "y", "z")
+                .expectHeight(2)
+                .expectRow(0, 1, 7, 3, 5)
+                .expectRow(1, 2, 4, 2, null);
+    }
+
+    @Test
+    public void sparse() {
+
+        int h = 100_000;
+        int[] rows = new int[h];
+        int[] cols = new int[h];
+        int[] vals = new int[h];
+        for (int i = 0; i < h; i++) {
+            rows[i] = i;
+            cols[i] = i % 7;
+            vals[i] = 1;
+        }
+
+        DataFrame df1 = DataFrame.byColumn("a", "b", "c").of(Series.ofInt(rows), Series.ofInt(cols), Series.ofInt(vals));
+        DataFrame df = df1.pivot().cols("b").rows("a").vals("c", $int(0).sum());
+
+        new DataFrameAsserts(df, "a", "0", "1", "2", "3", "4", "5", "6")
+                .expectHeight(h)
+                .expectRow(0, 0, 1, null, null, null, null, null, null)
+                .expectRow(1, 7, 1, null, null, null, null, null, null)
+                .expectRow(h - 1, 99_994, null, null, null, null, null, null, 1);
+    }
 }
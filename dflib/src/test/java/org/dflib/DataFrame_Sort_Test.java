@@ -236,4 +236,21 @@ public class DataFrame_Sort_Test {
                 .expectRow(1, 2, new BigDecimal("1.0"))
                 .expectRow(2, 0, new BigDecimal("2"));
     }
+
+    @Test
+    public void sort_AlreadySorted() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(-1, 0, 0, 2),
+                Series.of("x", "y", "z", "w"));
+
+        assertSame(df, df.sort($int("a").asc()));
+        assertSame(df, df.sort("a", true));
+
+        new DataFrameAsserts(df.sort("a", false), "a", "b")
+                .expectHeight(4)
+                .expectRow(0, 2, "w")
+                .expectRow(1, 0, "y")
+                .expectRow(2, 0, "z")
+                .expectRow(3, -1, "x");
+    }
 }
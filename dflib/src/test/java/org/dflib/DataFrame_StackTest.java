@@ -3,6 +3,9 @@ package org.dflib;
 import org.dflib.unit.DataFrameAsserts;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class DataFrame_StackTest {
 
     @Test
@@ -53,4 +56,39 @@ public class DataFrame_StackTest {
                 .expectRow(4, 1, "b", null)
                 .expectRow(5, 2, "b", "y");
     }
+
+    @Test
+    public void stack_Primitive() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofDouble(1.5, 2.5),
+                Series.ofDouble(3.5, 4.5)).stack();
+
+        new DataFrameAsserts(df, "row", "column", "value")
+                .expectHeight(4)
+                .expectRow(0, 0, "a", 1.5)
+                .expectRow(1, 1, "a", 2.5)
+                .expectRow(2, 0, "b", 3.5)
+                .expectRow(3, 1, "b", 4.5);
+
+        Series<?> values = df.getColumn("value");
+        assertTrue(values instanceof DoubleSeries);
+    }
+
+    @Test
+    public void stack_MixedPrimitive() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2),
+                Series.ofLong(3L, 4L)).stackIncludeNulls();
+
+        new DataFrameAsserts(df, "row", "column", "value")
+                .expectHeight(4)
+                .expectRow(0, 0, "a", 1)
+                .expectRow(1, 1, "a", 2)
+                .expectRow(2, 0, "b", 3L)
+                .expectRow(3, 1, "b", 4L);
+
+        Series<?> values = df.getColumn("value");
+        assertFalse(values instanceof IntSeries);
+        assertFalse(values instanceof LongSeries);
+    }
 }
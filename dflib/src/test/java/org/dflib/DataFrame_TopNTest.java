@@ -0,0 +1,62 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DataFrame_TopNTest {
+
+    static final DataFrame df = DataFrame.foldByRow("a", "b").of(
+            1, "x",
+            2, "y",
+            1, "z",
+            0, "a",
+            1, "x",
+            3, "b");
+
+    @Test
+    public void topN() {
+        new DataFrameAsserts(df.topN(3, $int("a").desc()), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 3, "b")
+                .expectRow(1, 2, "y")
+                .expectRow(2, 1, "x");
+    }
+
+    @Test
+    public void topN_MultipleSorters() {
+        new DataFrameAsserts(df.topN(2, $int("a").asc(), $str("b").desc()), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 0, "a")
+                .expectRow(1, 1, "z");
+    }
+
+    @Test
+    public void topN_NoSorters() {
+        new DataFrameAsserts(df.topN(2), "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, "y");
+    }
+
+    @Test
+    public void topNWithTies() {
+        new DataFrameAsserts(df.topNWithTies(3, $int("a").desc()), "a", "b")
+                .expectHeight(5)
+                .expectRow(0, 3, "b")
+                .expectRow(1, 2, "y")
+                .expectRow(2, 1, "x")
+                .expectRow(3, 1, "z")
+                .expectRow(4, 1, "x");
+    }
+
+    @Test
+    public void topN_Negative() {
+        assertThrows(IllegalArgumentException.class, () -> df.topN(-1));
+        assertThrows(IllegalArgumentException.class, () -> df.topN(-1, $int("a").desc()));
+        assertThrows(IllegalArgumentException.class, () -> df.topNWithTies(-1));
+        assertThrows(IllegalArgumentException.class, () -> df.topNWithTies(-1, $int("a").desc()));
+    }
+}
@@ -0,0 +1,74 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataFrame_UnstackTest {
+
+    @Test
+    public void unstack() {
+        DataFrame df = DataFrame.foldByRow("row", "column", "value").of(
+                2, "a", 2,
+                0, "b", "x",
+                0, "a", 1,
+                2, "b", "y").unstack();
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, "y");
+    }
+
+    @Test
+    public void unstack_MissingCells() {
+        DataFrame df = DataFrame.foldByRow("row", "column", "value").of(
+                1, "a", 1,
+                0, "b", "x",
+                1, "b", "y").unstack();
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, null, "x")
+                .expectRow(1, 1, "y");
+    }
+
+    @Test
+    public void unstack_Stacked() {
+        DataFrame df = DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2, 3),
+                Series.ofInt(4, 5, 6));
+
+        DataFrame unstacked = df.stack().unstack();
+
+        new DataFrameAsserts(unstacked, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, 4)
+                .expectRow(1, 2, 5)
+                .expectRow(2, 3, 6);
+
+        Series<?> a = unstacked.getColumn("a");
+        assertTrue(a instanceof IntSeries);
+    }
+
+    @Test
+    public void unstack_StackedIncludeNulls() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                null, null,
+                2, "y");
+
+        new DataFrameAsserts(df.stackIncludeNulls().unstack(), "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, "x")
+                .expectRow(1, null, null)
+                .expectRow(2, 2, "y");
+    }
+
+    @Test
+    public void unstack_Empty() {
+        DataFrame df = DataFrame.empty("row", "column", "value").unstack();
+        new DataFrameAsserts(df).expectHeight(0);
+    }
+}
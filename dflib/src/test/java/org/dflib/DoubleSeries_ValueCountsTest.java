@@ -0,0 +1,18 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+public class DoubleSeries_ValueCountsTest {
+
+    @Test
+    public void valueCounts() {
+        DataFrame counts = Series.ofDouble(1.5, Double.NaN, 1.5, Double.NaN, 1.5, 0.).valueCounts();
+
+        new DataFrameAsserts(counts, "value", "count")
+                .expectHeight(3)
+                .expectRow(0, 1.5, 3)
+                .expectRow(1, Double.NaN, 2)
+                .expectRow(2, 0., 1);
+    }
+}
@@ -0,0 +1,75 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Checks that nested parallel operations do not starve a thread pool that is not a ForkJoinPool.
+ */
+public class FixedThreadPoolTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ExecutorService testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        testPool = Executors.newFixedThreadPool(2);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdownNow();
+    }
+
+    @Test
+    public void groupAgg_NestedMapVal() {
+        // fewer groups than threads, so the aggregators are evaluated in parallel with each other
+        DataFrame df1 = DataFrame.foldByRow("k", "b").of(
+                1, "a",
+                1, "b",
+                1, "c",
+                1, "d",
+                1, "e",
+                1, "f",
+                1, "g",
+                1, "h");
+
+        DataFrame df = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> df1.group("k").agg(
+                $str("b").mapVal(String::toUpperCase).first(),
+                $str("b").mapVal(String::toUpperCase).last()));
+
+        new DataFrameAsserts(df, df.getColumnsIndex())
+                .expectHeight(1)
+                .expectRow(0, "A", "H");
+    }
+
+    @Test
+    public void agg_NestedMapVal() {
+        DataFrame df1 = DataFrame.foldByRow("a").of(5, 3, 4, 1, 2, 8, 6, 7);
+
+        DataFrame df = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> df1.cols().agg(
+                $int("a").mapVal(i -> i * 10).first(),
+                $int("a").mapVal(i -> i * 10).last()));
+
+        new DataFrameAsserts(df, df.getColumnsIndex())
+                .expectHeight(1)
+                .expectRow(0, 50, 70);
+    }
+}
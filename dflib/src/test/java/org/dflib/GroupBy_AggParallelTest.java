@@ -0,0 +1,104 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.dflib.Exp.*;
+
+public class GroupBy_AggParallelTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        // make sure the groups are split even on a single CPU machine
+        testPool = new ForkJoinPool(2);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    @Test
+    public void groupBatches() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, "y",
+                3, "z",
+                1, "a",
+                4, "b",
+                2, "c",
+                5, "d",
+                6, "e",
+                7, "f",
+                8, "g",
+                9, "h",
+                10, "i",
+                1, "j");
+
+        DataFrame df = df1.group("a").agg(
+                $int("a").first(),
+                $str("b").vConcat(";"));
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(10)
+                .expectRow(0, 1, "x;a;j")
+                .expectRow(1, 2, "y;c")
+                .expectRow(2, 3, "z")
+                .expectRow(3, 4, "b")
+                .expectRow(4, 5, "d")
+                .expectRow(5, 6, "e")
+                .expectRow(6, 7, "f")
+                .expectRow(7, 8, "g")
+                .expectRow(8, 9, "h")
+                .expectRow(9, 10, "i");
+    }
+
+    @Test
+    public void groupBatches_SingleAggregator() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "y", 2,
+                "z", 3,
+                "x", 4,
+                "y", 5);
+
+        DataFrame df = df1.group("a").agg($str("a").first().as("a"), $int("b").agg(s -> s.size()));
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, "x", 2)
+                .expectRow(1, "y", 2)
+                .expectRow(2, "z", 1);
+    }
+
+    @Test
+    public void fewGroups() {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(
+                "x", 1,
+                "x", 2,
+                "x", 3);
+
+        DataFrame df = df1.group("a").agg($str("a").first(), $int("b").list());
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(1)
+                .expectRow(0, "x", List.of(1, 2, 3));
+    }
+}
@@ -203,4 +203,106 @@ public class GroupBy_AggTest {
                 .expectRow(1, 2L, "y")
                 .expectRow(2, 0L, "a");
     }
+
+    @Test
+    public void standardAggregates_PrimitiveColumns() {
+        DataFrame df1 = DataFrame.byColumn("k", "i", "l", "d").of(
+                Series.of("x", "y", "x", "z", "x"),
+                Series.ofInt(1, -2, 5, 0, 3),
+                Series.ofLong(10L, 20L, -30L, 40L, 50L),
+                Series.ofDouble(1.5, -2.5, 0.5, 4., -1.));
+
+        DataFrame df = df1.group("k").agg(
+                $col("k").first(),
+                count(),
+                $int("i").sum(),
+                $int("i").min(),
+                $int("i").max(),
+                $int("i").avg(),
+                $long("l").sum(),
+                $long("l").min(),
+                $long("l").max(),
+                $double("d").sum(),
+                $double("d").min(),
+                $double("d").max(),
+                $double("d").avg(),
+                $int("i").median());
+
+        new DataFrameAsserts(df, "k", "count", "sum(i)", "min(i)", "max(i)", "avg(i)",
+                "sum(l)", "min(l)", "max(l)", "sum(d)", "min(d)", "max(d)", "avg(d)", "median(i)")
+                .expectHeight(3)
+                .expectRow(0, "x", 3, 9, 1, 5, 3., 30L, -30L, 50L, 1., -1., 1.5, 1. / 3, 3.)
+                .expectRow(1, "y", 1, -2, -2, -2, -2., 20L, 20L, 20L, -2.5, -2.5, -2.5, -2.5, -2.)
+                .expectRow(2, "z", 1, 0, 0, 0, 0., 40L, 40L, 40L, 4., 4., 4., 4., 0.);
+    }
+
+    @Test
+    public void standardAggregates_TrimmedGroups() {
+        DataFrame df1 = DataFrame.byColumn("k", "i").of(
+                Series.of("x", "y", "x", "y", "x"),
+                Series.ofInt(1, 2, 3, 4, 5));
+
+        DataFrame df = df1.group("k").head(2).agg(
+                $col("k").first(),
+                $int("i").sum(),
+                count());
+
+        new DataFrameAsserts(df, "k", "sum(i)", "count")
+                .expectHeight(2)
+                .expectRow(0, "x", 4, 2)
+                .expectRow(1, "y", 6, 2);
+    }
+
+    @Test
+    public void standardAggregates_Negative() {
+        DataFrame df1 = DataFrame.foldByRow("k", "d").of(
+                "x", -1.5,
+                "x", -2.5);
+
+        DataFrame dfObject = df1.group("k").agg($double("d").max(), $double("d").min());
+        new DataFrameAsserts(dfObject, "max(d)", "min(d)")
+                .expectHeight(1)
+                .expectRow(0, -1.5, -2.5);
+
+        DataFrame dfPrimitive = df1.cols("d").compactDouble(0.).group("k").agg($double("d").max(), $double("d").min());
+        new DataFrameAsserts(dfPrimitive, "max(d)", "min(d)")
+                .expectHeight(1)
+                .expectRow(0, -1.5, -2.5);
+    }
+
+    @Test
+    public void quantiles() {
+        DataFrame df1 = DataFrame.foldByRow("k", "i", "d").of(
+                "x", 1, 1.5,
+                "y", 2, 2.5,
+                "x", 5, 5.5,
+                "x", 3, 3.5,
+                "y", 4, 4.5,
+                "x", 4, null);
+
+        DataFrame dfObject = df1.group("k").agg(
+                $col("k"),
+                $int("i").quantile(0.5),
+                $int("i").percentile(90),
+                $double("d").quantile(0.5));
+
+        new DataFrameAsserts(dfObject, "k", "p50(i)", "p90(i)", "p50(d)")
+                .expectHeight(2)
+                .expectRow(0, "x", 3.5, 4.7, 3.5)
+                .expectRow(1, "y", 3., 3.8, 3.5);
+
+        DataFrame dfPrimitive = df1
+                .cols("i").compactInt(0)
+                .cols("d").compactDouble(0.)
+                .group("k").agg(
+                        $col("k"),
+                        $int("i").quantile(0.5),
+                        $int("i").percentile(90),
+                        $double("d").quantile(0.5));
+
+        new DataFrameAsserts(dfPrimitive, "k", "p50(i)", "p90(i)", "p50(d)")
+                .expectHeight(2)
+                .expectRow(0, "x", 3.5, 4.7, 2.5)
+                .expectRow(1, "y", 3., 3.8, 3.5);
+    }
 }
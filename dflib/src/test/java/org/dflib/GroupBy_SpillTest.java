@@ -0,0 +1,92 @@
+package org.dflib;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GroupBy_SpillTest {
+
+    @TempDir
+    Path spillDir;
+
+    private int spillThreshold;
+    private Path defaultSpillDir;
+
+    @BeforeEach
+    void setupEnv() {
+        spillThreshold = Environment.commonEnv().spillThreshold();
+        defaultSpillDir = Environment.commonEnv().spillDir();
+        Environment.setSpillDir(spillDir);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setSpillThreshold(spillThreshold);
+        Environment.setSpillDir(defaultSpillDir);
+    }
+
+    private static DataFrame randomDf(int h, int seed) {
+        Random rnd = new Random(seed);
+
+        Integer[] a = new Integer[h];
+        String[] b = new String[h];
+        int[] c = new int[h];
+        for (int i = 0; i < h; i++) {
+            a[i] = rnd.nextInt(15) == 0 ? null : rnd.nextInt(60);
+            b[i] = "s" + rnd.nextInt(3);
+            c[i] = i;
+        }
+
+        return DataFrame.byColumn("a", "b", "c").of(Series.of(a), Series.of(b), Series.ofInt(c));
+    }
+
+    private void assertSameAsInMemory(Supplier<DataFrame> group) throws IOException {
+
+        Environment.setSpillThreshold(Integer.MAX_VALUE);
+        DataFrame expected = group.get();
+
+        // grouping is always done in memory, and must not be affected by the threshold
+        Environment.setSpillThreshold(17);
+        DataFrame actual = group.get();
+
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+        for (int i = 0; i < expected.width(); i++) {
+            assertArrayEquals(
+                    expected.getColumn(i).toArray(new Object[0]),
+                    actual.getColumn(i).toArray(new Object[0]),
+                    "Column " + i);
+        }
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void group() throws IOException {
+        DataFrame df = randomDf(500, 11);
+        assertSameAsInMemory(() -> df.group("a").select());
+    }
+
+    @Test
+    public void group_MultipleKeys() throws IOException {
+        DataFrame df = randomDf(500, 12);
+        assertSameAsInMemory(() -> df.group("a", "b").agg(
+                Exp.$col("a").first(),
+                Exp.$col("b").first(),
+                Exp.$int("c").sum(),
+                Exp.$int("c").list()));
+    }
+}
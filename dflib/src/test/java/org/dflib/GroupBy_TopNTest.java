@@ -0,0 +1,72 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GroupBy_TopNTest {
+
+    static final DataFrame df = DataFrame.foldByRow("a", "b", "c").of(
+            "x", 1, 10,
+            "y", 2, 20,
+            "x", 3, 30,
+            "x", 3, 40,
+            "y", 1, 50,
+            "x", 0, 60,
+            "z", 5, 70);
+
+    @Test
+    public void topN() {
+        DataFrame r = df.group("a").topN(2, $int("b").desc()).select();
+
+        new DataFrameAsserts(r, "a", "b", "c")
+                .expectHeight(5)
+                .expectRow(0, "x", 3, 30)
+                .expectRow(1, "x", 3, 40)
+                .expectRow(2, "y", 2, 20)
+                .expectRow(3, "y", 1, 50)
+                .expectRow(4, "z", 5, 70);
+    }
+
+    @Test
+    public void topN_Asc() {
+        DataFrame r = df.group("a").topN(2, $int("b").asc()).select();
+
+        new DataFrameAsserts(r, "a", "b", "c")
+                .expectHeight(5)
+                .expectRow(0, "x", 0, 60)
+                .expectRow(1, "x", 1, 10)
+                .expectRow(2, "y", 1, 50)
+                .expectRow(3, "y", 2, 20)
+                .expectRow(4, "z", 5, 70);
+    }
+
+    @Test
+    public void topNWithTies() {
+        DataFrame r = df.group("a").topNWithTies(1, $int("b").desc()).select();
+
+        new DataFrameAsserts(r, "a", "b", "c")
+                .expectHeight(4)
+                .expectRow(0, "x", 3, 30)
+                .expectRow(1, "x", 3, 40)
+                .expectRow(2, "y", 2, 20)
+                .expectRow(3, "z", 5, 70);
+    }
+
+    @Test
+    public void topN_Rank() {
+        IntSeries rank = df.group("a").topNWithTies(2, $int("b").desc()).rank();
+        new IntSeriesAsserts(rank).expectData(0, 1, 1, 1, 2, 0, 1);
+    }
+
+    @Test
+    public void topN_Negative() {
+        assertThrows(IllegalArgumentException.class, () -> df.group("a").topN(-1));
+        assertThrows(IllegalArgumentException.class, () -> df.group("a").topN(-1, $int("b").desc()));
+        assertThrows(IllegalArgumentException.class, () -> df.group("a").topNWithTies(-1, $int("b").desc()));
+        assertThrows(IllegalArgumentException.class, () -> DataFrame.empty("a", "b").group("a").topN(-1, $int("b").desc()));
+    }
+}
@@ -56,4 +56,57 @@ public class IntSeries_ConditionsTest {
         new BoolSeriesAsserts(cond).expectData(true, true, false);
     }
 
+    @Test
+    public void lt() {
+
+        IntSeries s1 = Series.ofInt(3, 0, 2);
+        IntSeries s2 = Series.ofInt(-3, 1, 2);
+
+        new BoolSeriesAsserts(s1.lt(s2)).expectData(false, true, false);
+    }
+
+    @Test
+    public void lt_NonArraySeries() {
+
+        IntSeries s1 = Series.ofInt(3, 0, 2, 5).head(3);
+        IntSeries s2 = Series.ofInt(-3, 1, 2);
+
+        new BoolSeriesAsserts(s1.lt(s2)).expectData(false, true, false);
+    }
+
+    @Test
+    public void lt_SizeMismatch() {
+
+        IntSeries s1 = Series.ofInt(3, 4, 2);
+        IntSeries s2 = Series.ofInt(3, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> s1.lt(s2));
+    }
+
+    @Test
+    public void le() {
+
+        IntSeries s1 = Series.ofInt(3, 0, 2);
+        IntSeries s2 = Series.ofInt(-3, 1, 2);
+
+        new BoolSeriesAsserts(s1.le(s2)).expectData(false, true, true);
+    }
+
+    @Test
+    public void gt() {
+
+        IntSeries s1 = Series.ofInt(3, 0, 2);
+        IntSeries s2 = Series.ofInt(-3, 1, 2);
+
+        new BoolSeriesAsserts(s1.gt(s2)).expectData(true, false, false);
+    }
+
+    @Test
+    public void ge() {
+
+        IntSeries s1 = Series.ofInt(3, 0, 2);
+        IntSeries s2 = Series.ofInt(-3, 1, 2);
+
+        new BoolSeriesAsserts(s1.ge(s2)).expectData(true, false, true);
+    }
 }
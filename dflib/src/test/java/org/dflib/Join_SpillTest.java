@@ -0,0 +1,135 @@
+package org.dflib;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class Join_SpillTest {
+
+    @TempDir
+    Path spillDir;
+
+    private int spillThreshold;
+    private Path defaultSpillDir;
+
+    @BeforeEach
+    void setupEnv() {
+        spillThreshold = Environment.commonEnv().spillThreshold();
+        defaultSpillDir = Environment.commonEnv().spillDir();
+        Environment.setSpillDir(spillDir);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setSpillThreshold(spillThreshold);
+        Environment.setSpillDir(defaultSpillDir);
+    }
+
+    private static DataFrame randomDf(int h, int seed) {
+        Random rnd = new Random(seed);
+
+        Integer[] a = new Integer[h];
+        String[] b = new String[h];
+        int[] c = new int[h];
+        for (int i = 0; i < h; i++) {
+            a[i] = rnd.nextInt(15) == 0 ? null : rnd.nextInt(60);
+            b[i] = "s" + rnd.nextInt(3);
+            c[i] = i;
+        }
+
+        return DataFrame.byColumn("a", "b", "c").of(Series.of(a), Series.of(b), Series.ofInt(c));
+    }
+
+    private void assertSameAsInMemory(Supplier<DataFrame> join) throws IOException {
+
+        Environment.setSpillThreshold(Integer.MAX_VALUE);
+        DataFrame expected = join.get();
+
+        // should result in multiple partitions
+        Environment.setSpillThreshold(17);
+        DataFrame actual = join.get();
+
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+        for (int i = 0; i < expected.width(); i++) {
+            assertArrayEquals(
+                    expected.getColumn(i).toArray(new Object[0]),
+                    actual.getColumn(i).toArray(new Object[0]),
+                    "Column " + i);
+        }
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void innerJoin() throws IOException {
+        DataFrame df1 = randomDf(300, 1);
+        DataFrame df2 = randomDf(200, 2);
+        assertSameAsInMemory(() -> df1.innerJoin(df2).on("a").select());
+    }
+
+    @Test
+    public void leftJoin() throws IOException {
+        DataFrame df1 = randomDf(300, 3);
+        DataFrame df2 = randomDf(200, 4);
+        assertSameAsInMemory(() -> df1.leftJoin(df2).on("a").indicatorColumn("i").select());
+    }
+
+    @Test
+    public void rightJoin() throws IOException {
+        DataFrame df1 = randomDf(300, 5);
+        DataFrame df2 = randomDf(200, 6);
+        assertSameAsInMemory(() -> df1.rightJoin(df2).on("a").indicatorColumn("i").select());
+    }
+
+    @Test
+    public void fullJoin() throws IOException {
+        DataFrame df1 = randomDf(300, 7);
+        DataFrame df2 = randomDf(200, 8);
+        assertSameAsInMemory(() -> df1.fullJoin(df2).on("a").indicatorColumn("i").select());
+    }
+
+    @Test
+    public void fullJoin_MultipleKeys() throws IOException {
+        DataFrame df1 = randomDf(300, 9);
+        DataFrame df2 = randomDf(200, 10);
+        assertSameAsInMemory(() -> df1.fullJoin(df2).on("a").on("b").select());
+    }
+
+    @Test
+    public void leftJoin_SkewedKey() throws IOException {
+
+        // most right rows have the same key, so a single partition far exceeds the spill threshold
+        Integer[] a = new Integer[200];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i % 10 == 0 ? i : 1;
+        }
+
+        DataFrame df1 = randomDf(300, 11);
+        DataFrame df2 = DataFrame.byColumn("a").of(Series.of(a));
+        assertSameAsInMemory(() -> df1.leftJoin(df2).on("a").select());
+    }
+
+    @Test
+    public void innerJoin_TooManyPartitions() {
+        DataFrame df1 = randomDf(300, 12);
+        DataFrame df2 = randomDf(2000, 13);
+
+        Environment.setSpillThreshold(1);
+        assertThrows(IllegalStateException.class, () -> df1.innerJoin(df2).on("a").select());
+    }
+}
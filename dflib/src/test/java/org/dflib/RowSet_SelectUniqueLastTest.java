@@ -0,0 +1,83 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.$col;
+
+public class RowSet_SelectUniqueLastTest {
+
+    @Test
+    public void emptyAll() {
+        DataFrame df = DataFrame.empty("a", "b", "c").rows().selectUniqueLast("a");
+        new DataFrameAsserts(df, "a", "b", "c").expectHeight(0);
+    }
+
+    @Test
+    public void all() {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c")
+                .of(
+                        1, "x", "a",
+                        2, "y", "b",
+                        1, "e", "k",
+                        1, "f", "g",
+                        1, "m", "n")
+                .rows().selectUniqueLast("a");
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(2)
+                .expectRow(0, 2, "y", "b")
+                .expectRow(1, 1, "m", "n");
+    }
+
+    @Test
+    public void all_TwoColumns() {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c")
+                .of(
+                        1, "x", "a",
+                        2, "x", "b",
+                        1, "x", "k",
+                        1, "f", "g",
+                        1, "f", "n")
+                .rows().selectUniqueLast("a", "b");
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(3)
+                .expectRow(0, 2, "x", "b")
+                .expectRow(1, 1, "x", "k")
+                .expectRow(2, 1, "f", "n");
+    }
+
+    @Test
+    public void byCondition() {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c")
+                .of(
+                        1, "x", "a",
+                        2, "y", "b",
+                        1, "e", "k",
+                        1, "f", "g",
+                        1, "m", "n")
+                .rows($col("b").ne("m")).selectUniqueLast(0);
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(2)
+                .expectRow(0, 2, "y", "b")
+                .expectRow(1, 1, "f", "g");
+    }
+
+    @Test
+    public void allColumns() {
+        DataFrame df = DataFrame.foldByRow("a", "b")
+                .of(
+                        1, "x",
+                        2, null,
+                        1, "x",
+                        2, null)
+                .rows().selectUniqueLast();
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(2)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, null);
+    }
+}
@@ -0,0 +1,80 @@
+package org.dflib;
+
+import org.dflib.unit.IntSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class Series_SortParallelTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        testPool = new ForkJoinPool(3);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    @Test
+    public void sortInt() {
+        IntSeries s = Series.ofInt(5, -1, 5, 3, Integer.MAX_VALUE, 1, Integer.MIN_VALUE).sortInt();
+        new IntSeriesAsserts(s).expectData(Integer.MIN_VALUE, -1, 1, 3, 5, 5, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void sortInt_Comparator() {
+        IntSeries s = Series.ofInt(5, -1, 5, 3, 28, 1).sortInt((i1, i2) -> i2 - i1);
+        new IntSeriesAsserts(s).expectData(28, 5, 5, 3, 1, -1);
+    }
+
+    @Test
+    public void sortIndexInt() {
+        IntSeries s = Series.ofInt(5, -1, 5, 3, Integer.MAX_VALUE, 1, Integer.MIN_VALUE).sortIndexInt();
+        new IntSeriesAsserts(s).expectData(6, 1, 5, 3, 0, 2, 4);
+    }
+
+    @Test
+    public void sortLong() {
+        LongSeries s = Series.ofLong(5L, -1L, 5L, 3L, Long.MAX_VALUE, 1L, Long.MIN_VALUE).sortLong();
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 1L, 3L, 5L, 5L, Long.MAX_VALUE}, s.toLongArray());
+    }
+
+    @Test
+    public void sortDouble() {
+        DoubleSeries s = Series.ofDouble(5., Double.NaN, 0., -1.5, -0., 3.).sortDouble();
+        assertArrayEquals(new double[]{-1.5, -0., 0., 3., 5., Double.NaN}, s.toDoubleArray());
+    }
+
+    @Test
+    public void sort_Comparator_Stable() {
+        Series<String> s = Series.of("b2", "a1", "b1", "a2", "c1", "a3")
+                .sort((s1, s2) -> Character.compare(s1.charAt(0), s2.charAt(0)));
+        new SeriesAsserts(s).expectData("a1", "a2", "a3", "b2", "b1", "c1");
+    }
+
+    @Test
+    public void sortIndex_Stable() {
+        IntSeries s = Series.of("b2", "a1", "b1", "a2", "c1", "a3")
+                .sortIndex((s1, s2) -> Character.compare(s1.charAt(0), s2.charAt(0)));
+        new IntSeriesAsserts(s).expectData(1, 3, 5, 0, 2, 4);
+    }
+}
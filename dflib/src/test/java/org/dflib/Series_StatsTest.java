@@ -0,0 +1,97 @@
+package org.dflib;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class Series_StatsTest {
+
+    @Test
+    public void empty() {
+        SeriesStats<Object> stats = Series.of().stats();
+        assertEquals(0, stats.getSize());
+        assertEquals(0, stats.getNullCount());
+        assertNull(stats.getMin());
+        assertNull(stats.getMax());
+        assertEquals(0, stats.getDistinctEstimate());
+        assertTrue(stats.isSorted());
+    }
+
+    @Test
+    public void ofInt() {
+        SeriesStats<Integer> stats = Series.ofInt(3, -1, 5, 3, 0).stats();
+        assertEquals(5, stats.getSize());
+        assertEquals(0, stats.getNullCount());
+        assertEquals(-1, stats.getMin());
+        assertEquals(5, stats.getMax());
+        assertEquals(4, stats.getDistinctEstimate());
+        assertFalse(stats.isSorted());
+    }
+
+    @Test
+    public void ofInt_Sorted() {
+        assertTrue(Series.ofInt(-1, 0, 0, 3).stats().isSorted());
+    }
+
+    @Test
+    public void ofLong() {
+        SeriesStats<Long> stats = Series.ofLong(3L, 8L, 8L).stats();
+        assertEquals(3L, stats.getMin());
+        assertEquals(8L, stats.getMax());
+        assertEquals(2, stats.getDistinctEstimate());
+        assertTrue(stats.isSorted());
+    }
+
+    @Test
+    public void ofDouble() {
+        SeriesStats<Double> stats = Series.ofDouble(1.5, -2.1, Double.NaN).stats();
+        assertEquals(-2.1, stats.getMin());
+        assertEquals(Double.NaN, stats.getMax());
+        assertFalse(stats.isSorted());
+
+        assertTrue(Series.ofDouble(-2.1, 1.5, Double.NaN).stats().isSorted());
+    }
+
+    @Test
+    public void ofObject() {
+        SeriesStats<String> stats = Series.of("b", null, "a", "c", "a").stats();
+        assertEquals(5, stats.getSize());
+        assertEquals(1, stats.getNullCount());
+        assertEquals("a", stats.getMin());
+        assertEquals("c", stats.getMax());
+        assertEquals(3, stats.getDistinctEstimate());
+        assertFalse(stats.isSorted());
+    }
+
+    @Test
+    public void ofObject_Sorted() {
+        assertTrue(Series.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5), null, null).stats().isSorted());
+        assertFalse(Series.of(LocalDate.of(2024, 1, 1), null, LocalDate.of(2024, 1, 5)).stats().isSorted());
+        assertFalse(Series.of(null, LocalDate.of(2024, 1, 1)).stats().isSorted());
+    }
+
+    @Test
+    public void ofObject_NotComparable() {
+        SeriesStats<Object> stats = Series.of(List.of("x"), 1, "a").stats();
+        assertNull(stats.getMin());
+        assertNull(stats.getMax());
+        assertFalse(stats.isSorted());
+        assertEquals(3, stats.getDistinctEstimate());
+    }
+
+    @Test
+    public void distinctEstimate_Large() {
+
+        int len = 1_000_000;
+        int[] data = new int[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = i % 200_000;
+        }
+
+        int estimate = Series.ofInt(data).stats().getDistinctEstimate();
+        assertTrue(Math.abs(estimate - 200_000) < 200_000 * 0.03, "Imprecise estimate: " + estimate);
+    }
+}
@@ -0,0 +1,100 @@
+package org.dflib;
+
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.IntSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.dflib.window.WindowRange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.dflib.Exp.*;
+
+public class Window_PartitionedParallelTest {
+
+    static final DataFrame df = DataFrame.foldByRow("a", "b").of(
+            1, "x",
+            2, "y",
+            1, "z",
+            0, "a",
+            3, "b",
+            2, "c",
+            1, "x",
+            4, "d",
+            0, "e");
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        // make sure the partitions are split even on a single CPU machine
+        testPool = new ForkJoinPool(2);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    @Test
+    public void select() {
+        DataFrame r = df.over()
+                .partitioned("a")
+                .range(WindowRange.allPreceding)
+                .select($int("a").sum(), $str("b").vConcat(""));
+
+        new DataFrameAsserts(r, "sum(a)", "b")
+                .expectHeight(9)
+                .expectRow(0, 1, "x")
+                .expectRow(1, 2, "y")
+                .expectRow(2, 2, "xz")
+                .expectRow(3, 0, "a")
+                .expectRow(4, 3, "b")
+                .expectRow(5, 4, "yc")
+                .expectRow(6, 3, "xzx")
+                .expectRow(7, 4, "d")
+                .expectRow(8, 0, "ae");
+    }
+
+    @Test
+    public void rowNumber() {
+        IntSeries rn = df.over().partitioned("a").rowNumber();
+        new IntSeriesAsserts(rn).expectData(1, 1, 2, 1, 1, 2, 3, 1, 2);
+    }
+
+    @Test
+    public void rowNumber_Sorted() {
+        IntSeries rn = df.over().partitioned("a").sorted("b", false).rowNumber();
+        new IntSeriesAsserts(rn).expectData(2, 1, 1, 2, 1, 2, 3, 1, 1);
+    }
+
+    @Test
+    public void rank() {
+        IntSeries r = df.over().partitioned("a").sorted("b", true).rank();
+        new IntSeriesAsserts(r).expectData(1, 2, 3, 1, 1, 1, 1, 1, 2);
+    }
+
+    @Test
+    public void denseRank() {
+        IntSeries r = df.over().partitioned("a").sorted("b", true).denseRank();
+        new IntSeriesAsserts(r).expectData(1, 2, 2, 1, 1, 1, 1, 1, 2);
+    }
+
+    @Test
+    public void shift() {
+        Series<String> s = df.over().partitioned("a").shift("b", 1);
+        new SeriesAsserts(s).expectData(null, null, "x", null, null, "y", "z", null, "a");
+    }
+}
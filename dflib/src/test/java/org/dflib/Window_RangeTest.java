@@ -4,6 +4,9 @@ import org.dflib.unit.DataFrameAsserts;
 import org.dflib.window.WindowRange;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import static org.dflib.Exp.*;
 
 public class Window_RangeTest {
@@ -47,6 +50,19 @@ public class Window_RangeTest {
                 .expectRow(4, 5);
     }
 
+    @Test
+    public void range_DoubleSum_LargeValueLeavesWindow() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofDouble(1e17, 1, 1, 1, 1));
+
+        DataFrame r = df.over().range(WindowRange.of(1, 0)).agg($double("a").sum(), $double("a").avg());
+        new DataFrameAsserts(r, "sum(a)", "avg(a)").expectHeight(5)
+                .expectRow(0, 1e17, 1e17)
+                .expectRow(1, 1e17, 5e16)
+                .expectRow(2, 2., 1.)
+                .expectRow(3, 2., 1.)
+                .expectRow(4, 2., 1.);
+    }
+
     @Test
     public void range_Preceding() {
         DataFrame df = DataFrame.foldByRow("val").of(
@@ -166,4 +182,31 @@ public class Window_RangeTest {
                 .expectRow(5, 27, "b");
     }
 
+    @Test
+    public void partitioned_Sorted_ByValue() {
+        DataFrame df = DataFrame.foldByRow("label", "ts", "val").of(
+                "a", LocalDateTime.of(2024, 1, 1, 10, 4), 1,
+                "a", LocalDateTime.of(2024, 1, 1, 10, 0), 22,
+                "b", LocalDateTime.of(2024, 1, 1, 10, 0), 15,
+                "a", LocalDateTime.of(2024, 1, 1, 10, 6), 2,
+                "a", LocalDateTime.of(2024, 1, 1, 10, 12), 77,
+                "b", LocalDateTime.of(2024, 1, 1, 10, 5), 12);
+
+        DataFrame r = df.over()
+                .partitioned("label")
+                .sorted($col("ts").asc())
+                .range(WindowRange.byValue("ts", Duration.ofMinutes(5), Duration.ZERO))
+                .select(
+                        $int("val").sum(),
+                        count(),
+                        $int("val").vConcat(","));
+
+        new DataFrameAsserts(r, "sum(val)", "count", "val").expectHeight(6)
+                .expectRow(0, 23, 2, "22,1")
+                .expectRow(1, 22, 1, "22")
+                .expectRow(2, 15, 1, "15")
+                .expectRow(3, 3, 2, "1,2")
+                .expectRow(4, 77, 1, "77")
+                .expectRow(5, 27, 2, "15,12");
+    }
 }
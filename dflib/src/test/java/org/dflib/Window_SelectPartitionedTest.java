@@ -1,9 +1,14 @@
 package org.dflib;
 
 import org.dflib.unit.DataFrameAsserts;
+import org.dflib.window.WindowRange;
 import org.junit.jupiter.api.Test;
 
+import static org.dflib.Exp.$col;
+import static org.dflib.Exp.$double;
 import static org.dflib.Exp.$int;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 public class Window_SelectPartitionedTest {
 
@@ -25,4 +30,55 @@ public class Window_SelectPartitionedTest {
                 .expectRow(3, 0)
                 .expectRow(4, 3);
     }
+
+    @Test
+    public void primitiveColumns() {
+        DataFrame df = DataFrame.foldByRow("a", "b", "c").of(
+                1, "x", 1.5,
+                2, "y", 2.,
+                1, "z", 3.5,
+                0, "a", 4.,
+                1, "x", 5.5)
+                .cols("a").compactInt(0)
+                .cols("c").compactDouble(0.);
+
+        DataFrame r = df.over()
+                .partitioned("b")
+                .range(WindowRange.of(1, 0))
+                .select(
+                        $int("a").sum(),
+                        $double("c").avg(),
+                        $col("b").first()
+                );
+
+        assertInstanceOf(IntSeries.class, r.getColumn(0));
+        assertInstanceOf(DoubleSeries.class, r.getColumn(1));
+        Series<?> firstB = r.getColumn(2);
+        assertFalse(firstB instanceof IntSeries);
+
+        new DataFrameAsserts(r, "sum(a)", "avg(c)", "b")
+                .expectHeight(5)
+                .expectRow(0, 1, 1.5, "x")
+                .expectRow(1, 2, 2., "y")
+                .expectRow(2, 1, 3.5, "z")
+                .expectRow(3, 0, 4., "a")
+                .expectRow(4, 2, 3.5, "x");
+    }
+
+    @Test
+    public void primitiveColumns_NullKeys() {
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                1, "x",
+                2, null,
+                3, "x")
+                .cols("a").compactInt(0);
+
+        DataFrame r = df.over().partitioned("b").select($int("a").sum());
+
+        new DataFrameAsserts(r, "sum(a)")
+                .expectHeight(3)
+                .expectRow(0, 4)
+                .expectRow(1, (Object) null)
+                .expectRow(2, 4);
+    }
 }
@@ -0,0 +1,96 @@
+package org.dflib.agg;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantilesTest {
+
+    @Test
+    public void label() {
+        assertEquals("p0", Quantiles.label(0.));
+        assertEquals("p50", Quantiles.label(0.5));
+        assertEquals("p99", Quantiles.label(0.99));
+        assertEquals("p99.9", Quantiles.label(99.9 / 100.));
+        assertEquals("p100", Quantiles.label(1.));
+    }
+
+    @Test
+    public void empty() {
+        assertArrayEquals(new double[]{0., 0.}, Quantiles.ofBuffer(new int[0], 0, 0.5, 0.9));
+    }
+
+    @Test
+    public void ints() {
+        int[] data = {5, 1, 4, 2, 3};
+        assertArrayEquals(
+                new double[]{3., 1., 5., 2., 4.6},
+                Quantiles.ofArray(data, 0, 5, 0.5, 0., 1., 0.25, 0.9),
+                0.0000001);
+
+        // the source array is not modified
+        assertArrayEquals(new int[]{5, 1, 4, 2, 3}, data);
+    }
+
+    @Test
+    public void ints_Range() {
+        int[] data = {100, 5, 1, 4, 2, 100};
+        assertArrayEquals(new double[]{3.}, Quantiles.ofArray(data, 1, 4, 0.5));
+    }
+
+    @Test
+    public void doubles_NaN() {
+        double[] data = {Double.NaN, 1., 3., 2.};
+        assertArrayEquals(
+                new double[]{1., 2.5, Double.NaN},
+                Quantiles.ofArray(data, 0, 4, 0., 0.5, 1.));
+    }
+
+    @Test
+    public void decimals() {
+        BigDecimal[] data = {new BigDecimal("3.0"), new BigDecimal("1.0"), new BigDecimal("2.0"), new BigDecimal("4.0")};
+        BigDecimal[] qs = Quantiles.ofBuffer(data, 4, 0.5, 1.);
+
+        assertEquals(0, new BigDecimal("2.5").compareTo(qs[0]));
+        assertEquals(0, new BigDecimal("4.0").compareTo(qs[1]));
+    }
+
+    @Test
+    public void invalidQuantile() {
+        assertThrows(IllegalArgumentException.class, () -> Quantiles.ofBuffer(new long[]{1L}, 1, -0.1));
+    }
+
+    @Test
+    public void sameAsSorting() {
+
+        Random random = new Random(5);
+        double[] qs = {0.99, 0.5, 0.9, 0.001, 0.5, 0.25};
+
+        // include many duplicates, and sizes around the insertion sort threshold
+        for (int len : new int[]{1, 2, 15, 16, 17, 100, 10_001}) {
+
+            long[] data = new long[len];
+            for (int i = 0; i < len; i++) {
+                data[i] = random.nextInt(len / 3 + 1);
+            }
+
+            long[] sorted = data.clone();
+            Arrays.sort(sorted);
+
+            double[] expected = new double[qs.length];
+            for (int i = 0; i < qs.length; i++) {
+                double h = (len - 1) * qs[i];
+                int lo = (int) h;
+                expected[i] = lo + 1 < len
+                        ? sorted[lo] + (h - lo) * (sorted[lo + 1] - sorted[lo])
+                        : sorted[lo];
+            }
+
+            assertArrayEquals(expected, Quantiles.ofBuffer(data, len, qs), 0.0000001, "len " + len);
+        }
+    }
+}
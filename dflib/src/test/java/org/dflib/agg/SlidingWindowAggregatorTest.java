@@ -0,0 +1,131 @@
+package org.dflib.agg;
+
+import org.dflib.DataFrame;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.unit.SeriesAsserts;
+import org.dflib.window.WindowRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlidingWindowAggregatorTest {
+
+    @Test
+    public void count() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, null, 3, 4);
+        Series<?> s = SlidingWindowAggregator.agg(df, Exp.count(), WindowRange.of(1, 1).bounds(df));
+        new SeriesAsserts(s).expectData(2, 3, 3, 2);
+    }
+
+    @Test
+    public void intSum_Nulls() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, null, 3, 4);
+        Series<?> s = SlidingWindowAggregator.agg(df, $int("a").sum(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(s).expectData(1, 1, 3, 7);
+    }
+
+    @Test
+    public void intMin_AllNulls() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, null, null, 4);
+        Series<?> s = SlidingWindowAggregator.agg(df, $int("a").min(), WindowRange.of(0, 1).bounds(df));
+        new SeriesAsserts(s).expectData(1, Integer.MAX_VALUE, 4, 4);
+    }
+
+    @Test
+    public void doubleSum_Infinities() {
+        DataFrame df = DataFrame.byColumn("a").of(
+                Series.ofDouble(1., Double.POSITIVE_INFINITY, 2., Double.NEGATIVE_INFINITY, 3., 4.));
+
+        Series<?> s = SlidingWindowAggregator.agg(df, $double("a").sum(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(s).expectData(
+                1., Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, 7.);
+    }
+
+    @Test
+    public void doubleSum_LargeValueLeavesWindow() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofDouble(1e17, 1., 1., 1., 1., -1e17, 1.));
+
+        Series<?> sum = SlidingWindowAggregator.agg(df, $double("a").sum(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(sum).expectData(1e17, 1e17, 2., 2., 2., -1e17, -1e17);
+
+        Series<?> avg = SlidingWindowAggregator.agg(df, $double("a").avg(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(avg).expectData(1e17, 5e16, 1., 1., 1., -5e16, -5e16);
+    }
+
+    @Test
+    public void doubleSum_Nulls() {
+        DataFrame df = DataFrame.foldByRow("a").of(1.5, null, 3., 4.);
+
+        Series<?> sum = SlidingWindowAggregator.agg(df, $double("a").sum(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(sum).expectData(1.5, 1.5, 3., 7.);
+
+        Series<?> avg = SlidingWindowAggregator.agg(df, $double("a").avg(), WindowRange.of(1, 0).bounds(df));
+        new SeriesAsserts(avg).expectData(1.5, 1.5, 3., 3.5);
+    }
+
+    @Test
+    public void unsupported() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2);
+        assertNull(SlidingWindowAggregator.agg(df, $int("a").median(), WindowRange.of(1, 0).bounds(df)));
+        assertNull(SlidingWindowAggregator.agg(df, $int("a").add(1).sum(), WindowRange.of(1, 0).bounds(df)));
+    }
+
+    @Test
+    public void sameAsFullAggregation() {
+
+        Random random = new Random(7);
+        int h = 200;
+
+        Integer[] ints = new Integer[h];
+        Long[] longs = new Long[h];
+        Double[] doubles = new Double[h];
+        for (int i = 0; i < h; i++) {
+            boolean isNull = random.nextInt(10) == 0;
+            ints[i] = isNull ? null : random.nextInt(1000) - 500;
+            longs[i] = isNull ? null : random.nextLong();
+
+            // nulls are not allowed by the Collectors used for the double sum and avg
+            doubles[i] = random.nextInt(1000) / 8.;
+        }
+
+        DataFrame df = DataFrame.byColumn("i", "l", "d").of(Series.of(ints), Series.of(longs), Series.of(doubles));
+
+        Exp<?>[] aggregators = {
+                Exp.count(),
+                $int("i").sum(), $int("i").min(), $int("i").max(),
+                $long("l").sum(), $long("l").min(), $long("l").max(),
+                $double("d").sum(), $double("d").min(), $double("d").max(), $double("d").avg()
+        };
+
+        WindowRange[] ranges = {
+                WindowRange.of(3, 0),
+                WindowRange.of(0, 5),
+                WindowRange.of(10, 10),
+                WindowRange.allPreceding,
+                WindowRange.allFollowing
+        };
+
+        for (WindowRange range : ranges) {
+            for (Exp<?> agg : aggregators) {
+
+                Series<?> sliding = SlidingWindowAggregator.agg(df, agg, range.bounds(df));
+                assertNotNull(sliding, agg.toQL());
+
+                for (int i = 0; i < h; i++) {
+                    Object expected = agg.eval(range.selectRows(df, i)).get(0);
+                    Object actual = sliding.get(i);
+
+                    if (expected instanceof Double) {
+                        assertEquals((Double) expected, (Double) actual, 0.0000001, agg.toQL() + " at " + i);
+                    } else {
+                        assertEquals(expected, actual, agg.toQL() + " at " + i);
+                    }
+                }
+            }
+        }
+    }
+}
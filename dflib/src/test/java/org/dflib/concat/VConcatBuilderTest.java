@@ -0,0 +1,144 @@
+package org.dflib.concat;
+
+import org.dflib.DataFrame;
+import org.dflib.IntSeries;
+import org.dflib.JoinType;
+import org.dflib.LongSeries;
+import org.dflib.Series;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VConcatBuilderTest {
+
+    @Test
+    public void select_Empty() {
+        DataFrame df = new VConcatBuilder(JoinType.full).select();
+        new DataFrameAsserts(df).expectHeight(0);
+    }
+
+    @Test
+    public void select_Single() {
+        DataFrame df1 = DataFrame.foldByRow("a").of(1, 2);
+        assertSame(df1, new VConcatBuilder(JoinType.full).append(df1).select());
+    }
+
+    @Test
+    public void select_Incremental() {
+
+        VConcatBuilder builder = new VConcatBuilder(JoinType.left);
+
+        for (int i = 0; i < 100; i++) {
+            builder.append(DataFrame.byColumn("a", "b").of(Series.ofInt(i, -i), Series.of("x" + i, "y" + i)));
+        }
+
+        DataFrame df = builder.select();
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(200)
+                .expectRow(0, 0, "x0")
+                .expectRow(3, -1, "y1")
+                .expectRow(199, -99, "y99");
+
+        assertTrue(column(df, "a") instanceof IntSeries);
+    }
+
+    @Test
+    public void select_PrimitiveTypesDisagree() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(Series.ofInt(1, 2), Series.ofLong(3L, 4L));
+        DataFrame df2 = DataFrame.byColumn("a", "b").of(Series.ofLong(5L), Series.ofLong(6L));
+
+        DataFrame df = new VConcatBuilder(JoinType.left).append(df1, df2).select();
+
+        new DataFrameAsserts(df, "a", "b")
+                .expectHeight(3)
+                .expectRow(0, 1, 3L)
+                .expectRow(1, 2, 4L)
+                .expectRow(2, 5L, 6L);
+
+        assertFalse(column(df, "a") instanceof IntSeries);
+        assertFalse(column(df, "a") instanceof LongSeries);
+        assertTrue(column(df, "b") instanceof LongSeries);
+    }
+
+    @Test
+    public void select_EmptyFrameTypeIgnored() {
+
+        DataFrame df1 = DataFrame.byColumn("a").of(Series.ofInt(1, 2));
+        DataFrame df2 = DataFrame.byColumn("a").of(Series.of());
+        DataFrame df3 = DataFrame.byColumn("a").of(Series.ofInt(3));
+
+        DataFrame df = new VConcatBuilder(JoinType.left).append(df1, df2, df3).select();
+
+        new DataFrameAsserts(df, "a")
+                .expectHeight(3)
+                .expectRow(0, 1)
+                .expectRow(1, 2)
+                .expectRow(2, 3);
+
+        assertTrue(column(df, "a") instanceof IntSeries);
+    }
+
+    @Test
+    public void select_Full() {
+
+        DataFrame df1 = DataFrame.byColumn("a", "b").of(Series.ofInt(1, 3), Series.ofInt(2, 4));
+        DataFrame df2 = DataFrame.byColumn("c", "b").of(Series.ofInt(10, 30), Series.ofInt(20, 40));
+
+        DataFrame df = new VConcatBuilder(JoinType.full).append(df1, df2).select();
+
+        new DataFrameAsserts(df, "a", "b", "c")
+                .expectHeight(4)
+                .expectRow(0, 1, 2, null)
+                .expectRow(1, 3, 4, null)
+                .expectRow(2, null, 20, 10)
+                .expectRow(3, null, 40, 30);
+
+        // "b" is present in all frames, while "a" and "c" are padded with nulls
+        assertTrue(column(df, "b") instanceof IntSeries);
+        assertFalse(column(df, "a") instanceof IntSeries);
+    }
+
+    @Test
+    public void select_Inner() {
+
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(1, 2, 3, 4);
+        DataFrame df2 = DataFrame.foldByRow("c", "b").of(10, 20, 30, 40);
+        DataFrame df3 = DataFrame.foldByRow("b", "d").of(100, 200, 300, 400);
+
+        DataFrame df = new VConcatBuilder(JoinType.inner).append(df1, df2, df3).select();
+
+        new DataFrameAsserts(df, "b")
+                .expectHeight(6)
+                .expectRow(0, 2)
+                .expectRow(1, 4)
+                .expectRow(2, 20)
+                .expectRow(3, 40)
+                .expectRow(4, 100)
+                .expectRow(5, 300);
+    }
+
+    @Test
+    public void select_Right() {
+
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(1, 2, 3, 4);
+        DataFrame df2 = DataFrame.foldByRow("c", "b").of(10, 20, 30, 40);
+
+        DataFrame df = new VConcatBuilder(JoinType.right).append(df1, df2).select();
+
+        new DataFrameAsserts(df, "c", "b")
+                .expectHeight(4)
+                .expectRow(0, null, 2)
+                .expectRow(1, null, 4)
+                .expectRow(2, 10, 20)
+                .expectRow(3, 30, 40);
+    }
+
+    private static Series<?> column(DataFrame df, String label) {
+        return df.getColumn(label);
+    }
+}
@@ -0,0 +1,130 @@
+package org.dflib.exp;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.unit.DataFrameAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChunkedExpEvaluatorTest {
+
+    static final DataFrame df = DataFrame.byColumn("a", "b").of(
+            Series.ofInt(1, 2, 3, 4, 5),
+            Series.of("x", "y", "z", "x", null));
+
+    @Test
+    public void select() {
+        DataFrame result = new ChunkedExpEvaluator(2).select(df,
+                $int("a").mul(10),
+                $str("b").mapVal(String::toUpperCase));
+
+        new DataFrameAsserts(result, "a * 10", "map(b)")
+                .expectHeight(5)
+                .expectRow(0, 10, "X")
+                .expectRow(1, 20, "Y")
+                .expectRow(2, 30, "Z")
+                .expectRow(3, 40, "X")
+                .expectRow(4, 50, null)
+                .expectIntColumns(0);
+    }
+
+    @Test
+    public void select_SameAsUnchunked() {
+        DataFrame chunked = new ChunkedExpEvaluator(3).select(df, $int("a").add(1), $col("b"));
+        DataFrame unchunked = df.cols().select($int("a").add(1), $col("b"));
+
+        new DataFrameAsserts(chunked, unchunked.getColumnsIndex())
+                .expectHeight(5)
+                .expectRow(0, 2, "x")
+                .expectRow(1, 3, "y")
+                .expectRow(2, 4, "z")
+                .expectRow(3, 5, "x")
+                .expectRow(4, 6, null);
+    }
+
+    @Test
+    public void select_Condition() {
+        DataFrame result = new ChunkedExpEvaluator(2).select(df,
+                $str("b").eq("x").or($int("a").gt(4)),
+                $int("a").mul(10),
+                $col("b"));
+
+        new DataFrameAsserts(result, "a * 10", "b")
+                .expectHeight(3)
+                .expectRow(0, 10, "x")
+                .expectRow(1, 40, "x")
+                .expectRow(2, 50, null);
+    }
+
+    @Test
+    public void select_Condition_NoMatches() {
+        DataFrame result = new ChunkedExpEvaluator(2).select(df, $int("a").gt(10), $int("a"));
+        new DataFrameAsserts(result, "a").expectHeight(0);
+    }
+
+    @Test
+    public void select_MixedChunkTypes() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.of(1, 2, 3, null));
+
+        // the first chunk is all ints, the second includes a null
+        Series<Integer> result = new ChunkedExpEvaluator(2).eval(df, $int("a").castAsInt());
+        new SeriesAsserts(result).expectData(1, 2, 3, null);
+    }
+
+    @Test
+    public void select_Aggregating() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, $int("a").sum()));
+
+        // a chunk of 1 row produces a Series of the same size as a row-wise expression would
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(1).select(df, count()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, $int("a").sub($int("a").avg())));
+    }
+
+    @Test
+    public void select_PositionDependent() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, rowNum()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, $int("a").cumSum()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, $double("a").cumSum().add(1.)));
+    }
+
+    @Test
+    public void select_Condition_Aggregating() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkedExpEvaluator(2).select(df, $int("a").gt($int("a").avg()), $int("a")));
+    }
+
+    @Test
+    public void select_Condition_GrowsOutput() {
+        int[] data = new int[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = i;
+        }
+
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofInt(data));
+        DataFrame result = new ChunkedExpEvaluator(10).select(df, $int("a").mod(3).ne(1), $int("a").mul(2));
+
+        new DataFrameAsserts(result, "a * 2")
+                .expectHeight(667)
+                .expectRow(0, 0)
+                .expectRow(1, 4)
+                .expectRow(666, 1998)
+                .expectIntColumns(0);
+    }
+
+    @Test
+    public void invalidChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedExpEvaluator(0));
+    }
+}
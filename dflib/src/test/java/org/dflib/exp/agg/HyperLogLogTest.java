@@ -0,0 +1,70 @@
+package org.dflib.exp.agg;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void empty() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    public void estimate() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 1_000_000; i++) {
+            hll.addInt(i % 100_000);
+        }
+
+        assertEquals(100_000, hll.estimate(), 100_000 * 0.05);
+    }
+
+    @Test
+    public void estimate_Small() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            hll.add("s" + (i % 10));
+        }
+
+        assertEquals(10, hll.estimate());
+    }
+
+    @Test
+    public void boxedAndPrimitive() {
+        HyperLogLog h1 = new HyperLogLog();
+        HyperLogLog h2 = new HyperLogLog();
+
+        for (long i = 0; i < 10_000; i++) {
+            h1.addLong(i);
+            h2.add(i);
+        }
+
+        assertEquals(h1.estimate(), h2.estimate());
+    }
+
+    @Test
+    public void merge() {
+        HyperLogLog h1 = new HyperLogLog();
+        HyperLogLog h2 = new HyperLogLog();
+        HyperLogLog all = new HyperLogLog();
+
+        for (int i = 0; i < 50_000; i++) {
+            h1.addInt(i);
+            all.addInt(i);
+        }
+
+        for (int i = 25_000; i < 75_000; i++) {
+            h2.addInt(i);
+            all.addInt(i);
+        }
+
+        assertEquals(all.estimate(), h1.merge(h2).estimate());
+    }
+
+    @Test
+    public void merge_DifferentPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(10).merge(new HyperLogLog(12)));
+    }
+}
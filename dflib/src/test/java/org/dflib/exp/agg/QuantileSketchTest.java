@@ -0,0 +1,94 @@
+package org.dflib.exp.agg;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuantileSketchTest {
+
+    @Test
+    public void empty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    public void exact_Small() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 10; i > 0; i--) {
+            sketch.add(i);
+        }
+
+        assertEquals(1., sketch.quantile(0.));
+        assertEquals(1., sketch.quantile(0.1));
+        assertEquals(5., sketch.quantile(0.5));
+        assertEquals(9., sketch.quantile(0.9));
+        assertEquals(10., sketch.quantile(1.));
+    }
+
+    @Test
+    public void nan() {
+        QuantileSketch sketch = new QuantileSketch().add(1.).add(Double.NaN).add(3.);
+        assertEquals(2, sketch.getCount());
+        assertEquals(3., sketch.quantile(1.));
+    }
+
+    @Test
+    public void approximate() {
+
+        int n = 1_000_000;
+        QuantileSketch sketch = new QuantileSketch();
+
+        // a shuffled sequence, so that the quantile values are equal to their ranks
+        Random random = new Random(3);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+
+        for (int v : values) {
+            sketch.add(v);
+        }
+
+        assertEquals(n, sketch.getCount());
+        assertEquals(0., sketch.quantile(0.));
+        assertEquals(n - 1, sketch.quantile(1.));
+
+        for (double q : new double[]{0.01, 0.25, 0.5, 0.75, 0.99}) {
+            assertEquals(q * n, sketch.quantile(q), n * 0.02, "quantile " + q);
+        }
+    }
+
+    @Test
+    public void merge() {
+        QuantileSketch s1 = new QuantileSketch();
+        QuantileSketch s2 = new QuantileSketch();
+
+        for (int i = 0; i < 50_000; i++) {
+            s1.add(i);
+            s2.add(i + 50_000);
+        }
+
+        QuantileSketch merged = s1.merge(s2);
+        assertEquals(100_000, merged.getCount());
+        assertEquals(0., merged.quantile(0.));
+        assertEquals(99_999., merged.quantile(1.));
+        assertEquals(50_000., merged.quantile(0.5), 100_000 * 0.02);
+        assertEquals(90_000., merged.quantile(0.9), 100_000 * 0.02);
+    }
+
+    @Test
+    public void invalidQuantile() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch().quantile(1.5));
+    }
+}
@@ -50,4 +50,15 @@ public class IfExpTest {
 
         new SeriesAsserts(exp.eval(df)).expectData("2", "5", "6", null, "9");
     }
+
+    @Test
+    public void constCondition() {
+        Exp<String> exp = ifExp($val(true).castAsBool(), $str("a"), $str("b"));
+
+        DataFrame df = DataFrame.foldByRow("a", "b").of(
+                "1", "2",
+                null, "5");
+
+        new SeriesAsserts(exp.eval(df)).expectData("1", null);
+    }
 }
@@ -0,0 +1,103 @@
+package org.dflib.exp.map;
+
+import org.dflib.Condition;
+import org.dflib.DataFrame;
+import org.dflib.Environment;
+import org.dflib.Exp;
+import org.dflib.Series;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RowRangesTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        // make sure the rows are split even on a single CPU machine
+        testPool = new ForkJoinPool(4);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    private static DataFrame df() {
+        return DataFrame.byColumn("a", "b").of(
+                Series.ofInt(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11),
+                Series.of("x", "y", null, "z", "x", "y", null, "z", "x", "y", "z"));
+    }
+
+    @Test
+    public void mapVal() {
+        Exp<String> exp = $str("b").mapVal(s -> s + "!");
+        new SeriesAsserts(exp.eval(df())).expectData(
+                "x!", "y!", null, "z!", "x!", "y!", null, "z!", "x!", "y!", "z!");
+    }
+
+    @Test
+    public void mapVal_WithNulls() {
+        Exp<String> exp = $str("b").mapVal(s -> s != null ? s : "_", false);
+        new SeriesAsserts(exp.eval(df())).expectData(
+                "x", "y", "_", "z", "x", "y", "_", "z", "x", "y", "z");
+    }
+
+    @Test
+    public void mapVal2() {
+        Exp<String> exp = $str("b").mapVal($int("a"), (s, i) -> s + i);
+        new SeriesAsserts(exp.eval(df())).expectData(
+                "x1", "y2", null, "z4", "x5", "y6", null, "z8", "x9", "y10", "z11");
+    }
+
+    @Test
+    public void mapBoolVal() {
+        Condition c = $int("a").mapBoolVal(i -> i % 3 == 0);
+        new BoolSeriesAsserts(c.eval(df())).expectData(
+                false, false, true, false, false, true, false, false, true, false, false);
+    }
+
+    @Test
+    public void numericOps() {
+        new SeriesAsserts($int("a").castAsStr().castAsInt().eval(df())).expectData(
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+    }
+
+    @Test
+    public void rowPositionDependent() {
+        DataFrame df = df();
+        new SeriesAsserts(rowNum().eval(df)).expectData(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        new SeriesAsserts($int("a").cumSum().eval(df)).expectData(1L, 3L, 6L, 10L, 15L, 21L, 28L, 36L, 45L, 55L, 66L);
+        new SeriesAsserts($int("a").mapVal(i -> i * 2).castAsInt().sum().eval(df)).expectData(132);
+    }
+
+    @Test
+    public void exception() {
+        Exp<Integer> exp = $str("b").mapVal(s -> {
+            if (s.equals("z")) {
+                throw new IllegalStateException("z");
+            }
+            return s.length();
+        });
+
+        assertThrows(IllegalStateException.class, () -> exp.eval(df()).materialize());
+    }
+}
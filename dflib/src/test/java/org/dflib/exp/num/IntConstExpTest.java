@@ -0,0 +1,45 @@
+package org.dflib.exp.num;
+
+import org.dflib.DataFrame;
+import org.dflib.NumExp;
+import org.dflib.Series;
+import org.dflib.series.IntSingleValueSeries;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.dflib.Exp.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntConstExpTest {
+
+    @Test
+    public void eval() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2, 3);
+
+        Series<Integer> s = $val(5).eval(df);
+        assertTrue(s instanceof IntSingleValueSeries);
+        new SeriesAsserts(s).expectData(5, 5, 5);
+    }
+
+    @Test
+    public void eval_ConstSubtree() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2, 3);
+
+        NumExp<?> exp = ((NumExp<Integer>) $val(3)).mul($val(4)).add(1);
+        assertEquals("3 * 4 + 1", exp.getColumnName(df));
+
+        Series<?> s = exp.eval(df);
+        assertTrue(s instanceof IntSingleValueSeries);
+        new SeriesAsserts(s).expectData(13, 13, 13);
+    }
+
+    @Test
+    public void eval_Identity() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2, 3);
+
+        NumExp<?> exp = $int("a").add(0).mul(1);
+        assertEquals("a + 0 * 1", exp.getColumnName(df));
+        new SeriesAsserts(exp.eval(df)).expectData(1, 2, 3);
+    }
+}
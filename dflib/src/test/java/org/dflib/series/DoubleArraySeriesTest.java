@@ -1,8 +1,12 @@
 package org.dflib.series;
 
-import org.dflib.series.DoubleArraySeries;
+import org.dflib.BooleanSeries;
+import org.dflib.DoubleSeries;
+import org.dflib.unit.BoolSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
+import java.util.function.BiFunction;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DoubleArraySeriesTest {
@@ -13,4 +17,56 @@ public class DoubleArraySeriesTest {
         assertEquals(1, s.getDouble(0), 0.001);
         assertEquals(2.1, s.getDouble(1), 0.001);
     }
+
+    @Test
+    public void compare_Stats() {
+
+        DoubleArraySeries s = new DoubleArraySeries(1., 5., 3.);
+        s.stats();
+
+        assertInstanceOf(TrueSeries.class, s.gt(new DoubleSingleValueSeries(0.5, 3)));
+        assertInstanceOf(TrueSeries.class, s.ge(new DoubleSingleValueSeries(1., 3)));
+        assertInstanceOf(TrueSeries.class, s.lt(new DoubleSingleValueSeries(5.5, 3)));
+        assertInstanceOf(TrueSeries.class, s.le(new DoubleSingleValueSeries(5., 3)));
+        assertInstanceOf(FalseSeries.class, s.gt(new DoubleSingleValueSeries(5., 3)));
+        assertInstanceOf(FalseSeries.class, s.lt(new DoubleSingleValueSeries(1., 3)));
+    }
+
+    @Test
+    public void compare_Stats_NaN() {
+        assertCompareNaN(DoubleSeries::gt, 0.5, true, false, true);
+        assertCompareNaN(DoubleSeries::ge, 1., true, false, true);
+        assertCompareNaN(DoubleSeries::lt, 2.5, true, false, true);
+        assertCompareNaN(DoubleSeries::le, 2., true, false, true);
+
+        assertCompareNaN(DoubleSeries::gt, 2., false, false, false);
+        assertCompareNaN(DoubleSeries::lt, 1., false, false, false);
+    }
+
+    @Test
+    public void compare_Stats_AllNaN() {
+        DoubleArraySeries s = new DoubleArraySeries(Double.NaN, Double.NaN);
+        s.stats();
+
+        DoubleSingleValueSeries c = new DoubleSingleValueSeries(0., 2);
+        new BoolSeriesAsserts(s.gt(c)).expectData(false, false);
+        new BoolSeriesAsserts(s.ge(c)).expectData(false, false);
+        new BoolSeriesAsserts(s.lt(c)).expectData(false, false);
+        new BoolSeriesAsserts(s.le(c)).expectData(false, false);
+    }
+
+    private static void assertCompareNaN(
+            BiFunction<DoubleSeries, DoubleSeries, BooleanSeries> op,
+            double value,
+            boolean... expected) {
+
+        DoubleSingleValueSeries c = new DoubleSingleValueSeries(value, 3);
+
+        // the result must be the same with and without the stats
+        new BoolSeriesAsserts(op.apply(new DoubleArraySeries(1.0, Double.NaN, 2.0), c)).expectData(expected);
+
+        DoubleArraySeries withStats = new DoubleArraySeries(1.0, Double.NaN, 2.0);
+        withStats.stats();
+        new BoolSeriesAsserts(op.apply(withStats, c)).expectData(expected);
+    }
 }
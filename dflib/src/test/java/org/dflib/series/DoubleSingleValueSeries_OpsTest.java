@@ -0,0 +1,64 @@
+package org.dflib.series;
+
+import org.dflib.DoubleSeries;
+import org.dflib.Series;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleSingleValueSeries_OpsTest {
+
+    @Test
+    public void add_SingleValue() {
+        DoubleSeries s = new DoubleSingleValueSeries(1.5, 3).add(new DoubleSingleValueSeries(2., 3));
+        assertTrue(s instanceof DoubleSingleValueSeries);
+        new SeriesAsserts(s).expectData(3.5, 3.5, 3.5);
+    }
+
+    @Test
+    public void add_Identity() {
+        DoubleSeries s = Series.ofDouble(1., 2., 3.);
+
+        assertSame(s, new DoubleSingleValueSeries(0., 3).add(s));
+        assertSame(s, s.add(new DoubleSingleValueSeries(0., 3)));
+    }
+
+    @Test
+    public void sub_Identity() {
+        DoubleSeries s = Series.ofDouble(1., 2., 3.);
+        assertSame(s, s.sub(new DoubleSingleValueSeries(0., 3)));
+    }
+
+    @Test
+    public void mul_Identity() {
+        DoubleSeries s = Series.ofDouble(1., 2., 3.);
+
+        assertSame(s, new DoubleSingleValueSeries(1., 3).mul(s));
+        assertSame(s, s.mul(new DoubleSingleValueSeries(1., 3)));
+    }
+
+    @Test
+    public void div_Identity() {
+        DoubleSeries s = Series.ofDouble(1., 2., 3.);
+        assertSame(s, s.div(new DoubleSingleValueSeries(1., 3)));
+    }
+
+    @Test
+    public void add_Array() {
+        DoubleSeries s = new DoubleSingleValueSeries(0.5, 3).add(Series.ofDouble(1., 2., 3.));
+        new SeriesAsserts(s).expectData(1.5, 2.5, 3.5);
+    }
+
+    @Test
+    public void ops_ArrayBySingleValue() {
+        DoubleSeries s = Series.ofDouble(1., 2., 3.);
+        DoubleSeries two = new DoubleSingleValueSeries(2., 3);
+
+        new SeriesAsserts(s.sub(two)).expectData(-1., 0., 1.);
+        new SeriesAsserts(s.mul(two)).expectData(2., 4., 6.);
+        new SeriesAsserts(s.div(two)).expectData(0.5, 1., 1.5);
+        new SeriesAsserts(s.mod(two)).expectData(1., 0., 1.);
+    }
+}
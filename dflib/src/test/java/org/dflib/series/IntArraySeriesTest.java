@@ -1,9 +1,10 @@
 package org.dflib.series;
 
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class IntArraySeriesTest {
 
@@ -31,4 +32,40 @@ public class IntArraySeriesTest {
         s.copyTo(b3, 3, 1, 1);
         assertArrayEquals(new Object[]{null, 4, null, null, null}, b3);
     }
+
+    @Test
+    public void stats_Cached() {
+        IntArraySeries s = new IntArraySeries(1, 2, 3);
+        assertSame(s.stats(), s.stats());
+    }
+
+    @Test
+    public void sortInt_AlreadySorted() {
+        IntArraySeries s = new IntArraySeries(1, 2, 2, 4);
+        assertSame(s, s.sortInt());
+
+        IntArraySeries unsorted = new IntArraySeries(1, 3, 2);
+        new SeriesAsserts(unsorted.sortInt()).expectData(1, 2, 3);
+    }
+
+    @Test
+    public void compare_Stats() {
+
+        IntArraySeries s = new IntArraySeries(1, 5, 3);
+        s.stats();
+
+        IntSingleValueSeries c0 = new IntSingleValueSeries(0, 3);
+        IntSingleValueSeries c3 = new IntSingleValueSeries(3, 3);
+        IntSingleValueSeries c5 = new IntSingleValueSeries(5, 3);
+
+        assertInstanceOf(TrueSeries.class, s.gt(c0));
+        assertInstanceOf(FalseSeries.class, s.lt(c0));
+        assertInstanceOf(FalseSeries.class, s.gt(c5));
+        assertInstanceOf(TrueSeries.class, s.le(c5));
+        assertInstanceOf(TrueSeries.class, s.ge(new IntSingleValueSeries(1, 3)));
+
+        // can't be resolved from the stats
+        new BoolSeriesAsserts(s.gt(c3)).expectData(false, true, false);
+        new BoolSeriesAsserts(s.le(c3)).expectData(true, false, true);
+    }
 }
@@ -0,0 +1,67 @@
+package org.dflib.series;
+
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.dflib.unit.SeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntSingleValueSeries_OpsTest {
+
+    @Test
+    public void mul_SingleValue() {
+        IntSeries s = new IntSingleValueSeries(3, 4).mul(new IntSingleValueSeries(4, 4));
+        assertTrue(s instanceof IntSingleValueSeries);
+        new SeriesAsserts(s).expectData(12, 12, 12, 12);
+    }
+
+    @Test
+    public void add_Identity() {
+        IntSeries s = Series.ofInt(1, 2, 3);
+
+        assertSame(s, new IntSingleValueSeries(0, 3).add(s));
+        assertSame(s, s.add(new IntSingleValueSeries(0, 3)));
+    }
+
+    @Test
+    public void mul_Identity() {
+        IntSeries s = Series.ofInt(1, 2, 3);
+
+        assertSame(s, new IntSingleValueSeries(1, 3).mul(s));
+        assertSame(s, s.mul(new IntSingleValueSeries(1, 3)));
+    }
+
+    @Test
+    public void add_Array() {
+        IntSeries s = new IntSingleValueSeries(5, 3).add(Series.ofInt(1, 2, 3));
+        new SeriesAsserts(s).expectData(6, 7, 8);
+    }
+
+    @Test
+    public void add_SizeMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IntSingleValueSeries(0, 3).add(new IntSingleValueSeries(0, 2)));
+    }
+
+    @Test
+    public void div_Empty() {
+        IntSeries s = new IntSingleValueSeries(5, 0).div(new IntSingleValueSeries(0, 0));
+        new SeriesAsserts(s).expectData();
+    }
+
+    @Test
+    public void lt_SingleValue() {
+        assertTrue(new IntSingleValueSeries(3, 2).lt(new IntSingleValueSeries(4, 2)) instanceof TrueSeries);
+        new BoolSeriesAsserts(new IntSingleValueSeries(5, 2).lt(new IntSingleValueSeries(4, 2))).expectData(false, false);
+    }
+
+    @Test
+    public void eq_SingleValue() {
+        assertTrue(new IntSingleValueSeries(3, 2).eq(new IntSingleValueSeries(3, 2)) instanceof TrueSeries);
+        assertTrue(new IntSingleValueSeries(3, 2).ne(new IntSingleValueSeries(3, 2)) instanceof FalseSeries);
+    }
+}
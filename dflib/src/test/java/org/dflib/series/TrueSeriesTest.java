@@ -1,6 +1,6 @@
 package org.dflib.series;
 
-import org.dflib.series.TrueSeries;
+import org.dflib.unit.BoolSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -13,4 +13,16 @@ public class TrueSeriesTest {
         assertEquals(true, s.getBool(0));
         assertEquals(true, s.getBool(1));
     }
+
+    @Test
+    public void countTrue() {
+        TrueSeries s = new TrueSeries(2);
+        assertEquals(2, s.countTrue());
+        assertEquals(0, s.countFalse());
+    }
+
+    @Test
+    public void not() {
+        new BoolSeriesAsserts(new TrueSeries(2).not()).expectData(false, false);
+    }
 }
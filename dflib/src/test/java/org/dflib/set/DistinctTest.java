@@ -0,0 +1,106 @@
+package org.dflib.set;
+
+import org.dflib.BooleanSeries;
+import org.dflib.Environment;
+import org.dflib.Series;
+import org.dflib.unit.BoolSeriesAsserts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DistinctTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        testPool = new ForkJoinPool(3);
+        Environment.setThreadPool(testPool);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    @Test
+    public void keepFirst() {
+        BooleanSeries distinct = Distinct.keepFirst(
+                Series.ofInt(1, 2, 1, 1, 2),
+                Series.of("a", "b", "a", null, "b"));
+
+        new BoolSeriesAsserts(distinct).expectData(true, true, false, true, false);
+    }
+
+    @Test
+    public void keepLast() {
+        BooleanSeries distinct = Distinct.keepLast(
+                Series.ofInt(1, 2, 1, 1, 2),
+                Series.of("a", "b", "a", null, "b"));
+
+        new BoolSeriesAsserts(distinct).expectData(false, false, true, true, true);
+    }
+
+    @Test
+    public void primitives() {
+        BooleanSeries distinct = Distinct.keepFirst(
+                Series.ofLong(1L, 1L, 1L, 1L, 1L),
+                Series.ofDouble(Double.NaN, 0., Double.NaN, -0., 0.),
+                Series.ofBool(true, true, true, true, false));
+
+        new BoolSeriesAsserts(distinct).expectData(true, true, false, true, true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, Integer.MAX_VALUE})
+    public void sameAsBoxedKeys(int parallelThreshold) {
+
+        Environment.setParallelExecThreshold(parallelThreshold);
+
+        int len = 10_000;
+        Random rnd = new Random(5);
+        int[] k1 = new int[len];
+        String[] k2 = new String[len];
+        for (int i = 0; i < len; i++) {
+            k1[i] = rnd.nextInt(50);
+            k2[i] = rnd.nextInt(10) == 0 ? null : "s" + rnd.nextInt(20);
+        }
+
+        BooleanSeries first = Distinct.keepFirst(Series.ofInt(k1), Series.of(k2));
+        BooleanSeries last = Distinct.keepLast(Series.ofInt(k1), Series.of(k2));
+
+        Set<List<Object>> seen = new HashSet<>();
+        Map<List<Object>, Integer> lastRows = new HashMap<>();
+        for (int i = 0; i < len; i++) {
+            List<Object> key = Arrays.asList(k1[i], k2[i]);
+            assertEquals(seen.add(key), first.getBool(i), "keepFirst mismatch at row " + i);
+            lastRows.put(key, i);
+        }
+
+        for (int i = 0; i < len; i++) {
+            List<Object> key = Arrays.asList(k1[i], k2[i]);
+            assertEquals(lastRows.get(key) == i, last.getBool(i), "keepLast mismatch at row " + i);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.dflib.set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DoubleHashSetTest {
+
+    @Test
+    public void add() {
+        DoubleHashSet set = new DoubleHashSet();
+
+        assertTrue(set.add(1.5));
+        assertTrue(set.add(-3.));
+        assertFalse(set.add(1.5));
+
+        assertEquals(2, set.size());
+        assertArrayEquals(new double[]{1.5, -3.}, set.toArray());
+    }
+
+    @Test
+    public void add_SameAsDoubleEquals() {
+        DoubleHashSet set = new DoubleHashSet();
+
+        assertTrue(set.add(Double.NaN));
+        assertFalse(set.add(0. / 0.));
+        assertTrue(set.add(0.));
+        assertTrue(set.add(-0.));
+
+        assertEquals(3, set.size());
+        assertTrue(set.contains(Double.NaN));
+        assertEquals(2, set.indexOf(-0.));
+    }
+}
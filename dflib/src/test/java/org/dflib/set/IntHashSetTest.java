@@ -0,0 +1,59 @@
+package org.dflib.set;
+
+import org.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntHashSetTest {
+
+    @Test
+    public void add() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.add(5));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(0));
+        assertFalse(set.add(5));
+        assertFalse(set.add(0));
+
+        assertEquals(3, set.size());
+        assertArrayEquals(new int[]{5, -1, 0}, set.toArray());
+    }
+
+    @Test
+    public void put() {
+        IntHashSet set = new IntHashSet();
+
+        assertEquals(0, set.put(7));
+        assertEquals(1, set.put(Integer.MIN_VALUE));
+        assertEquals(0, set.put(7));
+        assertEquals(2, set.put(Integer.MAX_VALUE));
+        assertEquals(1, set.indexOf(Integer.MIN_VALUE));
+        assertEquals(-1, set.indexOf(8));
+    }
+
+    @Test
+    public void rehash() {
+        IntHashSet set = new IntHashSet(2);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(set.add(i * 31));
+        }
+
+        assertEquals(10_000, set.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, set.indexOf(i * 31));
+            assertFalse(set.contains(i * 31 + 1));
+        }
+    }
+
+    @Test
+    public void of() {
+        IntHashSet set = IntHashSet.of(Series.of(3, null, 1, 3));
+        assertArrayEquals(new int[]{3, 1}, set.toArray());
+    }
+}
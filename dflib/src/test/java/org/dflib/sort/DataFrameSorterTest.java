@@ -2,9 +2,16 @@ package org.dflib.sort;
 
 import org.dflib.DataFrame;
 import org.dflib.IntSeries;
+import org.dflib.Series;
 import org.dflib.unit.IntSeriesAsserts;
 import org.junit.jupiter.api.Test;
 
+import static org.dflib.Exp.$col;
+import static org.dflib.Exp.$int;
+import static org.dflib.Exp.$str;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class DataFrameSorterTest {
 
     @Test
@@ -19,4 +26,45 @@ public class DataFrameSorterTest {
         IntSeries sortIndex = DataFrameSorter.sort(Comparators.of(df.getColumn(1), true), df.height());
         new IntSeriesAsserts(sortIndex).expectData(3, 0, 4, 1, 2);
     }
+
+    @Test
+    public void sort_StringAndInt() {
+
+        // large enough to use normalized keys
+        int h = 1000;
+        String[] strings = new String[h];
+        int[] ints = new int[h];
+        for (int i = 0; i < h; i++) {
+            strings[i] = i % 7 == 0 ? null : "long_common_prefix_" + (i % 5);
+            ints[i] = i % 3;
+        }
+
+        DataFrame df = DataFrame.byColumn("a", "b").of(Series.of(strings), Series.ofInt(ints));
+
+        IntSeries expected = DataFrameSorter.sort(
+                Comparators.of(df.getColumn("a"), true).thenComparing(Comparators.of(df.getColumn("b"), false)),
+                h);
+
+        IntSeries sortIndex = DataFrameSorter.sort(df, $str("a").asc(), $int("b").desc());
+        new IntSeriesAsserts(sortIndex).expectData(expected.toIntArray());
+    }
+
+    @Test
+    public void isSorted() {
+        DataFrame df = DataFrame.byColumn("a", "b", "c").of(
+                Series.of("a", "b", "b", null),
+                Series.ofDouble(1., 2., Double.NaN, Double.NaN),
+                Series.of(1, null, 3, 4));
+
+        assertTrue(DataFrameSorter.isSorted(df, $col("a").asc()));
+        assertTrue(DataFrameSorter.isSorted(df, $col("b").asc()));
+        assertFalse(DataFrameSorter.isSorted(df, $col("c").asc()));
+        assertFalse(DataFrameSorter.isSorted(df, $col("a").desc()));
+    }
+
+    @Test
+    public void isSorted_NotComparable() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.of(new Object(), new Object()));
+        assertFalse(DataFrameSorter.isSorted(df, $col("a").asc()));
+    }
 }
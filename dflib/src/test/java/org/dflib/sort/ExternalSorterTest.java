@@ -0,0 +1,232 @@
+package org.dflib.sort;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.dflib.Sorter;
+import org.dflib.unit.DataFrameAsserts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.dflib.Exp.$bool;
+import static org.dflib.Exp.$col;
+import static org.dflib.Exp.$int;
+import static org.dflib.Exp.$str;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExternalSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static DataFrame randomDf(int h, int seed) {
+
+        Random rnd = new Random(seed);
+
+        int[] ints = new int[h];
+        String[] strings = new String[h];
+        double[] doubles = new double[h];
+        LocalDate[] dates = new LocalDate[h];
+        boolean[] bools = new boolean[h];
+
+        for (int i = 0; i < h; i++) {
+            ints[i] = rnd.nextInt(50) - 25;
+            strings[i] = rnd.nextInt(10) == 0 ? null : "s" + rnd.nextInt(40);
+            doubles[i] = rnd.nextDouble();
+            dates[i] = rnd.nextInt(10) == 0 ? null : LocalDate.of(2024, 1, 1).plusDays(rnd.nextInt(20));
+            bools[i] = rnd.nextBoolean();
+        }
+
+        return DataFrame.byColumn("i", "s", "d", "dt", "b").of(
+                Series.ofInt(ints),
+                Series.of(strings),
+                Series.ofDouble(doubles),
+                Series.of(dates),
+                Series.ofBool(bools));
+    }
+
+    private static void assertSameRows(DataFrame expected, DataFrame actual) {
+        assertEquals(expected.getColumnsIndex(), actual.getColumnsIndex());
+        assertEquals(expected.height(), actual.height());
+
+        for (int i = 0; i < expected.width(); i++) {
+            assertArrayEquals(
+                    expected.getColumn(i).toArray(new Object[0]),
+                    actual.getColumn(i).toArray(new Object[0]),
+                    "Column " + i);
+        }
+    }
+
+    private void assertNoTempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void sort_InMemory() throws IOException {
+        DataFrame df = randomDf(100, 1);
+        Sorter[] sorters = {$str("s").asc(), $int("i").desc()};
+
+        DataFrame sorted = new ExternalSorter(sorters).tempDir(tempDir).sort(df);
+        assertSameRows(df.sort(sorters), sorted);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sort_Spill() throws IOException {
+        DataFrame df = randomDf(10_000, 2);
+        Sorter[] sorters = {$str("s").desc(), $int("i").asc(), $col("dt").asc()};
+
+        DataFrame sorted = new ExternalSorter(sorters)
+                .runSize(700)
+                .blockSize(64)
+                .mergeWidth(3)
+                .tempDir(tempDir)
+                .sort(df);
+
+        assertSameRows(df.sort(sorters), sorted);
+        new DataFrameAsserts(sorted, "i", "s", "d", "dt", "b")
+                .expectIntColumns("i")
+                .expectDoubleColumns("d")
+                .expectBooleanColumns("b");
+
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sort_Chunks() throws IOException {
+
+        List<DataFrame> chunks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            chunks.add(randomDf(50 + i * 17, 10 + i));
+        }
+
+        Sorter[] sorters = {$bool("b").asc(), $col("dt").desc(), $int("i").asc()};
+
+        DataFrame sorted = new ExternalSorter(sorters)
+                .runSize(300)
+                .blockSize(100)
+                .tempDir(tempDir)
+                .sort(chunks);
+
+        DataFrame all = chunks.get(0).vConcat(chunks.subList(1, chunks.size()).toArray(new DataFrame[0]));
+        assertSameRows(all.sort(sorters), sorted);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sortToRows() throws IOException {
+
+        DataFrame df = randomDf(3_000, 3);
+        Sorter[] sorters = {$str("s").asc()};
+
+        List<Object[]> rows;
+        try (Stream<Object[]> stream = new ExternalSorter(sorters)
+                .runSize(500)
+                .blockSize(50)
+                .tempDir(tempDir)
+                .sortToRows(List.of(df))) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        DataFrame expected = df.sort(sorters);
+        assertEquals(expected.height(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            for (int j = 0; j < expected.width(); j++) {
+                assertEquals(expected.getColumn(j).get(i), rows.get(i)[j]);
+            }
+        }
+
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sortToRows_Closed() throws IOException {
+
+        DataFrame df = randomDf(3_000, 4);
+
+        try (Stream<Object[]> stream = new ExternalSorter($int("i").asc())
+                .runSize(500)
+                .tempDir(tempDir)
+                .sortToRows(List.of(df))) {
+            assertEquals(10, stream.limit(10).count());
+        }
+
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sort_Empty() throws IOException {
+        DataFrame df = DataFrame.empty("a", "b");
+
+        DataFrame sorted = new ExternalSorter($int("a").asc()).runSize(1).tempDir(tempDir).sort(List.of(df, df));
+        new DataFrameAsserts(sorted, "a", "b").expectHeight(0);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sort_DifferentColumns() throws IOException {
+        DataFrame df1 = DataFrame.foldByRow("a", "b").of(1, 2);
+        DataFrame df2 = DataFrame.foldByRow("a", "c").of(1, 2);
+
+        ExternalSorter sorter = new ExternalSorter($int("a").asc()).runSize(1).tempDir(tempDir);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(List.of(df1, df2)));
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sort_SerializedValues() throws IOException {
+        Random rnd = new Random(3);
+        UUID[] ids = new UUID[200];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = new UUID(rnd.nextLong(), rnd.nextLong());
+        }
+
+        DataFrame df = DataFrame.byColumn("id").of(Series.of(ids));
+        Sorter[] sorters = {$col("id").asc()};
+
+        DataFrame sorted = new ExternalSorter(sorters).runSize(30).tempDir(tempDir).sort(df);
+        assertSameRows(df.sort(sorters), sorted);
+        assertNoTempFiles();
+    }
+
+    @Test
+    public void sortRun_RejectsUnexpectedSerializedClasses() throws IOException {
+        SortRun.Writer writer = SortRun.create(tempDir);
+        writer.write(new Series[]{Series.of(new UUID(1, 2))});
+        SortRun run = writer.finish();
+
+        Path file;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            file = files.findFirst().get();
+        }
+
+        // the same file, as if it was read by a run that has never serialized a UUID
+        SortRun.Reader reader = new SortRun(file, run.height(), Set.of()).open();
+        try {
+            RuntimeException e = assertThrows(RuntimeException.class, () -> reader.read(1));
+            assertTrue(e.getCause() instanceof InvalidClassException, () -> String.valueOf(e.getCause()));
+        } finally {
+            reader.close();
+            run.delete();
+        }
+
+        assertNoTempFiles();
+    }
+}
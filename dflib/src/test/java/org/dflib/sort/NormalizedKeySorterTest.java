@@ -0,0 +1,112 @@
+package org.dflib.sort;
+
+import org.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NormalizedKeySorterTest {
+
+    private static IntComparator fullComparator(Series<?>[] keys, boolean[] ascending) {
+        IntComparator c = null;
+        for (int i = 0; i < keys.length; i++) {
+            IntComparator ci = Comparators.of(keys[i], ascending[i]);
+            c = c == null ? ci : c.thenComparing(ci);
+        }
+
+        return c;
+    }
+
+    private static void assertSameAsComparatorSort(Series<?>[] keys, boolean[] ascending) {
+
+        IntComparator full = fullComparator(keys, ascending);
+
+        int[] expected = SeriesSorter.rowNumberSequence(keys[0].size());
+        IntTimSort.sort(expected, full);
+
+        int[] index = SeriesSorter.rowNumberSequence(keys[0].size());
+        IntTimSort.sort(index, NormalizedKeySorter.comparator(keys, ascending, full));
+
+        assertArrayEquals(expected, index);
+    }
+
+    @Test
+    public void supports() {
+        assertTrue(NormalizedKeySorter.supports(Series.ofInt(1, 2)));
+        assertTrue(NormalizedKeySorter.supports(Series.ofBool(true, false)));
+        assertTrue(NormalizedKeySorter.supports(Series.of("a", null, "b")));
+        assertTrue(NormalizedKeySorter.supports(Series.of(LocalDate.of(2024, 1, 1), null)));
+        assertTrue(NormalizedKeySorter.supports(Series.of(null, null)));
+        assertFalse(NormalizedKeySorter.supports(Series.of("a", 2)));
+        assertFalse(NormalizedKeySorter.supports(Series.of(new Object(), new Object())));
+    }
+
+    @Test
+    public void comparator_Strings() {
+        Series<?>[] keys = {Series.of(
+                "b", "a", null, "abcdefghZ", "abcdefghA", "", "ab", "ab\u0000", "\uFFFF", "abcdefgh", null, "a")};
+
+        assertSameAsComparatorSort(keys, new boolean[]{true});
+        assertSameAsComparatorSort(keys, new boolean[]{false});
+    }
+
+    @Test
+    public void comparator_StringThenInt() {
+
+        // the prefixes of the first column are the same, so the int column must not decide the order alone
+        Series<?>[] keys = {
+                Series.of("abcdefgh_2", "abcdefgh_1", "abcdefgh_2", "abcdefgh_1", "x"),
+                Series.ofInt(1, 2, 0, 1, 5)
+        };
+
+        assertSameAsComparatorSort(keys, new boolean[]{true, true});
+        assertSameAsComparatorSort(keys, new boolean[]{true, false});
+        assertSameAsComparatorSort(keys, new boolean[]{false, true});
+    }
+
+    @Test
+    public void comparator_NumericThenString() {
+        Series<?>[] keys = {
+                Series.ofInt(3, 1, 3, 1, -7),
+                Series.of(2.5, null, -1., 2.5, null),
+                Series.of(LocalDate.of(2024, 1, 2), LocalDate.of(1960, 5, 1), null, LocalDate.of(2024, 1, 1), null),
+                Series.ofBool(true, false, true, false, true),
+                Series.of("b", "a", null, "c", "a")
+        };
+
+        assertSameAsComparatorSort(keys, new boolean[]{true, true, true, true, true});
+        assertSameAsComparatorSort(keys, new boolean[]{false, false, false, false, false});
+        assertSameAsComparatorSort(keys, new boolean[]{true, false, true, false, true});
+    }
+
+    @Test
+    public void comparator_Random() {
+
+        int len = 5_000;
+        Random rnd = new Random(7);
+
+        String[] strings = new String[len];
+        Integer[] ints = new Integer[len];
+        LocalDate[] dates = new LocalDate[len];
+        double[] doubles = new double[len];
+
+        for (int i = 0; i < len; i++) {
+
+            // long common prefixes, to exercise the tie-breaking on the full values
+            strings[i] = rnd.nextInt(20) == 0 ? null : "prefix_" + rnd.nextInt(30);
+            ints[i] = rnd.nextInt(20) == 0 ? null : rnd.nextInt(10) - 5;
+            dates[i] = LocalDate.of(2020, 1, 1).plusDays(rnd.nextInt(5));
+            doubles[i] = rnd.nextInt(3) - 1.5;
+        }
+
+        Series<?>[] keys = {Series.ofDouble(doubles), Series.of(strings), Series.of(ints), Series.of(dates)};
+        assertSameAsComparatorSort(keys, new boolean[]{true, true, true, true});
+        assertSameAsComparatorSort(keys, new boolean[]{false, true, false, true});
+        assertSameAsComparatorSort(keys, new boolean[]{true, false, true, false});
+    }
+}
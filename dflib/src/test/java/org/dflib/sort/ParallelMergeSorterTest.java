@@ -0,0 +1,137 @@
+package org.dflib.sort;
+
+import org.dflib.Environment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelMergeSorterTest {
+
+    private int threshold;
+    private ExecutorService threadPool;
+    private ForkJoinPool testPool;
+
+    @BeforeEach
+    void setupEnv() {
+        threshold = Environment.commonEnv().parallelExecThreshold();
+        threadPool = Environment.commonEnv().threadPool();
+
+        // an odd number of threads to check the uneven chunks
+        testPool = new ForkJoinPool(3);
+        Environment.setThreadPool(testPool);
+        Environment.setParallelExecThreshold(2);
+    }
+
+    @AfterEach
+    void restoreEnv() {
+        Environment.setParallelExecThreshold(threshold);
+        Environment.setThreadPool(threadPool);
+        testPool.shutdown();
+    }
+
+    @Test
+    public void sort_Stable() {
+
+        Random random = new Random(7);
+        int len = 10_001;
+        int[] values = new int[len];
+        for (int i = 0; i < len; i++) {
+            values[i] = random.nextInt(100);
+        }
+
+        IntComparator c = (i1, i2) -> Integer.compare(values[i1], values[i2]);
+        assertTrue(ParallelMergeSorter.shouldParallelize(len));
+
+        int[] expected = SeriesSorter.rowNumberSequence(len);
+        IntTimSort.sort(expected, c);
+
+        int[] sorted = SeriesSorter.rowNumberSequence(len);
+        ParallelMergeSorter.sort(sorted, c);
+
+        assertArrayEquals(expected, sorted);
+    }
+
+    @Test
+    public void sort_Small() {
+        int[] values = {3, 1, 2};
+        int[] sorted = {0, 1, 2};
+        ParallelMergeSorter.sort(sorted, (i1, i2) -> Integer.compare(values[i1], values[i2]));
+        assertArrayEquals(new int[]{1, 2, 0}, sorted);
+    }
+
+    @Test
+    public void sort_Ints() {
+
+        Random random = new Random(11);
+        int[] values = new int[10_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+
+        ParallelMergeSorter.sort(values);
+        assertArrayEquals(expected, values);
+    }
+
+    @Test
+    public void sort_Longs() {
+
+        Random random = new Random(11);
+        long[] values = new long[10_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+
+        long[] expected = values.clone();
+        Arrays.sort(expected);
+
+        ParallelMergeSorter.sort(values);
+        assertArrayEquals(expected, values);
+    }
+
+    @Test
+    public void sort_Doubles() {
+
+        Random random = new Random(11);
+        double[] values = new double[10_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(10) == 0 ? -0.0 : random.nextGaussian();
+        }
+
+        double[] expected = values.clone();
+        Arrays.sort(expected);
+
+        ParallelMergeSorter.sort(values);
+        assertArrayEquals(expected, values);
+    }
+
+    @Test
+    public void sort_Objects_Stable() {
+
+        Random random = new Random(11);
+        String[] values = new String[10_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100) + "_" + i;
+        }
+
+        // comparing by the prefix only, so that there are many ties
+        Comparator<String> c = Comparator.comparing(s -> s.substring(0, s.indexOf('_')));
+
+        String[] expected = values.clone();
+        Arrays.sort(expected, c);
+
+        ParallelMergeSorter.sort(values, c);
+        assertArrayEquals(expected, values);
+    }
+}
@@ -0,0 +1,105 @@
+package org.dflib.sort;
+
+import org.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RadixSorterTest {
+
+    private static int[] comparatorSort(Series<?>[] keys, boolean[] ascending) {
+        IntComparator c = null;
+        for (int i = 0; i < keys.length; i++) {
+            IntComparator ci = Comparators.of(keys[i], ascending[i]);
+            c = c == null ? ci : c.thenComparing(ci);
+        }
+
+        int[] index = SeriesSorter.rowNumberSequence(keys[0].size());
+        IntTimSort.sort(index, c);
+        return index;
+    }
+
+    private static int[] radixSort(Series<?>[] keys, boolean[] ascending) {
+        int[] index = SeriesSorter.rowNumberSequence(keys[0].size());
+        RadixSorter.sort(keys, ascending, index);
+        return index;
+    }
+
+    private static void assertSameAsComparatorSort(Series<?>[] keys, boolean[] ascending) {
+        assertArrayEquals(comparatorSort(keys, ascending), radixSort(keys, ascending));
+    }
+
+    @Test
+    public void supports() {
+        assertTrue(RadixSorter.supports(Series.ofInt(1, 2)));
+        assertTrue(RadixSorter.supports(Series.ofDouble(1., 2.)));
+        assertTrue(RadixSorter.supports(Series.of(1, null, 3)));
+        assertTrue(RadixSorter.supports(Series.of(LocalDate.of(2024, 1, 1), null)));
+        assertTrue(RadixSorter.supports(Series.of(null, null)));
+        assertFalse(RadixSorter.supports(Series.of("a", "b")));
+        assertFalse(RadixSorter.supports(Series.of(1, 2L)));
+    }
+
+    @Test
+    public void sort_Int() {
+        Series<?>[] keys = {Series.ofInt(5, -3, 8, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -3)};
+        assertArrayEquals(new int[]{3, 1, 6, 4, 0, 2, 5}, radixSort(keys, new boolean[]{true}));
+        assertArrayEquals(new int[]{5, 2, 0, 4, 1, 6, 3}, radixSort(keys, new boolean[]{false}));
+    }
+
+    @Test
+    public void sort_Double() {
+        Series<?>[] keys = {Series.ofDouble(1.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.5, 1.5)};
+        assertSameAsComparatorSort(keys, new boolean[]{true});
+        assertSameAsComparatorSort(keys, new boolean[]{false});
+    }
+
+    @Test
+    public void sort_Nulls() {
+        Series<?>[] keys = {Series.of(3L, null, -1L, 3L, null, 0L)};
+        assertArrayEquals(new int[]{2, 5, 0, 3, 1, 4}, radixSort(keys, new boolean[]{true}));
+        assertArrayEquals(new int[]{1, 4, 0, 3, 5, 2}, radixSort(keys, new boolean[]{false}));
+    }
+
+    @Test
+    public void sort_Dates() {
+        Series<?>[] keys = {Series.of(
+                LocalDate.of(2024, 5, 1),
+                LocalDate.of(1969, 12, 31),
+                null,
+                LocalDate.of(2024, 1, 1))};
+
+        assertSameAsComparatorSort(keys, new boolean[]{true});
+        assertSameAsComparatorSort(keys, new boolean[]{false});
+    }
+
+    @Test
+    public void sort_MultipleKeys_Random() {
+
+        Random random = new Random(3);
+        int len = 5000;
+
+        int[] ints = new int[len];
+        long[] longs = new long[len];
+        Double[] doubles = new Double[len];
+        boolean[] bools = new boolean[len];
+
+        for (int i = 0; i < len; i++) {
+            ints[i] = random.nextInt(20) - 10;
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextInt(10) == 0 ? null : (double) random.nextInt(30);
+            bools[i] = random.nextBoolean();
+        }
+
+        Series<?>[] keys = {Series.ofBool(bools), Series.of(doubles), Series.ofInt(ints), Series.ofLong(longs)};
+
+        assertSameAsComparatorSort(keys, new boolean[]{true, true, true, true});
+        assertSameAsComparatorSort(keys, new boolean[]{false, true, false, true});
+        assertSameAsComparatorSort(keys, new boolean[]{true, false, true, false});
+    }
+}
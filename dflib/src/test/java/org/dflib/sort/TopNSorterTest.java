@@ -0,0 +1,78 @@
+package org.dflib.sort;
+
+import org.dflib.IntSeries;
+import org.dflib.Series;
+import org.dflib.unit.IntSeriesAsserts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopNSorterTest {
+
+    @Test
+    public void topN() {
+        IntSeries s = Series.ofInt(5, 3, 8, 3, 1, 9);
+        IntComparator c = Comparators.of(s, true);
+
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 3, false)).expectData(4, 1, 3);
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 0, false)).expectData();
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 10, false)).expectData(4, 1, 3, 0, 2, 5);
+    }
+
+    @Test
+    public void topN_WithTies() {
+        IntSeries s = Series.ofInt(5, 3, 8, 3, 1, 9, 3);
+        IntComparator c = Comparators.of(s, true);
+
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 2, false)).expectData(4, 1);
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 2, true)).expectData(4, 1, 3, 6);
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 4, true)).expectData(4, 1, 3, 6);
+        new IntSeriesAsserts(TopNSorter.topN(c, s.size(), 5, true)).expectData(4, 1, 3, 6, 0);
+    }
+
+    @Test
+    public void topN_Range() {
+        IntSeries s = Series.ofInt(5, 3, 8, 3, 1, 9);
+        IntComparator c = Comparators.of(s, false);
+
+        new IntSeriesAsserts(TopNSorter.topN(c, Series.ofInt(0, 2, 4), 2, false)).expectData(2, 0);
+    }
+
+    @Test
+    public void topN_Negative() {
+        IntSeries s = Series.ofInt(5, 3);
+        assertThrows(IllegalArgumentException.class, () -> TopNSorter.topN(Comparators.of(s, true), s.size(), -1, false));
+    }
+
+    @Test
+    public void topN_SameAsSortHead() {
+
+        Random random = new Random(5);
+        int len = 1000;
+        int[] data = new int[len];
+        for (int i = 0; i < len; i++) {
+            data[i] = random.nextInt(50);
+        }
+
+        IntSeries s = Series.ofInt(data);
+        IntComparator c = Comparators.of(s, true);
+        IntSeries sorted = DataFrameSorter.sort(c, len);
+
+        for (int n : new int[]{1, 7, 100, 999}) {
+            new IntSeriesAsserts(TopNSorter.topN(c, len, n, false)).expectData(sorted.head(n).toIntArray());
+
+            // with ties, the result should include all rows with the "rank" up to "n"
+            int nth = data[sorted.getInt(n - 1)];
+            int withTies = 0;
+            for (int v : data) {
+                if (v <= nth) {
+                    withTies++;
+                }
+            }
+
+            new IntSeriesAsserts(TopNSorter.topN(c, len, n, true)).expectData(sorted.head(withTies).toIntArray());
+        }
+    }
+}
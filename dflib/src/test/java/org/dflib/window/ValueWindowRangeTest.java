@@ -0,0 +1,136 @@
+package org.dflib.window;
+
+import org.dflib.DataFrame;
+import org.dflib.Series;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValueWindowRangeTest {
+
+    private static void assertBounds(WindowBounds bounds, int[] from, int[] to) {
+        for (int i = 0; i < from.length; i++) {
+            assertEquals(from[i], bounds.fromRow(i), "'from' at " + i);
+            assertEquals(to[i], bounds.toRow(i), "'to' at " + i);
+        }
+    }
+
+    @Test
+    public void bounds_Numeric() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2, 2, 5, 6, 10);
+
+        assertBounds(
+                WindowRange.byValue("a", 1, 0).bounds(df),
+                new int[]{0, 0, 0, 3, 3, 5},
+                new int[]{1, 3, 3, 4, 5, 6});
+
+        assertBounds(
+                WindowRange.byValue("a", 0, 3.5).bounds(df),
+                new int[]{0, 1, 1, 3, 4, 5},
+                new int[]{3, 4, 4, 5, 5, 6});
+    }
+
+    @Test
+    public void bounds_Temporal() {
+        DataFrame df = DataFrame.foldByRow("ts").of(
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 3),
+                LocalDateTime.of(2024, 1, 1, 10, 5),
+                LocalDateTime.of(2024, 1, 1, 10, 11));
+
+        assertBounds(
+                WindowRange.byValue("ts", Duration.ofMinutes(5), Duration.ZERO).bounds(df),
+                new int[]{0, 0, 0, 3},
+                new int[]{1, 2, 3, 4});
+    }
+
+    @Test
+    public void bounds_Nulls() {
+        DataFrame df = DataFrame.foldByRow("a").of(1, 2, null, null);
+
+        assertBounds(
+                WindowRange.byValue("a", 1, 1).bounds(df),
+                new int[]{0, 0, 2, 2},
+                new int[]{2, 2, 4, 4});
+    }
+
+    @Test
+    public void bounds_NotSorted() {
+        assertThrows(IllegalArgumentException.class,
+                () -> WindowRange.byValue("a", 1, 1).bounds(DataFrame.foldByRow("a").of(1, 3, 2)));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> WindowRange.byValue("a", 1, 1).bounds(DataFrame.foldByRow("a").of(1, null, 2)));
+    }
+
+    @Test
+    public void negativeDistance() {
+        assertThrows(IllegalArgumentException.class, () -> WindowRange.byValue("a", -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> WindowRange.byValue("a", Duration.ZERO, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void bounds_Long_Exact() {
+        long base = 1L << 60;
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofLong(base, base + 1, base + 2, base + 100));
+
+        assertBounds(
+                WindowRange.byValue("a", 0, 0).bounds(df),
+                new int[]{0, 1, 2, 3},
+                new int[]{1, 2, 3, 4});
+
+        assertBounds(
+                WindowRange.byValue("a", 1, 1.5).bounds(df),
+                new int[]{0, 0, 1, 3},
+                new int[]{2, 3, 3, 4});
+    }
+
+    @Test
+    public void bounds_Long_Saturated() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofLong(Long.MIN_VALUE, 0, Long.MAX_VALUE));
+
+        assertBounds(
+                WindowRange.byValue("a", Long.MAX_VALUE, Long.MAX_VALUE).bounds(df),
+                new int[]{0, 1, 1},
+                new int[]{1, 3, 3});
+
+        assertBounds(
+                WindowRange.byValue("a", Double.POSITIVE_INFINITY, 0).bounds(df),
+                new int[]{0, 1, 1},
+                new int[]{1, 2, 3});
+    }
+
+    @Test
+    public void bounds_NaN() {
+        DataFrame df = DataFrame.byColumn("a").of(Series.ofDouble(1., Double.NaN, 3.));
+        assertThrows(IllegalArgumentException.class, () -> WindowRange.byValue("a", 1, 1).bounds(df));
+    }
+
+    @Test
+    public void bounds_UnsupportedTemporalAmount() {
+        DataFrame dates = DataFrame.foldByRow("d").of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> WindowRange.byValue("d", Duration.ofDays(1), Duration.ZERO).bounds(dates));
+
+        DataFrame times = DataFrame.foldByRow("t").of(LocalTime.of(10, 0), LocalTime.of(11, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> WindowRange.byValue("t", Period.ZERO, Period.ofDays(1)).bounds(times));
+
+        assertBounds(
+                WindowRange.byValue("d", Period.ofDays(1), Period.ZERO).bounds(dates),
+                new int[]{0, 0},
+                new int[]{1, 2});
+    }
+
+    @Test
+    public void nanDistance() {
+        assertThrows(IllegalArgumentException.class, () -> WindowRange.byValue("a", Double.NaN, 0));
+        assertThrows(IllegalArgumentException.class, () -> WindowRange.byValue("a", 0, Float.NaN));
+    }
+}